@@ -40,6 +40,50 @@ public interface Vectorizer extends AutoCloseable
     float[] vectorize(String token)
             throws IOException;
 
+    /**
+     * Write the vector for a token into the given buffer. If the token is unknown, the
+     * {@link #unknownVector()} is written.
+     *
+     * @param token
+     *            a token String
+     * @param out
+     *            a buffer of at least {@link #dimensions()} length
+     * @return true if the token is known by the vectorizer
+     * @throws IOException
+     *             if there was an error accessing the vector file.
+     */
+    default boolean vectorize(String token, float[] out)
+            throws IOException
+    {
+        float[] vector = vectorize(token);
+        System.arraycopy(vector, 0, out, 0, vector.length);
+        return vector != unknownVector();
+    }
+
+    /**
+     * Write the vectors for a batch of tokens into the given buffers.
+     *
+     * @param tokens
+     *            the token Strings
+     * @param out
+     *            one buffer of at least {@link #dimensions()} length per token
+     * @return the number of tokens known by the vectorizer
+     * @throws IOException
+     *             if there was an error accessing the vector file.
+     * @see #vectorize(String, float[])
+     */
+    default int vectorize(String[] tokens, float[][] out)
+            throws IOException
+    {
+        int known = 0;
+        for (int i = 0; i < tokens.length; i++) {
+            if (vectorize(tokens[i], out[i])) {
+                known++;
+            }
+        }
+        return known;
+    }
+
     /**
      * True if the token is known by the vectorizer.
      *
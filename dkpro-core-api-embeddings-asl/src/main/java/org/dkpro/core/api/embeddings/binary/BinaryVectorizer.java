@@ -35,6 +35,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A {@link Vectorizer} for a binary file. Initialize with {@link #load(File)}.
+ * <p>
+ * The vectors are read from the memory-mapped file using absolute offsets only, so a single
+ * instance can safely be shared between multiple threads.
  *
  * @see BinaryWordVectorUtils
  */
@@ -43,12 +46,13 @@ public class BinaryVectorizer
 {
     private static final Logger LOG = LoggerFactory.getLogger(BinaryVectorizer.class);
     private final String[] words;
+    private final int[] wordIndex;
     private final Header header;
     private final FloatBuffer[] parts;
     private final int maxVectorsPerPartition;
-    private Locale locale;
-    private float[] unknownVector;
-    private RandomAccessFile file;
+    private final Locale locale;
+    private final float[] unknownVector;
+    private final RandomAccessFile file;
 
     private BinaryVectorizer(Header aHeader, RandomAccessFile aFile, String[] aWords,
             long vectorStartOffset, float[] aUnk)
@@ -57,6 +61,7 @@ public class BinaryVectorizer
         file = aFile;
         header = aHeader;
         words = aWords;
+        wordIndex = buildIndex(aWords);
 
         unknownVector = aUnk;
 
@@ -67,7 +72,7 @@ public class BinaryVectorizer
         maxVectorsPerPartition = Integer.MAX_VALUE / (header.getVectorLength() * Float.BYTES);
         int maxPartitionSizeBytes = maxVectorsPerPartition * header.getVectorLength() * Float.BYTES;
         int neededPartitions = aWords.length / maxVectorsPerPartition;
-        if (aWords.length % maxPartitionSizeBytes > 0) {
+        if (aWords.length % maxVectorsPerPartition > 0) {
             neededPartitions += 1;
         }
 
@@ -76,7 +81,7 @@ public class BinaryVectorizer
         for (int i = 0; i < neededPartitions; i++) {
             long start = vectorStartOffset + ((long) i * maxPartitionSizeBytes);
             long length = maxPartitionSizeBytes;
-            if (i == neededPartitions - 1) {
+            if (i == neededPartitions - 1 && aWords.length % maxVectorsPerPartition > 0) {
                 length = (aWords.length % maxVectorsPerPartition) * header.getVectorLength()
                         * Float.BYTES;
             }
@@ -103,72 +108,140 @@ public class BinaryVectorizer
      */
     public static BinaryVectorizer load(File f) throws IOException
     {
-        var file = new RandomAccessFile(f, "rw");
+        var file = new RandomAccessFile(f, "r");
 
-        // Load header
-        Header header = Header.read(file);
+        try {
+            // Load header
+            Header header = Header.read(file);
 
-        // Load words
-        String[] words = new String[header.getWordCount()];
-        for (int i = 0; i < header.getWordCount(); i++) {
-            words[i] = file.readUTF();
-        }
-        LOG.info("Loaded " + words.length + " word embeddings.");
+            // Load words
+            String[] words = new String[header.getWordCount()];
+            for (int i = 0; i < header.getWordCount(); i++) {
+                words[i] = file.readUTF();
+            }
+            LOG.info("Loaded " + words.length + " word embeddings.");
 
-        // Load UNK vector
-        byte[] buffer = new byte[header.getVectorLength() * Float.BYTES];
-        file.readFully(buffer);
+            // Load UNK vector
+            byte[] buffer = new byte[header.getVectorLength() * Float.BYTES];
+            file.readFully(buffer);
 
-        var byteBuffer = ByteBuffer.wrap(buffer);
-        float[] unk = new float[header.getVectorLength()];
-        for (int i = 0; i < unk.length; i++) {
-            unk[i] = byteBuffer.getFloat(i * Float.BYTES);
-        }
+            var byteBuffer = ByteBuffer.wrap(buffer);
+            float[] unk = new float[header.getVectorLength()];
+            for (int i = 0; i < unk.length; i++) {
+                unk[i] = byteBuffer.getFloat(i * Float.BYTES);
+            }
 
-        // Rest of the file is mmapped
-        long offset = file.getFilePointer();
-        return new BinaryVectorizer(header, file, words, offset, unk);
+            // Rest of the file is mmapped
+            long offset = file.getFilePointer();
+            return new BinaryVectorizer(header, file, words, offset, unk);
+        }
+        catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
     }
 
     @Override
     public float[] vectorize(String aWord) throws IOException
     {
-        String word = aWord;
-        if (header.isCaseless()) {
-            word = word.toLowerCase(locale);
+        int vectorIdx = indexOf(aWord);
+
+        // Word not found
+        if (vectorIdx < 0) {
+            return unknownVector;
         }
 
-        int vectorIdx = Arrays.binarySearch(words, word);
+        float[] vector = new float[header.getVectorLength()];
+        readVector(vectorIdx, vector);
+        return vector;
+    }
+
+    @Override
+    public boolean vectorize(String aWord, float[] aOut) throws IOException
+    {
+        int vectorIdx = indexOf(aWord);
 
         // Word not found
         if (vectorIdx < 0) {
-            return unknownVector;
+            System.arraycopy(unknownVector, 0, aOut, 0, unknownVector.length);
+            return false;
         }
 
-        // Locate the buffer from which to read the vevtor
-        int partitionIdx = vectorIdx / maxVectorsPerPartition;
+        readVector(vectorIdx, aOut);
+        return true;
+    }
+
+    private void readVector(int aVectorIdx, float[] aOut)
+    {
+        // Locate the buffer from which to read the vector
+        int partitionIdx = aVectorIdx / maxVectorsPerPartition;
         FloatBuffer part = this.parts[partitionIdx];
 
-        // Locate the position within the buffer from which to read the vector
-        int relativeVectorIdx = vectorIdx % maxVectorsPerPartition;
+        // Locate the position within the buffer from which to read the vector. We use an absolute
+        // read here which does not touch the position of the shared buffer.
+        int relativeVectorIdx = aVectorIdx % maxVectorsPerPartition;
         int offset = relativeVectorIdx * header.getVectorLength();
-        part.position(offset);
-
-        // Read the vector
-        float[] vector = new float[header.getVectorLength()];
-        part.get(vector);
-        return vector;
+        part.get(offset, aOut, 0, header.getVectorLength());
     }
 
-    @Override
-    public boolean contains(String aWord)
+    /**
+     * Look up the row of the given word in the embeddings file.
+     *
+     * @param aWord
+     *            a word.
+     * @return the row index or {@code -1} if the word is unknown.
+     */
+    private int indexOf(String aWord)
     {
         String word = aWord;
         if (header.isCaseless()) {
             word = word.toLowerCase(locale);
         }
 
-        return Arrays.binarySearch(words, word) >= 0;
+        int mask = wordIndex.length - 1;
+        int slot = mix(word.hashCode()) & mask;
+        while (true) {
+            int row = wordIndex[slot];
+            if (row < 0) {
+                return -1;
+            }
+            if (words[row].equals(word)) {
+                return row;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Builds an open-addressing hash table mapping words to their row in the embeddings file. The
+     * table holds only {@code int} row indexes and is sized to a load factor of at most 0.5.
+     */
+    private static int[] buildIndex(String[] aWords)
+    {
+        int capacity = Integer.highestOneBit(Math.max(aWords.length, 1) * 2 - 1) << 1;
+        int[] index = new int[capacity];
+        Arrays.fill(index, -1);
+        int mask = capacity - 1;
+        for (int row = 0; row < aWords.length; row++) {
+            int slot = mix(aWords[row].hashCode()) & mask;
+            while (index[slot] >= 0) {
+                slot = (slot + 1) & mask;
+            }
+            index[slot] = row;
+        }
+        return index;
+    }
+
+    private static int mix(int aHash)
+    {
+        int h = aHash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public boolean contains(String aWord)
+    {
+        return indexOf(aWord) >= 0;
     }
 
     @Override
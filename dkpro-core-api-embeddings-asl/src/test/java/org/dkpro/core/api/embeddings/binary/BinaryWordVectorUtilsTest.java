@@ -25,9 +25,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
 
 import org.dkpro.core.api.embeddings.VectorizerUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -115,6 +118,55 @@ public class BinaryWordVectorUtilsTest
         }
     }
 
+    @Test
+    public void testBatchVectorize() throws IOException
+    {
+        var binaryTarget = writeBinaryFile(vectors);
+
+        try (var vec = BinaryVectorizer.load(binaryTarget)) {
+            var tokens = new String[] { "t2", "unk", "t1" };
+            var out = new float[tokens.length][vec.dimensions()];
+
+            assertThat(vec.vectorize(tokens, out)).isEqualTo(2);
+            assertThat(out[0]).containsExactly(vectors.get("t2"));
+            assertThat(out[1]).containsExactly(vec.unknownVector());
+            assertThat(out[2]).containsExactly(vectors.get("t1"));
+        }
+    }
+
+    @Test
+    public void testConcurrentVectorize() throws Exception
+    {
+        var binaryTarget = writeBinaryFile(vectors);
+
+        try (var vec = BinaryVectorizer.load(binaryTarget)) {
+            var executor = Executors.newFixedThreadPool(4);
+            try {
+                var tasks = new ArrayList<Callable<Boolean>>();
+                for (int t = 0; t < 8; t++) {
+                    tasks.add(() -> {
+                        var buffer = new float[vec.dimensions()];
+                        for (int i = 0; i < 10_000; i++) {
+                            var word = i % 2 == 0 ? "t1" : "t2";
+                            vec.vectorize(word, buffer);
+                            if (!Arrays.equals(vectors.get(word), buffer)) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    });
+                }
+
+                for (var result : executor.invokeAll(tasks)) {
+                    assertThat(result.get()).isTrue();
+                }
+            }
+            finally {
+                executor.shutdown();
+            }
+        }
+    }
+
     /**
      * Write a binary vectors file to a testContext-dependent location.
      *
@@ -0,0 +1,396 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.api.featurepath;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.apache.uima.cas.CAS;
+import org.apache.uima.cas.Feature;
+import org.apache.uima.cas.FeatureStructure;
+import org.apache.uima.cas.Type;
+import org.apache.uima.cas.TypeSystem;
+import org.apache.uima.cas.impl.LowLevelCAS;
+import org.apache.uima.cas.impl.TypeSystemUtils;
+import org.apache.uima.cas.impl.TypeSystemUtils.PathValid;
+import org.apache.uima.cas.text.AnnotationFS;
+import org.apache.uima.fit.util.CasUtil;
+
+/**
+ * A feature path which has been resolved against a type system. Unlike {@link FeaturePathInfo},
+ * which looks up the features and classifies their ranges for every annotation, the features are
+ * looked up once when the path is compiled. The common shapes of a single string feature (e.g.
+ * {@code Lemma/value}) and a feature structure followed by a string feature (e.g.
+ * {@code Token/lemma/value} or {@code Token/pos/PosValue}) are evaluated by dedicated code
+ * paths.
+ * <p>
+ * The values and matches are the same as those of {@link FeaturePathInfo}. If a feature on the
+ * path can only be resolved on some subtypes of the range of the preceding feature, the path is
+ * resolved for each annotation like {@link FeaturePathInfo} does. The same applies to paths which
+ * cannot be valid for the anchor type at all, e.g. because a feature does not exist. Their value
+ * is {@code null} for every annotation, just like that of an uninitialized
+ * {@link FeaturePathInfo}.
+ * <p>
+ * A compiled path is immutable and can be used concurrently. It remains valid as long as the
+ * type system does not change, which can be checked using {@link #isCompiledFor(TypeSystem)}:
+ *
+ * <pre>
+ * if (path == null || !path.isCompiledFor(aJCas.getTypeSystem())) {
+ *     path = CompiledFeaturePath.compile(aJCas.getTypeSystem(), "my.Type/feature");
+ * }
+ * path.forEach(aJCas.getCas(), (annotation, value) -&gt; ...);
+ * </pre>
+ */
+public final class CompiledFeaturePath
+{
+    private enum Shape
+    {
+        COVERED_TEXT, STRING, FS_STRING, CHAIN, DYNAMIC
+    }
+
+    private final Type anchorType;
+    private final String featurePath;
+    private final Shape shape;
+
+    // The features along the path and the type class of the range of the last feature. Only set
+    // if the path could be resolved statically.
+    private final Feature[] features;
+    private final int valueTypeClass;
+
+    // Used to evaluate paths which cannot be resolved statically
+    private final FeaturePathInfo dynamicPath;
+
+    private CompiledFeaturePath(Type aAnchorType, String aFeaturePath, Shape aShape,
+            Feature[] aFeatures, int aValueTypeClass, FeaturePathInfo aDynamicPath)
+    {
+        anchorType = aAnchorType;
+        featurePath = aFeaturePath;
+        shape = aShape;
+        features = aFeatures;
+        valueTypeClass = aValueTypeClass;
+        dynamicPath = aDynamicPath;
+    }
+
+    /**
+     * Compile a feature path which starts with a fully qualified type name - the anchor type -
+     * followed by the features, e.g. {@code my.Type/feature/path}.
+     *
+     * @param aTypeSystem
+     *            the type system.
+     * @param aPath
+     *            the full feature path.
+     * @return the compiled path.
+     * @throws FeaturePathException
+     *             if the path is syntactically invalid, e.g. contains {@code //}.
+     * @throws IllegalStateException
+     *             if the anchor type does not exist.
+     */
+    public static CompiledFeaturePath compile(TypeSystem aTypeSystem, String aPath)
+        throws FeaturePathException
+    {
+        String[] segments = aPath.split("/", 2);
+        Type type = FeaturePathUtils.getType(aTypeSystem, segments[0]);
+        return compile(type, segments.length > 1 ? segments[1] : "");
+    }
+
+    /**
+     * Compile a feature path unless it has already been compiled for the type system. This is
+     * meant for components which keep the compiled path between calls to {@code process}.
+     *
+     * @param aCompiled
+     *            the path previously compiled from the same full feature path or {@code null}.
+     * @param aTypeSystem
+     *            the type system.
+     * @param aPath
+     *            the full feature path.
+     * @return the compiled path.
+     * @throws FeaturePathException
+     *             if the path is syntactically invalid, e.g. contains {@code //}.
+     * @see #compile(TypeSystem, String)
+     */
+    public static CompiledFeaturePath compile(CompiledFeaturePath aCompiled,
+            TypeSystem aTypeSystem, String aPath)
+        throws FeaturePathException
+    {
+        if (aCompiled != null && aCompiled.isCompiledFor(aTypeSystem)) {
+            return aCompiled;
+        }
+        return compile(aTypeSystem, aPath);
+    }
+
+    /**
+     * Compile a feature path relative to the given anchor type. If the path is empty, the value
+     * is the text covered by the annotation.
+     *
+     * @param aAnchorType
+     *            the anchor type.
+     * @param aFeaturePath
+     *            the feature path relative to the anchor type, separated by {@code /}.
+     * @return the compiled path.
+     * @throws FeaturePathException
+     *             if the path is syntactically invalid, e.g. contains {@code //}.
+     */
+    public static CompiledFeaturePath compile(Type aAnchorType, String aFeaturePath)
+        throws FeaturePathException
+    {
+        FeaturePathInfo info = new FeaturePathInfo();
+        info.initialize(aFeaturePath);
+
+        List<String> names = new ArrayList<>();
+        for (String name : aFeaturePath.split("/")) {
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+        }
+
+        if (names.isEmpty()) {
+            return new CompiledFeaturePath(aAnchorType, aFeaturePath, Shape.COVERED_TEXT, null,
+                    LowLevelCAS.TYPE_CLASS_INVALID, null);
+        }
+
+        if (TypeSystemUtils.isPathValid(aAnchorType, names) != PathValid.ALWAYS) {
+            // Resolved for each annotation. Paths which are never valid are not rejected here
+            // because the callers have always treated them as having no value.
+            return new CompiledFeaturePath(aAnchorType, aFeaturePath, Shape.DYNAMIC, null,
+                    LowLevelCAS.TYPE_CLASS_INVALID, info);
+        }
+
+        Feature[] features = new Feature[names.size()];
+        Type type = aAnchorType;
+        for (int i = 0; i < features.length; i++) {
+            features[i] = type.getFeatureByBaseName(names.get(i));
+            type = features[i].getRange();
+        }
+        int valueTypeClass = TypeSystemUtils.classifyType(type);
+
+        Shape shape = Shape.CHAIN;
+        if (valueTypeClass == LowLevelCAS.TYPE_CLASS_STRING) {
+            if (features.length == 1) {
+                shape = Shape.STRING;
+            }
+            else if (features.length == 2) {
+                shape = Shape.FS_STRING;
+            }
+        }
+
+        return new CompiledFeaturePath(aAnchorType, aFeaturePath, shape, features,
+                valueTypeClass, null);
+    }
+
+    /**
+     * @return the anchor type.
+     */
+    public Type getAnchorType()
+    {
+        return anchorType;
+    }
+
+    /**
+     * @return the feature path relative to the anchor type.
+     */
+    public String getFeaturePath()
+    {
+        return featurePath;
+    }
+
+    /**
+     * Check if the path has been compiled for the given type system. If not, it needs to be
+     * compiled again before it can be used with a CAS using this type system.
+     *
+     * @param aTypeSystem
+     *            the type system.
+     * @return whether the path can be used with the type system.
+     */
+    public boolean isCompiledFor(TypeSystem aTypeSystem)
+    {
+        return aTypeSystem.getType(anchorType.getName()) == anchorType;
+    }
+
+    /**
+     * Get the value of the feature path for the given annotation, which must be of the anchor
+     * type or one of its subtypes.
+     *
+     * @param aAnnotation
+     *            the annotation.
+     * @return the value as a string or {@code null} if the path cannot be followed to the end for
+     *         the annotation.
+     * @see FeaturePathInfo#getValue(AnnotationFS)
+     */
+    public String getValue(AnnotationFS aAnnotation)
+    {
+        switch (shape) {
+        case COVERED_TEXT:
+            return aAnnotation.getCoveredText();
+        case STRING:
+            return aAnnotation.getStringValue(features[0]);
+        case FS_STRING: {
+            FeatureStructure fs = aAnnotation.getFeatureValue(features[0]);
+            return fs != null ? fs.getStringValue(features[1]) : null;
+        }
+        case CHAIN:
+            return getChainValue(aAnnotation);
+        default:
+            return dynamicPath.getValue(aAnnotation);
+        }
+    }
+
+    private String getChainValue(AnnotationFS aAnnotation)
+    {
+        FeatureStructure fs = getLastFeatureStructure(aAnnotation);
+        if (fs == null) {
+            return null;
+        }
+
+        Feature feature = features[features.length - 1];
+        switch (valueTypeClass) {
+        case LowLevelCAS.TYPE_CLASS_STRING:
+            return fs.getStringValue(feature);
+        case LowLevelCAS.TYPE_CLASS_INT:
+            return Integer.toString(fs.getIntValue(feature));
+        case LowLevelCAS.TYPE_CLASS_BOOLEAN:
+            return Boolean.toString(fs.getBooleanValue(feature));
+        case LowLevelCAS.TYPE_CLASS_BYTE:
+            return Byte.toString(fs.getByteValue(feature));
+        case LowLevelCAS.TYPE_CLASS_DOUBLE:
+            return Double.toString(fs.getDoubleValue(feature));
+        case LowLevelCAS.TYPE_CLASS_FLOAT:
+            return Float.toString(fs.getFloatValue(feature));
+        case LowLevelCAS.TYPE_CLASS_LONG:
+            return Long.toString(fs.getLongValue(feature));
+        case LowLevelCAS.TYPE_CLASS_SHORT:
+            return Short.toString(fs.getShortValue(feature));
+        case LowLevelCAS.TYPE_CLASS_INVALID:
+            return null;
+        case LowLevelCAS.TYPE_CLASS_FS: {
+            // If the path ends at an annotation, its covered text is the value
+            FeatureStructure value = fs.getFeatureValue(feature);
+            return value instanceof AnnotationFS ? ((AnnotationFS) value).getCoveredText()
+                    : null;
+        }
+        default:
+            throw new RuntimeException("! feature path error");
+        }
+    }
+
+    /**
+     * Check if the value of the feature path for the given annotation matches the condition.
+     *
+     * @param aAnnotation
+     *            the annotation.
+     * @param aCondition
+     *            the condition.
+     * @return whether the value matches. Paths which are empty or end at a feature structure
+     *         never match.
+     * @see FeaturePathInfo#match(AnnotationFS, Condition)
+     */
+    public boolean match(AnnotationFS aAnnotation, Condition aCondition)
+    {
+        if (shape == Shape.COVERED_TEXT) {
+            return false;
+        }
+        else if (shape == Shape.DYNAMIC) {
+            return dynamicPath.match(aAnnotation, aCondition);
+        }
+
+        FeatureStructure fs = getLastFeatureStructure(aAnnotation);
+        if (fs == null) {
+            return false;
+        }
+
+        Feature feature = features[features.length - 1];
+        switch (valueTypeClass) {
+        case LowLevelCAS.TYPE_CLASS_STRING:
+            return FeaturePathInfo.checkString(fs.getStringValue(feature), aCondition);
+        case LowLevelCAS.TYPE_CLASS_INT:
+            return FeaturePathInfo.checkInt(fs.getIntValue(feature), aCondition);
+        case LowLevelCAS.TYPE_CLASS_BOOLEAN:
+            return FeaturePathInfo.checkBoolean(fs.getBooleanValue(feature), aCondition);
+        case LowLevelCAS.TYPE_CLASS_BYTE:
+            return FeaturePathInfo.checkByte(fs.getByteValue(feature), aCondition);
+        case LowLevelCAS.TYPE_CLASS_DOUBLE:
+            return FeaturePathInfo.checkDouble(fs.getDoubleValue(feature), aCondition);
+        case LowLevelCAS.TYPE_CLASS_FLOAT:
+            return FeaturePathInfo.checkFloat(fs.getFloatValue(feature), aCondition);
+        case LowLevelCAS.TYPE_CLASS_LONG:
+            return FeaturePathInfo.checkLong(fs.getLongValue(feature), aCondition);
+        case LowLevelCAS.TYPE_CLASS_SHORT:
+            return FeaturePathInfo.checkShort(fs.getShortValue(feature), aCondition);
+        case LowLevelCAS.TYPE_CLASS_INVALID:
+        case LowLevelCAS.TYPE_CLASS_FS:
+            return false;
+        default:
+            throw new RuntimeException("feature path element not supported");
+        }
+    }
+
+    /**
+     * Follows all but the last feature of the path.
+     *
+     * @return the feature structure holding the last feature or {@code null} if one of the
+     *         features on the way is not set.
+     */
+    private FeatureStructure getLastFeatureStructure(AnnotationFS aAnnotation)
+    {
+        FeatureStructure fs = aAnnotation;
+        for (int i = 0; i < features.length - 1 && fs != null; i++) {
+            fs = fs.getFeatureValue(features[i]);
+        }
+        return fs;
+    }
+
+    /**
+     * Pass each annotation of the anchor type in the CAS together with its value to the consumer.
+     * No objects are created per annotation other than the value itself if it is not a string
+     * feature.
+     *
+     * @param aCas
+     *            the CAS.
+     * @param aConsumer
+     *            receives the annotations and their values.
+     */
+    public void forEach(CAS aCas, BiConsumer<AnnotationFS, String> aConsumer)
+    {
+        forEach(CasUtil.select(aCas, anchorType), aConsumer);
+    }
+
+    /**
+     * Pass each of the given annotations together with its value to the consumer.
+     *
+     * @param <T>
+     *            the annotation type.
+     * @param aAnnotations
+     *            the annotations, which must be of the anchor type or one of its subtypes.
+     * @param aConsumer
+     *            receives the annotations and their values.
+     */
+    public <T extends AnnotationFS> void forEach(Iterable<T> aAnnotations,
+            BiConsumer<? super T, String> aConsumer)
+    {
+        for (T annotation : aAnnotations) {
+            aConsumer.accept(annotation, getValue(annotation));
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return featurePath.isEmpty() ? anchorType.getName()
+                : anchorType.getName() + "/" + featurePath;
+    }
+}
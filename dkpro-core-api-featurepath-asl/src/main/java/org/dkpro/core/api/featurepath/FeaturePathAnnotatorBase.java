@@ -17,11 +17,15 @@
  */
 package org.dkpro.core.api.featurepath;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.uima.UimaContext;
 import org.apache.uima.analysis_engine.AnalysisEngineProcessException;
+import org.apache.uima.cas.Type;
+import org.apache.uima.cas.text.AnnotationFS;
 import org.apache.uima.fit.component.JCasAnnotator_ImplBase;
 import org.apache.uima.fit.descriptor.ConfigurationParameter;
 import org.apache.uima.jcas.JCas;
@@ -77,6 +81,9 @@ public abstract class FeaturePathAnnotatorBase
     protected FeaturePathInfo filterFeaturePathInfo = new FeaturePathInfo();
     protected FeaturePathInfo fp = new FeaturePathInfo();
 
+    private final Map<String, CompiledFeaturePath> compiledPaths = new HashMap<>();
+    private final Map<String, CompiledFeaturePath> compiledFilters = new HashMap<>();
+
     @Override
     public void initialize(UimaContext aContext)
         throws ResourceInitializationException
@@ -182,6 +189,61 @@ public abstract class FeaturePathAnnotatorBase
         }
     }
 
+    /**
+     * Get the compiled feature path for the given anchor type and path segments. The path is only
+     * compiled again if the type system changes.
+     * 
+     * @param aAnchorType
+     *            the anchor type.
+     * @param aSegments
+     *            the type name and the (optional) feature path as obtained by splitting the full
+     *            path at the first {@code /}.
+     * @return the compiled feature path.
+     * @throws FeaturePathException
+     *             if the feature path is syntactically invalid.
+     */
+    protected CompiledFeaturePath compileFeaturePath(Type aAnchorType, String[] aSegments)
+        throws FeaturePathException
+    {
+        return compile(compiledPaths, aAnchorType, aSegments.length > 1 ? aSegments[1] : "");
+    }
+
+    /**
+     * Checks if the annotation matches the filter condition. If no filter is configured, all
+     * annotations match.
+     * 
+     * @param aPath
+     *            the compiled feature path from which the annotation was obtained.
+     * @param aAnnotation
+     *            the annotation.
+     * @return whether the annotation matches the filter.
+     * @throws FeaturePathException
+     *             if the filter feature path is syntactically invalid.
+     */
+    protected boolean matchesFilter(CompiledFeaturePath aPath, AnnotationFS aAnnotation)
+        throws FeaturePathException
+    {
+        if (filterFeaturePath == null) {
+            return true;
+        }
+
+        return compile(compiledFilters, aPath.getAnchorType(), filterFeaturePath)
+                .match(aAnnotation, filterCondition);
+    }
+
+    private static CompiledFeaturePath compile(Map<String, CompiledFeaturePath> aCache,
+            Type aAnchorType, String aPath)
+        throws FeaturePathException
+    {
+        String key = aAnchorType.getName() + "/" + aPath;
+        CompiledFeaturePath compiled = aCache.get(key);
+        if (compiled == null || compiled.getAnchorType() != aAnchorType) {
+            compiled = CompiledFeaturePath.compile(aAnchorType, aPath);
+            aCache.put(key, compiled);
+        }
+        return compiled;
+    }
+
     /**
      * Method to create annotations.
      * 
@@ -100,11 +100,20 @@ public class FeaturePathFactory
         implements Iterator<Entry<T, String>>
     {
         private final FeaturePathInfo fp;
+        private final CompiledFeaturePath compiledFp;
         private final Iterator<T> iterator;
 
         public FeaturePathIterator(Iterator<T> aIterator, FeaturePathInfo aFp)
         {
             fp = aFp;
+            compiledFp = null;
+            iterator = aIterator;
+        }
+
+        public FeaturePathIterator(Iterator<T> aIterator, CompiledFeaturePath aFp)
+        {
+            fp = null;
+            compiledFp = aFp;
             iterator = aIterator;
         }
 
@@ -129,7 +138,7 @@ public class FeaturePathFactory
                 @Override
                 public String getValue()
                 {
-                    return fp.getValue(anno);
+                    return compiledFp != null ? compiledFp.getValue(anno) : fp.getValue(anno);
                 }
 
                 @Override
@@ -153,9 +162,7 @@ public class FeaturePathFactory
         {
             Type t = JCasUtil.getType(aJCas, aAnchor);
             FSIterator<T> iterator = ((AnnotationIndex<T>) aJCas.getAnnotationIndex(t)).iterator();
-            final FeaturePathInfo fp = new FeaturePathInfo();
-            fp.initialize(aPath);
-            return new FeaturePathIterator<T>(iterator, fp);
+            return new FeaturePathIterator<T>(iterator, CompiledFeaturePath.compile(t, aPath));
         }
 
         @SuppressWarnings("unchecked")
@@ -165,9 +172,7 @@ public class FeaturePathFactory
         {
             FSIterator<T> iterator = ((AnnotationIndex<T>) aCas.getAnnotationIndex(aType))
                     .iterator();
-            final FeaturePathInfo fp = new FeaturePathInfo();
-            fp.initialize(aPath);
-            return new FeaturePathIterator<T>(iterator, fp);
+            return new FeaturePathIterator<T>(iterator, CompiledFeaturePath.compile(aType, aPath));
         }
     }
 }
@@ -428,7 +428,7 @@ public class FeaturePathInfo
      *
      * @return returns true if the condition match the byte value
      */
-    private final boolean checkByte(byte in, Condition condition)
+    static boolean checkByte(byte in, Condition condition)
     {
         String value = condition.getValue();
         byte v;
@@ -473,7 +473,7 @@ public class FeaturePathInfo
      *
      * @return returns true if the condition match the double value
      */
-    private final boolean checkDouble(double in, Condition condition)
+    static boolean checkDouble(double in, Condition condition)
     {
         String value = condition.getValue();
         double v;
@@ -518,7 +518,7 @@ public class FeaturePathInfo
      *
      * @return returns true if the condition match the float value
      */
-    private final boolean checkFloat(float in, Condition condition)
+    static boolean checkFloat(float in, Condition condition)
     {
         String value = condition.getValue();
         float v;
@@ -563,7 +563,7 @@ public class FeaturePathInfo
      *
      * @return returns true if the condition match the long value
      */
-    private final boolean checkLong(long in, Condition condition)
+    static boolean checkLong(long in, Condition condition)
     {
         String value = condition.getValue();
         long v;
@@ -608,7 +608,7 @@ public class FeaturePathInfo
      *
      * @return returns true if the condition match the int value
      */
-    private final boolean checkInt(int in, Condition condition)
+    static boolean checkInt(int in, Condition condition)
     {
         String value = condition.getValue();
         int v;
@@ -653,7 +653,7 @@ public class FeaturePathInfo
      *
      * @return returns true if the condition match the short value
      */
-    private final boolean checkShort(short in, Condition condition)
+    static boolean checkShort(short in, Condition condition)
     {
         String value = condition.getValue();
         short v;
@@ -698,7 +698,7 @@ public class FeaturePathInfo
      *
      * @return returns true if the condition match the String value
      */
-    private final boolean checkString(String s, Condition condition)
+    static boolean checkString(String s, Condition condition)
     {
         String value = condition.getValue();
         // Value can not be null
@@ -755,7 +755,7 @@ public class FeaturePathInfo
      *
      * @return returns true if the condition match the boolean value
      */
-    private final boolean checkBoolean(boolean b, Condition condition)
+    static boolean checkBoolean(boolean b, Condition condition)
     {
         String value = condition.getValue();
         boolean v = Boolean.parseBoolean(value);
@@ -61,13 +61,33 @@ public class FeaturePathUtils
             throw new IllegalStateException("Type [" + typeName + "] not found in type system");
         }
 
-        FeaturePathInfo fpInfo = new FeaturePathInfo();
-        fpInfo.initialize(segments.length > 1 ? segments[1] : "");
+        return featurePathIterator(aJCas,
+                CompiledFeaturePath.compile(type, segments.length > 1 ? segments[1] : ""),
+                coveringAnnotation);
+    }
 
+    /**
+     * Returns a {@link FeaturePathFactory.FeaturePathIterator} over all annotations of the given
+     * compiled feature path. Use this variant to avoid compiling the path again for every
+     * covering annotation.
+     *
+     * @param aJCas
+     *            a {@link JCas}
+     * @param featurePath
+     *            a feature path compiled for the type system of the CAS
+     * @param coveringAnnotation
+     *            an Optional containing an {@link AnnotationFS} or nothing.
+     * @return a {@link FeaturePathFactory.FeaturePathIterator} of type {@link AnnotationFS}
+     * @see CompiledFeaturePath#compile(CompiledFeaturePath, TypeSystem, String)
+     */
+    public static FeaturePathFactory.FeaturePathIterator<AnnotationFS> featurePathIterator(
+            JCas aJCas, CompiledFeaturePath featurePath, Optional<AnnotationFS> coveringAnnotation)
+    {
+        Type type = featurePath.getAnchorType();
         Collection<AnnotationFS> features = coveringAnnotation.isPresent()
                 ? CasUtil.selectCovered(type, coveringAnnotation.get())
                 : CasUtil.select(aJCas.getCas(), type);
-        return new FeaturePathFactory.FeaturePathIterator<>(features.iterator(), fpInfo);
+        return new FeaturePathFactory.FeaturePathIterator<>(features.iterator(), featurePath);
     }
 
     /**
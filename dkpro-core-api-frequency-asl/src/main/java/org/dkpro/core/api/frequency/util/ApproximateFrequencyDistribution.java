@@ -0,0 +1,364 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.api.frequency.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+
+/**
+ * A frequency distribution using constant memory, for vocabularies which do not fit into memory.
+ *
+ * <p>The counts are estimated with a Count-Min sketch: each sample is hashed to one counter in
+ * each row of a table of counters and its count is estimated by the smallest of these counters.
+ * The estimate is never lower than the actual count. With a width of {@code e / epsilon} and a
+ * depth of {@code ln(1 / delta)}, it overestimates the count by more than {@code epsilon * N} with
+ * a probability of at most {@code delta}, where {@code N} is the total number of samples.</p>
+ *
+ * <p>Since the sketch does not store the samples, a bounded number of heavy hitters, i.e. the
+ * samples with the highest estimated counts, is tracked in addition. These are kept in a min-heap,
+ * so that tracking them costs {@code O(log k)} per sample for {@code k} heavy hitters. They are
+ * available via {@link #getMostFrequentSamples(int)}.</p>
+ *
+ * <p>Sketches with the same dimensions can be merged, e.g. to combine counts from different parts
+ * of a corpus.</p>
+ *
+ * @param <T>
+ *            the type of the samples
+ * @see FrequencyDistribution
+ */
+public class ApproximateFrequencyDistribution<T>
+{
+    private final int width;
+    private final int depth;
+    private final long[] counters;
+    private final int maxHeavyHitters;
+
+    /** Min-heap of the heavy hitters ordered by their estimated counts. */
+    private Object[] heapSamples;
+    private long[] heapFreqs;
+    private int heapSize;
+
+    /** The position of each heavy hitter in the heap. */
+    private final Object2IntOpenHashMap<T> heapPositions;
+
+    /** The total number of samples (accumulated count). */
+    private long n;
+
+    /**
+     * Creates a new empty distribution.
+     *
+     * @param width
+     *            the number of counters per row.
+     * @param depth
+     *            the number of rows.
+     * @param maxHeavyHitters
+     *            the number of most frequent samples to track.
+     */
+    public ApproximateFrequencyDistribution(int width, int depth, int maxHeavyHitters)
+    {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("Width and depth must be at least 1");
+        }
+        if ((long) width * depth > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Sketch too large");
+        }
+
+        this.width = width;
+        this.depth = depth;
+        this.maxHeavyHitters = maxHeavyHitters;
+        counters = new long[width * depth];
+        heapSamples = new Object[Math.max(0, Math.min(maxHeavyHitters, 16))];
+        heapFreqs = new long[heapSamples.length];
+        heapPositions = new Object2IntOpenHashMap<T>();
+        heapPositions.defaultReturnValue(-1);
+    }
+
+    /**
+     * Creates a new empty distribution with the dimensions required for the given error bounds.
+     *
+     * @param epsilon
+     *            the maximum overestimation relative to the total number of samples.
+     * @param delta
+     *            the probability of exceeding the maximum overestimation.
+     * @param maxHeavyHitters
+     *            the number of most frequent samples to track.
+     * @param <T>
+     *            the type of the samples
+     * @return the distribution.
+     */
+    public static <T> ApproximateFrequencyDistribution<T> withErrorBounds(double epsilon,
+            double delta, int maxHeavyHitters)
+    {
+        if (epsilon <= 0 || delta <= 0 || delta >= 1) {
+            throw new IllegalArgumentException(
+                    "Epsilon must be positive and delta must be between 0 and 1");
+        }
+        int width = (int) Math.ceil(Math.E / epsilon);
+        int depth = (int) Math.ceil(Math.log(1 / delta));
+        return new ApproximateFrequencyDistribution<T>(width, Math.max(1, depth),
+                maxHeavyHitters);
+    }
+
+    public int getWidth()
+    {
+        return width;
+    }
+
+    public int getDepth()
+    {
+        return depth;
+    }
+
+    /**
+     * Increments the count for a given <code>sample</code>.
+     *
+     * @param sample
+     *            the sample to increment the count for
+     */
+    public void inc(T sample)
+    {
+        addSample(sample, 1);
+    }
+
+    /**
+     * Increments the count for each sample in a given {@link Iterable}.
+     *
+     * @param iterable
+     *            the samples used to increment the counts
+     */
+    public void incAll(Iterable<T> iterable)
+    {
+        for (T o : iterable) {
+            addSample(o, 1);
+        }
+    }
+
+    /**
+     * Increases the count for a given <code>sample</code>.
+     *
+     * @param sample
+     *            the sample to increase the count for
+     * @param number
+     *            the number to increase by
+     */
+    public void addSample(T sample, long number)
+    {
+        if (number < 0) {
+            throw new IllegalArgumentException("Counts cannot be decreased");
+        }
+
+        n += number;
+
+        int hash = hash(sample);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int i = index(hash, row);
+            counters[i] += number;
+            estimate = Math.min(estimate, counters[i]);
+        }
+
+        offerHeavyHitter(sample, estimate);
+    }
+
+    /**
+     * Adds the counts of the given distribution to this distribution. Both distributions must
+     * have the same dimensions.
+     *
+     * @param other
+     *            the distribution to add
+     */
+    public void merge(ApproximateFrequencyDistribution<T> other)
+    {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("Cannot merge sketches with different dimensions");
+        }
+
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += other.counters[i];
+        }
+        n += other.n;
+
+        // The estimates of the heavy hitters from both sides have changed
+        List<T> candidates = new ArrayList<T>(heapPositions.keySet());
+        candidates.addAll(other.heapPositions.keySet());
+        clearHeavyHitters();
+        for (T candidate : candidates) {
+            offerHeavyHitter(candidate, getCount(candidate));
+        }
+    }
+
+    /**
+     * Returns the estimated count for a given <code>sample</code>. The estimate is never lower
+     * than the actual count.
+     *
+     * @param sample
+     *            the sample to get the count for
+     * @return the estimated count for a given sample
+     */
+    public long getCount(T sample)
+    {
+        int hash = hash(sample);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[index(hash, row)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the total number of sample outcomes that have been recorded by this frequency
+     * distribution.
+     *
+     * @return the total number of sample outcomes
+     */
+    public long getN()
+    {
+        return n;
+    }
+
+    /**
+     * Returns the n most frequent samples in the distribution by their estimated count. At most
+     * the configured number of heavy hitters can be returned. The ordering within in a group of
+     * samples with the same frequency is undefined.
+     *
+     * @param n
+     *            the numer of most frequent samples to return.
+     * @return the n most frequent samples in the distribution.
+     */
+    public List<T> getMostFrequentSamples(int n)
+    {
+        Object2LongOpenHashMap<T> heavyHitters = new Object2LongOpenHashMap<T>(heapSize);
+        for (int i = 0; i < heapSize; i++) {
+            heavyHitters.put(sample(i), heapFreqs[i]);
+        }
+        return FrequencyDistribution.mostFrequent(heavyHitters, n);
+    }
+
+    public void clear()
+    {
+        Arrays.fill(counters, 0);
+        clearHeavyHitters();
+        n = 0;
+    }
+
+    private void clearHeavyHitters()
+    {
+        Arrays.fill(heapSamples, 0, heapSize, null);
+        heapSize = 0;
+        heapPositions.clear();
+    }
+
+    private void offerHeavyHitter(T sample, long estimate)
+    {
+        if (maxHeavyHitters <= 0) {
+            return;
+        }
+
+        int pos = heapPositions.getInt(sample);
+        if (pos >= 0) {
+            // Estimates never decrease, so the sample can only move towards the leaves
+            heapFreqs[pos] = estimate;
+            siftDown(pos);
+        }
+        else if (heapSize < maxHeavyHitters) {
+            if (heapSize == heapSamples.length) {
+                int capacity = (int) Math.min(maxHeavyHitters, 2L * heapSize);
+                heapSamples = Arrays.copyOf(heapSamples, capacity);
+                heapFreqs = Arrays.copyOf(heapFreqs, capacity);
+            }
+            place(heapSize, sample, estimate);
+            siftUp(heapSize++);
+        }
+        else if (estimate > heapFreqs[0]) {
+            // Replace the heavy hitter with the lowest count
+            heapPositions.removeInt(heapSamples[0]);
+            place(0, sample, estimate);
+            siftDown(0);
+        }
+    }
+
+    private void siftUp(int aPos)
+    {
+        int pos = aPos;
+        T sample = sample(pos);
+        long freq = heapFreqs[pos];
+        while (pos > 0 && heapFreqs[(pos - 1) / 2] > freq) {
+            int parent = (pos - 1) / 2;
+            place(pos, sample(parent), heapFreqs[parent]);
+            pos = parent;
+        }
+        place(pos, sample, freq);
+    }
+
+    private void siftDown(int aPos)
+    {
+        int pos = aPos;
+        T sample = sample(pos);
+        long freq = heapFreqs[pos];
+        while (2 * pos + 1 < heapSize) {
+            int child = 2 * pos + 1;
+            if (child + 1 < heapSize && heapFreqs[child + 1] < heapFreqs[child]) {
+                child++;
+            }
+            if (heapFreqs[child] >= freq) {
+                break;
+            }
+            place(pos, sample(child), heapFreqs[child]);
+            pos = child;
+        }
+        place(pos, sample, freq);
+    }
+
+    private void place(int aPos, T aSample, long aFreq)
+    {
+        heapSamples[aPos] = aSample;
+        heapFreqs[aPos] = aFreq;
+        heapPositions.put(aSample, aPos);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T sample(int aPos)
+    {
+        return (T) heapSamples[aPos];
+    }
+
+    private static int hash(Object sample)
+    {
+        int h = sample == null ? 0 : sample.hashCode();
+        // Murmur3 finalizer to spread the bits of weak hash codes
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private int index(int hash, int row)
+    {
+        // Derive the row hashes from two halves of the hash (Kirsch-Mitzenmacher)
+        int h1 = hash;
+        int h2 = (hash >>> 16) | (hash << 16);
+        int h = h1 + row * (h2 | 1);
+        return row * width + ((h & 0x7fffffff) % width);
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.api.frequency.util;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+
+/**
+ * A frequency distribution which can be updated concurrently from several threads, e.g. by
+ * multiple instances of an annotator in a multi-threaded pipeline.
+ *
+ * <p>The samples are distributed over a number of stripes by their hash code. Each stripe is a
+ * separate hash map with its own lock, so threads counting different samples rarely block each
+ * other.</p>
+ *
+ * <blockquote><pre>
+ * ConcurrentFrequencyDistribution&lt;String&gt; fd = new ConcurrentFrequencyDistribution&lt;&gt;();
+ * // in each thread
+ * fd.inc(word);
+ * // when done
+ * fd.toFrequencyDistribution().save(file);
+ * </pre></blockquote>
+ *
+ * @param <T>
+ *            the type of the samples
+ * @see FrequencyDistribution
+ */
+public class ConcurrentFrequencyDistribution<T>
+{
+    private final Object2LongOpenHashMap<T>[] stripes;
+    private final int mask;
+    private final LongAdder n = new LongAdder();
+
+    /**
+     * Creates a new empty distribution with four stripes per available processor.
+     */
+    public ConcurrentFrequencyDistribution()
+    {
+        this(4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new empty distribution.
+     *
+     * @param concurrencyLevel
+     *            the expected number of threads updating the distribution concurrently. The
+     *            number of stripes is the next power of two.
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentFrequencyDistribution(int concurrencyLevel)
+    {
+        int size = Integer.highestOneBit(Math.max(1, concurrencyLevel - 1)) << 1;
+        stripes = new Object2LongOpenHashMap[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Object2LongOpenHashMap<T>();
+        }
+        mask = size - 1;
+    }
+
+    private Object2LongOpenHashMap<T> stripe(Object sample)
+    {
+        int h = sample == null ? 0 : sample.hashCode();
+        // The hash maps use the low bits, so select the stripe by the high bits
+        h = (h ^ (h >>> 16)) * 0x9e3779b9;
+        return stripes[(h >>> 16) & mask];
+    }
+
+    /**
+     * Increments the count for a given <code>sample</code>.
+     *
+     * @param sample
+     *            the sample to increment the count for
+     */
+    public void inc(T sample)
+    {
+        addSample(sample, 1);
+    }
+
+    /**
+     * Increments the count for each sample in a given {@link Iterable}.
+     *
+     * @param iterable
+     *            the samples used to increment the counts
+     */
+    public void incAll(Iterable<T> iterable)
+    {
+        for (T o : iterable) {
+            addSample(o, 1);
+        }
+    }
+
+    /**
+     * Increases the count for a given <code>sample</code>.
+     *
+     * @param sample
+     *            the sample to increase the count for
+     * @param number
+     *            the number to increase by
+     */
+    public void addSample(T sample, long number)
+    {
+        Object2LongOpenHashMap<T> stripe = stripe(sample);
+        synchronized (stripe) {
+            stripe.addTo(sample, number);
+        }
+        n.add(number);
+    }
+
+    /**
+     * Adds the counts of all samples in the given distribution to this distribution.
+     *
+     * @param other
+     *            the distribution to add
+     */
+    public void merge(FrequencyDistribution<T> other)
+    {
+        for (T key : other.getKeys()) {
+            addSample(key, other.getCount(key));
+        }
+    }
+
+    /**
+     * Indicates whether this distribution contains outcomes for a given <code>sample</code>.
+     *
+     * @param sample
+     *            the sample to look up
+     * @return true if samples exist
+     */
+    public boolean contains(T sample)
+    {
+        Object2LongOpenHashMap<T> stripe = stripe(sample);
+        synchronized (stripe) {
+            return stripe.containsKey(sample);
+        }
+    }
+
+    /**
+     * Returns the count for a given <code>sample</code>. If no such samples have been recorded yet,
+     * <code>0</code> will be returned.
+     *
+     * @param sample
+     *            the sample to get the count for
+     * @return the count for a given sample
+     */
+    public long getCount(T sample)
+    {
+        Object2LongOpenHashMap<T> stripe = stripe(sample);
+        synchronized (stripe) {
+            return stripe.getLong(sample);
+        }
+    }
+
+    /**
+     * Returns the total number of sample outcomes that have been recorded by this frequency
+     * distribution.
+     *
+     * @return the total number of sample outcomes
+     */
+    public long getN()
+    {
+        return n.sum();
+    }
+
+    /**
+     * Returns the total number of sample values (or bins) that have counts greater than zero.
+     *
+     * @return the total number of bins
+     */
+    public long getB()
+    {
+        long b = 0;
+        for (Object2LongOpenHashMap<T> stripe : stripes) {
+            synchronized (stripe) {
+                b += stripe.size();
+            }
+        }
+        return b;
+    }
+
+    /**
+     * Returns the n most frequent samples in the distribution. The ordering within in a group of
+     * samples with the same frequency is undefined.
+     *
+     * @param n
+     *            the numer of most frequent samples to return.
+     * @return the n most frequent samples in the distribution.
+     */
+    public List<T> getMostFrequentSamples(int n)
+    {
+        return toFrequencyDistribution().getMostFrequentSamples(n);
+    }
+
+    /**
+     * Creates a {@link FrequencyDistribution} with the current counts. Samples counted while the
+     * copy is created may or may not be included.
+     *
+     * @return a copy of this distribution.
+     */
+    public FrequencyDistribution<T> toFrequencyDistribution()
+    {
+        FrequencyDistribution<T> fd = new FrequencyDistribution<T>();
+        for (Object2LongOpenHashMap<T> stripe : stripes) {
+            synchronized (stripe) {
+                for (Object2LongMap.Entry<T> e : stripe.object2LongEntrySet()) {
+                    fd.addSample(e.getKey(), e.getLongValue());
+                }
+            }
+        }
+        return fd;
+    }
+
+    public void clear()
+    {
+        for (Object2LongOpenHashMap<T> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+        n.reset();
+    }
+}
@@ -243,6 +243,28 @@ public class ConditionalFrequencyDistribution<C, V>
         this.n = n + (freqDist.getN() - countBefore);
     }
 
+    /**
+     * Adds the counts of all samples under all conditions in the given distribution to this
+     * distribution.
+     * 
+     * @param other
+     *            the distribution to add
+     */
+    public void merge(ConditionalFrequencyDistribution<C, V> other)
+    {
+        for (Map.Entry<C, FrequencyDistribution<V>> entry : other.cfd.entrySet()) {
+            FrequencyDistribution<V> freqDist = cfd.get(entry.getKey());
+            if (freqDist == null) {
+                freqDist = new FrequencyDistribution<V>();
+                cfd.put(entry.getKey(), freqDist);
+            }
+            
+            long countBefore = freqDist.getN();
+            freqDist.merge(entry.getValue());
+            this.n = n + (freqDist.getN() - countBefore);
+        }
+    }
+
     /**
      * Remove a previously registered condition
      * 
@@ -17,23 +17,29 @@
  */
 package org.dkpro.core.api.frequency.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import com.google.common.collect.MinMaxPriorityQueue;
-
-import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 
 /**
  * It is basically a mapping from samples (keys) to long values (counts).
@@ -66,6 +72,13 @@ public class FrequencyDistribution<T>
     
     private static final long serialVersionUID = 150;
 
+    /**
+     * The first four bytes of a distribution in the binary format.
+     */
+    public static final int MAGIC = 0x444b4644; // "DKFD"
+
+    private static final int VERSION = 1;
+
     private Object2LongOpenHashMap<T> freqDist;
 
     /** The total number of samples (accumulated count). */
@@ -168,12 +181,7 @@ public class FrequencyDistribution<T>
      */
     public long getCount(T sample)
     {
-        if (freqDist.containsKey(sample)) {
-            return freqDist.get(sample);
-        }
-        else {
-            return 0;
-        }
+        return freqDist.getLong(sample);
     }
 
     /**
@@ -199,11 +207,7 @@ public class FrequencyDistribution<T>
     {
         this.n = this.n + number;
         
-        long sampleFreq = number;
-        if (freqDist.containsKey(sample)) {
-            sampleFreq = freqDist.get(sample) + number;
-        }
-        freqDist.put(sample, sampleFreq);
+        long sampleFreq = freqDist.addTo(sample, number) + number;
         
         if (sampleFreq > maxFreq) {
             maxFreq = sampleFreq;
@@ -211,6 +215,21 @@ public class FrequencyDistribution<T>
         }
     }
 
+    /**
+     * Adds the counts of all samples in the given distribution to this distribution.
+     * 
+     * @param other
+     *            the distribution to add
+     */
+    public void merge(FrequencyDistribution<T> other)
+    {
+        ObjectIterator<Object2LongMap.Entry<T>> i = other.freqDist.object2LongEntrySet()
+                .fastIterator();
+        while (i.hasNext()) {
+            Object2LongMap.Entry<T> e = i.next();
+            addSample(e.getKey(), e.getLongValue());
+        }
+    }
 
     /**
      * Returns the highest frequency that is currently stored.
@@ -232,42 +251,253 @@ public class FrequencyDistribution<T>
     }
     
     
+    /**
+     * Saves the distribution to the given file using Java serialization. Distributions of strings
+     * can be saved in a more compact binary format using
+     * {@link #saveStrings(FrequencyDistribution, File)}.
+     * 
+     * @param file
+     *            the file to write to
+     * @throws IOException
+     *             if the distribution cannot be written
+     */
     public void save(File file)
             throws IOException
     {
-        ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(file));
-        out.writeObject(freqDist);
-        out.close();
+        try (ObjectOutputStream out = new ObjectOutputStream(
+                new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeObject(freqDist);
+        }
     }
 
+    /**
+     * Replaces the contents of this distribution with a distribution previously written by
+     * {@link #save(File)}.
+     * 
+     * @param file
+     *            the file to read from
+     * @throws IOException
+     *             if the distribution cannot be read
+     * @throws ClassNotFoundException
+     *             if a sample class of a serialized distribution cannot be found
+     */
     public void load(File file)
             throws IOException, ClassNotFoundException
     {
-        ObjectInputStream in = new ObjectInputStream(new FileInputStream(file));
-        freqDist = (Object2LongOpenHashMap<T>) in.readObject();
-        in.close();
+        clear();
+        merge(file);
+    }
+
+    /**
+     * Adds the counts of a distribution previously written by {@link #save(File)} to this
+     * distribution. This can be used to combine distributions counted on different parts of a
+     * corpus. Files in the binary format can only be read into distributions of strings using
+     * {@link #mergeStrings(FrequencyDistribution, File)}.
+     * 
+     * @param file
+     *            the file to read from
+     * @throws IOException
+     *             if the distribution cannot be read
+     * @throws ClassNotFoundException
+     *             if a sample class of a serialized distribution cannot be found
+     */
+    public void merge(File file)
+            throws IOException, ClassNotFoundException
+    {
+        try (InputStream is = new BufferedInputStream(new FileInputStream(file))) {
+            if (isBinary(is)) {
+                throw new IOException("[" + file + "] contains a distribution of strings in "
+                        + "the binary format - use mergeStrings() to read it");
+            }
+            merge(readSerialized(is));
+        }
+    }
+
+    /**
+     * Saves a distribution of strings to the given file in a compact binary format, see
+     * {@link #write(FrequencyDistribution, OutputStream)}.
+     * 
+     * @param fd
+     *            the distribution to save
+     * @param file
+     *            the file to write to
+     * @throws IOException
+     *             if the distribution cannot be written
+     */
+    public static void saveStrings(FrequencyDistribution<String> fd, File file)
+            throws IOException
+    {
+        try (OutputStream os = new BufferedOutputStream(new FileOutputStream(file))) {
+            write(fd, os);
+        }
+    }
+
+    /**
+     * Adds the counts of a distribution of strings previously written by
+     * {@link #saveStrings(FrequencyDistribution, File)} or {@link #save(File)} to the given
+     * distribution.
+     * 
+     * @param fd
+     *            the distribution to add the counts to
+     * @param file
+     *            the file to read from
+     * @throws IOException
+     *             if the distribution cannot be read or contains samples which are not strings
+     * @throws ClassNotFoundException
+     *             if a sample class of a serialized distribution cannot be found
+     */
+    public static void mergeStrings(FrequencyDistribution<String> fd, File file)
+            throws IOException, ClassNotFoundException
+    {
+        try (InputStream is = new BufferedInputStream(new FileInputStream(file))) {
+            if (isBinary(is)) {
+                read(fd, is);
+                return;
+            }
+
+            FrequencyDistribution<Object> other = readSerialized(is);
+            for (Object sample : other.freqDist.keySet()) {
+                if (!(sample instanceof String)) {
+                    throw new IOException("[" + file + "] contains samples of type ["
+                            + sample.getClass().getName() + "] instead of strings");
+                }
+            }
+            ObjectIterator<Object2LongMap.Entry<Object>> i = other.freqDist
+                    .object2LongEntrySet().fastIterator();
+            while (i.hasNext()) {
+                Object2LongMap.Entry<Object> e = i.next();
+                fd.addSample((String) e.getKey(), e.getLongValue());
+            }
+        }
+    }
+
+    private static boolean isBinary(InputStream is)
+            throws IOException
+    {
+        is.mark(4);
+        int magic = 0;
+        for (int i = 0; i < 4; i++) {
+            magic = (magic << 8) | (is.read() & 0xff);
+        }
+        is.reset();
+        return magic == MAGIC;
+    }
 
-        int samples = 0;
+    @SuppressWarnings("unchecked")
+    private static <T> FrequencyDistribution<T> readSerialized(InputStream is)
+            throws IOException, ClassNotFoundException
+    {
+        ObjectInputStream in = new ObjectInputStream(is);
+        FrequencyDistribution<T> fd = new FrequencyDistribution<T>();
+        fd.freqDist = (Object2LongOpenHashMap<T>) in.readObject();
+        return fd;
+    }
+
+    /**
+     * Writes a distribution of strings in a compact binary format. The format starts with
+     * {@link #MAGIC} and a version number, followed by the number of samples and each sample with
+     * its count, beginning with the sample with the maximum frequency.
+     * 
+     * @param fd
+     *            the distribution to write
+     * @param stream
+     *            the stream to write to. The stream is not closed.
+     * @throws IOException
+     *             if the distribution cannot be written
+     */
+    public static void write(FrequencyDistribution<String> fd, OutputStream stream)
+            throws IOException
+    {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeVarLong(out, fd.freqDist.size());
         
-        LongIterator sampleIter = freqDist.values().iterator();
+        // The sample with the maximum frequency comes first, so it is restored when reading
+        if (fd.maxSample != null) {
+            writeEntry(out, fd.maxSample, fd.maxFreq);
+        }
+        
+        ObjectIterator<Object2LongMap.Entry<String>> i = fd.freqDist.object2LongEntrySet()
+                .fastIterator();
+        while (i.hasNext()) {
+            Object2LongMap.Entry<String> e = i.next();
+            if (!e.getKey().equals(fd.maxSample)) {
+                writeEntry(out, e.getKey(), e.getLongValue());
+            }
+        }
+        out.flush();
+    }
 
-        // determine total frequency
-        while (sampleIter.hasNext()) {
-            long count = sampleIter.next();
-            samples += count;
+    private static void writeEntry(DataOutputStream out, String sample, long count)
+            throws IOException
+    {
+        byte[] bytes = sample.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+        writeVarLong(out, count);
+    }
+
+    /**
+     * Reads a distribution written by {@link #write(FrequencyDistribution, OutputStream)} and adds
+     * its counts to the given distribution.
+     * 
+     * @param fd
+     *            the distribution to add the counts to
+     * @param stream
+     *            the stream to read from. The stream is not closed.
+     * @throws IOException
+     *             if the distribution cannot be read
+     */
+    public static void read(FrequencyDistribution<String> fd, InputStream stream)
+            throws IOException
+    {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a frequency distribution");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported frequency distribution version [" + version + "]");
         }
-        n = samples;
         
-        // determine max sample
-        for (T key : freqDist.keySet()) {
-            Long freq = freqDist.get(key);
-            if (freq > maxFreq) {
-                maxFreq = freq;
-                maxSample = key;
+        long size = readVarLong(in);
+        byte[] buffer = new byte[64];
+        for (long i = 0; i < size; i++) {
+            int length = (int) readVarLong(in);
+            if (length > buffer.length) {
+                buffer = new byte[Math.max(length, buffer.length * 2)];
             }
+            in.readFully(buffer, 0, length);
+            fd.addSample(new String(buffer, 0, length, StandardCharsets.UTF_8), readVarLong(in));
         }
     }
 
+    private static void writeVarLong(DataOutputStream out, long value)
+            throws IOException
+    {
+        long v = value;
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    private static long readVarLong(DataInputStream in)
+            throws IOException
+    {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length number");
+    }
+
     public void clear()
     {
         freqDist.clear();
@@ -285,20 +515,75 @@ public class FrequencyDistribution<T>
      * @return the n most frequent samples in the distribution.
      */
     public List<T> getMostFrequentSamples(int n) {
+        return mostFrequent(freqDist, n);
+    }
+    
+    /**
+     * Selects the n samples with the highest counts from the given map using a bounded min-heap.
+     * The heap is kept in arrays, so no objects are created per sample.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> List<T> mostFrequent(Object2LongOpenHashMap<T> counts, int n)
+    {
+        int capacity = Math.max(0, Math.min(n, counts.size()));
+        Object[] keys = new Object[capacity];
+        long[] freqs = new long[capacity];
+        int size = 0;
 
-        MinMaxPriorityQueue<TermFreqTuple<T>> topN = MinMaxPriorityQueue.maximumSize(n).create();
+        ObjectIterator<Object2LongMap.Entry<T>> i = counts.object2LongEntrySet().fastIterator();
+        while (i.hasNext() && capacity > 0) {
+            Object2LongMap.Entry<T> e = i.next();
+            long freq = e.getLongValue();
+            if (size < capacity) {
+                // Sift up
+                int pos = size++;
+                while (pos > 0 && freqs[(pos - 1) / 2] > freq) {
+                    keys[pos] = keys[(pos - 1) / 2];
+                    freqs[pos] = freqs[(pos - 1) / 2];
+                    pos = (pos - 1) / 2;
+                }
+                keys[pos] = e.getKey();
+                freqs[pos] = freq;
+            }
+            else if (freq > freqs[0]) {
+                siftDown(keys, freqs, size, e.getKey(), freq);
+            }
+        }
 
-        for (T key : this.getKeys()) {
-            topN.add(new TermFreqTuple<T>(key, this.getCount(key)));
+        // Remove the least frequent sample until the heap is empty
+        Object[] result = new Object[size];
+        for (int last = size - 1; last >= 0; last--) {
+            result[last] = keys[0];
+            siftDown(keys, freqs, last, keys[last], freqs[last]);
         }
-        
-        List<T> topNList = new ArrayList<T>();
-        while (!topN.isEmpty()) {
-            topNList.add(topN.poll().getKey());
+
+        List<T> topNList = new ArrayList<T>(size);
+        for (Object key : result) {
+            topNList.add((T) key);
         }
-        
         return topNList;
     }
+
+    private static void siftDown(Object[] keys, long[] freqs, int size, Object key, long freq)
+    {
+        int pos = 0;
+        while (2 * pos + 1 < size) {
+            int child = 2 * pos + 1;
+            if (child + 1 < size && freqs[child + 1] < freqs[child]) {
+                child++;
+            }
+            if (freqs[child] >= freq) {
+                break;
+            }
+            keys[pos] = keys[child];
+            freqs[pos] = freqs[child];
+            pos = child;
+        }
+        if (size > 0) {
+            keys[pos] = key;
+            freqs[pos] = freq;
+        }
+    }
     
     class ValueComparator
         implements Comparator<T>
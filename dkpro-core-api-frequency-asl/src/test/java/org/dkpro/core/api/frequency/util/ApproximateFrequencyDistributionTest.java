@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.api.frequency.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class ApproximateFrequencyDistributionTest
+{
+    @Test
+    public void estimateTest()
+    {
+        ApproximateFrequencyDistribution<String> fd = ApproximateFrequencyDistribution
+                .withErrorBounds(0.001, 0.01, 10);
+        FrequencyDistribution<String> exact = new FrequencyDistribution<String>();
+
+        // Zipf-like distribution
+        Random rnd = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            String sample = "w" + (int) Math.floor(1 / (rnd.nextDouble() + 0.0001));
+            fd.inc(sample);
+            exact.inc(sample);
+        }
+
+        assertEquals(exact.getN(), fd.getN());
+        for (String sample : exact.getKeys()) {
+            long estimate = fd.getCount(sample);
+            assertTrue(estimate >= exact.getCount(sample));
+            assertTrue(estimate <= exact.getCount(sample) + 0.001 * exact.getN() * 3);
+        }
+
+        assertEquals(exact.getMostFrequentSamples(3), fd.getMostFrequentSamples(3));
+    }
+
+    @Test
+    public void heavyHitterEvictionTest()
+    {
+        ApproximateFrequencyDistribution<String> fd =
+                new ApproximateFrequencyDistribution<String>(10000, 4, 3);
+        // Many rare samples first, then the frequent ones have to evict them
+        for (int i = 0; i < 1000; i++) {
+            fd.inc("rare" + i);
+        }
+        for (int i = 0; i < 10; i++) {
+            fd.addSample("x", 1);
+            fd.addSample("y", 2);
+            fd.addSample("z", 3);
+        }
+        fd.inc("rare1000");
+
+        assertEquals(Arrays.asList("z", "y", "x"), fd.getMostFrequentSamples(3));
+        assertEquals(Arrays.asList("z", "y"), fd.getMostFrequentSamples(2));
+    }
+
+    @Test
+    public void mergeTest()
+    {
+        ApproximateFrequencyDistribution<String> fd1 =
+                new ApproximateFrequencyDistribution<String>(1000, 4, 3);
+        fd1.incAll(Arrays.asList("a a a b b c".split(" ")));
+        ApproximateFrequencyDistribution<String> fd2 =
+                new ApproximateFrequencyDistribution<String>(1000, 4, 3);
+        fd2.incAll(Arrays.asList("d d d d b b b c".split(" ")));
+
+        fd1.merge(fd2);
+
+        assertEquals(14, fd1.getN());
+        assertEquals(5, fd1.getCount("b"));
+        assertEquals(Arrays.asList("b", "d", "a"), fd1.getMostFrequentSamples(3));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> fd1.merge(new ApproximateFrequencyDistribution<String>(100, 4, 3)));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.api.frequency.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentFrequencyDistributionTest
+{
+    @Test
+    public void concurrentTest()
+        throws Exception
+    {
+        ConcurrentFrequencyDistribution<String> fd = new ConcurrentFrequencyDistribution<String>(4);
+
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    fd.inc("sample" + (i % 100));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40000, fd.getN());
+        assertEquals(100, fd.getB());
+        assertEquals(400, fd.getCount("sample42"));
+        assertEquals(0, fd.getCount("humpelgrumpf"));
+
+        FrequencyDistribution<String> copy = fd.toFrequencyDistribution();
+        assertEquals(40000, copy.getN());
+        assertEquals(400, copy.getCount("sample99"));
+    }
+
+    @Test
+    public void mergeTest()
+    {
+        ConcurrentFrequencyDistribution<String> fd = new ConcurrentFrequencyDistribution<String>();
+        fd.incAll(Arrays.asList("This is a first test".split(" ")));
+        fd.merge(new FrequencyDistribution<String>(
+                Arrays.asList("that contains a first test example".split(" "))));
+
+        assertEquals(11, fd.getN());
+        assertEquals(8, fd.getB());
+        assertEquals(2, fd.getCount("first"));
+        assertEquals(3, fd.getMostFrequentSamples(3).size());
+
+        fd.clear();
+        assertEquals(0, fd.getN());
+        assertEquals(0, fd.getB());
+    }
+}
@@ -19,9 +19,11 @@ package org.dkpro.core.api.frequency.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 
@@ -134,4 +136,81 @@ public class FrequencyDistributionTest
         assertEquals(1, fd.getCount("\t"));
         assertEquals(1, fd.getCount(",\t"));
     }
+
+    @Test
+    public void mostFrequentSamplesOrderTest()
+    {
+        FrequencyDistribution<String> fd = new FrequencyDistribution<String>();
+        fd.addSample("a", 5);
+        fd.addSample("b", 1);
+        fd.addSample("c", 7);
+        fd.addSample("d", 3);
+        fd.addSample("e", 6);
+
+        assertEquals(Arrays.asList("c", "e", "a"), fd.getMostFrequentSamples(3));
+        assertEquals(Arrays.asList("c", "e", "a", "d", "b"), fd.getMostFrequentSamples(10));
+        assertEquals(Arrays.asList(), fd.getMostFrequentSamples(0));
+    }
+
+    @Test
+    public void mergeTest(@TempDir File tempDir)
+        throws Exception
+    {
+        FrequencyDistribution<String> shard1 = new FrequencyDistribution<String>(
+                Arrays.asList("This is a first test".split(" ")));
+        FrequencyDistribution<String> shard2 = new FrequencyDistribution<String>(
+                Arrays.asList("that contains a first test example".split(" ")));
+        File file1 = new File(tempDir, "shard1");
+        File file2 = new File(tempDir, "shard2");
+        FrequencyDistribution.saveStrings(shard1, file1);
+        shard2.save(file2);
+
+        FrequencyDistribution<String> merged = new FrequencyDistribution<String>();
+        FrequencyDistribution.mergeStrings(merged, file1);
+        FrequencyDistribution.mergeStrings(merged, file2);
+
+        assertEquals(11, merged.getN());
+        assertEquals(8, merged.getB());
+        assertEquals(2, merged.getCount("test"));
+        assertEquals(1, merged.getCount("example"));
+
+        shard1.merge(shard2);
+        assertEquals(11, shard1.getN());
+        assertEquals(2, shard1.getMaxFreq());
+    }
+
+    @Test
+    public void saveAndLoadNonStringFdTest(@TempDir File tempDir)
+        throws Exception
+    {
+        FrequencyDistribution<Integer> fd = new FrequencyDistribution<Integer>(
+                Arrays.asList(1, 2, 2, 3, 3, 3));
+
+        File outputFile = new File(tempDir, "test");
+        fd.save(outputFile);
+
+        FrequencyDistribution<Integer> loadedFd = new FrequencyDistribution<Integer>();
+        loadedFd.load(outputFile);
+
+        assertEquals(6, loadedFd.getN());
+        assertEquals(3, loadedFd.getCount(3));
+        assertEquals(Integer.valueOf(3), loadedFd.getSampleWithMaxFreq());
+
+        FrequencyDistribution<String> strings = new FrequencyDistribution<String>();
+        assertThrows(IOException.class,
+                () -> FrequencyDistribution.mergeStrings(strings, outputFile));
+    }
+
+    @Test
+    public void binaryOnlyForStringsTest(@TempDir File tempDir)
+        throws Exception
+    {
+        File outputFile = new File(tempDir, "test");
+        FrequencyDistribution.saveStrings(
+                new FrequencyDistribution<String>(Arrays.asList("a", "b", "a")), outputFile);
+
+        FrequencyDistribution<Integer> fd = new FrequencyDistribution<Integer>();
+        assertThrows(IOException.class, () -> fd.load(outputFile));
+        assertEquals(0, fd.getN());
+    }
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.api.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+
+/**
+ * Index of the documents written by {@link JCasFileWriter_ImplBase} to a sequence of archives
+ * (cf. {@link JCasFileWriter_ImplBase#PARAM_ARCHIVE_MAX_DOCUMENTS}). The index is a UTF-8 text
+ * file with one line per document containing the name of the archive entry, the file name of the
+ * archive and the offset of the entry within the archive, separated by tabs. The archives are
+ * located in the same directory as the index.
+ * <p>
+ * Since the offset of each entry is known, a single document can be read without scanning the
+ * archive.
+ */
+public class ArchiveIndex
+{
+    /**
+     * Extension which is added to the name of the archive to form the name of the index.
+     */
+    public static final String EXTENSION = ".index";
+
+    private final List<Entry> entries;
+    private final Map<String, Entry> entriesByName;
+
+    private ArchiveIndex(List<Entry> aEntries)
+    {
+        entries = Collections.unmodifiableList(aEntries);
+        entriesByName = new HashMap<>();
+        for (Entry entry : aEntries) {
+            entriesByName.put(entry.getName(), entry);
+        }
+    }
+
+    /**
+     * Loads an index.
+     *
+     * @param aIndexFile
+     *            the index file.
+     * @return the index.
+     * @throws IOException
+     *             if the index cannot be read or is malformed.
+     */
+    public static ArchiveIndex load(File aIndexFile)
+        throws IOException
+    {
+        File directory = aIndexFile.getAbsoluteFile().getParentFile();
+        Map<String, File> archives = new HashMap<>();
+        List<Entry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(aIndexFile.toPath(), UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                String[] fields = line.split("\t");
+                if (fields.length != 3) {
+                    throw new IOException("Malformed line in index [" + aIndexFile + "]: ["
+                            + line + "]");
+                }
+
+                File archive = archives.computeIfAbsent(fields[1],
+                    name -> new File(directory, name));
+                try {
+                    entries.add(new Entry(fields[0], archive, Long.parseLong(fields[2])));
+                }
+                catch (NumberFormatException e) {
+                    throw new IOException("Malformed offset in index [" + aIndexFile + "]: ["
+                            + line + "]", e);
+                }
+            }
+        }
+        return new ArchiveIndex(entries);
+    }
+
+    /**
+     * Formats an index line.
+     */
+    static String format(String aName, String aArchiveName, long aOffset)
+    {
+        return aName + '\t' + aArchiveName + '\t' + aOffset + '\n';
+    }
+
+    /**
+     * @return the entries in the order in which they have been written.
+     */
+    public List<Entry> getEntries()
+    {
+        return entries;
+    }
+
+    /**
+     * @param aName
+     *            the name of an entry.
+     * @return the entry or {@code null} if there is no entry with the given name.
+     */
+    public Entry get(String aName)
+    {
+        return entriesByName.get(aName);
+    }
+
+    /**
+     * Opens a single entry.
+     *
+     * @param aName
+     *            the name of the entry.
+     * @return a stream of the content of the entry.
+     * @throws FileNotFoundException
+     *             if there is no entry with the given name.
+     * @throws IOException
+     *             if the entry cannot be read.
+     */
+    public InputStream open(String aName)
+        throws IOException
+    {
+        Entry entry = get(aName);
+        if (entry == null) {
+            throw new FileNotFoundException("No entry [" + aName + "] in index");
+        }
+        return entry.open();
+    }
+
+    /**
+     * @param aArchive
+     *            an archive file.
+     * @return whether the given archive is a tar archive rather than a ZIP archive.
+     */
+    static boolean isTar(File aArchive)
+    {
+        return aArchive.getName().endsWith(".tar");
+    }
+
+    public static class Entry
+    {
+        private final String name;
+        private final File archive;
+        private final long offset;
+
+        public Entry(String aName, File aArchive, long aOffset)
+        {
+            name = aName;
+            archive = aArchive;
+            offset = aOffset;
+        }
+
+        public String getName()
+        {
+            return name;
+        }
+
+        public File getArchive()
+        {
+            return archive;
+        }
+
+        public long getOffset()
+        {
+            return offset;
+        }
+
+        /**
+         * Opens the entry by reading the archive starting at the header of the entry.
+         *
+         * @return a stream of the content of the entry.
+         * @throws IOException
+         *             if the entry cannot be read or the archive does not contain the entry at the
+         *             recorded offset.
+         */
+        public InputStream open()
+            throws IOException
+        {
+            FileChannel channel = FileChannel.open(archive.toPath(), StandardOpenOption.READ);
+            try {
+                channel.position(offset);
+                InputStream is = new BufferedInputStream(Channels.newInputStream(channel));
+
+                String actualName;
+                InputStream entryStream;
+                if (isTar(archive)) {
+                    TarArchiveInputStream tar = new TarArchiveInputStream(is);
+                    TarArchiveEntry entry = tar.getNextEntry();
+                    actualName = entry != null ? entry.getName() : null;
+                    entryStream = tar;
+                }
+                else {
+                    ZipInputStream zip = new ZipInputStream(is);
+                    ZipEntry entry = zip.getNextEntry();
+                    actualName = entry != null ? entry.getName() : null;
+                    entryStream = zip;
+                }
+
+                if (!name.equals(actualName)) {
+                    entryStream.close();
+                    throw new IOException("Archive [" + archive + "] does not contain [" + name
+                            + "] at offset [" + offset + "] - the index may be out of date");
+                }
+                return entryStream;
+            }
+            catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public String toString()
+        {
+            return archive.getName() + "!" + name;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.api.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.io.output.CountingOutputStream;
+import org.apache.commons.io.output.ProxyOutputStream;
+
+/**
+ * Writes entries to a ZIP archive or, if the name of the archive ends in {@code .tar}, to a tar
+ * archive. If a maximum number of entries or bytes per archive is given, the entries are written
+ * to a sequence of archives whose names are formed by adding a running number to the name of the
+ * archive, e.g. {@code corpus-00000.zip}, {@code corpus-00001.zip}, etc. A new archive is started
+ * before an entry is added to an archive which has reached one of the limits, so an archive may
+ * exceed the maximum size by one entry. In this case, an {@link ArchiveIndex} recording the
+ * archive and offset of every entry is written as well.
+ * <p>
+ * Entries must be written one after the other.
+ */
+class ArchiveWriter
+    implements Closeable
+{
+    private final String path;
+    private final int maxEntries;
+    private final long maxSize;
+    private final boolean overwrite;
+    private final boolean tar;
+
+    private Writer index;
+    private int archiveCount;
+    private File currentFile;
+    private CountingOutputStream counter;
+    private OutputStream archive;
+    private int entries;
+    private boolean inEntry;
+
+    /**
+     * @param aPath
+     *            the path of the archive.
+     * @param aMaxEntries
+     *            the maximum number of entries per archive or 0 for no limit.
+     * @param aMaxSize
+     *            the maximum size of an archive in bytes or 0 for no limit.
+     * @param aOverwrite
+     *            whether existing files may be overwritten.
+     * @throws IOException
+     *             if the archive cannot be created.
+     */
+    ArchiveWriter(String aPath, int aMaxEntries, long aMaxSize, boolean aOverwrite)
+        throws IOException
+    {
+        path = aPath;
+        maxEntries = aMaxEntries;
+        maxSize = aMaxSize;
+        overwrite = aOverwrite;
+        tar = ArchiveIndex.isTar(new File(aPath));
+
+        if (isRolling()) {
+            File indexFile = new File(path + ArchiveIndex.EXTENSION);
+            checkOverwrite(indexFile);
+            index = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(indexFile), UTF_8));
+        }
+
+        nextArchive();
+    }
+
+    private boolean isRolling()
+    {
+        return maxEntries > 0 || maxSize > 0;
+    }
+
+    /**
+     * @return the archive currently being written.
+     */
+    File getCurrentFile()
+    {
+        return currentFile;
+    }
+
+    /**
+     * Starts a new entry.
+     *
+     * @param aName
+     *            the name of the entry.
+     * @return a stream to which the content of the entry is written. Closing it finishes the
+     *         entry, but not the archive.
+     * @throws IOException
+     *             if the entry cannot be started.
+     */
+    OutputStream putEntry(String aName)
+        throws IOException
+    {
+        if (inEntry) {
+            throw new IllegalStateException("The previous entry has not been closed");
+        }
+        if (index != null && (aName.indexOf('\t') >= 0 || aName.indexOf('\n') >= 0)) {
+            throw new IOException("Entry names must not contain tabs or line breaks: [" + aName
+                    + "]");
+        }
+
+        inEntry = true;
+        if (tar) {
+            // The size of a tar entry must be known before the entry can be written
+            return new ByteArrayOutputStream()
+            {
+                private boolean closed;
+
+                @Override
+                public void close()
+                    throws IOException
+                {
+                    if (!closed) {
+                        closed = true;
+                        TarArchiveOutputStream tarArchive = (TarArchiveOutputStream) beginEntry(
+                                aName);
+                        TarArchiveEntry entry = new TarArchiveEntry(aName);
+                        entry.setSize(size());
+                        tarArchive.putArchiveEntry(entry);
+                        writeTo(tarArchive);
+                        tarArchive.closeArchiveEntry();
+                        inEntry = false;
+                    }
+                }
+            };
+        }
+        else {
+            ZipOutputStream zip = (ZipOutputStream) beginEntry(aName);
+            zip.putNextEntry(new ZipEntry(aName));
+            return new ProxyOutputStream(zip)
+            {
+                private boolean closed;
+
+                @Override
+                public void close()
+                    throws IOException
+                {
+                    if (!closed) {
+                        closed = true;
+                        zip.closeEntry();
+                        inEntry = false;
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * Switches to the next archive if necessary and records the entry in the index.
+     *
+     * @return the archive the entry is written to.
+     */
+    private OutputStream beginEntry(String aName)
+        throws IOException
+    {
+        if (entries > 0 && ((maxEntries > 0 && entries >= maxEntries)
+                || (maxSize > 0 && counter.getByteCount() >= maxSize))) {
+            finishArchive();
+            nextArchive();
+        }
+
+        if (index != null) {
+            // All data of the previous entry has been passed on to the file at this point
+            index.write(ArchiveIndex.format(aName, currentFile.getName(),
+                    counter.getByteCount()));
+        }
+        entries++;
+        return archive;
+    }
+
+    private void nextArchive()
+        throws IOException
+    {
+        String name = path;
+        if (isRolling()) {
+            name = JCasFileWriter_ImplBase.addSuffix(path, String.format("-%05d", archiveCount));
+        }
+        archiveCount++;
+
+        currentFile = new File(name);
+        checkOverwrite(currentFile);
+
+        counter = new CountingOutputStream(new BufferedOutputStream(
+                new FileOutputStream(currentFile)));
+        if (tar) {
+            TarArchiveOutputStream tarArchive = new TarArchiveOutputStream(counter, UTF_8.name());
+            tarArchive.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+            archive = tarArchive;
+        }
+        else {
+            archive = new ZipOutputStream(counter, UTF_8);
+        }
+        entries = 0;
+    }
+
+    private void finishArchive()
+        throws IOException
+    {
+        archive.close();
+        if (index != null) {
+            // Make the entries of the finished archive visible to readers
+            index.flush();
+        }
+    }
+
+    private void checkOverwrite(File aFile)
+        throws IOException
+    {
+        if (!overwrite && aFile.exists()) {
+            throw new IOException("Target file [" + aFile
+                    + "] already exists and overwriting not enabled.");
+        }
+    }
+
+    @Override
+    public void close()
+        throws IOException
+    {
+        try {
+            finishArchive();
+        }
+        finally {
+            if (index != null) {
+                index.close();
+            }
+        }
+    }
+}
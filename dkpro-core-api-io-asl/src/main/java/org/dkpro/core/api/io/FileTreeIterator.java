@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.api.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.dkpro.core.api.io.ResourceCollectionReaderBase.Resource;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * Lazily walks a directory tree and returns the files matching a set of Ant-style include and
+ * exclude patterns. Only the entries of the directories on the path to the current file are held
+ * in memory. The entries of each directory are sorted such that the files are returned in the
+ * same order as by {@link ResourceCollectionReaderBase#scan}.
+ * <p>
+ * The patterns are matched against the decoded relative paths of the files, while the locations
+ * and paths of the returned resources are derived from the URIs of the files like those returned
+ * by {@link ResourceCollectionReaderBase#scan}.
+ * <p>
+ * Since {@link Iterator} does not permit checked exceptions, I/O errors are reported as
+ * {@link UncheckedIOException}.
+ */
+class FileTreeIterator
+    implements Iterator<Resource>
+{
+    private final String base;
+    private final String rootUri;
+    private final String rootPath;
+    private final List<Pattern> includes = new ArrayList<>();
+    private final List<Pattern> excludes = new ArrayList<>();
+    private final List<Pattern> prunedDirectories = new ArrayList<>();
+    private final boolean includeHidden;
+    private final Predicate<String> filter;
+
+    private final Deque<Iterator<Entry>> stack = new ArrayDeque<>();
+    private Resource next;
+    private long count;
+    private boolean finished;
+
+    /**
+     * @param aRoot
+     *            the directory to walk.
+     * @param aBase
+     *            the base location which is prepended to the relative paths of the files to form
+     *            their locations.
+     * @param aIncludes
+     *            the include patterns relative to the root.
+     * @param aExcludes
+     *            the exclude patterns relative to the root.
+     * @param aIncludeHidden
+     *            whether to return hidden files.
+     * @param aFilter
+     *            an additional filter on the relative paths of the matching files.
+     */
+    FileTreeIterator(File aRoot, String aBase, Collection<String> aIncludes,
+            Collection<String> aExcludes, boolean aIncludeHidden, Predicate<String> aFilter)
+    {
+        base = aBase;
+        rootUri = aRoot.toURI().toString();
+        rootPath = aRoot.toURI().getPath();
+        includeHidden = aIncludeHidden;
+        filter = aFilter;
+
+        for (String include : aIncludes) {
+            includes.add(compile(include));
+        }
+        for (String exclude : aExcludes) {
+            excludes.add(compile(exclude));
+            // Directories whose entire content is excluded need not be walked at all
+            if (exclude.endsWith("/**")) {
+                prunedDirectories.add(compile(exclude.substring(0, exclude.length() - 3)));
+            }
+        }
+
+        stack.push(list(aRoot));
+    }
+
+    /**
+     * @return the number of files returned so far.
+     */
+    long getCount()
+    {
+        return count;
+    }
+
+    /**
+     * @return whether the entire tree has been walked.
+     */
+    boolean isFinished()
+    {
+        return finished;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        while (next == null && !stack.isEmpty()) {
+            Iterator<Entry> entries = stack.peek();
+            if (!entries.hasNext()) {
+                stack.pop();
+                continue;
+            }
+
+            Entry entry = entries.next();
+            // The URI of the root always ends in a slash
+            String path = entry.uri.substring(rootUri.length());
+            String name = entry.path.substring(rootPath.length());
+            if (entry.directory) {
+                // The URI of a directory ends in a slash as well
+                if (!matchesAny(prunedDirectories, name.substring(0, name.length() - 1))) {
+                    stack.push(list(entry.file));
+                }
+            }
+            else if ((includeHidden || !entry.file.isHidden()) && matchesAny(includes, name)
+                    && !matchesAny(excludes, name) && filter.test(path)) {
+                next = new Resource(base + path, base, entry.file.toURI(), rootUri, path,
+                        new FileSystemResource(entry.file));
+            }
+        }
+
+        if (next == null) {
+            finished = true;
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public Resource next()
+    {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        Resource res = next;
+        next = null;
+        count++;
+        return res;
+    }
+
+    private static Iterator<Entry> list(File aDirectory)
+    {
+        List<Entry> entries = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(aDirectory.toPath())) {
+            for (Path p : stream) {
+                entries.add(new Entry(p.toFile()));
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // Sorting by URI places each subdirectory ("name/") exactly where its content is placed
+        // when sorting all locations at once.
+        entries.sort((a, b) -> a.uri.compareTo(b.uri));
+        return entries.iterator();
+    }
+
+    private static boolean matchesAny(List<Pattern> aPatterns, String aPath)
+    {
+        for (Pattern pattern : aPatterns) {
+            if (pattern.matcher(aPath).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compiles an Ant-style pattern into a regular expression. {@code **} matches any number of
+     * directories, {@code *} any number and {@code ?} exactly one character within a name.
+     */
+    static Pattern compile(String aAntPattern)
+    {
+        StringBuilder regex = new StringBuilder();
+        int i = 0;
+        while (i < aAntPattern.length()) {
+            if (aAntPattern.startsWith("**/", i)) {
+                regex.append("(?:.*/)?");
+                i += 3;
+            }
+            else if (aAntPattern.startsWith("/**", i) && i + 3 == aAntPattern.length()) {
+                regex.append("(?:/.*)?");
+                i += 3;
+            }
+            else if (aAntPattern.startsWith("**", i)) {
+                regex.append(".*");
+                i += 2;
+            }
+            else {
+                char c = aAntPattern.charAt(i);
+                if (c == '*') {
+                    regex.append("[^/]*");
+                }
+                else if (c == '?') {
+                    regex.append("[^/]");
+                }
+                else if (Character.isLetterOrDigit(c)) {
+                    regex.append(c);
+                }
+                else {
+                    regex.append('\\').append(c);
+                }
+                i++;
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private static class Entry
+    {
+        private final File file;
+        private final String uri;
+        private final String path;
+        private final boolean directory;
+
+        Entry(File aFile)
+        {
+            file = aFile;
+            // Like the resources found by scan(), use the URI as produced by File
+            URI fileUri = aFile.toURI();
+            uri = fileUri.toString();
+            path = fileUri.getPath();
+            directory = uri.endsWith("/");
+        }
+    }
+}
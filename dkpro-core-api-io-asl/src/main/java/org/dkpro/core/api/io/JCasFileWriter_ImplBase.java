@@ -19,27 +19,40 @@ package org.dkpro.core.api.io;
 
 import static org.apache.commons.io.IOUtils.closeQuietly;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.uima.UimaContext;
 import org.apache.uima.analysis_engine.AnalysisEngineProcessException;
 import org.apache.uima.fit.component.JCasConsumer_ImplBase;
 import org.apache.uima.fit.descriptor.ConfigurationParameter;
 import org.apache.uima.jcas.JCas;
+import org.apache.uima.resource.ResourceInitializationException;
 import org.dkpro.core.api.parameter.ComponentParameters;
 import org.dkpro.core.api.resources.CompressionMethod;
 import org.dkpro.core.api.resources.CompressionUtils;
+import org.dkpro.core.api.resources.ResourceUtils;
 
 import de.tudarmstadt.ukp.dkpro.core.api.metadata.type.DocumentMetaData;
 import eu.openminted.share.annotations.api.Component;
@@ -91,6 +104,25 @@ public abstract class JCasFileWriter_ImplBase
     @ConfigurationParameter(name = PARAM_COMPRESSION, mandatory = false, defaultValue = "NONE")
     private CompressionMethod compression;
 
+    /**
+     * Compression level. Currently only used by {@link CompressionMethod#ZSTD} which supports
+     * levels from 1 (fastest) to 22 (best compression) as well as negative levels for even faster
+     * compression. Set to {@code 0} to use the default level.
+     */
+    public static final String PARAM_COMPRESSION_LEVEL = "compressionLevel";
+    @ConfigurationParameter(name = PARAM_COMPRESSION_LEVEL, mandatory = true, defaultValue = "0")
+    private int compressionLevel;
+
+    /**
+     * Location of a pre-trained dictionary used by {@link CompressionMethod#ZSTD}. Dictionaries
+     * considerably improve the compression of small documents. The same dictionary must be
+     * provided to the reader (cf.
+     * {@link ResourceCollectionReaderBase#PARAM_COMPRESSION_DICTIONARIES}).
+     */
+    public static final String PARAM_COMPRESSION_DICTIONARY = "compressionDictionary";
+    @ConfigurationParameter(name = PARAM_COMPRESSION_DICTIONARY, mandatory = false)
+    private String compressionDictionaryLocation;
+    
     /**
      * Remove the original extension.
      */
@@ -119,12 +151,100 @@ public abstract class JCasFileWriter_ImplBase
     @ConfigurationParameter(name = PARAM_OVERWRITE, mandatory = true, defaultValue = "false")
     private boolean overwrite;
     
-    private ZipOutputStream zipOutputStream;
+    /**
+     * Index of the shard written by this writer when a collection is processed by several
+     * processes each reading one shard (cf. {@link ResourceCollectionReaderBase#PARAM_SHARD_INDEX}).
+     * If set, the index is added to the name of the {@link #PARAM_SINGULAR_TARGET singular target}
+     * file or of the ZIP archive, e.g. {@code corpus.zip} becomes {@code corpus-3.zip}, so the
+     * processes do not write to the same file. Files written per document are not renamed since
+     * they do not clash anyway. Set to {@code -1} to disable.
+     */
+    public static final String PARAM_SHARD_INDEX = "shardIndex";
+    @ConfigurationParameter(name = PARAM_SHARD_INDEX, mandatory = true, defaultValue = "-1")
+    private int shardIndex;
+    
+    /**
+     * Number of background threads used to write documents. If this is set, the documents are
+     * serialized into memory buffers on the pipeline thread while compressing and writing them to
+     * the target happens in the background. When writing one file per document, several documents
+     * are compressed and written in parallel. When writing to a {@link #PARAM_SINGULAR_TARGET
+     * singular target} or a ZIP archive, a single background thread is used to retain the order of
+     * the documents. Errors are reported by the next call to {@link #getOutputStream} or by
+     * {@link #collectionProcessComplete()}. If the component is destroyed without
+     * {@link #collectionProcessComplete()} having been called, {@link #destroy()} waits for the
+     * pending documents to be written. A document is only written once the stream returned by
+     * {@link #getOutputStream} has been closed, so subclasses must always close it. When writing
+     * rolling archives (cf. {@link #PARAM_ARCHIVE_MAX_DOCUMENTS}), the name of the stream refers to
+     * the configured archive location since the archive a document ends up in is only known once
+     * it is written. The archive index records the actual archive. Set to {@code 0} to write on
+     * the pipeline thread.
+     */
+    public static final String PARAM_WRITE_BEHIND_THREADS = "writeBehindThreads";
+    @ConfigurationParameter(name = PARAM_WRITE_BEHIND_THREADS, mandatory = true, 
+            defaultValue = "0")
+    private int writeBehindThreads;
+    
+    /**
+     * Maximum number of documents per archive when writing to an archive. If this or
+     * {@link #PARAM_ARCHIVE_MAX_SIZE} is set, the documents are written to a sequence of archives
+     * numbered from 0, e.g. {@code corpus-00000.zip}, {@code corpus-00001.zip}, etc. instead of a
+     * single archive. Additionally, an index {@code corpus.zip.index} is written which records the
+     * archive and offset of each document, so that individual documents can be read without
+     * scanning the archives (cf. {@link ResourceCollectionReaderBase#PARAM_ARCHIVE_INDEX}). If
+     * the name of the archive ends in {@code .tar}, tar archives are written instead of ZIP
+     * archives, e.g. {@code jar:file:target/corpus.tar}. Set to {@code 0} for no limit.
+     */
+    public static final String PARAM_ARCHIVE_MAX_DOCUMENTS = "archiveMaxDocuments";
+    @ConfigurationParameter(name = PARAM_ARCHIVE_MAX_DOCUMENTS, mandatory = true, 
+            defaultValue = "0")
+    private int archiveMaxDocuments;
+    
+    /**
+     * Maximum size of an archive in bytes when writing to an archive. A new archive is started
+     * once an archive has reached this size, so an archive may exceed it by one document. Set to
+     * {@code 0} for no limit.
+     * 
+     * @see #PARAM_ARCHIVE_MAX_DOCUMENTS
+     */
+    public static final String PARAM_ARCHIVE_MAX_SIZE = "archiveMaxSize";
+    @ConfigurationParameter(name = PARAM_ARCHIVE_MAX_SIZE, mandatory = true, defaultValue = "0")
+    private long archiveMaxSize;
+    
+    private ArchiveWriter archive;
     private String zipPath;
     private String zipEntryPrefix;
     
     private OutputStream singularTargetStream;
     
+    private byte[] compressionDictionary;
+    private long compressionDictionaryId;
+    
+    private ExecutorService writeBehindExecutor;
+    // Limits the number of buffered documents which have not been written yet
+    private Semaphore writeBehindPermits;
+    private final Queue<ByteArrayOutputStream> writeBehindBuffers = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Throwable> writeBehindError = new AtomicReference<>();
+    
+    @Override
+    public void initialize(UimaContext aContext)
+        throws ResourceInitializationException
+    {
+        super.initialize(aContext);
+        
+        if (compressionDictionaryLocation != null) {
+            try (InputStream is = ResourceUtils.resolveLocation(compressionDictionaryLocation,
+                    this, aContext).openStream()) {
+                compressionDictionary = IOUtils.toByteArray(is);
+                // Allow reading the data back within the same process
+                compressionDictionaryId = CompressionUtils
+                        .registerZstdDictionary(compressionDictionary);
+            }
+            catch (IOException e) {
+                throw new ResourceInitializationException(e);
+            }
+        }
+    }
+    
     protected CompressionMethod getCompressionMethod()
     {
         return compression;
@@ -156,13 +276,77 @@ public abstract class JCasFileWriter_ImplBase
     public void collectionProcessComplete()
         throws AnalysisEngineProcessException
     {
-        if (zipOutputStream != null) {
-            closeQuietly(zipOutputStream);
+        Throwable error;
+        try {
+            error = closeTargets();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AnalysisEngineProcessException(e);
+        }
+        
+        if (error != null) {
+            throw new AnalysisEngineProcessException(error);
+        }
+        
+        super.collectionProcessComplete();
+    }
+    
+    @Override
+    public void destroy()
+    {
+        // Pending documents must also be written if the pipeline did not complete normally
+        Throwable error;
+        try {
+            error = closeTargets();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = e;
+        }
+        
+        if (compressionDictionaryId != 0) {
+            CompressionUtils.unregisterZstdDictionary(compressionDictionaryId);
+            compressionDictionaryId = 0;
+        }
+        
+        super.destroy();
+        
+        if (error != null) {
+            throw new IllegalStateException("Writing documents in the background failed", error);
+        }
+    }
+    
+    /**
+     * Waits until all documents have been written in the background and closes the archive and
+     * the singular target.
+     * 
+     * @return the first error which occurred while writing in the background or {@code null}.
+     */
+    private Throwable closeTargets()
+        throws InterruptedException
+    {
+        if (writeBehindExecutor != null) {
+            writeBehindExecutor.shutdown();
+            try {
+                while (!writeBehindExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    getLogger().info("Waiting for pending documents to be written...");
+                }
+            }
+            finally {
+                writeBehindExecutor = null;
+                writeBehindBuffers.clear();
+            }
+        }
+        if (archive != null) {
+            closeQuietly(archive);
+            archive = null;
         }
         if (singularTargetStream != null) {
             closeQuietly(singularTargetStream);
         }
-        super.collectionProcessComplete();
+        
+        return writeBehindError.getAndSet(null);
     }
     
     protected NamedOutputStream getOutputStream(JCas aJCas, String aExtension)
@@ -191,7 +375,7 @@ public abstract class JCasFileWriter_ImplBase
             return new NamedOutputStream(null, new CloseShieldOutputStream(System.out));
         }
         else if (targetLocation.startsWith(JAR_PREFIX)) {
-            if (zipOutputStream == null) {
+            if (archive == null) {
                 try {
                     // Try handling URL-encoded location
                     zipPath = URI.create(URI.create(targetLocation).getRawSchemeSpecificPart())
@@ -210,29 +394,36 @@ public abstract class JCasFileWriter_ImplBase
                 if (zipEntryPrefix.length() > 0 && !zipEntryPrefix.endsWith("/")) {
                     zipEntryPrefix += '/';
                 }
+                
+                zipPath = addShardIndex(zipPath);
 
-                File zipFile = new File(zipPath);
-                if (!overwrite && zipFile.exists()) {
-                    throw new IOException("Target file [" + zipFile
-                            + "] already exists and overwriting not enabled.");
-                }
-
-                zipOutputStream = new ZipOutputStream(new FileOutputStream(zipFile));
+                archive = new ArchiveWriter(zipPath, archiveMaxDocuments, archiveMaxSize,
+                        overwrite);
             }
             
-            // Begin new entry
-            ZipEntry entry = new ZipEntry(zipEntryPrefix + aRelativePath + aExtension
-                    + compression.getExtension());
-            zipOutputStream.putNextEntry(entry);
+            String entryName = zipEntryPrefix + aRelativePath + aExtension
+                    + compression.getExtension();
+            
+            if (writeBehindThreads > 0) {
+                ArchiveWriter target = archive;
+                // The archive is only chosen when the document is written, so the name cannot
+                // refer to one of several rolling archives
+                return writeBehind(JAR_PREFIX + zipPath + '!' + entryName, true, buffer -> {
+                            try (OutputStream os = getEntryOutputStream(target, entryName)) {
+                                buffer.writeTo(os);
+                            }
+                        });
+            }
             
             // We return an OutputStream for an individual entry. When this is closed by the
-            // caller, it actually closes the entry. The full ZIP stream is closed when the 
+            // caller, it actually closes the entry. The archive is closed when the 
             // collectionProcessComplete event is triggered
-            return new ZipEntryOutputStream(JAR_PREFIX + zipPath + '!' + entry.getName(),
-                    zipOutputStream);
+            OutputStream entryStream = getEntryOutputStream(archive, entryName);
+            return new NamedOutputStream(JAR_PREFIX + archive.getCurrentFile().getPath() + '!'
+                    + entryName, entryStream);
         }
         else if (singularTarget) {
-            File outputFile = new File(targetLocation);
+            File outputFile = new File(addShardIndex(targetLocation));
             if (singularTargetStream == null) {
                 
                 if (!overwrite && outputFile.exists()) {
@@ -240,8 +431,16 @@ public abstract class JCasFileWriter_ImplBase
                             + "] already exists and overwriting not enabled.");
                 }
                 
-                singularTargetStream = CompressionUtils.getOutputStream(outputFile);
+                singularTargetStream = CompressionUtils.getOutputStream(outputFile,
+                        compressionLevel, compressionDictionary);
+            }
+            
+            if (writeBehindThreads > 0) {
+                OutputStream target = singularTargetStream;
+                return writeBehind(outputFile.getAbsolutePath(), true,
+                        buffer -> buffer.writeTo(target));
             }
+            
             return new NamedOutputStream(outputFile.getAbsolutePath(),
                     new CloseShieldOutputStream(singularTargetStream));
         }
@@ -254,11 +453,131 @@ public abstract class JCasFileWriter_ImplBase
                         + "] already exists and overwriting not enabled.");
             }
             
+            if (writeBehindThreads > 0) {
+                return writeBehind(outputFile.getAbsolutePath(), false, buffer -> {
+                    try (OutputStream os = CompressionUtils.getOutputStream(outputFile,
+                            compressionLevel, compressionDictionary)) {
+                        buffer.writeTo(os);
+                    }
+                });
+            }
+            
             return new NamedOutputStream(outputFile.getAbsolutePath(),
-                    CompressionUtils.getOutputStream(outputFile));
+                    CompressionUtils.getOutputStream(outputFile, compressionLevel,
+                            compressionDictionary));
         }
     }
     
+    /**
+     * Starts a new entry in the given archive and returns a stream compressing the data of the
+     * entry according to its extension. Closing the stream finishes the compressed data and the
+     * entry, but not the archive.
+     */
+    private OutputStream getEntryOutputStream(ArchiveWriter aArchive, String aEntryName)
+        throws IOException
+    {
+        return CompressionUtils.getOutputStream(aEntryName, aArchive.putEntry(aEntryName),
+                compressionLevel, compressionDictionary);
+    }
+    
+    /**
+     * Returns a stream which collects the data in memory and passes it to the given sink in the
+     * background when it is closed. Closing it blocks if too many documents are waiting to be
+     * written.
+     */
+    private NamedOutputStream writeBehind(String aName, boolean aOrdered, BufferSink aSink)
+        throws IOException
+    {
+        Throwable error = writeBehindError.getAndSet(null);
+        if (error != null) {
+            throw new IOException("Writing a previous document failed", error);
+        }
+        
+        if (writeBehindExecutor == null) {
+            // Writing to a shared stream must happen in order and hence on a single thread
+            int threads = aOrdered ? 1 : writeBehindThreads;
+            // The threads are not daemon threads, so pending documents are written before the JVM
+            // exits. Idle threads terminate so they do not keep the JVM alive.
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 1,
+                    TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> new Thread(
+                            runnable, getClass().getSimpleName() + "-writer"));
+            executor.allowCoreThreadTimeOut(true);
+            writeBehindExecutor = executor;
+            writeBehindPermits = new Semaphore(2 * threads);
+        }
+        
+        ByteArrayOutputStream buffer = writeBehindBuffers.poll();
+        if (buffer == null) {
+            buffer = new ByteArrayOutputStream();
+        }
+        
+        ExecutorService executor = writeBehindExecutor;
+        Semaphore permits = writeBehindPermits;
+        return new WriteBehindOutputStream(aName, buffer, b -> {
+            // The permit is only taken for complete documents, so a stream which is never closed
+            // does not block the pipeline
+            try {
+                permits.acquire();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            
+            try {
+                executor.execute(() -> {
+                    try {
+                        aSink.write(b);
+                    }
+                    catch (Throwable e) {
+                        writeBehindError.compareAndSet(null, e);
+                    }
+                    finally {
+                        b.reset();
+                        writeBehindBuffers.add(b);
+                        permits.release();
+                    }
+                });
+            }
+            catch (RejectedExecutionException e) {
+                permits.release();
+                throw new IOException("The writer has already been closed", e);
+            }
+        });
+    }
+    
+    /**
+     * Adds the {@link #PARAM_SHARD_INDEX shard index} to the file name of the given path, before the
+     * first extension.
+     * 
+     * @param aPath
+     *            a path.
+     * @return the path for the current shard.
+     */
+    protected String addShardIndex(String aPath)
+    {
+        if (shardIndex < 0) {
+            return aPath;
+        }
+        
+        return addSuffix(aPath, "-" + shardIndex);
+    }
+    
+    /**
+     * Adds a suffix to the file name of the given path, before the first extension.
+     */
+    static String addSuffix(String aPath, String aSuffix)
+    {
+        int nameStart = Math.max(aPath.lastIndexOf('/'), aPath.lastIndexOf(File.separatorChar))
+                + 1;
+        // Skip a leading dot of hidden files
+        int dot = aPath.indexOf('.', nameStart + 1);
+        if (dot < 0) {
+            return aPath + aSuffix;
+        }
+        return aPath.substring(0, dot) + aSuffix + aPath.substring(dot);
+    }
+    
     /**
      * Get the relative path from the CAS. If the CAS does not contain relative path information or
      * if {@link #PARAM_USE_DOCUMENT_ID} is set, the document ID is used.
@@ -393,19 +712,32 @@ public abstract class JCasFileWriter_ImplBase
         }
     }
     
-    private static class ZipEntryOutputStream extends NamedOutputStream
+    private interface BufferSink
     {
-
-        public ZipEntryOutputStream(String aName, ZipOutputStream aOutputStream)
+        void write(ByteArrayOutputStream aBuffer)
+            throws IOException;
+    }
+    
+    private static class WriteBehindOutputStream extends NamedOutputStream
+    {
+        private final BufferSink onClose;
+        private boolean closed;
+        
+        public WriteBehindOutputStream(String aName, ByteArrayOutputStream aBuffer,
+                BufferSink aOnClose)
         {
-            super(aName, aOutputStream);
+            super(aName, aBuffer);
+            onClose = aOnClose;
         }
         
         @Override
         public void close()
             throws IOException
         {
-            ((ZipOutputStream) outputStream).closeEntry();
+            if (!closed) {
+                closed = true;
+                onClose.write((ByteArrayOutputStream) outputStream);
+            }
         }
     }
 }
@@ -25,7 +25,9 @@ public class ProgressMeter
     private long _preLast;
     private long _last;
     private long _count;
-    private final long _limit;
+    private long _limit;
+    private int _shardIndex;
+    private int _shardCount = 1;
 
     public ProgressMeter(final long limit)
     {
@@ -43,6 +45,27 @@ public class ProgressMeter
         _last = System.currentTimeMillis();
     }
 
+    /**
+     * @param limit
+     *            the total number of items or a negative value if it is not known (yet).
+     */
+    public void setLimit(final long limit)
+    {
+        _limit = limit;
+    }
+
+    /**
+     * @param shardIndex
+     *            the index of the shard whose items are counted.
+     * @param shardCount
+     *            the total number of shards.
+     */
+    public void setShard(final int shardIndex, final int shardCount)
+    {
+        _shardIndex = shardIndex;
+        _shardCount = shardCount;
+    }
+
     public long getCount()
     {
         return _count;
@@ -88,7 +111,12 @@ public class ProgressMeter
         final StringBuilder sb = new StringBuilder();
         sb.append(_count);
         sb.append(" of ");
-        sb.append(_limit);
+        if (_limit >= 0) {
+            sb.append(_limit);
+        }
+        else {
+            sb.append("?");
+        }
         if (_count > 0 && _limit > 0) {
             final int perc = 100 - (int) (((_limit - _count) * 100) / _limit);
             sb.append(" (");
@@ -106,6 +134,13 @@ public class ProgressMeter
             sb.append(_last - _preLast);
             sb.append(")");
         }
+        if (_shardCount > 1) {
+            sb.append(" [shard ");
+            sb.append(_shardIndex + 1);
+            sb.append(" of ");
+            sb.append(_shardCount);
+            sb.append("]");
+        }
         return sb.toString();
     }
 
@@ -21,8 +21,11 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -32,7 +35,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.uima.UimaContext;
 import org.apache.uima.cas.CAS;
@@ -45,6 +51,9 @@ import org.apache.uima.resource.ResourceInitializationException;
 import org.apache.uima.util.Progress;
 import org.apache.uima.util.ProgressImpl;
 import org.dkpro.core.api.parameter.ComponentParameters;
+import org.dkpro.core.api.resources.CompressionUtils;
+import org.dkpro.core.api.resources.ResourceUtils;
+import org.springframework.core.io.AbstractResource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.util.AntPathMatcher;
@@ -155,9 +164,63 @@ public abstract class ResourceCollectionReaderBase
     @ConfigurationParameter(name = PARAM_LOG_FREQ, mandatory = true, defaultValue = "1")
     private int logFreq;
 
+    /**
+     * Discover the resources while reading them instead of collecting all of them before the first
+     * document is read. This only applies when reading from a directory in the file system. The
+     * directory tree is walked lazily, so reading starts immediately and memory use does not
+     * depend on the number of files. The order of the resources is the same as otherwise. The
+     * total number of resources remains unknown to {@link #getProgress()} until all of them have
+     * been discovered and {@link #getResources()} cannot be used.
+     */
+    public static final String PARAM_LAZY_DISCOVERY = "lazyDiscovery";
+    @ConfigurationParameter(name = PARAM_LAZY_DISCOVERY, mandatory = true, defaultValue = "false")
+    private boolean lazyDiscovery;
+
+    /**
+     * Index of the shard to read (starting at 0). Together with {@link #PARAM_SHARD_COUNT}, this
+     * allows processing a collection with several independent processes, each of which reads
+     * only its own part of the resources. Resources are assigned to shards by a stable hash of
+     * their path relative to the source location, so no coordination between the processes is
+     * necessary.
+     */
+    public static final String PARAM_SHARD_INDEX = "shardIndex";
+    @ConfigurationParameter(name = PARAM_SHARD_INDEX, mandatory = true, defaultValue = "0")
+    private int shardIndex;
+
+    /**
+     * Number of shards the resources are split into.
+     * 
+     * @see #PARAM_SHARD_INDEX
+     */
+    public static final String PARAM_SHARD_COUNT = "shardCount";
+    @ConfigurationParameter(name = PARAM_SHARD_COUNT, mandatory = true, defaultValue = "1")
+    private int shardCount;
+
+    /**
+     * Locations of pre-trained dictionaries needed to read data compressed with
+     * {@link org.dkpro.core.api.resources.CompressionMethod#ZSTD} and a dictionary (cf.
+     * {@link JCasFileWriter_ImplBase#PARAM_COMPRESSION_DICTIONARY}).
+     */
+    public static final String PARAM_COMPRESSION_DICTIONARIES = "compressionDictionaries";
+    @ConfigurationParameter(name = PARAM_COMPRESSION_DICTIONARIES, mandatory = false)
+    private String[] compressionDictionaries;
+
+    /**
+     * Treat the source location as an {@link ArchiveIndex index} of documents written to a
+     * sequence of archives (cf. {@link JCasFileWriter_ImplBase#PARAM_ARCHIVE_MAX_DOCUMENTS}). The
+     * {@link #PARAM_PATTERNS patterns} are matched against the names of the documents in the
+     * index. Each document is read directly from its recorded offset, so a single document can be
+     * read without scanning the archives.
+     */
+    public static final String PARAM_ARCHIVE_INDEX = "archiveIndex";
+    @ConfigurationParameter(name = PARAM_ARCHIVE_INDEX, mandatory = true, defaultValue = "false")
+    private boolean archiveIndex;
+
     private int completed;
     private Collection<Resource> resources;
     private Iterator<Resource> resourceIterator;
+    private FileTreeIterator fileTreeIterator;
+    private List<Long> compressionDictionaryIds = new ArrayList<>();
     
     private ProgressMeter progress;
 
@@ -201,6 +264,26 @@ public abstract class ResourceCollectionReaderBase
             }
         }
 
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new ResourceInitializationException(new IllegalArgumentException(
+                    "Shard index must be in [0, shard count) and shard count must be positive, "
+                            + "but index is [" + shardIndex + "] and count is [" + shardCount
+                            + "]"));
+        }
+        
+        if (compressionDictionaries != null) {
+            for (String location : compressionDictionaries) {
+                try (InputStream is = ResourceUtils.resolveLocation(location, this, aContext)
+                        .openStream()) {
+                    compressionDictionaryIds.add(
+                            CompressionUtils.registerZstdDictionary(IOUtils.toByteArray(is)));
+                }
+                catch (IOException e) {
+                    throw new ResourceInitializationException(e);
+                }
+            }
+        }
+        
         // Parse the patterns and inject them into the FileSet
         List<String> includes = new ArrayList<String>();
         List<String> excludes = getDefaultExcludes();
@@ -238,20 +321,162 @@ public abstract class ResourceCollectionReaderBase
                 sourceLocation = locationToUrl(sourceLocation);
             }
 
-            resources = scan(getSourceLocation(), includes, excludes);
+            File root = lazyDiscovery && !archiveIndex ? getLazyDiscoveryRoot() : null;
+            if (root != null) {
+                fileTreeIterator = new FileTreeIterator(root, getBase(),
+                        includes.isEmpty() ? Collections.singleton("**/*") : includes, excludes,
+                        includeHidden, this::isInShard);
+                resourceIterator = fileTreeIterator;
+                progress = new ProgressMeter(-1);
+                progress.setShard(shardIndex, shardCount);
+                
+                getLogger().info("Reading resources from [" + getBase() + "] while scanning");
+            }
+            else {
+                if (archiveIndex) {
+                    resources = readArchiveIndex(includes, excludes);
+                }
+                else {
+                    resources = scan(getSourceLocation(), includes, excludes);
+                }
+                if (shardCount > 1) {
+                    resources = resources.stream()
+                            .filter(r -> isInShard(r.getPath()))
+                            .collect(Collectors.toList());
+                }
+
+                progress = new ProgressMeter(resources.size());
+                progress.setShard(shardIndex, shardCount);
 
-            progress = new ProgressMeter(resources.size());
-            
-            // Get the iterator that will be used to actually traverse the FileSet.
-            resourceIterator = resources.iterator();
+                // Get the iterator that will be used to actually traverse the FileSet.
+                resourceIterator = resources.iterator();
 
-            getLogger().info("Found [" + resources.size() + "] resources to be read");
+                getLogger().info("Found [" + resources.size() + "] resources to be read");
+            }
         }
         catch (IOException e) {
             throw new ResourceInitializationException(e);
         }
     }
     
+    /**
+     * @return the directory to walk for lazy discovery or {@code null} if the resources must be
+     *         scanned instead.
+     */
+    private File getLazyDiscoveryRoot()
+    {
+        String base = getBase();
+        if (isSingleLocation() || !base.startsWith("file:")) {
+            getLogger().warn("Lazy discovery is only supported for directories in the file "
+                    + "system - scanning [" + base + "] instead");
+            return null;
+        }
+
+        try {
+            File root = resolver.getResource(base).getFile();
+            if (root.isDirectory()) {
+                return root;
+            }
+        }
+        catch (IOException e) {
+            // Handled below
+        }
+
+        getLogger().warn("[" + base + "] is not a directory - scanning instead");
+        return null;
+    }
+
+    /**
+     * Creates a resource for each document in the {@link #PARAM_ARCHIVE_INDEX archive index}
+     * matching the given patterns.
+     */
+    private List<Resource> readArchiveIndex(Collection<String> aIncludes,
+            Collection<String> aExcludes)
+        throws IOException
+    {
+        if (sourceLocation == null) {
+            throw new FileNotFoundException("The source location must point to an archive index");
+        }
+
+        getLogger().info("Reading archive index [" + sourceLocation + "]");
+
+        List<Pattern> includes = new ArrayList<>();
+        for (String include : aIncludes) {
+            includes.add(FileTreeIterator.compile(include));
+        }
+        List<Pattern> excludes = new ArrayList<>();
+        for (String exclude : aExcludes) {
+            excludes.add(FileTreeIterator.compile(exclude));
+        }
+
+        ArchiveIndex index = ArchiveIndex.load(resolver.getResource(sourceLocation).getFile());
+        List<Resource> result = new ArrayList<>();
+        for (ArchiveIndex.Entry entry : index.getEntries()) {
+            String name = entry.getName();
+            if ((includes.isEmpty() || matchesAny(includes, name)) && !matchesAny(excludes, name)) {
+                // Like the URIs of entries in ZIP files, but with a "tar" scheme for tar files
+                String base = (ArchiveIndex.isTar(entry.getArchive()) ? "tar:" : "jar:")
+                        + entry.getArchive().toURI() + "!/";
+                URI uri;
+                try {
+                    uri = URI.create(base + new URI(null, null, name, null).getRawPath());
+                }
+                catch (URISyntaxException e) {
+                    throw new IOException(e);
+                }
+                result.add(new Resource(uri.toString(), base, uri, base, name,
+                        new ArchiveEntryResource(entry)));
+            }
+        }
+        return result;
+    }
+
+    private static boolean matchesAny(List<Pattern> aPatterns, String aPath)
+    {
+        for (Pattern pattern : aPatterns) {
+            if (pattern.matcher(aPath).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isInShard(String aPath)
+    {
+        return shardCount == 1 || getShard(aPath, shardCount) == shardIndex;
+    }
+
+    /**
+     * Determines the shard a resource belongs to. The result only depends on the path, so it is
+     * the same in every process.
+     * 
+     * @param aPath
+     *            the path of the resource relative to the source location.
+     * @param aShardCount
+     *            the number of shards.
+     * @return the shard index.
+     */
+    public static int getShard(String aPath, int aShardCount)
+    {
+        // 64-bit FNV-1a
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : aPath.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return (int) Long.remainderUnsigned(hash, aShardCount);
+    }
+
+    protected int getShardIndex()
+    {
+        return shardIndex;
+    }
+
+    protected int getShardCount()
+    {
+        return shardCount;
+    }
+
     protected List<String> getDefaultExcludes()
     {
         List<String> excludes = new ArrayList<String>();
@@ -330,6 +555,11 @@ public abstract class ResourceCollectionReaderBase
 
     protected Collection<Resource> getResources()
     {
+        if (fileTreeIterator != null) {
+            throw new IllegalStateException(
+                    "The resources are not known in advance when using lazy discovery");
+        }
+        
         return resources;
     }
 
@@ -342,6 +572,9 @@ public abstract class ResourceCollectionReaderBase
     {
         try {
             Resource res = resourceIterator.next();
+            if (fileTreeIterator != null && fileTreeIterator.isFinished()) {
+                progress.setLimit(fileTreeIterator.getCount());
+            }
             progress.setDone(completed);
             if (logFreq > 0 && completed % logFreq == 0) {
                 getLogger().info(String.format("%s: %s", progress, res.location));
@@ -397,7 +630,14 @@ public abstract class ResourceCollectionReaderBase
     @Override
     public Progress[] getProgress()
     {
-        return new Progress[] { new ProgressImpl(completed, resources.size(), "file") };
+        int total;
+        if (fileTreeIterator != null) {
+            total = fileTreeIterator.isFinished() ? (int) fileTreeIterator.getCount() : -1;
+        }
+        else {
+            total = resources.size();
+        }
+        return new Progress[] { new ProgressImpl(completed, total, "file") };
     }
 
     protected ResourcePatternResolver getResolver()
@@ -409,7 +649,23 @@ public abstract class ResourceCollectionReaderBase
     public boolean hasNext()
         throws IOException, CollectionException
     {
-        return resourceIterator.hasNext();
+        try {
+            return resourceIterator.hasNext();
+        }
+        catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public void destroy()
+    {
+        for (long id : compressionDictionaryIds) {
+            CompressionUtils.unregisterZstdDictionary(id);
+        }
+        compressionDictionaryIds.clear();
+
+        super.destroy();
     }
 
     protected Collection<Resource> scan(String aBase, Collection<String> aIncludes,
@@ -641,6 +897,39 @@ public abstract class ResourceCollectionReaderBase
         return language;
     }
 
+    /**
+     * Spring resource for a document stored in an archive listed in an {@link ArchiveIndex}.
+     */
+    private static class ArchiveEntryResource
+        extends AbstractResource
+    {
+        private final ArchiveIndex.Entry entry;
+
+        public ArchiveEntryResource(ArchiveIndex.Entry aEntry)
+        {
+            entry = aEntry;
+        }
+
+        @Override
+        public boolean exists()
+        {
+            return entry.getArchive().exists();
+        }
+
+        @Override
+        public InputStream getInputStream()
+            throws IOException
+        {
+            return entry.open();
+        }
+
+        @Override
+        public String getDescription()
+        {
+            return "archive entry [" + entry + "]";
+        }
+    }
+
     /**
      */
     public static class Resource
@@ -35,6 +35,7 @@ import org.apache.uima.cas.Type;
 import org.apache.uima.cas.text.AnnotationFS;
 import org.apache.uima.fit.util.CasUtil;
 import org.apache.uima.jcas.JCas;
+import org.dkpro.core.api.featurepath.CompiledFeaturePath;
 import org.dkpro.core.api.featurepath.FeaturePathException;
 import org.dkpro.core.api.featurepath.FeaturePathFactory;
 import org.dkpro.core.api.featurepath.FeaturePathUtils;
@@ -68,6 +69,7 @@ public class PhraseSequenceGenerator
     private final Collection<String> stopwords;
     private final String featurePath;
     private final int minTokenLength;
+    private CompiledFeaturePath compiledFeaturePath;
 
     private final boolean useCharacters;
 
@@ -120,6 +122,8 @@ public class PhraseSequenceGenerator
             throws FeaturePathException
     {
         List<LexicalPhrase[]> phrases = new ArrayList<>();
+        compiledFeaturePath = CompiledFeaturePath.compile(compiledFeaturePath,
+                aJCas.getTypeSystem(), featurePath);
 
         if (coveringTypeName.isPresent()) {
             Type coveringType = FeaturePathUtils
@@ -191,7 +195,8 @@ public class PhraseSequenceGenerator
         List<LexicalPhrase> sequence = new ArrayList<>();
 
         FeaturePathFactory.FeaturePathIterator<AnnotationFS> valueIterator =
-                FeaturePathUtils.featurePathIterator(aJCas, featurePath, coveringAnnotation);
+                FeaturePathUtils.featurePathIterator(aJCas, compiledFeaturePath,
+                        coveringAnnotation);
 
         /* iterate over tokens (optionally within covering annotation) */
         while (valueIterator.hasNext()) {
@@ -17,16 +17,21 @@
  */
 package org.dkpro.core.api.io;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static org.apache.commons.io.IOUtils.closeQuietly;
 import static org.apache.uima.fit.factory.AnalysisEngineFactory.createEngine;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
@@ -34,10 +39,13 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.uima.analysis_engine.AnalysisEngine;
 import org.apache.uima.analysis_engine.AnalysisEngineProcessException;
 import org.apache.uima.fit.factory.JCasFactory;
 import org.apache.uima.jcas.JCas;
+import org.dkpro.core.api.resources.CompressionMethod;
+import org.dkpro.core.api.resources.CompressionUtils;
 import org.junit.jupiter.api.Test;
 
 import de.tudarmstadt.ukp.dkpro.core.api.metadata.type.DocumentMetaData;
@@ -76,6 +84,96 @@ public class JCasFileWriter_ImplBaseTest
                 listContents("target/out2.zip"));
     }
 
+    @Test
+    public void writeToZipCompressed() throws Exception
+    {
+        for (CompressionMethod method : CompressionMethod.values()) {
+            AnalysisEngine ae = createEngine(DummyWriter.class,
+                    DummyWriter.PARAM_TARGET_LOCATION, "jar:file:target/out-compressed.zip",
+                    DummyWriter.PARAM_COMPRESSION, method,
+                    DummyWriter.PARAM_OVERWRITE, true);
+            JCas jcas = JCasFactory.createJCas();
+            ae.process(jcas);
+            ae.process(jcas);
+            ae.collectionProcessComplete();
+            
+            String name = "file-1.txt" + method.getExtension();
+            try (ZipFile zipFile = new ZipFile("target/out-compressed.zip");
+                    InputStream is = CompressionUtils.getInputStream(name,
+                            zipFile.getInputStream(zipFile.getEntry(name)))) {
+                assertEquals("This is the file 1\n", IOUtils.toString(is, UTF_8));
+            }
+        }
+    }
+
+    @Test
+    public void writeToZipShard() throws Exception
+    {
+        AnalysisEngine ae = createEngine(DummyWriter.class,
+                DummyWriter.PARAM_TARGET_LOCATION, "jar:file:target/out-sharded.zip!test",
+                DummyWriter.PARAM_SHARD_INDEX, 3,
+                DummyWriter.PARAM_OVERWRITE, true);
+        JCas jcas = JCasFactory.createJCas();
+        ae.process(jcas);
+        ae.process(jcas);
+        ae.collectionProcessComplete();
+        
+        assertEquals(asList("test/file-0.txt", "test/file-1.txt"),
+                listContents("target/out-sharded-3.zip"));
+    }
+
+    @Test
+    public void writeToRollingArchive() throws Exception
+    {
+        // ZIP archives limited by the number of documents
+        AnalysisEngine ae = createEngine(DummyWriter.class,
+                DummyWriter.PARAM_TARGET_LOCATION, "jar:file:target/out-rolling.zip!test",
+                DummyWriter.PARAM_COMPRESSION, CompressionMethod.GZIP,
+                DummyWriter.PARAM_ARCHIVE_MAX_DOCUMENTS, 2,
+                DummyWriter.PARAM_OVERWRITE, true);
+        JCas jcas = JCasFactory.createJCas();
+        for (int i = 0; i < 5; i++) {
+            ae.process(jcas);
+        }
+        ae.collectionProcessComplete();
+        
+        assertEquals(asList("test/file-0.txt.gz", "test/file-1.txt.gz"),
+                listContents("target/out-rolling-00000.zip"));
+        assertEquals(asList("test/file-4.txt.gz"),
+                listContents("target/out-rolling-00002.zip"));
+        
+        ArchiveIndex index = ArchiveIndex.load(new File("target/out-rolling.zip.index"));
+        assertEquals(5, index.getEntries().size());
+        assertEquals("out-rolling-00001.zip",
+                index.get("test/file-3.txt.gz").getArchive().getName());
+        try (InputStream is = CompressionUtils.getInputStream("file-3.txt.gz",
+                index.open("test/file-3.txt.gz"))) {
+            assertEquals("This is the file 3\n", IOUtils.toString(is, UTF_8));
+        }
+        
+        // Tar archives limited by size - each document takes two 512 byte records, so each archive
+        // contains two documents
+        ae = createEngine(DummyWriter.class,
+                DummyWriter.PARAM_TARGET_LOCATION, "jar:file:target/out-rolling.tar",
+                DummyWriter.PARAM_ARCHIVE_MAX_SIZE, 2000L,
+                DummyWriter.PARAM_WRITE_BEHIND_THREADS, 1,
+                DummyWriter.PARAM_OVERWRITE, true);
+        for (int i = 0; i < 3; i++) {
+            ae.process(jcas);
+        }
+        ae.collectionProcessComplete();
+        
+        index = ArchiveIndex.load(new File("target/out-rolling.tar.index"));
+        assertEquals(3, index.getEntries().size());
+        for (int i = 0; i < 3; i++) {
+            ArchiveIndex.Entry entry = index.get("file-" + i + ".txt");
+            assertEquals(String.format("out-rolling-%05d.tar", i / 2), entry.getArchive().getName());
+            try (InputStream is = entry.open()) {
+                assertEquals("This is the file " + i + "\n", IOUtils.toString(is, UTF_8));
+            }
+        }
+    }
+
     @Test
     public void writeToSingularTarget() throws Exception
     {
@@ -98,6 +196,102 @@ public class JCasFileWriter_ImplBaseTest
         assertEquals(expected, FileUtils.readFileToString(target, "UTF-8"));
     }
 
+    @Test
+    public void writeBehind() throws Exception
+    {
+        File zip = new File("target/out-write-behind.zip");
+        File singular = new File("target/test-output/singular-write-behind.txt");
+        File dir = new File("target/test-output/write-behind");
+        FileUtils.deleteQuietly(dir);
+        
+        AnalysisEngine zipWriter = createEngine(DummyWriter.class,
+                DummyWriter.PARAM_TARGET_LOCATION, "jar:file:" + zip.getPath(),
+                DummyWriter.PARAM_WRITE_BEHIND_THREADS, 4,
+                DummyWriter.PARAM_OVERWRITE, true);
+        AnalysisEngine singularWriter = createEngine(DummyWriter.class,
+                DummyWriter.PARAM_TARGET_LOCATION, singular,
+                DummyWriter.PARAM_SINGULAR_TARGET, true,
+                DummyWriter.PARAM_WRITE_BEHIND_THREADS, 4,
+                DummyWriter.PARAM_OVERWRITE, true);
+        AnalysisEngine fileWriter = createEngine(DummyWriter.class,
+                DummyWriter.PARAM_TARGET_LOCATION, dir,
+                DummyWriter.PARAM_COMPRESSION, CompressionMethod.GZIP,
+                DummyWriter.PARAM_WRITE_BEHIND_THREADS, 4);
+        
+        JCas jcas = JCasFactory.createJCas();
+        List<String> entries = new ArrayList<>();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            zipWriter.process(jcas);
+            singularWriter.process(jcas);
+            fileWriter.process(jcas);
+            entries.add("file-" + i + ".txt");
+            expected.append("This is the file " + i + "\n");
+        }
+        zipWriter.collectionProcessComplete();
+        singularWriter.collectionProcessComplete();
+        fileWriter.collectionProcessComplete();
+        
+        assertEquals(entries, listContents(zip.getPath()));
+        assertEquals(expected.toString(), FileUtils.readFileToString(singular, "UTF-8"));
+        for (int i = 0; i < 100; i++) {
+            try (InputStream is = CompressionUtils.getInputStream("file-" + i + ".txt.gz",
+                    new FileInputStream(new File(dir, "file-" + i + ".txt.gz")))) {
+                assertEquals("This is the file " + i + "\n", IOUtils.toString(is, UTF_8));
+            }
+        }
+    }
+
+    @Test
+    public void writeBehindDestroy() throws Exception
+    {
+        File singular = new File("target/test-output/singular-write-behind-destroy.txt");
+        
+        AnalysisEngine singularWriter = createEngine(DummyWriter.class,
+                DummyWriter.PARAM_TARGET_LOCATION, singular,
+                DummyWriter.PARAM_SINGULAR_TARGET, true,
+                DummyWriter.PARAM_WRITE_BEHIND_THREADS, 1,
+                DummyWriter.PARAM_OVERWRITE, true);
+        
+        JCas jcas = JCasFactory.createJCas();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            singularWriter.process(jcas);
+            expected.append("This is the file " + i + "\n");
+        }
+        // The pending documents are written even without collectionProcessComplete()
+        singularWriter.destroy();
+        
+        assertEquals(expected.toString(), FileUtils.readFileToString(singular, "UTF-8"));
+    }
+
+    @Test
+    public void writeBehindUnclosedStreams() throws Exception
+    {
+        File singular = new File("target/test-output/singular-write-behind-unclosed.txt");
+        
+        AnalysisEngine singularWriter = createEngine(UnclosedStreamWriter.class,
+                UnclosedStreamWriter.PARAM_TARGET_LOCATION, singular,
+                UnclosedStreamWriter.PARAM_SINGULAR_TARGET, true,
+                UnclosedStreamWriter.PARAM_WRITE_BEHIND_THREADS, 1,
+                UnclosedStreamWriter.PARAM_OVERWRITE, true);
+        
+        // Streams which are never closed must not block the writer
+        JCas jcas = JCasFactory.createJCas();
+        StringBuilder expected = new StringBuilder();
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            for (int i = 0; i < 10; i++) {
+                singularWriter.process(jcas);
+                if (i % 2 == 1) {
+                    expected.append("This is the file " + i + "\n");
+                }
+            }
+        });
+        singularWriter.collectionProcessComplete();
+        
+        assertEquals(expected.toString(), FileUtils.readFileToString(singular, "UTF-8"));
+    }
+
     @Test
     public void test__getRelativePath__FileNameContainsURLEscapedSpaces() throws Exception
     {
@@ -148,6 +342,34 @@ public class JCasFileWriter_ImplBaseTest
         return contents;
     }
 
+    /**
+     * Only closes the streams of every second document.
+     */
+    public static final class UnclosedStreamWriter
+        extends JCasFileWriter_ImplBase
+    {
+        private int count = 0;
+        
+        @Override
+        public void process(JCas aJCas)
+            throws AnalysisEngineProcessException
+        {
+            try {
+                Writer docOS = new OutputStreamWriter(getOutputStream("file-" + count, ".txt"),
+                        "UTF-8");
+                docOS.write("This is the file " + count + "\n");
+                docOS.flush();
+                if (count % 2 == 1) {
+                    docOS.close();
+                }
+                count++;
+            }
+            catch (Exception e) {
+                throw new AnalysisEngineProcessException(e);
+            }
+        }
+    }
+
     public static final class DummyWriter
         extends JCasFileWriter_ImplBase
     {
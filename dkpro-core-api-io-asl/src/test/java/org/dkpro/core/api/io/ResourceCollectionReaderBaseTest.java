@@ -18,27 +18,39 @@
  */
 package org.dkpro.core.api.io;
 
+import static java.util.Arrays.asList;
+import static org.apache.uima.fit.factory.AnalysisEngineFactory.createEngine;
 import static org.apache.uima.fit.factory.CollectionReaderFactory.createReader;
 import static org.apache.uima.fit.factory.ExternalResourceFactory.createResourceDescription;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.dkpro.core.api.io.ResourceCollectionReaderBase.PARAM_PATTERNS;
 import static org.dkpro.core.api.io.ResourceCollectionReaderBase.PARAM_SOURCE_LOCATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.apache.uima.analysis_engine.AnalysisEngine;
 import org.apache.uima.cas.CAS;
 import org.apache.uima.collection.CollectionException;
 import org.apache.uima.collection.CollectionReader;
+import org.apache.uima.fit.factory.JCasFactory;
+import org.apache.uima.jcas.JCas;
 import org.apache.uima.resource.ExternalResourceDescription;
 import org.apache.uima.resource.ResourceInitializationException;
 import org.apache.uima.util.CasCreationUtils;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import de.tudarmstadt.ukp.dkpro.core.api.metadata.type.DocumentMetaData;
 
@@ -259,6 +271,157 @@ public class ResourceCollectionReaderBaseTest
         searchForResourceCollectionReaderBase(reader);
     }
 
+    @Test
+    public void testLazyDiscovery(@TempDir Path aDir)
+        throws Exception
+    {
+        for (String file : new String[] { "a.txt", "a-b.txt", "a b.txt", "a/b.txt",
+                "a/c/d.txt", "a/c/e.xml", "ab/f.txt", "CVS/g.txt", "skip/h.txt", "x~" }) {
+            Path path = aDir.resolve(file);
+            Files.createDirectories(path.getParent());
+            Files.write(path, new byte[0]);
+        }
+        
+        String location = aDir.toUri().toString();
+        String[] patterns = { "[+]**/*.txt", "[+]*~", "[-]skip/**" };
+
+        List<String> expected = read(createReader(DummyReader.class,
+                PARAM_SOURCE_LOCATION, location,
+                PARAM_PATTERNS, patterns));
+        
+        CollectionReader lazy = createReader(DummyReader.class,
+                PARAM_SOURCE_LOCATION, location,
+                PARAM_PATTERNS, patterns,
+                ResourceCollectionReaderBase.PARAM_LAZY_DISCOVERY, true);
+        assertEquals(-1, lazy.getProgress()[0].getTotal());
+        List<String> actual = read(lazy);
+
+        assertEquals(6, expected.size());
+        assertEquals(expected, actual);
+        assertEquals(6, lazy.getProgress()[0].getTotal());
+    }
+
+    @Test
+    public void testLazyDiscoveryWithSpaces(@TempDir Path aDir)
+        throws Exception
+    {
+        for (String file : new String[] { "dir with space/a b.txt", "dir with space/c.xml",
+                "dir/d.txt" }) {
+            Path path = aDir.resolve(file);
+            Files.createDirectories(path.getParent());
+            Files.write(path, new byte[0]);
+        }
+
+        String location = aDir.toUri().toString();
+        String[] patterns = { "[+]dir with space/*.txt" };
+
+        List<String> expected = read(createReader(DummyReader.class,
+                PARAM_SOURCE_LOCATION, location,
+                PARAM_PATTERNS, patterns));
+
+        List<String> actual = read(createReader(DummyReader.class,
+                PARAM_SOURCE_LOCATION, location,
+                PARAM_PATTERNS, patterns,
+                ResourceCollectionReaderBase.PARAM_LAZY_DISCOVERY, true));
+
+        assertEquals(1, actual.size());
+        assertTrue(actual.get(0).endsWith("dir%20with%20space/a%20b.txt"), actual.get(0));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testSharding(@TempDir Path aDir)
+        throws Exception
+    {
+        for (int i = 0; i < 50; i++) {
+            Path path = aDir.resolve("d" + (i % 4) + "/file" + i + ".txt");
+            Files.createDirectories(path.getParent());
+            Files.write(path, new byte[0]);
+        }
+        
+        String location = aDir.toUri().toString();
+        List<String> all = read(createReader(DummyReader.class,
+                PARAM_SOURCE_LOCATION, location,
+                PARAM_PATTERNS, "**/*.txt"));
+
+        List<String> sharded = new ArrayList<>();
+        for (int shard = 0; shard < 3; shard++) {
+            List<String> scanned = read(createReader(DummyReader.class,
+                    PARAM_SOURCE_LOCATION, location,
+                    PARAM_PATTERNS, "**/*.txt",
+                    ResourceCollectionReaderBase.PARAM_SHARD_INDEX, shard,
+                    ResourceCollectionReaderBase.PARAM_SHARD_COUNT, 3));
+            List<String> lazy = read(createReader(DummyReader.class,
+                    PARAM_SOURCE_LOCATION, location,
+                    PARAM_PATTERNS, "**/*.txt",
+                    ResourceCollectionReaderBase.PARAM_SHARD_INDEX, shard,
+                    ResourceCollectionReaderBase.PARAM_SHARD_COUNT, 3,
+                    ResourceCollectionReaderBase.PARAM_LAZY_DISCOVERY, true));
+            assertEquals(scanned, lazy);
+            assertFalse(scanned.isEmpty());
+            sharded.addAll(scanned);
+        }
+        
+        sharded.sort(null);
+        assertEquals(all, sharded);
+    }
+
+    @Test
+    public void testArchiveIndex(@TempDir Path aDir)
+        throws Exception
+    {
+        AnalysisEngine writer = createEngine(JCasFileWriter_ImplBaseTest.DummyWriter.class,
+                JCasFileWriter_ImplBase.PARAM_TARGET_LOCATION,
+                "jar:file:" + aDir.resolve("corpus.zip"),
+                JCasFileWriter_ImplBase.PARAM_ARCHIVE_MAX_DOCUMENTS, 3);
+        JCas jcas = JCasFactory.createJCas();
+        for (int i = 0; i < 10; i++) {
+            writer.process(jcas);
+        }
+        writer.collectionProcessComplete();
+
+        String index = aDir.resolve("corpus.zip.index").toString();
+        assertEquals(10, read(createReader(DummyReader.class,
+                PARAM_SOURCE_LOCATION, index,
+                ResourceCollectionReaderBase.PARAM_ARCHIVE_INDEX, true)).size());
+
+        String base = "jar:" + aDir.resolve("corpus-00002.zip").toFile().toURI() + "!/";
+        assertEquals(asList(String.join(" | ", base + "file-7.txt", base, base, "file-7.txt")),
+                read(createReader(DummyReader.class,
+                        PARAM_SOURCE_LOCATION, index,
+                        PARAM_PATTERNS, "file-7.*",
+                        ResourceCollectionReaderBase.PARAM_ARCHIVE_INDEX, true)));
+    }
+
+    @Test
+    public void testCompileAntPattern()
+    {
+        assertTrue(FileTreeIterator.compile("**/*.txt").matcher("a.txt").matches());
+        assertTrue(FileTreeIterator.compile("**/*.txt").matcher("a/b/c.txt").matches());
+        assertFalse(FileTreeIterator.compile("*.txt").matcher("a/c.txt").matches());
+        assertTrue(FileTreeIterator.compile("a/**/b?").matcher("a/b1").matches());
+        assertTrue(FileTreeIterator.compile("a/**/b?").matcher("a/x/y/b1").matches());
+        assertTrue(FileTreeIterator.compile("**/CVS/**").matcher("x/CVS").matches());
+        assertTrue(FileTreeIterator.compile("**/CVS/**").matcher("CVS/a/b").matches());
+        assertFalse(FileTreeIterator.compile("**/.git").matcher("x/agit").matches());
+    }
+
+    private static List<String> read(CollectionReader aReader)
+        throws Exception
+    {
+        List<String> result = new ArrayList<>();
+        CAS cas = CasCreationUtils.createCas(aReader.getProcessingResourceMetaData());
+        while (aReader.hasNext()) {
+            aReader.getNext(cas);
+            DocumentMetaData meta = DocumentMetaData.get(cas);
+            result.add(String.join(" | ", meta.getDocumentUri(), meta.getDocumentBaseUri(),
+                    meta.getCollectionId(), meta.getDocumentId()));
+            cas.reset();
+        }
+        cas.release();
+        return result;
+    }
+
     public void searchForResourceCollectionReaderBase(CollectionReader aReader)
         throws Exception
     {
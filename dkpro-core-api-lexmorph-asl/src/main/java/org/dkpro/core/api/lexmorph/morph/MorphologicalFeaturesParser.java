@@ -29,6 +29,7 @@ import org.apache.uima.cas.CAS;
 import org.apache.uima.cas.text.AnnotationFS;
 import org.apache.uima.jcas.JCas;
 import org.dkpro.core.api.lexmorph.morph.internal.AnalysisMapping;
+import org.dkpro.core.api.lexmorph.morph.internal.AnalysisMatcher;
 import org.dkpro.core.api.parameter.ComponentParameters;
 import org.dkpro.core.api.resources.CasConfigurableProviderBase;
 import org.dkpro.core.api.resources.HasResourceMetadata;
@@ -48,9 +49,11 @@ public class MorphologicalFeaturesParser
     
     public static final String META_MORPH_TAGSET = "morph.tagset";
     
-    private static final String IGNORE = "__IGNORE__";
     private boolean notFound = false;
 
+    // Matcher for the mappings last returned by getResource(), caching the parsed analyses
+    private volatile AnalysisMatcher matcher;
+
     {
         setDefault(LOCATION,
                 "classpath:/org/dkpro/core/api/lexmorph/tagset/${language}-${morph.tagset}-morph.map");
@@ -104,19 +107,8 @@ public class MorphologicalFeaturesParser
         MorphologicalFeatures features = new MorphologicalFeatures(aJCas);
         features.setValue(aAnalysis);
 
-        if (notFound) {
-            return features;
-        }
-        else {
-            List<AnalysisMapping> mappings = getResource();
-
-            for (AnalysisMapping mapping : mappings) {
-                if (!IGNORE.equals(mapping.getFeature()) && mapping.matches(aAnalysis)) {
-                    features.setFeatureValueFromString(
-                            features.getType().getFeatureByBaseName(mapping.getFeature()),
-                            mapping.getValue());
-                }
-            }
+        if (!notFound) {
+            getMatcher().match(aAnalysis).apply(features);
         }
 
         return features;
@@ -127,16 +119,19 @@ public class MorphologicalFeaturesParser
         if (notFound) {
             return false;
         }
-        else {
-            List<AnalysisMapping> mappings = getResource();
-            for (AnalysisMapping mapping : mappings) {
-                if (mapping.matches(aAnalysis)) {
-                    return true;
-                }
-            }
-        }
 
-        return false;
+        return getMatcher().match(aAnalysis).isMatched();
+    }
+
+    private AnalysisMatcher getMatcher()
+    {
+        List<AnalysisMapping> mappings = getResource();
+        AnalysisMatcher m = matcher;
+        if (m == null || m.getMappings() != mappings) {
+            m = new AnalysisMatcher(mappings);
+            matcher = m;
+        }
+        return m;
     }
     
     @Override
@@ -24,12 +24,14 @@ public class AnalysisMapping
 {
     private String feature;
     private String value;
+    private String marker;
     private Matcher matcher;
 
     public AnalysisMapping(String aFeature, String aValue, String aMarker)
     {
         feature = aFeature;
         value = aValue;
+        marker = aMarker;
 
         String marker = aMarker;
         if (!marker.startsWith("^")) {
@@ -65,6 +67,15 @@ public class AnalysisMapping
         value = aValue;
     }
 
+    /**
+     * @return the marker as given in the mapping, i.e. a regular expression which must match
+     *         the entire analysis if it starts with {@code ^} and any part of it otherwise.
+     */
+    public String getMarker()
+    {
+        return marker;
+    }
+
     public Matcher getMatcher()
     {
         return matcher;
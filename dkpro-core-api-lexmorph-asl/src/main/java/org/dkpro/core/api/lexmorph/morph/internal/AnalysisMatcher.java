@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.api.lexmorph.morph.internal;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Pattern;
+
+/**
+ * Matches analysis strings against all {@link AnalysisMapping mappings} of a morphological
+ * tagset at once. Markers which are plain literals are located by a substring search, only the
+ * remaining ones are evaluated as regular expressions. Since analyses typically come from a small
+ * set of distinct strings, the results are cached. Instances are thread-safe.
+ */
+public class AnalysisMatcher
+{
+    public static final int DEFAULT_CACHE_SIZE = 10000;
+
+    private static final String IGNORE = "__IGNORE__";
+
+    private final List<AnalysisMapping> mappings;
+    private final String[] features;
+    private final String[] values;
+    private final String[] literals;
+    private final Pattern[] patterns;
+
+    private final int cacheSize;
+    private final Map<String, ParsedAnalysis> cache = new ConcurrentHashMap<>();
+    private final Queue<String> cacheOrder = new ConcurrentLinkedQueue<>();
+
+    public AnalysisMatcher(List<AnalysisMapping> aMappings)
+    {
+        this(aMappings, DEFAULT_CACHE_SIZE);
+    }
+
+    public AnalysisMatcher(List<AnalysisMapping> aMappings, int aCacheSize)
+    {
+        mappings = aMappings;
+        cacheSize = aCacheSize;
+
+        int n = aMappings.size();
+        features = new String[n];
+        values = new String[n];
+        literals = new String[n];
+        patterns = new Pattern[n];
+        for (int i = 0; i < n; i++) {
+            AnalysisMapping mapping = aMappings.get(i);
+            features[i] = mapping.getFeature();
+            values[i] = mapping.getValue();
+            literals[i] = toLiteral(mapping.getMarker());
+            // Each mapping has its own matcher which cannot be shared between threads, but the
+            // pattern can.
+            patterns[i] = mapping.getMatcher().pattern();
+        }
+    }
+
+    /**
+     * @return the mappings this matcher was created from.
+     */
+    public List<AnalysisMapping> getMappings()
+    {
+        return mappings;
+    }
+
+    /**
+     * Determines the features of the given analysis.
+     *
+     * @param aAnalysis
+     *            the analysis string.
+     * @return the features.
+     */
+    public ParsedAnalysis match(String aAnalysis)
+    {
+        ParsedAnalysis parsed = cache.get(aAnalysis);
+        if (parsed == null) {
+            parsed = parse(aAnalysis);
+            if (cacheSize > 0 && cache.putIfAbsent(aAnalysis, parsed) == null) {
+                cacheOrder.add(aAnalysis);
+                while (cache.size() > cacheSize) {
+                    String eldest = cacheOrder.poll();
+                    if (eldest == null) {
+                        break;
+                    }
+                    cache.remove(eldest);
+                }
+            }
+        }
+        return parsed;
+    }
+
+    private ParsedAnalysis parse(String aAnalysis)
+    {
+        // A "." in the patterns does not match line terminators, so literals cannot be used then
+        boolean singleLine = isSingleLine(aAnalysis);
+
+        boolean matched = false;
+        // Later mappings override earlier ones for the same feature
+        Map<String, String> featureValues = new LinkedHashMap<>();
+        for (int i = 0; i < features.length; i++) {
+            boolean matches;
+            if (literals[i] != null && singleLine) {
+                matches = aAnalysis.contains(literals[i]);
+            }
+            else {
+                matches = patterns[i].matcher(aAnalysis).matches();
+            }
+
+            if (matches) {
+                matched = true;
+                if (!IGNORE.equals(features[i])) {
+                    featureValues.put(features[i], values[i]);
+                }
+            }
+        }
+
+        return new ParsedAnalysis(matched, featureValues);
+    }
+
+    /**
+     * Converts an unanchored marker to the literal text it matches, if it does not use any regular
+     * expression constructs except for escaped special characters.
+     *
+     * @return the literal or {@code null} if the marker is not a literal.
+     */
+    static String toLiteral(String aMarker)
+    {
+        if (aMarker.startsWith("^")) {
+            return null;
+        }
+
+        StringBuilder literal = new StringBuilder(aMarker.length());
+        for (int i = 0; i < aMarker.length(); i++) {
+            char c = aMarker.charAt(i);
+            if (c == '\\') {
+                i++;
+                if (i == aMarker.length() || Character.isLetterOrDigit(aMarker.charAt(i))) {
+                    // Character classes like \d, back references, etc.
+                    return null;
+                }
+                literal.append(aMarker.charAt(i));
+            }
+            else if ("[](){}.*+?^$|".indexOf(c) >= 0) {
+                return null;
+            }
+            else {
+                literal.append(c);
+            }
+        }
+        return literal.toString();
+    }
+
+    private static boolean isSingleLine(String aAnalysis)
+    {
+        for (int i = 0; i < aAnalysis.length(); i++) {
+            char c = aAnalysis.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028'
+                    || c == '\u2029') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.api.lexmorph.morph.internal;
+
+import java.util.Map;
+
+import org.apache.uima.cas.FeatureStructure;
+import org.apache.uima.cas.Type;
+
+/**
+ * Immutable result of matching an analysis string against the mappings of a tagset.
+ */
+public class ParsedAnalysis
+{
+    private final boolean matched;
+    private final String[] features;
+    private final String[] values;
+
+    ParsedAnalysis(boolean aMatched, Map<String, String> aFeatureValues)
+    {
+        matched = aMatched;
+        features = aFeatureValues.keySet().toArray(new String[aFeatureValues.size()]);
+        values = aFeatureValues.values().toArray(new String[aFeatureValues.size()]);
+    }
+
+    /**
+     * @return whether any mapping matched the analysis.
+     */
+    public boolean isMatched()
+    {
+        return matched;
+    }
+
+    /**
+     * Sets the features determined from the analysis on the given feature structure.
+     *
+     * @param aFS
+     *            the feature structure.
+     */
+    public void apply(FeatureStructure aFS)
+    {
+        Type type = aFS.getType();
+        for (int i = 0; i < features.length; i++) {
+            aFS.setFeatureValueFromString(type.getFeatureByBaseName(features[i]), values[i]);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.api.lexmorph.morph.internal;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.uima.fit.factory.JCasFactory;
+import org.apache.uima.jcas.JCas;
+import org.junit.jupiter.api.Test;
+
+import de.tudarmstadt.ukp.dkpro.core.api.lexmorph.type.morph.MorphologicalFeatures;
+
+public class AnalysisMatcherTest
+{
+    @Test
+    public void testToLiteral()
+    {
+        assertEquals("<Nom>", AnalysisMatcher.toLiteral("<Nom>"));
+        assertEquals(".Nom.", AnalysisMatcher.toLiteral("\\.Nom\\."));
+        assertNull(AnalysisMatcher.toLiteral("<[123]s>"));
+        assertNull(AnalysisMatcher.toLiteral("^Nom"));
+        assertNull(AnalysisMatcher.toLiteral("\\d"));
+    }
+
+    @Test
+    public void testMatch() throws Exception
+    {
+        AnalysisMatcher matcher = new AnalysisMatcher(asList(
+                new AnalysisMapping("case", "Nom", "\\.Nom\\."),
+                new AnalysisMapping("number", "Sing", "<[123]s>"),
+                new AnalysisMapping("number", "Plur", "\\.Pl\\."),
+                new AnalysisMapping("__IGNORE__", "", "^IGN$")));
+
+        JCas jcas = JCasFactory.createJCas();
+        MorphologicalFeatures features = new MorphologicalFeatures(jcas);
+        matcher.match("N.Reg.Nom.Pl.<3s>").apply(features);
+        assertEquals("Nom", features.getCase());
+        assertEquals("Plur", features.getNumber());
+
+        assertTrue(matcher.match("IGN").isMatched());
+        assertFalse(matcher.match("N.Reg.Acc").isMatched());
+        // Patterns do not match across lines
+        assertFalse(matcher.match("N\n.Nom.").isMatched());
+
+        assertSame(matcher.match("N.Reg.Nom.Pl.<3s>"), matcher.match("N.Reg.Nom.Pl.<3s>"));
+    }
+}
@@ -22,7 +22,19 @@ package org.dkpro.core.api.resources;
  */
 public enum CompressionMethod
 {
-    NONE(""), GZIP(".gz"), BZIP2(".bz2"), XZ(".xz");
+    NONE(""), GZIP(".gz"), BZIP2(".bz2"), XZ(".xz"),
+    
+    /**
+     * Zstandard. Fast compression and decompression at a ratio similar to or better than GZIP.
+     * Supports compression levels and pre-trained dictionaries. Requires the optional dependency
+     * {@code com.github.luben:zstd-jni}.
+     */
+    ZSTD(".zst"),
+    
+    /**
+     * LZ4 frame format. Very fast, but compresses less than the other methods.
+     */
+    LZ4(".lz4");
 
     private String extension;
 
@@ -17,10 +17,14 @@
  */
 package org.dkpro.core.api.resources;
 
+import static java.util.Arrays.asList;
 import static org.apache.commons.io.FileUtils.forceMkdir;
 import static org.dkpro.core.api.resources.CompressionMethod.BZIP2;
 import static org.dkpro.core.api.resources.CompressionMethod.GZIP;
+import static org.dkpro.core.api.resources.CompressionMethod.LZ4;
+import static org.dkpro.core.api.resources.CompressionMethod.NONE;
 import static org.dkpro.core.api.resources.CompressionMethod.XZ;
+import static org.dkpro.core.api.resources.CompressionMethod.ZSTD;
 
 import java.io.File;
 import java.io.FileOutputStream;
@@ -32,32 +36,130 @@ import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorInputStream;
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorOutputStream;
 import org.apache.commons.compress.compressors.xz.XZCompressorInputStream;
 import org.apache.commons.compress.compressors.xz.XZCompressorOutputStream;
 
 /**
  * Utility methods for dealing with compressed data.
  * 
+ * <p>{@link CompressionMethod#ZSTD} requires the optional dependency
+ * {@code com.github.luben:zstd-jni}. All other methods are always available.</p>
  */
 public class CompressionUtils
 {
+    /**
+     * Use the default compression level of the compression method.
+     */
+    public static final int DEFAULT_LEVEL = 0;
+    
+    private static final String[] BZIP2_EXTENSIONS = { BZIP2.getExtension(), ".bzip2" };
+    private static final String[] ZSTD_EXTENSIONS = { ZSTD.getExtension(), ".zstd" };
+    
     public static String stripCompressionExtension(String aLocation)
+    {
+        String extension = getCompressionExtension(aLocation);
+        return aLocation.substring(0, aLocation.length() - extension.length());
+    }
+    
+    /**
+     * @return the extension of the compression method used for the given location as it appears in
+     *         the location or an empty string if the location is not compressed.
+     */
+    private static String getCompressionExtension(String aLocation)
     {
         String lcLocation = aLocation.toLowerCase();
-        if (lcLocation.endsWith(GZIP.getExtension())) {
-            return aLocation.substring(0, GZIP.getExtension().length());
+        for (String ext : new String[] { GZIP.getExtension(), XZ.getExtension(),
+                LZ4.getExtension() }) {
+            if (lcLocation.endsWith(ext)) {
+                return ext;
+            }
+        }
+        for (String ext : BZIP2_EXTENSIONS) {
+            if (lcLocation.endsWith(ext)) {
+                return ext;
+            }
         }
-        else if (lcLocation.endsWith(BZIP2.getExtension()) || lcLocation.endsWith(".bzip2")) {
-            return aLocation.substring(0, BZIP2.getExtension().length());
+        for (String ext : ZSTD_EXTENSIONS) {
+            if (lcLocation.endsWith(ext)) {
+                return ext;
+            }
+        }
+        return "";
+    }
+    
+    /**
+     * Get the compression method used for the given location based on its extension.
+     * 
+     * @param aLocation
+     *            a resource location (e.g. a path, URL, etc.)
+     * @return the compression method.
+     */
+    public static CompressionMethod getCompressionMethod(String aLocation)
+    {
+        String extension = getCompressionExtension(aLocation);
+        if (extension.isEmpty()) {
+            return NONE;
         }
-        else if (lcLocation.endsWith(".bzip2")) {
-            return aLocation.substring(0, ".bzip2".length());
+        if (asList(BZIP2_EXTENSIONS).contains(extension)) {
+            return BZIP2;
         }
-        else if (lcLocation.endsWith(XZ.getExtension())) {
-            return aLocation.substring(0, XZ.getExtension().length());
+        if (asList(ZSTD_EXTENSIONS).contains(extension)) {
+            return ZSTD;
+        }
+        for (CompressionMethod method : CompressionMethod.values()) {
+            if (method.getExtension().equals(extension)) {
+                return method;
+            }
+        }
+        return NONE;
+    }
+    
+    /**
+     * Makes a pre-trained Zstandard dictionary available for decompression. Data compressed with
+     * a dictionary can only be read if the dictionary has been registered. Each compressed frame
+     * records the ID of its dictionary, so any number of dictionaries can be registered at the
+     * same time.
+     * <p>
+     * The registered dictionaries are shared by all components in the process. Registrations are
+     * counted, so a component which registers a dictionary should call
+     * {@link #unregisterZstdDictionary(long)} with the returned ID once it is destroyed. The
+     * dictionary is released when the last registration has been removed.
+     * 
+     * @param aDictionary
+     *            the dictionary.
+     * @return the dictionary ID.
+     * @throws IOException
+     *             if zstd-jni is not available.
+     */
+    public static long registerZstdDictionary(byte[] aDictionary)
+        throws IOException
+    {
+        requireZstd();
+        return ZstdCodec.register(aDictionary);
+    }
+    
+    /**
+     * Removes a registration made by {@link #registerZstdDictionary(byte[])}.
+     * 
+     * @param aId
+     *            the dictionary ID.
+     */
+    public static void unregisterZstdDictionary(long aId)
+    {
+        ZstdCodec.unregister(aId);
+    }
+    
+    private static void requireZstd()
+        throws IOException
+    {
+        try {
+            ZstdCodec.load();
         }
-        else {
-            return aLocation;
+        catch (LinkageError e) {
+            throw new IOException("Zstandard compression requires the library "
+                    + "[com.github.luben:zstd-jni] which is not available", e);
         }
     }
     
@@ -74,17 +176,19 @@ public class CompressionUtils
     public static InputStream getInputStream(String aLocation, InputStream aStream)
         throws IOException
     {
-        String lcLocation = aLocation.toLowerCase();
-        if (lcLocation.endsWith(GZIP.getExtension())) {
+        switch (getCompressionMethod(aLocation)) {
+        case GZIP:
             return new GZIPInputStream(aStream);
-        }
-        else if (lcLocation.endsWith(BZIP2.getExtension()) || lcLocation.endsWith(".bzip2")) {
+        case BZIP2:
             return new BZip2CompressorInputStream(aStream);
-        }
-        else if (lcLocation.endsWith(XZ.getExtension())) {
+        case XZ:
             return new XZCompressorInputStream(aStream);
-        }
-        else {
+        case ZSTD:
+            requireZstd();
+            return ZstdCodec.getInputStream(aStream);
+        case LZ4:
+            return new FramedLZ4CompressorInputStream(aStream, true);
+        default:
             return aStream;
         }
     }
@@ -103,24 +207,73 @@ public class CompressionUtils
      */
     public static OutputStream getOutputStream(File aFile)
         throws IOException
+    {
+        return getOutputStream(aFile, DEFAULT_LEVEL, null);
+    }
+
+    /**
+     * Make sure the target directory exists and get a stream writing to the specified file within.
+     * If the file name ends with a typical extension for compressed files, the stream will be
+     * compressed.
+     * 
+     * @param aFile
+     *            the target file.
+     * @param aLevel
+     *            the Zstandard compression level or {@link #DEFAULT_LEVEL}. Other compression
+     *            methods use their default level.
+     * @param aDictionary
+     *            a pre-trained Zstandard dictionary or {@code null}.
+     * @return a stream to write to.
+     * @throws IOException
+     *             if an I/O error has occurred,
+     * @see CompressionMethod
+     */
+    public static OutputStream getOutputStream(File aFile, int aLevel, byte[] aDictionary)
+        throws IOException
     {
         // Create parent folders for output file and set up stream
         if (aFile.getParentFile() != null) {
             forceMkdir(aFile.getParentFile());
         }
 
-        String lcFilename = aFile.getName().toLowerCase();
-
-        OutputStream os = new FileOutputStream(aFile);
-        if (lcFilename.endsWith(GZIP.getExtension())) {
-            os = new GZIPOutputStream(os);
-        }
-        else if (lcFilename.endsWith(BZIP2.getExtension()) || lcFilename.endsWith(".bzip2")) {
-            os = new BZip2CompressorOutputStream(os);
-        }
-        else if (lcFilename.endsWith(XZ.getExtension())) {
-            os = new XZCompressorOutputStream(os);
+        return getOutputStream(aFile.getName(), new FileOutputStream(aFile), aLevel, aDictionary);
+    }
+    
+    /**
+     * Wrap the given stream with a compressing stream if the name ends with a typical extension for
+     * compressed files. Closing the returned stream also closes the given stream.
+     * 
+     * @param aName
+     *            the name of the target (e.g. a file or archive entry name).
+     * @param aStream
+     *            the stream to write the compressed data to.
+     * @param aLevel
+     *            the Zstandard compression level or {@link #DEFAULT_LEVEL}. Other compression
+     *            methods use their default level.
+     * @param aDictionary
+     *            a pre-trained Zstandard dictionary or {@code null}.
+     * @return a stream to write to.
+     * @throws IOException
+     *             if an I/O error has occurred,
+     */
+    public static OutputStream getOutputStream(String aName, OutputStream aStream, int aLevel,
+            byte[] aDictionary)
+        throws IOException
+    {
+        switch (getCompressionMethod(aName)) {
+        case GZIP:
+            return new GZIPOutputStream(aStream);
+        case BZIP2:
+            return new BZip2CompressorOutputStream(aStream);
+        case XZ:
+            return new XZCompressorOutputStream(aStream);
+        case ZSTD:
+            requireZstd();
+            return ZstdCodec.getOutputStream(aStream, aLevel, aDictionary);
+        case LZ4:
+            return new FramedLZ4CompressorOutputStream(aStream);
+        default:
+            return aStream;
         }
-        return os;
     }
 }
@@ -27,6 +27,7 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 
@@ -54,6 +55,17 @@ public class MappingProvider extends CasConfigurableProviderBase<Map<String, Str
 
     private Map<String, HasResourceMetadata> tagMappingImports = new HashMap<>();
 
+    /**
+     * Tag to type lookup table. This is filled lazily by {@link #getTagType(String)} and is valid
+     * as long as the type system, the type mapping, and the tag mappings do not change.
+     */
+    private Map<String, Type> tagTypes = new HashMap<>();
+    private TypeSystem tagTypesTypeSystem;
+    private Map<String, String> tagTypesMapping;
+    private Map<String, String> tagTypesTagMappings;
+    private boolean tagTypesNotFound;
+    private String tagTypesBaseType;
+
     @Override
     protected void init()
     {
@@ -74,6 +86,7 @@ public class MappingProvider extends CasConfigurableProviderBase<Map<String, Str
         // didn't find a mapping.
         if ("false".equalsIgnoreCase(getOverride(MAPPING_ENABLED))) {
             notFound = true;
+            invalidateTagTypes();
             return;
         }
         
@@ -103,6 +116,28 @@ public class MappingProvider extends CasConfigurableProviderBase<Map<String, Str
             }
             notFound = true;
         }
+
+        invalidateTagTypes();
+    }
+
+    /**
+     * Drop the tag to type lookup table if any of the information it has been compiled from has
+     * changed since it was last used.
+     */
+    private void invalidateTagTypes()
+    {
+        Map<String, String> mapping = notFound ? null : getResource();
+        String baseType = getDefault(BASE_TYPE);
+        if (tagTypesTypeSystem != typeSystem || tagTypesMapping != mapping
+                || tagTypesNotFound != notFound || !Objects.equals(tagTypesBaseType, baseType)
+                || !Objects.equals(tagTypesTagMappings, tagMappings)) {
+            tagTypes.clear();
+            tagTypesTypeSystem = typeSystem;
+            tagTypesMapping = mapping;
+            tagTypesNotFound = notFound;
+            tagTypesBaseType = baseType;
+            tagTypesTagMappings = tagMappings;
+        }
     }
 
     public String getTag(String aTag)
@@ -121,7 +156,8 @@ public class MappingProvider extends CasConfigurableProviderBase<Map<String, Str
     }
 
     /**
-     * Get the type for the given tag.
+     * Get the type for the given tag. The type is looked up only once per tag and then remembered
+     * until the provider is re-configured with a different type system or mapping.
      * 
      * @param aTag
      *            a tag.
@@ -131,15 +167,22 @@ public class MappingProvider extends CasConfigurableProviderBase<Map<String, Str
      */
     public Type getTagType(String aTag)
     {
+        Type uimaType = tagTypes.get(aTag);
+        if (uimaType != null) {
+            return uimaType;
+        }
+
         String type = getTagTypeName(aTag);
 
-        Type uimaType = typeSystem.getType(type);
+        uimaType = typeSystem.getType(type);
 
         if (uimaType == null) {
             throw new IllegalStateException("Type [" + type + "] mapped to tag [" + aTag
                     + "] is not defined in type system");
         }
 
+        tagTypes.put(aTag, uimaType);
+
         return uimaType;
     }
 
@@ -26,16 +26,34 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.JarURLConnection;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.apache.uima.UimaContext;
 import org.apache.uima.resource.ResourceAccessException;
 import org.springframework.core.io.Resource;
@@ -47,7 +65,34 @@ import org.springframework.core.io.support.ResourcePatternResolver;
  */
 public class ResourceUtils
 {
+    /**
+     * System property pointing to the directory holding the persistent URL cache. If this
+     * property is not set, the folder {@code cache/urls} within the {@code DKPRO_HOME} folder is
+     * used. If neither is available, URLs are extracted to temporary files that are deleted when
+     * the JVM shuts down. Set this property to {@code false} to disable the persistent cache.
+     * <p>
+     * Entries that have not been used for some time are removed when the cache is first used in
+     * a JVM (see {@link #PROP_URL_CACHE_MAX_AGE}). The cache can also be purged at any time by
+     * calling {@link #cleanupPersistentCache(long)} or by deleting the cache folder while no
+     * DKPro Core process is running.
+     */
+    public static final String PROP_URL_CACHE = "dkpro.core.resources.urlCache";
+
+    /**
+     * System property setting the number of days after which unused entries are removed from the
+     * persistent URL cache. The default is {@value #DEFAULT_URL_CACHE_MAX_AGE} days. Set this
+     * property to {@code 0} to keep entries forever.
+     */
+    public static final String PROP_URL_CACHE_MAX_AGE = "dkpro.core.resources.urlCacheMaxAge";
+
+    private static final int DEFAULT_URL_CACHE_MAX_AGE = 30;
+
+    private static final Log LOG = LogFactory.getLog(ResourceUtils.class);
+
     private static Map<String, File> urlFileCache;
+
+    // Guarded by itself
+    private static final Set<File> cleanedCacheFolders = new HashSet<>();
     private static Map<String, File> classpathFolderCache;
     private static final String XDG_RUNTIME_DIR_ENV_VAR = "XDG_RUNTIME_DIR";
     private static final String DKPRO_HOME_ENV_VAR = "DKPRO_HOME";
@@ -184,6 +229,10 @@ public class ResourceUtils
      * the same file is returned again. If the previously created file has been deleted meanwhile,
      * it is recreated from the URL. This method should not be used for creating executable
      * binaries. For this purpose, getUrlAsExecutable should be used.
+     * <p>
+     * If the cache is used and a persistent cache folder is available (see
+     * {@link #PROP_URL_CACHE}), the file is extracted into that folder instead and re-used across
+     * JVM restarts as long as the content behind the URL does not change.
      *
      * @param aUrl
      *            the URL.
@@ -213,6 +262,14 @@ public class ResourceUtils
             // the file has been deleted meanwhile, so we also check if the file
             // actually still exists on disk.
             File file = urlFileCache.get(aUrl.toString());
+            if (aCache && ((file == null) || !file.exists())) {
+                // Try the persistent cache which survives JVM restarts
+                file = getUrlAsPersistentFile(aUrl, false);
+                if (file != null) {
+                    urlFileCache.put(aUrl.toString(), file);
+                }
+            }
+
             if (!aCache || (file == null) || !file.exists()) {
                 // Create a temporary file and try to preserve the file extension
                 String suffix = FilenameUtils.getExtension(aUrl.getPath());
@@ -256,6 +313,10 @@ public class ResourceUtils
      * temporary file is remembered in a cache and if a file is requested for the same URL at a
      * later time, the same file is returned again. If the previously created file has been deleted
      * meanwhile, it is recreated from the URL.
+     * <p>
+     * If the cache is used and a persistent cache folder is available (see
+     * {@link #PROP_URL_CACHE}), the file is extracted into that folder instead and re-used across
+     * JVM restarts as long as the content behind the URL does not change.
      *
      * @param aUrl
      *            the URL.
@@ -274,6 +335,14 @@ public class ResourceUtils
         synchronized (urlFileCache) {
 
             file = urlFileCache.get(aUrl.toString());
+            if (aCache && ((file == null) || !file.exists())) {
+                // Try the persistent cache which survives JVM restarts
+                file = getUrlAsPersistentFile(aUrl, true);
+                if (file != null) {
+                    urlFileCache.put(aUrl.toString(), file);
+                }
+            }
+
             if (!aCache || (file == null) || !file.exists()) {
 
                 String name = FilenameUtils.getBaseName(aUrl.getPath());
@@ -328,6 +397,254 @@ public class ResourceUtils
         return file;
     }
 
+    /**
+     * Get the persistent URL cache folder.
+     *
+     * @return the cache folder or {@code null} if there is no persistent cache.
+     * @see #PROP_URL_CACHE
+     */
+    private static File getPersistentCacheFolder()
+    {
+        String location = System.getProperty(PROP_URL_CACHE);
+        if ("false".equalsIgnoreCase(location)) {
+            return null;
+        }
+
+        if (location != null) {
+            return new File(location);
+        }
+
+        if (System.getenv(DKPRO_HOME_ENV_VAR) != null) {
+            return new File(System.getenv(DKPRO_HOME_ENV_VAR),
+                    "cache" + File.separator + "urls");
+        }
+
+        return null;
+    }
+
+    /**
+     * Make the given URL available as a file in the persistent cache. The file is stored under a
+     * key derived from the URL and the size, checksum and/or modification time of the data behind
+     * it. Thus, if the data has not changed, a file extracted by a previous JVM is returned without
+     * copying it again. Extraction is guarded by a file lock and the extracted file is moved
+     * atomically to its final location, so multiple processes can share the cache.
+     *
+     * @param aUrl
+     *            the URL.
+     * @param aExecutable
+     *            whether the file must be executable.
+     * @return the cached file or {@code null} if the persistent cache cannot be used for the URL.
+     */
+    private static File getUrlAsPersistentFile(URL aUrl, boolean aExecutable)
+    {
+        File cacheFolder = getPersistentCacheFolder();
+        if (cacheFolder == null) {
+            return null;
+        }
+
+        cleanupPersistentCacheOnce(cacheFolder);
+
+        try {
+            String key = getUrlFingerprint(aUrl);
+            if (key == null) {
+                return null;
+            }
+
+            String name = FilenameUtils.getName(aUrl.getPath());
+            if (name.length() == 0) {
+                name = "resource";
+            }
+
+            File folder = new File(cacheFolder, key.substring(0, 2) + File.separator + key);
+            File file = new File(folder, name);
+            if (!file.exists()) {
+                FileUtils.forceMkdir(folder);
+                try (FileChannel lockChannel = FileChannel.open(
+                        new File(folder, ".lock").toPath(), StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE);
+                        FileLock lock = lockChannel.lock()) {
+                    // Another process may have extracted the file while we waited for the lock
+                    if (!file.exists()) {
+                        File tmp = File.createTempFile(name, ".part", folder);
+                        try {
+                            try (InputStream is = aUrl.openStream();
+                                    OutputStream os = new FileOutputStream(tmp)) {
+                                copy(is, os);
+                            }
+                            if (aExecutable) {
+                                tmp.setExecutable(true);
+                            }
+                            Files.move(tmp.toPath(), file.toPath(),
+                                    StandardCopyOption.ATOMIC_MOVE);
+                        }
+                        finally {
+                            FileUtils.deleteQuietly(tmp);
+                        }
+                    }
+                }
+            }
+
+            if (aExecutable && !file.canExecute() && !file.setExecutable(true)) {
+                return null;
+            }
+
+            // The modification time of the entry folder records when the entry was last used
+            folder.setLastModified(System.currentTimeMillis());
+
+            return file;
+        }
+        catch (IOException e) {
+            LOG.warn("Unable to use persistent cache [" + cacheFolder + "] for [" + aUrl
+                    + "]: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Remove entries from the persistent URL cache that have not been used for the given time.
+     * Entries currently being extracted by another process are skipped. If there is no persistent
+     * cache, nothing happens.
+     *
+     * @param aMaxAge
+     *            the maximum time in milliseconds since an entry was last used.
+     * @return the number of entries removed.
+     * @see #PROP_URL_CACHE
+     */
+    public static int cleanupPersistentCache(long aMaxAge)
+    {
+        File cacheFolder = getPersistentCacheFolder();
+        if (cacheFolder == null) {
+            return 0;
+        }
+
+        return cleanupPersistentCache(cacheFolder, aMaxAge);
+    }
+
+    private static void cleanupPersistentCacheOnce(File aCacheFolder)
+    {
+        synchronized (cleanedCacheFolders) {
+            if (!cleanedCacheFolders.add(aCacheFolder.getAbsoluteFile())) {
+                return;
+            }
+        }
+
+        int maxAge = Integer.getInteger(PROP_URL_CACHE_MAX_AGE, DEFAULT_URL_CACHE_MAX_AGE);
+        if (maxAge > 0) {
+            int removed = cleanupPersistentCache(aCacheFolder, TimeUnit.DAYS.toMillis(maxAge));
+            if (removed > 0) {
+                LOG.info("Removed [" + removed + "] unused entries from persistent cache ["
+                        + aCacheFolder + "]");
+            }
+        }
+    }
+
+    private static int cleanupPersistentCache(File aCacheFolder, long aMaxAge)
+    {
+        long threshold = System.currentTimeMillis() - aMaxAge;
+        int removed = 0;
+        File[] buckets = aCacheFolder.listFiles(File::isDirectory);
+        if (buckets == null) {
+            return 0;
+        }
+
+        for (File bucket : buckets) {
+            File[] entries = bucket.listFiles(File::isDirectory);
+            if (entries == null) {
+                continue;
+            }
+
+            for (File entry : entries) {
+                if (entry.lastModified() >= threshold) {
+                    continue;
+                }
+
+                try (FileChannel lockChannel = FileChannel.open(
+                        new File(entry, ".lock").toPath(), StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE);
+                        FileLock lock = lockChannel.tryLock()) {
+                    // Another process is extracting to this entry, so it is in use
+                    if (lock == null) {
+                        continue;
+                    }
+
+                    File[] files = entry.listFiles(f -> !".lock".equals(f.getName()));
+                    if (files != null) {
+                        for (File file : files) {
+                            FileUtils.forceDelete(file);
+                        }
+                    }
+                }
+                catch (IOException e) {
+                    LOG.warn("Unable to remove [" + entry + "] from persistent cache: "
+                            + e.getMessage());
+                    continue;
+                }
+
+                // A process that obtains the lock after we released it notices that the folder
+                // is gone and falls back to a temporary file
+                FileUtils.deleteQuietly(entry);
+                removed++;
+            }
+
+            // Only succeeds if the bucket is empty
+            bucket.delete();
+        }
+
+        return removed;
+    }
+
+    /**
+     * Calculate a key identifying the URL and the current state of the data behind it. For entries
+     * in JAR files, the checksum and size of the entry are used. For other URLs, the size and
+     * modification time are used.
+     *
+     * @param aUrl
+     *            the URL.
+     * @return the key or {@code null} if the state of the data cannot be determined.
+     * @throws IOException
+     *             if the URL cannot be accessed.
+     */
+    private static String getUrlFingerprint(URL aUrl) throws IOException
+    {
+        StringBuilder state = new StringBuilder(aUrl.toString());
+
+        URLConnection connection = aUrl.openConnection();
+        try {
+            if (connection instanceof JarURLConnection) {
+                JarEntry entry = ((JarURLConnection) connection).getJarEntry();
+                if (entry == null || entry.getCrc() == -1 || entry.getSize() == -1) {
+                    return null;
+                }
+                state.append('|').append(entry.getSize());
+                state.append('|').append(entry.getCrc());
+                state.append('|').append(entry.getTime());
+            }
+            else {
+                long size = connection.getContentLengthLong();
+                long lastModified = connection.getLastModified();
+                if (size == -1 || lastModified == 0) {
+                    return null;
+                }
+                state.append('|').append(size);
+                state.append('|').append(lastModified);
+            }
+        }
+        finally {
+            if (connection instanceof HttpURLConnection) {
+                ((HttpURLConnection) connection).disconnect();
+            }
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(
+                    digest.digest(state.toString().getBytes(StandardCharsets.UTF_8)));
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+
     /**
      * @param is
      *            An {@link InputStream}.
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.api.resources;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.luben.zstd.RecyclingBufferPool;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdInputStreamNoFinalizer;
+import com.github.luben.zstd.ZstdOutputStreamNoFinalizer;
+import com.github.luben.zstd.util.Native;
+
+/**
+ * Zstandard streams based on zstd-jni. This is the only class referring to zstd-jni, so the
+ * optional library is only loaded once Zstandard is actually used via {@link CompressionUtils}.
+ */
+final class ZstdCodec
+{
+    private static final Map<Long, ZstdDictDecompress> DECOMPRESSION_DICTIONARIES =
+            new ConcurrentHashMap<>();
+    private static final Map<String, ZstdDictCompress> COMPRESSION_DICTIONARIES =
+            new ConcurrentHashMap<>();
+    // Guarded by itself
+    private static final Map<Long, Integer> REGISTRATIONS = new HashMap<>();
+
+    private ZstdCodec()
+    {
+        // No instances
+    }
+
+    static void load()
+    {
+        Native.load();
+    }
+
+    static long register(byte[] aDictionary)
+    {
+        long id = Zstd.getDictIdFromDict(aDictionary);
+        if (id == 0) {
+            throw new IllegalArgumentException("Not a Zstandard dictionary");
+        }
+        synchronized (REGISTRATIONS) {
+            REGISTRATIONS.merge(id, 1, Integer::sum);
+            DECOMPRESSION_DICTIONARIES.computeIfAbsent(id,
+                k -> new ZstdDictDecompress(aDictionary));
+        }
+        return id;
+    }
+
+    static void unregister(long aId)
+    {
+        synchronized (REGISTRATIONS) {
+            Integer count = REGISTRATIONS.get(aId);
+            if (count == null) {
+                return;
+            }
+            if (count > 1) {
+                REGISTRATIONS.put(aId, count - 1);
+                return;
+            }
+            REGISTRATIONS.remove(aId);
+            DECOMPRESSION_DICTIONARIES.remove(aId);
+            COMPRESSION_DICTIONARIES.keySet().removeIf(key -> key.startsWith(aId + "@"));
+        }
+    }
+
+    static InputStream getInputStream(InputStream aStream)
+        throws IOException
+    {
+        ZstdInputStreamNoFinalizer is = new ZstdInputStreamNoFinalizer(aStream,
+                RecyclingBufferPool.INSTANCE);
+        if (!DECOMPRESSION_DICTIONARIES.isEmpty()) {
+            // The decoder picks the dictionary matching the ID in the frame header
+            is.setRefMultipleDDicts(true);
+            for (ZstdDictDecompress dict : DECOMPRESSION_DICTIONARIES.values()) {
+                is.setDict(dict);
+            }
+        }
+        return is;
+    }
+
+    static OutputStream getOutputStream(OutputStream aStream, int aLevel, byte[] aDictionary)
+        throws IOException
+    {
+        int level = aLevel != CompressionUtils.DEFAULT_LEVEL ? aLevel
+                : Zstd.defaultCompressionLevel();
+        ZstdOutputStreamNoFinalizer os = new ZstdOutputStreamNoFinalizer(aStream,
+                RecyclingBufferPool.INSTANCE, level);
+        os.setChecksum(true);
+        if (aDictionary != null) {
+            os.setDict(getCompressionDictionary(aDictionary, level));
+        }
+        return os;
+    }
+
+    private static ZstdDictCompress getCompressionDictionary(byte[] aDictionary, int aLevel)
+    {
+        long id = Zstd.getDictIdFromDict(aDictionary);
+        synchronized (REGISTRATIONS) {
+            // Preparing a dictionary is expensive compared to compressing a small document, so
+            // registered dictionaries are only prepared once per level
+            if (REGISTRATIONS.containsKey(id)) {
+                return COMPRESSION_DICTIONARIES.computeIfAbsent(id + "@" + aLevel,
+                    k -> new ZstdDictCompress(aDictionary, aLevel));
+            }
+        }
+        return new ZstdDictCompress(aDictionary, aLevel);
+    }
+}
@@ -17,19 +17,28 @@
  */
 package org.dkpro.core.api.resources;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.util.Arrays;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 
+import com.github.luben.zstd.Zstd;
+
 public class CompressionUtilsTest
 {
     private static void testCompression(CompressionMethod compressionMethod)
@@ -81,6 +90,75 @@ public class CompressionUtilsTest
         testCompression(compressionMethod);
     }
 
+    @Test
+    public void testZstd()
+            throws Exception
+    {
+        testCompression(CompressionMethod.ZSTD);
+    }
+
+    @Test
+    public void testLz4()
+            throws Exception
+    {
+        testCompression(CompressionMethod.LZ4);
+    }
+
+    @Test
+    public void testZstdDictionary()
+            throws Exception
+    {
+        // Train a dictionary on many small similar documents
+        byte[][] samples = new byte[1000][];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = ("<xmi:XMI xmlns:cas=\"http:///uima/cas.ecore\"><type:Token sofa=\"1\" "
+                    + "begin=\"" + i + "\" end=\"" + (i + 5) + "\" id=\"" + (i * 7)
+                    + "\"/></xmi:XMI>").getBytes(UTF_8);
+        }
+        byte[] dictionary = new byte[4096];
+        int size = (int) Zstd.trainFromBuffer(samples, dictionary);
+        dictionary = Arrays.copyOf(dictionary, size);
+        long id = CompressionUtils.registerZstdDictionary(dictionary);
+
+        ByteArrayOutputStream withDict = new ByteArrayOutputStream();
+        try (OutputStream os = CompressionUtils.getOutputStream("doc.xmi.zst", withDict, 19,
+                dictionary)) {
+            os.write(samples[42]);
+        }
+        ByteArrayOutputStream withoutDict = new ByteArrayOutputStream();
+        try (OutputStream os = CompressionUtils.getOutputStream("doc.xmi.zst", withoutDict, 19,
+                null)) {
+            os.write(samples[42]);
+        }
+        assertTrue(withDict.size() < withoutDict.size());
+
+        try (InputStream is = CompressionUtils.getInputStream("doc.xmi.zst",
+                new ByteArrayInputStream(withDict.toByteArray()))) {
+            assertArrayEquals(samples[42], IOUtils.toByteArray(is));
+        }
+
+        // Without the dictionary, the data cannot be read anymore
+        CompressionUtils.unregisterZstdDictionary(id);
+        assertThrows(IOException.class, () -> {
+            try (InputStream is = CompressionUtils.getInputStream("doc.xmi.zst",
+                    new ByteArrayInputStream(withDict.toByteArray()))) {
+                IOUtils.toByteArray(is);
+            }
+        });
+    }
+
+    @Test
+    public void testStripCompressionExtension()
+    {
+        assertEquals("doc.xmi", CompressionUtils.stripCompressionExtension("doc.xmi.gz"));
+        assertEquals("doc.xmi", CompressionUtils.stripCompressionExtension("doc.xmi.bzip2"));
+        assertEquals("doc.xmi", CompressionUtils.stripCompressionExtension("doc.xmi.ZST"));
+        assertEquals("doc.xmi", CompressionUtils.stripCompressionExtension("doc.xmi.lz4"));
+        assertEquals("doc.xmi", CompressionUtils.stripCompressionExtension("doc.xmi"));
+        assertEquals(CompressionMethod.ZSTD, CompressionUtils.getCompressionMethod("a.zstd"));
+        assertEquals(CompressionMethod.NONE, CompressionUtils.getCompressionMethod("a.txt"));
+    }
+
     @Test
     public void testPrintWriter()
             throws IOException
@@ -18,6 +18,7 @@
 package org.dkpro.core.api.resources;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.io.IOException;
 import java.net.URL;
@@ -25,6 +26,7 @@ import java.util.Map;
 import java.util.Properties;
 
 import org.apache.uima.cas.CAS;
+import org.apache.uima.cas.Type;
 import org.apache.uima.resource.metadata.impl.TypeSystemDescription_impl;
 import org.apache.uima.util.CasCreationUtils;
 import org.junit.jupiter.api.Test;
@@ -173,4 +175,31 @@ public class MappingProviderTest
         Properties meta = mappingProvider.getResourceMetaData();
         assertEquals("redirected", meta.getProperty("tagset"));
     }
+
+    @Test
+    public void testTagTypes() throws Exception
+    {
+        MappingProvider mappingProvider = new MappingProvider();
+        mappingProvider.setDefault(MappingProvider.LOCATION, "src/test/resources/tagtypes.map");
+
+        CAS cas = CasCreationUtils.createCas(new TypeSystemDescription_impl(), null, null);
+        mappingProvider.configure(cas);
+
+        Type a = mappingProvider.getTagType("A");
+        assertEquals(CAS.TYPE_NAME_DOCUMENT_ANNOTATION, a.getName());
+        assertSame(a, mappingProvider.getTagType("A"));
+        assertEquals(CAS.TYPE_NAME_ANNOTATION, mappingProvider.getTagType("B").getName());
+
+        // Re-configuring with a different type system must not return stale types
+        CAS cas2 = CasCreationUtils.createCas(new TypeSystemDescription_impl(), null, null);
+        mappingProvider.configure(cas2);
+        assertSame(cas2.getTypeSystem().getType(CAS.TYPE_NAME_DOCUMENT_ANNOTATION),
+                mappingProvider.getTagType("A"));
+
+        // Disabling the mapping falls back to the base type
+        mappingProvider.setDefault(MappingProvider.BASE_TYPE, CAS.TYPE_NAME_ANNOTATION);
+        mappingProvider.setOverride(MappingProvider.MAPPING_ENABLED, "false");
+        mappingProvider.configure(cas2);
+        assertEquals(CAS.TYPE_NAME_ANNOTATION, mappingProvider.getTagType("A").getName());
+    }
 }
@@ -30,6 +30,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
@@ -107,4 +108,64 @@ public class ResourceUtilsTest
         
         assertThat(file.getName()).endsWith("temp");
     }
+
+    @Test
+    public void testGetUrlAsFilePersistentCache(@TempDir File tempDir)
+        throws Exception
+    {
+        URL url = new URL("jar:file:src/test/resources/testfiles.zip!/testfiles/"
+                + "ResourceCollectionReaderBase.class");
+
+        System.setProperty(ResourceUtils.PROP_URL_CACHE, tempDir.getPath());
+        try {
+            File file = ResourceUtils.getUrlAsFile(url, true);
+
+            assertThat(file).hasName("ResourceCollectionReaderBase.class");
+            assertThat(file.getAbsolutePath()).startsWith(tempDir.getAbsolutePath());
+
+            // The file is re-extracted to the same location if it went missing
+            long size = file.length();
+            assertTrue(file.delete());
+            File file2 = ResourceUtils.getUrlAsFile(url, true);
+            assertThat(file2).isEqualTo(file);
+            assertThat(file2).hasSize(size);
+
+            // Without caching, we still get a temporary file
+            File file3 = ResourceUtils.getUrlAsFile(url, false);
+            assertThat(file3).isNotEqualTo(file);
+            assertThat(file3).hasSameBinaryContentAs(file);
+        }
+        finally {
+            System.clearProperty(ResourceUtils.PROP_URL_CACHE);
+        }
+    }
+
+    @Test
+    public void testCleanupPersistentCache(@TempDir File tempDir)
+        throws Exception
+    {
+        URL url = new URL("jar:file:src/test/resources/testfiles.zip!/testfiles/"
+                + "ResourceCollectionReaderBase.class");
+
+        System.setProperty(ResourceUtils.PROP_URL_CACHE, tempDir.getPath());
+        try {
+            File file = ResourceUtils.getUrlAsFile(url, true);
+            File entry = file.getParentFile();
+
+            // Recently used entries are kept
+            assertEquals(0, ResourceUtils.cleanupPersistentCache(TimeUnit.DAYS.toMillis(1)));
+            assertThat(file).exists();
+
+            // Stale entries are removed along with their bucket folder
+            assertTrue(entry.setLastModified(
+                    System.currentTimeMillis() - TimeUnit.DAYS.toMillis(2)));
+            assertEquals(1, ResourceUtils.cleanupPersistentCache(TimeUnit.DAYS.toMillis(1)));
+            assertThat(entry).doesNotExist();
+            assertThat(entry.getParentFile()).doesNotExist();
+            assertThat(tempDir).exists();
+        }
+        finally {
+            System.clearProperty(ResourceUtils.PROP_URL_CACHE);
+        }
+    }
 }
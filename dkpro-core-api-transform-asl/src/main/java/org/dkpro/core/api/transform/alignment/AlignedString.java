@@ -19,6 +19,7 @@
 package org.dkpro.core.api.transform.alignment;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Set;
@@ -27,6 +28,12 @@ import java.util.Set;
  * Allows to stack strings on top of each other and modifying each of them propagating changes up to
  * the top while leaving lower levels unchanged.
  * 
+ * The segments are kept in a linked list. To avoid walking this list on every lookup, the start
+ * offsets of the segments are recorded in an index which is extended lazily from left to right. A
+ * change only invalidates the index right of the modified segment. Thus, offset lookups are
+ * logarithmic as long as the index is valid, in particular when changes are applied from right to
+ * left or when resolving many intervals after all changes have been applied.
+ * 
  * This class is not synchronized internally.
  * 
  */
@@ -43,9 +50,16 @@ public class AlignedString
     protected final AnchorSegment _last;
 
     private boolean _stringDirty = true;
-    private boolean _startDirty = true;
     private String _content = null;
 
+    /**
+     * Segments (including anchors) in the order of the linked list starting at {@link #_first}.
+     * Only the first {@link #_indexSize} entries are valid.
+     */
+    private AbstractDataSegment[] _indexSegments = new AbstractDataSegment[16];
+    private int[] _indexStarts = new int[16];
+    private int _indexSize = 0;
+
     {
         _first = new AnchorSegment(null, null);
         _last = new AnchorSegment(null, null);
@@ -87,16 +101,89 @@ public class AlignedString
 
     public void fireChange()
     {
-//        if (!_startDirty) {
-//            System.out.println("startDirty true");
-//        }
+        // Our own index has already been invalidated right of the change. The segment lengths
+        // of the wrapping strings depend on our anchor positions, so their index is dropped.
+        _stringDirty = true;
+        for (final AlignedString a : _changeListeners) {
+            a.invalidate();
+        }
+    }
 
+    private void invalidate()
+    {
         _stringDirty = true;
-        _startDirty = true;
+        _indexSize = 0;
         for (final AlignedString a : _changeListeners) {
-            a._stringDirty = true;
-            a._startDirty = true;
+            a.invalidate();
+        }
+    }
+
+    /**
+     * Drop all index entries after the given segment because its length or its successor is
+     * about to change. Must be called before the change is made.
+     */
+    private void invalidateAfter(final AbstractDataSegment seg)
+    {
+        final int i = seg._indexPos;
+        if ((i >= 0) && (i < _indexSize) && (_indexSegments[i] == seg)) {
+            _indexSize = i + 1;
+        }
+    }
+
+    /**
+     * Get the position of the given segment in the index, extending the index if necessary.
+     * 
+     * @return the index position or {@code -1} if the segment is not part of this string.
+     */
+    private int indexOf(final AbstractDataSegment seg)
+    {
+        final int i = seg._indexPos;
+        if ((i >= 0) && (i < _indexSize) && (_indexSegments[i] == seg)) {
+            return i;
+        }
+
+        while (extendIndex()) {
+            if (_indexSegments[_indexSize - 1] == seg) {
+                return _indexSize - 1;
+            }
         }
+
+        return -1;
+    }
+
+    /**
+     * Add the next segment to the index.
+     * 
+     * @return {@code false} if all segments are already indexed.
+     */
+    private boolean extendIndex()
+    {
+        final AbstractDataSegment next;
+        final int start;
+        if (_indexSize == 0) {
+            next = _first;
+            start = 0;
+        }
+        else {
+            final AbstractDataSegment last = _indexSegments[_indexSize - 1];
+            next = last._next;
+            start = _indexStarts[_indexSize - 1] + last.length();
+        }
+
+        if (next == null) {
+            return false;
+        }
+
+        if (_indexSize == _indexSegments.length) {
+            _indexSegments = Arrays.copyOf(_indexSegments, _indexSize * 2);
+            _indexStarts = Arrays.copyOf(_indexStarts, _indexSize * 2);
+        }
+
+        _indexSegments[_indexSize] = next;
+        _indexStarts[_indexSize] = start;
+        next._indexPos = _indexSize;
+        _indexSize++;
+        return true;
     }
 
     /**
@@ -366,22 +453,31 @@ public class AlignedString
             throw new IndexOutOfBoundsException("Negative position not allowed: [" + position + "]");
         }
 
-        final AbstractDataSegment first = _first;
-
-        if (first == null) {
-            throw new IndexOutOfBoundsException("No data");
+        // Make sure the index covers the position
+        while ((_indexSize == 0) || (_indexStarts[_indexSize - 1] <= position)) {
+            if (!extendIndex()) {
+                break;
+            }
         }
 
-        AbstractDataSegment seg = first._next;
-        int pEnd = seg.length();
-        while ((seg != null) && (position > (pEnd - 1))) {
-            seg = seg.getNext();
-            if (seg != null) {
-                pEnd += seg.length();
+        // Find the last segment starting at or before the position. Segments after the one
+        // containing the position start after it, so if any segment contains the position, it is
+        // this one. Otherwise, we are at the zero-length segments at the end of the data.
+        int low = 0;
+        int high = _indexSize - 1;
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (_indexStarts[mid] <= position) {
+                low = mid;
+            }
+            else {
+                high = mid - 1;
             }
         }
 
-        if (seg == null) {
+        final AbstractDataSegment seg = _indexSegments[low];
+        final int pEnd = _indexStarts[low] + seg.length();
+        if (pEnd <= position) {
             if ((includeAnchors) && (pEnd == position)) {
                 return _last;
             }
@@ -437,11 +533,7 @@ public class AlignedString
      */
     public int length()
     {
-        int length = 0;
-        for (final DataSegment s : this) {
-            length += s.length();
-        }
-        return length;
+        return _last.getStart();
     }
 
     /**
@@ -470,17 +562,7 @@ public class AlignedString
         }
 
         get();
-        if (_startDirty) {
-            int length = 0;
-            AbstractDataSegment seg = _first;
-            while (seg != null) {
-                seg._cachedStart = length;
-                length += seg.length();
-                seg = seg._next;
-            }
-            _startDirty = false;
-            System.out.println("startDirty false");
-        }
+        indexOf(_last);
     }
 
     /**
@@ -527,6 +609,7 @@ public class AlignedString
 
         // Insert segment
         final BaseSegment seg = new BaseSegment(prefix, suffix, s);
+        invalidateAfter(prefix);
         prefix._next = seg;
         suffix._prev = seg;
 
@@ -554,6 +637,7 @@ public class AlignedString
         if ((seg instanceof BaseSegment) &&
         // !seg.isAnchor() &&
                 (seg.length() == 0)) {
+            invalidateAfter(seg._prev);
             seg._prev._next = seg._next;
             seg._next._prev = seg._prev;
         }
@@ -606,6 +690,7 @@ public class AlignedString
             suffix = prefix._next;
             suffix = suffix.split(end);
 
+            invalidateAfter(prefix);
             if (d == null || d.length() == 0) {
                 prefix._next = suffix;
                 suffix._prev = prefix;
@@ -634,6 +719,7 @@ public class AlignedString
             prefix = segAtStart;
             suffix = segAtEnd.split(end);
 
+            invalidateAfter(prefix);
             if (d == null || d.length() == 0) {
                 AbstractDataSegment s = prefix._next;
                 while (s != suffix) {
@@ -690,6 +776,7 @@ public class AlignedString
 
             // Insert segment
             final AnchorSegment seg = new AnchorSegment(prefix, suffix);
+            invalidateAfter(prefix);
             prefix._next = seg;
             suffix._prev = seg;
 
@@ -839,7 +926,7 @@ public class AlignedString
     {
         protected AbstractDataSegment _prev;
         protected AbstractDataSegment _next;
-        protected int _cachedStart = -1;
+        protected int _indexPos = -1;
 
         public AbstractDataSegment(final AbstractDataSegment prev, final AbstractDataSegment next)
         {
@@ -878,19 +965,19 @@ public class AlignedString
         @Override
         public int getStart()
         {
-            if (_startDirty || _cachedStart == -1) {
-                int pos = 0;
-                AbstractDataSegment seg = this._prev;
-                while (seg != null) {
-                    pos += seg.length();
-                    seg = seg._prev;
-                }
-
-                return pos;
+            final int i = indexOf(this);
+            if (i != -1) {
+                return _indexStarts[i];
             }
-            else {
-                return _cachedStart;
+
+            // Segment has been removed from the string - calculate from the remaining links
+            int pos = 0;
+            AbstractDataSegment seg = this._prev;
+            while (seg != null) {
+                pos += seg.length();
+                seg = seg._prev;
             }
+            return pos;
         }
 
         @Override
@@ -912,25 +999,36 @@ public class AlignedString
     class BaseSegment
         extends AbstractDataSegment
     {
-        private String _data;
+        // Splitting only narrows the view on the data instead of copying it
+        private final String _data;
+        private final int _offset;
+        private int _length;
 
         public BaseSegment(final AbstractDataSegment prev, final AbstractDataSegment next,
                 final String data)
+        {
+            this(prev, next, data, 0, data.length());
+        }
+
+        private BaseSegment(final AbstractDataSegment prev, final AbstractDataSegment next,
+                final String data, final int offset, final int length)
         {
             super(prev, next);
             _data = data;
+            _offset = offset;
+            _length = length;
         }
 
         @Override
         public String get()
         {
-            return _data;
+            return _data.substring(_offset, _offset + _length);
         }
 
         @Override
         public int length()
         {
-            return _data.length();
+            return _length;
         }
 
         @Override
@@ -938,13 +1036,18 @@ public class AlignedString
         {
             // Calculate positions
             final int pos = position - getStart();
+            if ((pos < 0) || (pos > _length)) {
+                throw new StringIndexOutOfBoundsException("Split position [" + position
+                        + "] not in segment [" + getStart() + "-" + getEnd() + "]");
+            }
+            invalidateAfter(this);
 
             // Create new segment
-            final BaseSegment suffix = new BaseSegment(this, _next, _data.substring(pos,
-                    _data.length()));
+            final BaseSegment suffix = new BaseSegment(this, _next, _data, _offset + pos,
+                    _length - pos);
 
             // Change current segment
-            _data = _data.substring(0, pos);
+            _length = pos;
 
             // Insert new segment
             _next._prev = suffix;
@@ -962,7 +1065,7 @@ public class AlignedString
         @Override
         public String toString()
         {
-            return "{" + _data + "}";
+            return "{" + get() + "}";
         }
     }
 
@@ -987,21 +1090,14 @@ public class AlignedString
         @Override
         public String get()
         {
-            final StringBuilder sb = new StringBuilder();
-            for (DataSegment s = _start.getNext(); s != _end.getNext(); s = s.getNext()) {
-                sb.append(s.get());
-            }
-            return sb.toString();
+            return _underlying.get(_start.getPosition(), _end.getPosition());
         }
 
         @Override
         public int length()
         {
-            int length = 0;
-            for (DataSegment s = _start.getNext(); s != _end.getNext(); s = s.getNext()) {
-                length += s.length();
-            }
-            return length;
+            // The anchors delimit the underlying segments covered by this segment
+            return _end.getPosition() - _start.getPosition();
         }
 
         @Override
@@ -1010,6 +1106,7 @@ public class AlignedString
             // Calculate positions and get anchor
             final int pos = position - getStart();
             final Anchor splitAnchor = _underlying.getAnchor(_start.getPosition() + pos);
+            invalidateAfter(this);
 
             // Create new segment
             final ObliqueSegment suffix = new ObliqueSegment(this, _next, splitAnchor, _end);
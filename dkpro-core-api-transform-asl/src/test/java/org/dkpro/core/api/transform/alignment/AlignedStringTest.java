@@ -21,6 +21,10 @@ package org.dkpro.core.api.transform.alignment;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -453,4 +457,58 @@ public class AlignedStringTest
         assertEquals("455YYY5", top.get(adi.getStart(), adi.getEnd()));
         assertEquals("4XXXX555", bottom.get(uli.getStart(), uli.getEnd()));
     }
+
+    @Test
+    public void testRandomEdits()
+    {
+        Random rnd = new Random(42);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            sb.append((char) ('a' + rnd.nextInt(26)));
+        }
+        baseString = sb.toString();
+        bottom = new AlignedString(baseString);
+        top = new AlignedString(bottom);
+
+        // Track for each character in the reference which base character it stems from
+        List<Integer> origins = new ArrayList<>();
+        for (int i = 0; i < baseString.length(); i++) {
+            origins.add(i);
+        }
+
+        for (int n = 0; n < 300; n++) {
+            int start = rnd.nextInt(sb.length() + 1);
+            int end = Math.min(sb.length(), start + rnd.nextInt(4));
+            String text = rnd.nextBoolean() ? "" : "XY".substring(0, 1 + rnd.nextInt(2));
+            if (start == end && text.isEmpty()) {
+                continue;
+            }
+
+            top.replace(start, end, text);
+            sb.replace(start, end, text);
+            origins.subList(start, end).clear();
+            for (int i = 0; i < text.length(); i++) {
+                origins.add(start, -1);
+            }
+
+            assertEquals(sb.length(), top.length());
+            if (sb.length() > 0) {
+                // Interleave lookups with the edits
+                int pos = rnd.nextInt(sb.length());
+                assertThat(top.getSegmentAt(pos).getStart()).isLessThanOrEqualTo(pos);
+                assertThat(top.getSegmentAt(pos).getEnd()).isGreaterThan(pos);
+            }
+        }
+
+        assertEquals(sb.toString(), top.get());
+        assertEquals(baseString, bottom.get());
+
+        for (int i = 0; i < origins.size(); i++) {
+            int origin = origins.get(i);
+            if (origin != -1) {
+                assertEquals(new ImmutableInterval(origin, origin + 1),
+                        top.resolve(new ImmutableInterval(i, i + 1)));
+            }
+        }
+    }
 }
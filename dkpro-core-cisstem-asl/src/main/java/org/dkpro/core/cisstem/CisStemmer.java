@@ -34,6 +34,7 @@ import org.apache.uima.fit.descriptor.LanguageCapability;
 import org.apache.uima.fit.descriptor.ResourceMetaData;
 import org.apache.uima.fit.descriptor.TypeCapability;
 import org.apache.uima.jcas.JCas;
+import org.dkpro.core.api.featurepath.CompiledFeaturePath;
 import org.dkpro.core.api.featurepath.FeaturePathAnnotatorBase;
 import org.dkpro.core.api.featurepath.FeaturePathException;
 import org.dkpro.core.cisstem.util.CisStem;
@@ -104,9 +105,8 @@ public class CisStemmer
                 throw new IllegalStateException("Type [" + typeName + "] not found in type system");
             }
 
-            // get an fpi object and initialize it
-            // initialize the FeaturePathInfo with the corresponding part
-            initializeFeaturePathInfoFrom(fp, segments);
+            // get the feature path compiled for the type system of the CAS
+            CompiledFeaturePath valuePath = compileFeaturePath(t, segments);
 
             // get the annotations
             AnnotationIndex<?> idx = currCAS.getAnnotationIndex(t);
@@ -116,14 +116,8 @@ public class CisStemmer
                 AnnotationFS fs = (AnnotationFS) iterator.next();
 
                 try {
-                    if (this.filterFeaturePath != null) {
-                        // check annotation filter condition
-                        if (this.filterFeaturePathInfo.match(fs, this.filterCondition)) {
-                            createStemAnnotation(jcas, fs);
-                        }
-                    }
-                    else { // no annotation filter specified
-                        createStemAnnotation(jcas, fs);
+                    if (matchesFilter(valuePath, fs)) {
+                        createStemAnnotation(jcas, valuePath, fs);
                     }
                 }
                 catch (AnalysisEngineProcessException e) {
@@ -142,16 +136,18 @@ public class CisStemmer
      * 
      * @param jcas
      *            the JCas
+     * @param aPath
+     *            the feature path providing the value to be stemmed
      * @param fs
      *            the AnnotationFS where the Stem annotation is created
      * @throws AnalysisEngineProcessException
      *             if the {@code stem} method from the stemmer cannot be invoked.
      */
-    private void createStemAnnotation(JCas jcas, AnnotationFS fs)
+    private void createStemAnnotation(JCas jcas, CompiledFeaturePath aPath, AnnotationFS fs)
         throws AnalysisEngineProcessException
     {
         // Check for blank text, it makes no sense to add a stem then (and raised an exception)
-        String word = fp.getValue(fs);
+        String word = aPath.getValue(fs);
 
         boolean isUppercase = Character.isUpperCase(word.charAt(0));
 
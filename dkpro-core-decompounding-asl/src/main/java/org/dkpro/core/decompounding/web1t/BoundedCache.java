@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.decompounding.web1t;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Thread-safe cache holding a bounded number of entries. When the cache is full, the oldest
+ * entries are evicted first. Lookups never block.
+ */
+class BoundedCache<K, V>
+{
+    private final int maxSize;
+    private final Map<K, V> entries;
+    private final Queue<K> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    BoundedCache(int aMaxSize)
+    {
+        maxSize = aMaxSize;
+        entries = new ConcurrentHashMap<>(Math.min(aMaxSize, 1 << 16));
+    }
+
+    V get(K aKey)
+    {
+        return entries.get(aKey);
+    }
+
+    void put(K aKey, V aValue)
+    {
+        if (maxSize <= 0) {
+            return;
+        }
+
+        if (entries.putIfAbsent(aKey, aValue) == null) {
+            insertionOrder.add(aKey);
+            while (entries.size() > maxSize) {
+                K eldest = insertionOrder.poll();
+                if (eldest == null) {
+                    break;
+                }
+                entries.remove(eldest);
+            }
+        }
+    }
+
+    int size()
+    {
+        return entries.size();
+    }
+}
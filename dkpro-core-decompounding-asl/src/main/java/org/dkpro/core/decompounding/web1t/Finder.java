@@ -23,9 +23,10 @@ import java.io.File;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
-import org.apache.commons.collections4.map.LRUMap;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.Term;
@@ -41,14 +42,24 @@ import org.apache.lucene.store.FSDirectory;
 import com.googlecode.jweb1t.JWeb1TSearcher;
 
 /**
- * This class searches on the Lucene Index for n-grams.
+ * This class searches for n-grams in an {@link NGramIndex} or a Lucene index. It is safe to share
+ * a single instance between threads.
  */
 public class Finder implements Closeable
 {
+    /**
+     * The default number of cached search results.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 100000;
+
+    // The maximum length of the n-grams in Web1T
+    private static final int MAX_N = 5;
+
     private final JWeb1TSearcher web1tSearcher;
+    private final NGramIndex index;
     private final ParallelMultiSearcher searcher;
-    private final LRUMap ngramCache = new LRUMap(1000);
-    private final LRUMap unigramCache = new LRUMap(1000);
+    private final BoundedCache<List<String>, List<NGramModel>> ngramCache;
+    private final BoundedCache<String, BigInteger> unigramCache;
 
     /**
      * Constructor for the finder.
@@ -56,7 +67,8 @@ public class Finder implements Closeable
      * In case of performance it is recommended to use only one instance of this class.
      * 
      * @param aIndexFolder
-     *            The folder to the Lucene index or a folder with multiple indexes.
+     *            The file created by the {@link NGramIndexer}, or the folder to the Lucene index or
+     *            a folder with multiple Lucene indexes.
      * @param nGramFolder
      *            The folder to the JWeb1T n-grams.
      * @throws IOException
@@ -64,6 +76,50 @@ public class Finder implements Closeable
      */
     public Finder(File aIndexFolder, File nGramFolder)
         throws IOException
+    {
+        this(aIndexFolder, nGramFolder, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor for the finder.
+     * 
+     * @param aIndexFolder
+     *            The file created by the {@link NGramIndexer}, or the folder to the Lucene index or
+     *            a folder with multiple Lucene indexes.
+     * @param nGramFolder
+     *            The folder to the JWeb1T n-grams.
+     * @param aCacheSize
+     *            The maximum number of n-gram searches and unigram frequencies to cache each.
+     * @throws IOException
+     *             if the data could not be read.
+     */
+    public Finder(File aIndexFolder, File nGramFolder, int aCacheSize)
+        throws IOException
+    {
+        ngramCache = new BoundedCache<>(aCacheSize);
+        unigramCache = new BoundedCache<>(aCacheSize);
+
+        // Open the index first since the JWeb1T searcher cannot be closed if opening fails
+        if (NGramIndex.isNGramIndex(aIndexFolder)) {
+            index = NGramIndex.load(aIndexFolder);
+            searcher = null;
+        }
+        else {
+            index = null;
+            searcher = openLuceneIndex(aIndexFolder);
+        }
+
+        try {
+            web1tSearcher = new JWeb1TSearcher(nGramFolder, 1, 1);
+        }
+        catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private ParallelMultiSearcher openLuceneIndex(File aIndexFolder)
+        throws IOException
     {
         List<IndexSearcher> searcherList = new ArrayList<IndexSearcher>();
         if (checkForIndex(aIndexFolder)) {
@@ -72,7 +128,11 @@ public class Finder implements Closeable
             searcherList.add(new IndexSearcher(dir));
         }
         else {
-            for (File f : aIndexFolder.listFiles()) {
+            File[] files = aIndexFolder.listFiles();
+            if (files == null) {
+                throw new IOException("Cannot list the index folder [" + aIndexFolder + "]");
+            }
+            for (File f : files) {
                 if (f.isDirectory() && checkForIndex(f)) {
                     FSDirectory dir = FSDirectory.open(f);
                     dir.setReadChunkSize(52428800);
@@ -81,15 +141,7 @@ public class Finder implements Closeable
             }
         }
 
-        searcher = new ParallelMultiSearcher(searcherList.toArray(new IndexSearcher[0]));
-        web1tSearcher = new JWeb1TSearcher(nGramFolder, 1, 1);
-
-        // web1tSearcher = new JWeb1TSearcher(new
-        // File("//home/likewise-open/UKP/santos/UKP/Library/" +
-        // "DKPro/web1t/de"),1, 1);
-        // web1tSearcher = new JWeb1TSearcher(new File("/Users/bluefire/UKP/Library/DKPro/tueba5"),
-        // 1, 1);
-
+        return new ParallelMultiSearcher(searcherList.toArray(new IndexSearcher[0]));
     }
 
     /**
@@ -115,15 +167,16 @@ public class Finder implements Closeable
 
     public BigInteger freq(String aUnigram)
     {
-        BigInteger f = (BigInteger) unigramCache.get(aUnigram);
+        BigInteger f = unigramCache.get(aUnigram);
         if (f != null) {
             return f;
         }
 
-        // System.out.printf("Frequency for [%s]... ", aUnigram);
         try {
-            f = BigInteger.valueOf(web1tSearcher.getFrequency(aUnigram));
-            // System.out.printf("%d%n", f.longValue());
+            // The JWeb1T searcher keeps open file handles and is not thread-safe
+            synchronized (web1tSearcher) {
+                f = BigInteger.valueOf(web1tSearcher.getFrequency(aUnigram));
+            }
             unigramCache.put(aUnigram, f);
             return f;
         }
@@ -134,7 +187,9 @@ public class Finder implements Closeable
 
     public BigInteger getUnigramCount()
     {
-        return BigInteger.valueOf(web1tSearcher.getNrOfNgrams(1));
+        synchronized (web1tSearcher) {
+            return BigInteger.valueOf(web1tSearcher.getNrOfNgrams(1));
+        }
     }
 
     /**
@@ -150,54 +205,65 @@ public class Finder implements Closeable
     }
 
     /**
-     * Find all n-grams containing these tokens in order but optionally with words between them.
+     * Find all n-grams containing these tokens. Like in a sloppy phrase query, other words may
+     * occur between the tokens and the tokens may occur in a different order, as long as the
+     * number of moves needed to bring them into the given order does not exceed five minus the
+     * number of tokens.
      * 
      * @param aToken
      *            A list of tokens
      * @return the n-grams.
      */
-    @SuppressWarnings("unchecked")
     public List<NGramModel> find(String[] aToken)
+    {
+        String[] tokens = new String[aToken.length];
+        for (int i = 0; i < aToken.length; i++) {
+            tokens[i] = aToken[i].toLowerCase();
+        }
+
+        List<String> cacheKey = Arrays.asList(tokens);
+        List<NGramModel> ngrams = ngramCache.get(cacheKey);
+        if (ngrams != null) {
+            return ngrams;
+        }
+
+        if (index != null) {
+            ngrams = index.find(tokens, getSlop(tokens.length));
+        }
+        else {
+            ngrams = search(tokens);
+        }
+
+        ngrams = Collections.unmodifiableList(ngrams);
+        ngramCache.put(cacheKey, ngrams);
+        return ngrams;
+    }
+
+    private List<NGramModel> search(String[] aToken)
     {
         BooleanQuery q = new BooleanQuery();
         PhraseQuery pq = new PhraseQuery();
-        pq.setSlop((5 - aToken.length) >= 0 ? (5 - aToken.length) : 0); // max 5-grams in the web1t
+        pq.setSlop(getSlop(aToken.length));
         for (String t : aToken) {
-            pq.add(new Term("gram", t.toLowerCase()));
-            // q.add(new TermQuery(new Term("gram", t.toLowerCase())), Occur.MUST);
+            pq.add(new Term("gram", t));
         }
         q.add(pq, Occur.MUST);
 
-        String cacheKey = q.toString();
-
-        if (ngramCache.containsKey(cacheKey)) {
-            List<NGramModel> list = (List<NGramModel>) ngramCache.get(cacheKey);
-            return list;
-        }
-
         try {
-            // System.out.printf("Searching [%s]... ", cacheKey);
-
             NGramCollector collector = new NGramCollector();
-            // long start = System.currentTimeMillis();
             searcher.search(q, collector);
-            List<NGramModel> ngrams = collector.getNgrams();
-
-            ngramCache.put(cacheKey, ngrams);
-
-            // long now = System.currentTimeMillis();
-            // System.out.printf(" (%d in %dms)%n", ngrams.size(), now - start);
-            // for (NGram ng : ngrams) {
-            // System.out.printf("   %s%n", ng);
-            // }
-
-            return ngrams;
+            return collector.getNgrams();
         }
         catch (IOException e) {
             throw new IllegalStateException(e);
         }
     }
 
+    private static int getSlop(int aTokenCount)
+    {
+        return Math.max(MAX_N - aTokenCount, 0); // max 5-grams in the web1t
+    }
+
     public boolean contains(String aWord)
     {
         List<NGramModel> possible = find(aWord);
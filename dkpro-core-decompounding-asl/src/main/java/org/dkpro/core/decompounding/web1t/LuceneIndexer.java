@@ -56,6 +56,7 @@ import org.dkpro.core.decompounding.dictionary.Dictionary;
  * ./bin/web1TLuceneIndexer.sh \ --web1t PATH/TO/FOLDER/WITH/ALL/EXTRACTED/N-GRAM/FILES \
  * --outputPath PAHT/TO/LUCENE/INDEX/FOLDER
  * 
+ * The {@link NGramIndexer} creates a more compact index that is faster to search.
  */
 public class LuceneIndexer
 {
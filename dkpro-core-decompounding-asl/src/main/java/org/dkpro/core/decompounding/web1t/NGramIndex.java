@@ -0,0 +1,340 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.decompounding.web1t;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable, memory-mapped index of n-grams and their frequencies, created by the
+ * {@link NGramIndexer}. The index can be shared between threads.
+ * <p>
+ * The index consists of the sorted vocabulary, the token ids of each n-gram, the n-gram
+ * frequencies and, for each token, the sorted list of n-grams containing it. The file is
+ * structured as follows, all numbers being big-endian integers:
+ * <ul>
+ * <li>{@link #MAGIC}, version, vocabulary size V, number of n-grams G, number of n-gram tokens T,
+ * number of postings P</li>
+ * <li>vocabulary offsets (V + 1), n-gram offsets (G + 1), n-gram tokens (T), n-gram frequencies
+ * (G), posting offsets (V + 1), postings (P)</li>
+ * <li>the vocabulary as UTF-8 bytes sorted in unsigned byte order</li>
+ * </ul>
+ */
+public class NGramIndex
+{
+    /**
+     * The first four bytes of an index file.
+     */
+    public static final int MAGIC = 0x444b4e47; // "DKNG"
+
+    static final int VERSION = 1;
+
+    static final int HEADER_INTS = 6;
+
+    // The file is mapped in chunks since a single mapping is limited to 2GB. Chunks are a multiple
+    // of four bytes, so an int never spans two chunks.
+    private static final int CHUNK_BITS = 30;
+    private static final long CHUNK_SIZE = 1L << CHUNK_BITS;
+
+    private final ByteBuffer[] chunks;
+
+    private final int vocabularySize;
+    private final int ngramCount;
+    private final long vocabularyOffsets;
+    private final long ngramOffsets;
+    private final long ngramTokens;
+    private final long ngramFreqs;
+    private final long postingOffsets;
+    private final long postings;
+    private final long vocabulary;
+
+    private NGramIndex(File aFile)
+        throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(aFile.toPath())) {
+            long size = channel.size();
+            chunks = new ByteBuffer[(int) ((size + CHUNK_SIZE - 1) >>> CHUNK_BITS)];
+            for (int i = 0; i < chunks.length; i++) {
+                long start = i * CHUNK_SIZE;
+                chunks[i] = channel.map(MapMode.READ_ONLY, start, Math.min(CHUNK_SIZE,
+                        size - start));
+            }
+            if (size < HEADER_INTS * 4 || getInt(0) != MAGIC) {
+                throw new IOException("Not an n-gram index [" + aFile + "]");
+            }
+        }
+
+        int version = getInt(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported n-gram index version [" + version + "]");
+        }
+
+        vocabularySize = getInt(8);
+        ngramCount = getInt(12);
+        long tokenCount = Integer.toUnsignedLong(getInt(16));
+        long postingCount = Integer.toUnsignedLong(getInt(20));
+
+        vocabularyOffsets = HEADER_INTS * 4L;
+        ngramOffsets = vocabularyOffsets + (vocabularySize + 1L) * 4;
+        ngramTokens = ngramOffsets + (ngramCount + 1L) * 4;
+        ngramFreqs = ngramTokens + tokenCount * 4;
+        postingOffsets = ngramFreqs + ngramCount * 4L;
+        postings = postingOffsets + (vocabularySize + 1L) * 4;
+        vocabulary = postings + postingCount * 4;
+    }
+
+    /**
+     * Opens the index in the given file.
+     *
+     * @param aFile
+     *            the index file.
+     * @return the index.
+     * @throws IOException
+     *             if the file cannot be opened or is not an index file.
+     */
+    public static NGramIndex load(File aFile)
+        throws IOException
+    {
+        return new NGramIndex(aFile);
+    }
+
+    /**
+     * @param aFile
+     *            a file.
+     * @return whether the file is an n-gram index.
+     * @throws IOException
+     *             if the file cannot be read.
+     */
+    public static boolean isNGramIndex(File aFile)
+        throws IOException
+    {
+        if (!aFile.isFile()) {
+            return false;
+        }
+
+        try (InputStream is = new FileInputStream(aFile)) {
+            int magic = 0;
+            for (int i = 0; i < 4; i++) {
+                int b = is.read();
+                if (b == -1) {
+                    return false;
+                }
+                magic = (magic << 8) | b;
+            }
+            return magic == MAGIC;
+        }
+    }
+
+    /**
+     * @return the number of distinct tokens.
+     */
+    public int getVocabularySize()
+    {
+        return vocabularySize;
+    }
+
+    /**
+     * @return the number of n-grams.
+     */
+    public int getNGramCount()
+    {
+        return ngramCount;
+    }
+
+    /**
+     * Finds all n-grams which contain the given tokens within the given slop. Like for a sloppy
+     * phrase query in Lucene, the slop is the number of moves needed to bring the tokens of the
+     * n-gram into the order of the query, i.e. other tokens may occur between the query tokens and
+     * the query tokens may occur in a different order. The tokens are compared
+     * case-insensitively.
+     *
+     * @param aTokens
+     *            the tokens.
+     * @param aSlop
+     *            the slop.
+     * @return the n-grams in index order.
+     */
+    public List<NGramModel> find(String[] aTokens, int aSlop)
+    {
+        if (aTokens.length == 0) {
+            return Collections.emptyList();
+        }
+
+        int[] ids = new int[aTokens.length];
+        int rarest = 0;
+        for (int i = 0; i < aTokens.length; i++) {
+            ids[i] = getId(aTokens[i].toLowerCase());
+            if (ids[i] < 0) {
+                return Collections.emptyList();
+            }
+            if (getPostingCount(ids[i]) < getPostingCount(ids[rarest])) {
+                rarest = i;
+            }
+        }
+
+        // Verify the candidates from the shortest posting list
+        List<NGramModel> result = new ArrayList<>();
+        long start = postingOffsets + ids[rarest] * 4L;
+        int begin = getInt(start);
+        int end = getInt(start + 4);
+        for (int p = begin; p < end; p++) {
+            int ngram = getInt(postings + p * 4L);
+            if (matches(ngram, ids, aSlop)) {
+                result.add(new NGramModel(getNGram(ngram), getInt(ngramFreqs + ngram * 4L)));
+            }
+        }
+        return result;
+    }
+
+    private int getPostingCount(int aId)
+    {
+        long pos = postingOffsets + aId * 4L;
+        return getInt(pos + 4) - getInt(pos);
+    }
+
+    private boolean matches(int aNGram, int[] aIds, int aSlop)
+    {
+        long pos = ngramOffsets + aNGram * 4L;
+        int begin = getInt(pos);
+        int[] tokens = new int[getInt(pos + 4) - begin];
+        for (int t = 0; t < tokens.length; t++) {
+            tokens[t] = getInt(ngramTokens + (begin + t) * 4L);
+        }
+        return matches(tokens, aIds, aSlop, 0, new boolean[tokens.length], Integer.MAX_VALUE,
+                Integer.MIN_VALUE);
+    }
+
+    /**
+     * Checks if the remaining query tokens can be assigned to distinct positions of the n-gram
+     * such that the distance between the smallest and the largest position relative to the
+     * position in the query does not exceed the slop. This is the match length which Lucene
+     * computes for sloppy phrase queries. N-grams are short, so trying all assignments is cheap.
+     */
+    private static boolean matches(int[] aTokens, int[] aIds, int aSlop, int aQueryPos,
+            boolean[] aUsed, int aMin, int aMax)
+    {
+        if (aQueryPos == aIds.length) {
+            return true;
+        }
+
+        for (int p = 0; p < aTokens.length; p++) {
+            if (aUsed[p] || aTokens[p] != aIds[aQueryPos]) {
+                continue;
+            }
+
+            int relative = p - aQueryPos;
+            int min = Math.min(aMin, relative);
+            int max = Math.max(aMax, relative);
+            if (max - min <= aSlop) {
+                aUsed[p] = true;
+                boolean match = matches(aTokens, aIds, aSlop, aQueryPos + 1, aUsed, min, max);
+                aUsed[p] = false;
+                if (match) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private String getNGram(int aNGram)
+    {
+        long pos = ngramOffsets + aNGram * 4L;
+        int begin = getInt(pos);
+        int end = getInt(pos + 4);
+        StringBuilder sb = new StringBuilder();
+        for (int t = begin; t < end; t++) {
+            if (t > begin) {
+                sb.append(' ');
+            }
+            sb.append(getToken(getInt(ngramTokens + t * 4L)));
+        }
+        return sb.toString();
+    }
+
+    private String getToken(int aId)
+    {
+        long pos = vocabularyOffsets + aId * 4L;
+        int begin = getInt(pos);
+        int end = getInt(pos + 4);
+        byte[] bytes = new byte[end - begin];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = getByte(vocabulary + begin + i);
+        }
+        return new String(bytes, UTF_8);
+    }
+
+    private int getId(String aToken)
+    {
+        byte[] token = aToken.getBytes(UTF_8);
+        int low = 0;
+        int high = vocabularySize - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(mid, token);
+            if (cmp < 0) {
+                low = mid + 1;
+            }
+            else if (cmp > 0) {
+                high = mid - 1;
+            }
+            else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int compare(int aId, byte[] aToken)
+    {
+        long pos = vocabularyOffsets + aId * 4L;
+        int begin = getInt(pos);
+        int length = getInt(pos + 4) - begin;
+        int n = Math.min(length, aToken.length);
+        for (int i = 0; i < n; i++) {
+            int cmp = Byte.toUnsignedInt(getByte(vocabulary + begin + i))
+                    - Byte.toUnsignedInt(aToken[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return length - aToken.length;
+    }
+
+    private int getInt(long aPosition)
+    {
+        return chunks[(int) (aPosition >>> CHUNK_BITS)].getInt((int) (aPosition
+                & (CHUNK_SIZE - 1)));
+    }
+
+    private byte getByte(long aPosition)
+    {
+        return chunks[(int) (aPosition >>> CHUNK_BITS)].get((int) (aPosition
+                & (CHUNK_SIZE - 1)));
+    }
+}
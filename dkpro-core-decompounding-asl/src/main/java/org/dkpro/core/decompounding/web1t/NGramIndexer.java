@@ -0,0 +1,319 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.decompounding.web1t;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.dkpro.core.decompounding.dictionary.Dictionary;
+
+/**
+ * Creates an {@link NGramIndex} from Web1T n-gram files, i.e. files with lines of the form
+ * {@code n-gram TAB frequency}. The tokens are converted to lower case.
+ * <p>
+ * The index is built in memory and then written to a single file, so building requires memory
+ * proportional to the size of the index. An index can hold at most about 2<sup>31</sup> n-gram
+ * tokens, i.e. the sum of the lengths of all n-grams. This is not sufficient for the complete
+ * English Web1T corpus; use a {@link #setDictionary(Dictionary) dictionary} to restrict the
+ * indexed n-grams in this case. Using the index requires no heap memory for the n-grams since
+ * the file is memory-mapped. An existing index file is replaced atomically, so indexes
+ * previously loaded from it remain usable.
+ */
+public class NGramIndexer
+{
+    private final Log log = LogFactory.getLog(getClass());
+
+    private final File web1tFolder;
+    private final File outputFile;
+    private Dictionary dictionary;
+
+    /**
+     * @param aWeb1tFolder
+     *            a n-gram file or a folder with n-gram files ending in {@code .txt}.
+     * @param aOutputFile
+     *            the index file.
+     */
+    public NGramIndexer(File aWeb1tFolder, File aOutputFile)
+    {
+        web1tFolder = aWeb1tFolder;
+        outputFile = aOutputFile;
+    }
+
+    public Dictionary getDictionary()
+    {
+        return dictionary;
+    }
+
+    /**
+     * @param aDictionary
+     *            if set, only n-grams containing at least one word from the dictionary are
+     *            indexed.
+     */
+    public void setDictionary(Dictionary aDictionary)
+    {
+        dictionary = aDictionary;
+    }
+
+    /**
+     * Creates the index.
+     *
+     * @throws IOException
+     *             if the n-gram files cannot be read or the index cannot be written.
+     */
+    public void index()
+        throws IOException
+    {
+        List<File> files;
+        if (web1tFolder.isFile()) {
+            files = Arrays.asList(web1tFolder);
+        }
+        else if (web1tFolder.isDirectory()) {
+            File[] txtFiles = web1tFolder.listFiles(f -> f.getName().endsWith(".txt"));
+            if (txtFiles == null) {
+                throw new IOException("Cannot list the n-gram files in [" + web1tFolder + "]");
+            }
+            files = Arrays.asList(txtFiles);
+            files.sort(null);
+        }
+        else {
+            throw new FileNotFoundException("File " + web1tFolder + " cannot be found.");
+        }
+
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> tokens = new ArrayList<>();
+        IntList ngramOffsets = new IntList("n-grams");
+        IntList ngramTokens = new IntList("n-gram tokens");
+        IntList ngramFreqs = new IntList("n-grams");
+        ngramOffsets.add(0);
+
+        for (File file : files) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new FileInputStream(file), UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int tab = line.indexOf('\t');
+                    if (tab < 0) {
+                        continue;
+                    }
+                    String[] gram = line.substring(0, tab).split(" ");
+                    if (!accept(gram)) {
+                        continue;
+                    }
+
+                    for (String token : gram) {
+                        token = token.toLowerCase();
+                        Integer id = ids.get(token);
+                        if (id == null) {
+                            id = tokens.size();
+                            ids.put(token, id);
+                            tokens.add(token);
+                        }
+                        ngramTokens.add(id);
+                    }
+                    ngramOffsets.add(ngramTokens.size());
+                    long freq = Long.parseLong(line.substring(tab + 1).trim());
+                    ngramFreqs.add((int) Math.min(freq, Integer.MAX_VALUE));
+                }
+            }
+            log.info(file.getName() + " is ready.");
+        }
+
+        write(tokens, ngramOffsets, ngramTokens, ngramFreqs);
+    }
+
+    private boolean accept(String[] aGram)
+    {
+        if (dictionary == null) {
+            return true;
+        }
+
+        for (String word : aGram) {
+            if (dictionary.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void write(List<String> aTokens, IntList aNGramOffsets, IntList aNGramTokens,
+            IntList aNGramFreqs)
+        throws IOException
+    {
+        // Sort the vocabulary and renumber the tokens accordingly
+        int vocabularySize = aTokens.size();
+        byte[][] vocabulary = new byte[vocabularySize][];
+        Integer[] order = new Integer[vocabularySize];
+        for (int i = 0; i < vocabularySize; i++) {
+            vocabulary[i] = aTokens.get(i).getBytes(UTF_8);
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(vocabulary[a], vocabulary[b]));
+        int[] newIds = new int[vocabularySize];
+        for (int i = 0; i < vocabularySize; i++) {
+            newIds[order[i]] = i;
+        }
+        for (int i = 0; i < aNGramTokens.size(); i++) {
+            aNGramTokens.set(i, newIds[aNGramTokens.get(i)]);
+        }
+
+        // Collect the n-grams containing each token, each n-gram only once per token
+        int ngramCount = aNGramFreqs.size();
+        int[] postingOffsets = new int[vocabularySize + 1];
+        int[] lastNGram = new int[vocabularySize];
+        Arrays.fill(lastNGram, -1);
+        for (int g = 0; g < ngramCount; g++) {
+            for (int t = aNGramOffsets.get(g); t < aNGramOffsets.get(g + 1); t++) {
+                int id = aNGramTokens.get(t);
+                if (lastNGram[id] != g) {
+                    lastNGram[id] = g;
+                    postingOffsets[id + 1]++;
+                }
+            }
+        }
+        for (int i = 0; i < vocabularySize; i++) {
+            postingOffsets[i + 1] += postingOffsets[i];
+        }
+        int[] postings = new int[postingOffsets[vocabularySize]];
+        int[] fill = Arrays.copyOf(postingOffsets, vocabularySize);
+        Arrays.fill(lastNGram, -1);
+        for (int g = 0; g < ngramCount; g++) {
+            for (int t = aNGramOffsets.get(g); t < aNGramOffsets.get(g + 1); t++) {
+                int id = aNGramTokens.get(t);
+                if (lastNGram[id] != g) {
+                    lastNGram[id] = g;
+                    postings[fill[id]++] = g;
+                }
+            }
+        }
+
+        File dir = outputFile.getAbsoluteFile().getParentFile();
+        if (dir != null) {
+            dir.mkdirs();
+        }
+        // The target may still be memory-mapped by a loaded index, so it must not be truncated
+        Path target = outputFile.toPath().toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(),
+                ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(temp), 1 << 16))) {
+                out.writeInt(NGramIndex.MAGIC);
+                out.writeInt(NGramIndex.VERSION);
+                out.writeInt(vocabularySize);
+                out.writeInt(ngramCount);
+                out.writeInt(aNGramTokens.size());
+                out.writeInt(postings.length);
+
+                int offset = 0;
+                out.writeInt(offset);
+                for (int i = 0; i < vocabularySize; i++) {
+                    offset += vocabulary[order[i]].length;
+                    out.writeInt(offset);
+                }
+                for (int i = 0; i <= ngramCount; i++) {
+                    out.writeInt(aNGramOffsets.get(i));
+                }
+                for (int i = 0; i < aNGramTokens.size(); i++) {
+                    out.writeInt(aNGramTokens.get(i));
+                }
+                for (int i = 0; i < ngramCount; i++) {
+                    out.writeInt(aNGramFreqs.get(i));
+                }
+                for (int offs : postingOffsets) {
+                    out.writeInt(offs);
+                }
+                for (int posting : postings) {
+                    out.writeInt(posting);
+                }
+                for (int i = 0; i < vocabularySize; i++) {
+                    out.write(vocabulary[order[i]]);
+                }
+            }
+
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally {
+            Files.deleteIfExists(temp);
+        }
+
+        log.info("Indexed " + ngramCount + " n-grams with " + vocabularySize + " distinct tokens");
+    }
+
+    private static class IntList
+    {
+        // The maximum size of an array, also limits the offsets and counts stored in the index
+        private static final int MAX_SIZE = Integer.MAX_VALUE - 8;
+
+        private final String name;
+        private int[] data = new int[1024];
+        private int size;
+
+        IntList(String aName)
+        {
+            name = aName;
+        }
+
+        void add(int aValue)
+            throws IOException
+        {
+            if (size == data.length) {
+                if (size == MAX_SIZE) {
+                    throw new IOException("Too many " + name + " for an n-gram index - at most ["
+                            + MAX_SIZE + "] are supported. Use a dictionary to restrict the "
+                            + "indexed n-grams.");
+                }
+                data = Arrays.copyOf(data, (int) Math.min(data.length * 2L, MAX_SIZE));
+            }
+            data[size++] = aValue;
+        }
+
+        int get(int aIndex)
+        {
+            return data[aIndex];
+        }
+
+        void set(int aIndex, int aValue)
+        {
+            data[aIndex] = aValue;
+        }
+
+        int size()
+        {
+            return size;
+        }
+    }
+}
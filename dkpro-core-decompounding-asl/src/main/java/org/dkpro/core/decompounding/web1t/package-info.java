@@ -19,8 +19,9 @@
 /**
  * This package contains all classes that are needed access the Google web1T data set.
  * 
- * The {@link org.dkpro.core.decompounding.web1t.LuceneIndexer} creates a Lucence
+ * The {@link org.dkpro.core.decompounding.web1t.NGramIndexer} creates an n-gram
  * index from the data set and the {@link org.dkpro.core.decompounding.web1t.Finder}
- * can be used to search on the Lucence index.
+ * can be used to search on the index. Lucene indexes created by the deprecated
+ * {@link org.dkpro.core.decompounding.web1t.LuceneIndexer} are still supported.
  */
 package org.dkpro.core.decompounding.web1t;
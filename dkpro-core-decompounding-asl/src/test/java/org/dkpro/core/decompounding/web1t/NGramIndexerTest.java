@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.decompounding.web1t;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class NGramIndexerTest
+{
+    private File source = new File("src/test/resources/n-grams");
+    private File jWeb1T = new File("src/test/resources/web1t/de");
+
+    @Test
+    public void testIndex(@TempDir File folder) throws Exception
+    {
+        File index = new File(folder, "ngrams.idx");
+        new NGramIndexer(source, index).index();
+
+        assertTrue(NGramIndex.isNGramIndex(index));
+        NGramIndex ngrams = NGramIndex.load(index);
+        assertEquals(3, ngrams.getNGramCount());
+
+        List<NGramModel> result = ngrams.find(new String[] { "Couch" }, 4);
+        assertEquals(1, result.size());
+        assertEquals("relax on the couch", result.get(0).getGram());
+        assertEquals(100, result.get(0).getFreq());
+
+        // "relax on the couch": two moves are needed to match "relax couch", four to match the
+        // reversed "couch relax"
+        assertEquals(1, ngrams.find(new String[] { "relax", "couch" }, 2).size());
+        assertEquals(0, ngrams.find(new String[] { "relax", "couch" }, 1).size());
+        assertEquals(1, ngrams.find(new String[] { "couch", "relax" }, 4).size());
+        assertEquals(0, ngrams.find(new String[] { "couch", "relax" }, 3).size());
+        assertEquals(0, ngrams.find(new String[] { "sofa" }, 4).size());
+    }
+
+    @Test
+    public void testReindexLoaded(@TempDir File folder) throws Exception
+    {
+        File index = new File(folder, "ngrams.idx");
+        new NGramIndexer(source, index).index();
+        NGramIndex ngrams = NGramIndex.load(index);
+
+        // Replacing the file must not affect the index which still maps the old file
+        new NGramIndexer(new File(source, "n-grams-2.txt"), index).index();
+        assertEquals(3, ngrams.getNGramCount());
+        assertEquals(1, ngrams.find(new String[] { "couch" }, 4).size());
+        assertEquals(1, NGramIndex.load(index).getNGramCount());
+        assertArrayEquals(new String[] { "ngrams.idx" }, folder.list());
+    }
+
+    @Test
+    public void testFinder(@TempDir File folder) throws Exception
+    {
+        File index = new File(folder, "ngrams.idx");
+        new NGramIndexer(source, index).index();
+
+        try (Finder f = new Finder(index, jWeb1T)) {
+            List<NGramModel> result = f.find("couch");
+            assertEquals(1, result.size());
+            assertEquals("relax on the couch", result.get(0).getGram());
+            assertEquals(4, result.get(0).getN());
+            assertEquals(100, result.get(0).getFreq());
+
+            result = f.find("relax couch");
+            assertEquals(1, result.size());
+            assertEquals("relax on the couch", result.get(0).getGram());
+
+            assertEquals(3, f.find("relax").size());
+            assertEquals(1, f.find("couchdb").size());
+        }
+    }
+
+    @Test
+    public void testSameResultsAsLucene(@TempDir File folder) throws Exception
+    {
+        // The Lucene index drops English stop words, so the n-grams do not contain any
+        File source = new File(folder, "n-grams");
+        source.mkdirs();
+        Files.write(new File(source, "n-grams.txt").toPath(), asList(
+                "haus garten baum\t10",
+                "garten haus\t20",
+                "baum blume wiese sonne haus\t30",
+                "sonne haus\t40",
+                "blume garten baum haus\t50",
+                "haus\t60"), UTF_8);
+
+        File index = new File(folder, "ngrams.idx");
+        new NGramIndexer(source, index).index();
+        File luceneIndex = new File(folder, "lucene");
+        new LuceneIndexer(source, luceneIndex).index();
+
+        String[] queries = { "haus", "Garten", "haus garten", "garten haus", "baum haus",
+                "haus baum", "sonne blume", "haus sonne", "wiese blume baum",
+                "blume haus garten", "haus baum garten", "garten blume", "blume sonne haus" };
+        int hits = 0;
+        try (Finder finder = new Finder(index, jWeb1T);
+                Finder luceneFinder = new Finder(luceneIndex, jWeb1T)) {
+            for (String query : queries) {
+                List<String> expected = toStrings(luceneFinder.find(query));
+                assertEquals(expected, toStrings(finder.find(query)), query);
+                hits += expected.size();
+            }
+
+            // Make sure the queries cover reordered tokens
+            assertEquals(asList("blume garten baum haus 50", "haus garten baum 10"),
+                    toStrings(finder.find("haus baum")));
+        }
+        assertTrue(hits > queries.length);
+    }
+
+    private static List<String> toStrings(List<NGramModel> aNGrams)
+    {
+        List<String> result = new ArrayList<>();
+        for (NGramModel ngram : aNGrams) {
+            result.add(ngram.getGram() + " " + ngram.getFreq());
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    @Test
+    public void testConcurrentFinder(@TempDir File folder) throws Exception
+    {
+        File index = new File(folder, "ngrams.idx");
+        new NGramIndexer(source, index).index();
+
+        try (Finder f = new Finder(index, jWeb1T, 2)) {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < 100; i++) {
+                    results.add(executor.submit(() ->
+                            f.find("relax").size() == 3
+                            && f.find("couch").size() == 1
+                            && f.find("relax couch").size() == 1
+                            && f.freq("relax").equals(f.freq("relax"))));
+                }
+                for (Future<Boolean> result : results) {
+                    assertTrue(result.get());
+                }
+            }
+            finally {
+                executor.shutdown();
+            }
+        }
+    }
+}
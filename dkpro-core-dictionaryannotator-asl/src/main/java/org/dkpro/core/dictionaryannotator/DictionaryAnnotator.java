@@ -21,10 +21,10 @@ import static org.apache.uima.fit.util.CasUtil.getType;
 import static org.apache.uima.fit.util.JCasUtil.select;
 import static org.apache.uima.fit.util.JCasUtil.selectCovered;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.io.IOUtils;
@@ -61,6 +61,10 @@ import eu.openminted.share.annotations.api.constants.OperationType;
  * this is a phrase
  * another phrase
  * </pre>
+ *
+ * Alternatively, the model can be a {@link PhraseAutomaton} which has been written to a file using
+ * {@link PhraseAutomaton#write(java.io.File)}. Such a model is memory-mapped instead of being
+ * parsed, which is considerably faster for large dictionaries.
  */
 @Component(OperationType.GAZETEER_BASED_MATCHER)
 @ResourceMetaData(name = "Dictionary Annotator")
@@ -73,7 +77,8 @@ public class DictionaryAnnotator
     extends JCasAnnotator_ImplBase
 {
     /**
-     * The file must contain one phrase per line - phrases will be split at " "
+     * The file must contain one phrase per line - phrases will be split at " ". Alternatively, the
+     * file may contain a compiled {@link PhraseAutomaton}.
      */
     public static final String PARAM_MODEL_LOCATION = ComponentParameters.PARAM_MODEL_LOCATION;
     @ConfigurationParameter(name = PARAM_MODEL_LOCATION, mandatory = true)
@@ -108,7 +113,7 @@ public class DictionaryAnnotator
     @ConfigurationParameter(name = PARAM_VALUE, mandatory = false)
     private String value;
 
-    private PhraseTree phrases;
+    private PhraseAutomaton phrases;
 
     @Override
     public void initialize(UimaContext aContext)
@@ -120,23 +125,25 @@ public class DictionaryAnnotator
             annotationType = NGram.class.getName();
         }
 
-        phrases = new PhraseTree();
-
-        InputStream is = null;
         try {
             URL phraseFileUrl = ResourceUtils.resolveLocation(phraseFile, aContext);
-            is = phraseFileUrl.openStream();
-            for (String inputLine : IOUtils.readLines(is, modelEncoding)) {
-                String[] phraseSplit = inputLine.split(" ");
-                phrases.addPhrase(phraseSplit);
+            try (InputStream is = new BufferedInputStream(phraseFileUrl.openStream())) {
+                if (PhraseAutomaton.isAutomaton(is)) {
+                    phrases = PhraseAutomaton.load(ResourceUtils.getUrlAsFile(phraseFileUrl,
+                            true));
+                }
+                else {
+                    PhraseAutomaton.Builder builder = new PhraseAutomaton.Builder();
+                    for (String inputLine : IOUtils.readLines(is, modelEncoding)) {
+                        builder.addPhrase(inputLine.split(" "));
+                    }
+                    phrases = builder.build();
+                }
             }
         }
         catch (IOException e) {
             throw new ResourceInitializationException(e);
         }
-        finally {
-            IOUtils.closeQuietly(is);
-        }
     }
 
     @Override
@@ -155,21 +162,19 @@ public class DictionaryAnnotator
         }
 
         for (Sentence currSentence : select(jcas, Sentence.class)) {
-            List<Token> tokens = new ArrayList<>(selectCovered(Token.class, currSentence));
-
-            for (int i = 0; i < tokens.size(); i++) {
-                List<Token> tokensToSentenceEnd = tokens.subList(i, tokens.size());
-                String[] sentenceToEnd = new String[tokens.size()];
+            List<Token> tokens = selectCovered(Token.class, currSentence);
 
-                for (int j = 0; j < tokensToSentenceEnd.size(); j++) {
-                    sentenceToEnd[j] = tokensToSentenceEnd.get(j).getText();
-                }
+            String[] tokenTexts = new String[tokens.size()];
+            for (int i = 0; i < tokenTexts.length; i++) {
+                tokenTexts[i] = tokens.get(i).getText();
+            }
 
-                String[] longestMatch = phrases.getLongestMatch(sentenceToEnd);
+            int[] longestMatches = phrases.getLongestMatches(tokenTexts);
 
-                if (longestMatch != null) {
+            for (int i = 0; i < longestMatches.length; i++) {
+                if (longestMatches[i] > 0) {
                     Token beginToken = tokens.get(i);
-                    Token endToken = tokens.get(i + longestMatch.length - 1);
+                    Token endToken = tokens.get(i + longestMatches[i] - 1);
 
                     AnnotationFS newFound = jcas.getCas().createAnnotation(type,
                             beginToken.getBegin(), endToken.getEnd());
@@ -0,0 +1,441 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.dictionaryannotator;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable token-level Aho-Corasick automaton over a set of phrases. Used by the
+ * {@link DictionaryAnnotator} to find the longest phrase starting at each token of a sentence in
+ * a single left-to-right pass over the tokens.
+ * <p>
+ * Tokens are mapped to integer symbols and the transitions of all states are packed into flat
+ * arrays sorted by symbol, so the automaton needs a few integers per state instead of a map per
+ * state like the {@link PhraseTree}. An automaton can be written to a file using
+ * {@link #write(File)} and loaded again using {@link #load(File)}, which memory-maps the
+ * transitions instead of parsing the phrases again.
+ */
+public class PhraseAutomaton
+{
+    /**
+     * The first four bytes of a file written by {@link #write(OutputStream)}.
+     */
+    public static final int MAGIC = 0x444b5041; // "DKPA"
+
+    private static final int VERSION = 1;
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final Map<String, Integer> symbols;
+
+    // The outgoing transitions of state s are firstEdge[s] to firstEdge[s + 1] - 1, sorted by
+    // symbol. States are numbered in breadth-first order, so the failure state of a state always
+    // has a smaller number than the state itself.
+    private final IntBuffer firstEdge;
+    private final IntBuffer edgeSymbols;
+    private final IntBuffer edgeTargets;
+    private final IntBuffer failure;
+    // Next state on the failure chain at which a phrase ends, or NONE
+    private final IntBuffer output;
+    // Length of the phrase ending at a state or 0 if no phrase ends there
+    private final IntBuffer lengths;
+    private final int stateCount;
+
+    private PhraseAutomaton(Map<String, Integer> aSymbols, IntBuffer aFirstEdge,
+            IntBuffer aEdgeSymbols, IntBuffer aEdgeTargets, IntBuffer aFailure, IntBuffer aOutput,
+            IntBuffer aLengths)
+    {
+        symbols = aSymbols;
+        firstEdge = aFirstEdge;
+        edgeSymbols = aEdgeSymbols;
+        edgeTargets = aEdgeTargets;
+        failure = aFailure;
+        output = aOutput;
+        lengths = aLengths;
+        stateCount = aLengths.limit();
+    }
+
+    /**
+     * @return the number of states of the automaton.
+     */
+    public int getStateCount()
+    {
+        return stateCount;
+    }
+
+    /**
+     * Finds the longest phrase starting at each token.
+     *
+     * @param aTokens
+     *            the tokens, e.g. of a sentence.
+     * @return for each token, the number of tokens of the longest phrase starting at that token
+     *         or 0 if no phrase starts there.
+     */
+    public int[] getLongestMatches(String[] aTokens)
+    {
+        int[] longest = new int[aTokens.length];
+
+        int state = ROOT;
+        for (int i = 0; i < aTokens.length; i++) {
+            Integer symbol = symbols.get(aTokens[i]);
+            if (symbol == null) {
+                // No phrase contains this token
+                state = ROOT;
+                continue;
+            }
+
+            int next = transition(state, symbol);
+            while (next == NONE && state != ROOT) {
+                state = failure.get(state);
+                next = transition(state, symbol);
+            }
+            state = next == NONE ? ROOT : next;
+
+            // Visit all phrases ending at the current token
+            int match = lengths.get(state) > 0 ? state : output.get(state);
+            while (match != NONE) {
+                int length = lengths.get(match);
+                int begin = i - length + 1;
+                if (length > longest[begin]) {
+                    longest[begin] = length;
+                }
+                match = output.get(match);
+            }
+        }
+
+        return longest;
+    }
+
+    private void linkFailures()
+    {
+        // The failure state of a state is the state of its longest proper suffix. Since the
+        // states are numbered in breadth-first order, the failure state of the parent is known.
+        output.put(ROOT, NONE);
+        for (int state = 0; state < stateCount; state++) {
+            for (int e = firstEdge.get(state); e < firstEdge.get(state + 1); e++) {
+                int symbol = edgeSymbols.get(e);
+                int child = edgeTargets.get(e);
+
+                int fail = ROOT;
+                if (state != ROOT) {
+                    int candidate = failure.get(state);
+                    int next = transition(candidate, symbol);
+                    while (next == NONE && candidate != ROOT) {
+                        candidate = failure.get(candidate);
+                        next = transition(candidate, symbol);
+                    }
+                    fail = next == NONE ? ROOT : next;
+                }
+                failure.put(child, fail);
+                output.put(child, lengths.get(fail) > 0 ? fail : output.get(fail));
+            }
+        }
+    }
+
+    private int transition(int aState, int aSymbol)
+    {
+        int low = firstEdge.get(aState);
+        int high = firstEdge.get(aState + 1) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int symbol = edgeSymbols.get(mid);
+            if (symbol < aSymbol) {
+                low = mid + 1;
+            }
+            else if (symbol > aSymbol) {
+                high = mid - 1;
+            }
+            else {
+                return edgeTargets.get(mid);
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Writes the automaton to the given file such that it can be loaded using
+     * {@link #load(File)}. The automaton is written to a temporary file which then replaces the
+     * target file, so automata previously loaded from the target file remain usable.
+     *
+     * @param aFile
+     *            the file.
+     * @throws IOException
+     *             if the file cannot be written.
+     */
+    public void write(File aFile)
+        throws IOException
+    {
+        // The target may still be memory-mapped by a loaded automaton, so it must not be
+        // truncated
+        Path target = aFile.toPath().toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(),
+                ".tmp");
+        try {
+            try (OutputStream os = Files.newOutputStream(temp)) {
+                write(os);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Writes the automaton to the given stream. The stream is not closed.
+     *
+     * @param aStream
+     *            the stream.
+     * @throws IOException
+     *             if the automaton cannot be written.
+     */
+    public void write(OutputStream aStream)
+        throws IOException
+    {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(aStream));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+
+        String[] symbolTable = new String[symbols.size()];
+        for (Map.Entry<String, Integer> e : symbols.entrySet()) {
+            symbolTable[e.getValue()] = e.getKey();
+        }
+        out.writeInt(symbolTable.length);
+        for (String symbol : symbolTable) {
+            byte[] bytes = symbol.getBytes(UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        out.writeInt(stateCount);
+        out.writeInt(edgeSymbols.limit());
+        for (IntBuffer buffer : new IntBuffer[] { firstEdge, edgeSymbols, edgeTargets, failure,
+                output, lengths }) {
+            for (int i = 0; i < buffer.limit(); i++) {
+                out.writeInt(buffer.get(i));
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Checks if the given stream starts with an automaton as written by
+     * {@link #write(OutputStream)}. The stream must support {@link InputStream#mark(int) marking}
+     * and is reset to its original position.
+     *
+     * @param aStream
+     *            the stream.
+     * @return whether the stream contains an automaton.
+     * @throws IOException
+     *             if the stream cannot be read.
+     */
+    public static boolean isAutomaton(InputStream aStream)
+        throws IOException
+    {
+        aStream.mark(4);
+        try {
+            int magic = 0;
+            for (int i = 0; i < 4; i++) {
+                int b = aStream.read();
+                if (b == -1) {
+                    return false;
+                }
+                magic = (magic << 8) | b;
+            }
+            return magic == MAGIC;
+        }
+        finally {
+            aStream.reset();
+        }
+    }
+
+    /**
+     * Loads an automaton written by {@link #write(File)}. Only the tokens are read into memory,
+     * the transitions are memory-mapped.
+     *
+     * @param aFile
+     *            the file.
+     * @return the automaton.
+     * @throws IOException
+     *             if the file cannot be read or does not contain an automaton.
+     */
+    public static PhraseAutomaton load(File aFile)
+        throws IOException
+    {
+        ByteBuffer buffer;
+        try (RandomAccessFile raf = new RandomAccessFile(aFile, "r");
+                FileChannel channel = raf.getChannel()) {
+            // The mapping remains valid after the channel has been closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.remaining() < 8 || buffer.getInt() != MAGIC) {
+            throw new IOException("[" + aFile + "] does not contain a phrase automaton");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported phrase automaton version [" + version + "] in ["
+                    + aFile + "]");
+        }
+
+        int symbolCount = buffer.getInt();
+        Map<String, Integer> symbols = new HashMap<>(symbolCount * 4 / 3 + 1);
+        for (int i = 0; i < symbolCount; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            symbols.put(new String(bytes, UTF_8), i);
+        }
+
+        int stateCount = buffer.getInt();
+        int edgeCount = buffer.getInt();
+        IntBuffer firstEdge = slice(buffer, stateCount + 1);
+        IntBuffer edgeSymbols = slice(buffer, edgeCount);
+        IntBuffer edgeTargets = slice(buffer, edgeCount);
+        IntBuffer failure = slice(buffer, stateCount);
+        IntBuffer output = slice(buffer, stateCount);
+        IntBuffer lengths = slice(buffer, stateCount);
+
+        return new PhraseAutomaton(symbols, firstEdge, edgeSymbols, edgeTargets, failure, output,
+                lengths);
+    }
+
+    private static IntBuffer slice(ByteBuffer aBuffer, int aLength)
+    {
+        ByteBuffer slice = aBuffer.slice();
+        slice.limit(aLength * Integer.BYTES);
+        aBuffer.position(aBuffer.position() + aLength * Integer.BYTES);
+        return slice.asIntBuffer();
+    }
+
+    /**
+     * Collects phrases and builds a {@link PhraseAutomaton} from them.
+     */
+    public static class Builder
+    {
+        private final Map<String, Integer> symbols = new HashMap<>();
+        private final List<int[]> phrases = new ArrayList<>();
+        private int tokenCount;
+
+        /**
+         * Add a phrase, each array entry is a phrase token. Empty phrases are ignored.
+         *
+         * @param aPhraseParts
+         *            the phrase.
+         * @return the builder.
+         */
+        public Builder addPhrase(String... aPhraseParts)
+        {
+            if (aPhraseParts.length == 0) {
+                return this;
+            }
+
+            int[] phrase = new int[aPhraseParts.length];
+            for (int i = 0; i < aPhraseParts.length; i++) {
+                Integer symbol = symbols.get(aPhraseParts[i]);
+                if (symbol == null) {
+                    symbol = symbols.size();
+                    symbols.put(aPhraseParts[i], symbol);
+                }
+                phrase[i] = symbol;
+            }
+            phrases.add(phrase);
+            tokenCount += phrase.length;
+            return this;
+        }
+
+        public PhraseAutomaton build()
+        {
+            int[][] sorted = phrases.toArray(new int[phrases.size()][]);
+            // After sorting, the phrases sharing a prefix are adjacent, a phrase comes before all
+            // phrases it is a prefix of, and the next tokens are in ascending order
+            Arrays.sort(sorted, Arrays::compare);
+
+            int maxStates = tokenCount + 1;
+            int[] firstEdge = new int[maxStates + 1];
+            int[] edgeSymbols = new int[maxStates - 1];
+            int[] edgeTargets = new int[maxStates - 1];
+            int[] lengths = new int[maxStates];
+
+            // The range of phrases sharing the prefix leading to each state and its length
+            int[] rangeBegin = new int[maxStates];
+            int[] rangeEnd = new int[maxStates];
+            int[] depths = new int[maxStates];
+            rangeEnd[ROOT] = sorted.length;
+
+            // Create the states in breadth-first order
+            int stateCount = 1;
+            int edgeCount = 0;
+            for (int state = 0; state < stateCount; state++) {
+                firstEdge[state] = edgeCount;
+                int depth = depths[state];
+                int i = rangeBegin[state];
+                int end = rangeEnd[state];
+                while (i < end && sorted[i].length == depth) {
+                    lengths[state] = depth;
+                    i++;
+                }
+                while (i < end) {
+                    int symbol = sorted[i][depth];
+                    int j = i + 1;
+                    while (j < end && sorted[j][depth] == symbol) {
+                        j++;
+                    }
+                    int child = stateCount++;
+                    rangeBegin[child] = i;
+                    rangeEnd[child] = j;
+                    depths[child] = depth + 1;
+                    edgeSymbols[edgeCount] = symbol;
+                    edgeTargets[edgeCount] = child;
+                    edgeCount++;
+                    i = j;
+                }
+            }
+            firstEdge[stateCount] = edgeCount;
+
+            PhraseAutomaton automaton = new PhraseAutomaton(new HashMap<>(symbols),
+                    IntBuffer.wrap(Arrays.copyOf(firstEdge, stateCount + 1)),
+                    IntBuffer.wrap(Arrays.copyOf(edgeSymbols, edgeCount)),
+                    IntBuffer.wrap(Arrays.copyOf(edgeTargets, edgeCount)),
+                    IntBuffer.allocate(stateCount), IntBuffer.allocate(stateCount),
+                    IntBuffer.wrap(Arrays.copyOf(lengths, stateCount)));
+            automaton.linkFailures();
+            return automaton;
+        }
+    }
+}
@@ -23,6 +23,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.File;
+
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.uima.analysis_engine.AnalysisEngine;
 import org.apache.uima.analysis_engine.AnalysisEngineProcessException;
@@ -30,6 +32,7 @@ import org.apache.uima.fit.factory.JCasFactory;
 import org.apache.uima.fit.testing.factory.TokenBuilder;
 import org.apache.uima.jcas.JCas;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import de.tudarmstadt.ukp.dkpro.core.api.ner.type.NamedEntity;
 import de.tudarmstadt.ukp.dkpro.core.api.segmentation.type.Sentence;
@@ -134,4 +137,27 @@ public class DictionaryAnnotatorTest
         assertEquals("PERSON", ne.getValue());
         assertEquals("John Silver", ne.getCoveredText());
     }
+
+    @Test
+    public void testCompiledModel(@TempDir File aTempDir) throws Exception
+    {
+        File model = new File(aTempDir, "persons.bin");
+        new PhraseAutomaton.Builder()
+                .addPhrase("John", "Silver")
+                .build()
+                .write(model);
+
+        AnalysisEngine ae = createEngine(DictionaryAnnotator.class,
+                DictionaryAnnotator.PARAM_ANNOTATION_TYPE, NamedEntity.class,
+                DictionaryAnnotator.PARAM_MODEL_LOCATION, model);
+
+        JCas jcas = JCasFactory.createJCas();
+        TokenBuilder<Token, Sentence> tb = new TokenBuilder<>(Token.class, Sentence.class);
+        tb.buildTokens(jcas, "I am John Silver 's ghost .");
+
+        ae.process(jcas);
+
+        NamedEntity ne = selectSingle(jcas, NamedEntity.class);
+        assertEquals("John Silver", ne.getCoveredText());
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.dictionaryannotator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PhraseAutomatonTest
+{
+    private PhraseAutomaton phrases;
+
+    @BeforeEach
+    public void setUp()
+        throws Exception
+    {
+        phrases = new PhraseAutomaton.Builder()
+                .addPhrase("the red dog".split(" "))
+                .addPhrase("the red".split(" "))
+                .addPhrase("the new kid".split(" "))
+                .addPhrase("red dog barks loudly".split(" "))
+                .addPhrase("a".split(" "))
+                .build();
+    }
+
+    @Test
+    public void matchTest()
+        throws Exception
+    {
+        assertArrayEquals(new int[] { 3, 0, 0, 0 },
+                phrases.getLongestMatches("the red dog whines".split(" ")));
+        assertArrayEquals(new int[] { 0 }, phrases.getLongestMatches("the".split(" ")));
+        assertArrayEquals(new int[] { 0, 0 }, phrases.getLongestMatches("red dog".split(" ")));
+        assertArrayEquals(new int[] { 0, 0 }, phrases.getLongestMatches("the new".split(" ")));
+        assertArrayEquals(new int[0], phrases.getLongestMatches(new String[0]));
+
+        // Overlapping phrases and phrases following a partial match
+        assertArrayEquals(new int[] { 3, 4, 0, 0, 0, 0, 2, 0, 1 },
+                phrases.getLongestMatches(
+                        "the red dog barks loudly the the red a".split(" ")));
+
+        // The longest phrase is found even if a longer phrase is started but not completed
+        assertArrayEquals(new int[] { 2, 0, 0 },
+                phrases.getLongestMatches("the red cat".split(" ")));
+    }
+
+    @Test
+    public void randomTest()
+        throws Exception
+    {
+        Random rnd = new Random(42);
+
+        PhraseAutomaton.Builder builder = new PhraseAutomaton.Builder();
+        Set<List<String>> dictionary = new HashSet<>();
+        for (int n = 0; n < 500; n++) {
+            String[] phrase = randomTokens(rnd, 1 + rnd.nextInt(4));
+            dictionary.add(List.of(phrase));
+            builder.addPhrase(phrase);
+        }
+        PhraseAutomaton automaton = builder.build();
+
+        for (int n = 0; n < 200; n++) {
+            String[] sentence = randomTokens(rnd, rnd.nextInt(50));
+            assertArrayEquals(naiveLongestMatches(dictionary, sentence),
+                    automaton.getLongestMatches(sentence));
+        }
+    }
+
+    @Test
+    public void writeLoadTest(@TempDir File aTempDir)
+        throws Exception
+    {
+        File file = new File(aTempDir, "phrases.bin");
+        phrases.write(file);
+
+        try (InputStream is = new BufferedInputStream(new FileInputStream(file))) {
+            assertTrue(PhraseAutomaton.isAutomaton(is));
+        }
+        assertFalse(PhraseAutomaton.isAutomaton(new BufferedInputStream(
+                new ByteArrayInputStream("the red dog".getBytes("UTF-8")))));
+
+        PhraseAutomaton loaded = PhraseAutomaton.load(file);
+        assertEquals(phrases.getStateCount(), loaded.getStateCount());
+        String[] sentence = "the red dog barks loudly the the red a".split(" ");
+        assertArrayEquals(phrases.getLongestMatches(sentence), loaded.getLongestMatches(sentence));
+    }
+
+    @Test
+    public void overwriteLoadedTest(@TempDir File aTempDir)
+        throws Exception
+    {
+        File file = new File(aTempDir, "phrases.bin");
+        phrases.write(file);
+        PhraseAutomaton loaded = PhraseAutomaton.load(file);
+        String[] sentence = "the red dog barks loudly the the red a".split(" ");
+        int[] expected = phrases.getLongestMatches(sentence);
+
+        // Replacing the file must not affect the automaton which still maps the old file
+        PhraseAutomaton other = new PhraseAutomaton.Builder()
+                .addPhrase("barks", "loudly")
+                .build();
+        other.write(file);
+
+        assertArrayEquals(expected, loaded.getLongestMatches(sentence));
+        assertArrayEquals(other.getLongestMatches(sentence),
+                PhraseAutomaton.load(file).getLongestMatches(sentence));
+        assertArrayEquals(new String[] { "phrases.bin" }, aTempDir.list());
+    }
+
+    private static String[] randomTokens(Random aRnd, int aLength)
+    {
+        // A small vocabulary produces many overlapping phrases
+        String[] tokens = new String[aLength];
+        for (int i = 0; i < aLength; i++) {
+            tokens[i] = String.valueOf((char) ('a' + aRnd.nextInt(5)));
+        }
+        return tokens;
+    }
+
+    private static int[] naiveLongestMatches(Set<List<String>> aDictionary, String[] aSentence)
+    {
+        int[] longest = new int[aSentence.length];
+        for (int begin = 0; begin < aSentence.length; begin++) {
+            List<String> candidate = new ArrayList<>();
+            for (int end = begin; end < aSentence.length; end++) {
+                candidate.add(aSentence[end]);
+                if (aDictionary.contains(candidate)) {
+                    longest[begin] = candidate.size();
+                }
+            }
+        }
+        return longest;
+    }
+}
@@ -20,10 +20,13 @@ package org.dkpro.core.frequency.phrasedetection;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
-import org.apache.commons.collections4.Bag;
-import org.apache.commons.collections4.bag.HashBag;
 import org.apache.uima.UimaContext;
 import org.apache.uima.analysis_engine.AnalysisEngineProcessException;
 import org.apache.uima.fit.descriptor.ConfigurationParameter;
@@ -136,8 +139,19 @@ public class FrequencyWriter
     @ConfigurationParameter(name = PARAM_REGEX_REPLACEMENT, mandatory = true, defaultValue = "")
     private String regexReplacement;
 
-    private Bag<String> unigrams;
-    private Bag<String> bigrams;
+    /**
+     * If true, write the counts in a compact binary format instead of the text format. Binary
+     * models are considerably faster to load by the {@link PhraseAnnotator}. The sorting options
+     * do not apply to binary models.
+     */
+    public static final String PARAM_BINARY_MODEL = "binaryModel";
+    @ConfigurationParameter(name = PARAM_BINARY_MODEL, mandatory = true, defaultValue = "false")
+    private boolean binaryModel;
+
+    private Map<String, Integer> ids;
+    private List<String> tokens;
+    private int[] unigrams;
+    private LongIntHashMap bigrams;
     private StringSequenceGenerator sequenceGenerator;
 
     @Override
@@ -150,8 +164,10 @@ public class FrequencyWriter
                     "Can only sort either by count or alphabetically."));
         }
 
-        unigrams = new HashBag<>();
-        bigrams = new HashBag<>();
+        ids = new HashMap<>();
+        tokens = new ArrayList<>();
+        unigrams = new int[1024];
+        bigrams = new LongIntHashMap();
 
         /* init sequence generator */
         try {
@@ -178,20 +194,19 @@ public class FrequencyWriter
             /* iterate over sequences (e.g. sentences)*/
             for (String[] sequence : sequenceGenerator.tokenSequences(aJCas)) {
                 /* iterate over tokens in sequence */
+                int previous = -1;
                 for (int i = 0; i < sequence.length; i++) {
                     /* count unigrams */
-                    String unigram = sequence[i]
+                    int id = getId(sequence[i]
                             .replaceAll(COLUMN_SEPARATOR, COLUMN_SEP_REPLACEMENT)
-                            .replaceAll(NEWLINE_REGEX, COLUMN_SEP_REPLACEMENT);
-                    unigrams.add(unigram);
+                            .replaceAll(NEWLINE_REGEX, COLUMN_SEP_REPLACEMENT));
+                    unigrams[id]++;
 
                     /* count bigrams */
-                    if (i + 1 < sequence.length) {
-                        String bigram = unigram + BIGRAM_SEPARATOR + sequence[i + 1]
-                                .replaceAll(COLUMN_SEPARATOR, COLUMN_SEP_REPLACEMENT)
-                                .replaceAll(NEWLINE_REGEX, COLUMN_SEP_REPLACEMENT);
-                        bigrams.add(bigram);
+                    if (previous >= 0) {
+                        bigrams.increment(LongIntHashMap.key(previous, id));
                     }
+                    previous = id;
                 }
             }
         }
@@ -200,18 +215,37 @@ public class FrequencyWriter
         }
     }
 
+    private int getId(String aToken)
+    {
+        Integer id = ids.get(aToken);
+        if (id == null) {
+            id = tokens.size();
+            ids.put(aToken, id);
+            tokens.add(aToken);
+            if (id == unigrams.length) {
+                unigrams = Arrays.copyOf(unigrams, unigrams.length * 2);
+            }
+        }
+        return id;
+    }
+
     @Override
     public void collectionProcessComplete()
             throws AnalysisEngineProcessException
     {
-        getLogger().info("Vocabulary size: " + unigrams.uniqueSet().size());
+        getLogger().info("Vocabulary size: " + tokens.size());
         try {
             getLogger().info("Writing frequencies to " + getTargetLocation());
             OutputStream os = CompressionUtils.getOutputStream(new File(getTargetLocation()));
 
-            writeNgrams(os, unigrams);
-            os.write((NGRAM_SEPARATOR_LINE + "\n").getBytes());
-            writeNgrams(os, bigrams);
+            if (binaryModel) {
+                createModel().write(os);
+            }
+            else {
+                writeNgrams(os, unigramCounts());
+                os.write((NGRAM_SEPARATOR_LINE + "\n").getBytes());
+                writeNgrams(os, bigramCounts());
+            }
             os.close();
         }
         catch (IOException e) {
@@ -219,17 +253,67 @@ public class FrequencyWriter
         }
     }
 
+    private Map<String, Integer> unigramCounts()
+    {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int id = 0; id < tokens.size(); id++) {
+            counts.put(tokens.get(id), unigrams[id]);
+        }
+        return counts;
+    }
+
+    private Map<String, Integer> bigramCounts()
+    {
+        Map<String, Integer> counts = new HashMap<>();
+        // Different pairs of tokens containing the separator can result in the same string
+        bigrams.forEach((key, count) -> counts.merge(tokens.get(LongIntHashMap.first(key))
+                + BIGRAM_SEPARATOR + tokens.get(LongIntHashMap.second(key)), count, Integer::sum));
+        return counts;
+    }
+
+    /**
+     * Create a model containing the n-grams occurring at least {@link #minCount} times.
+     */
+    private PhraseModel createModel()
+    {
+        Map<String, Integer> modelIds = new HashMap<>();
+        int[] newIds = new int[tokens.size()];
+        int[] modelUnigrams = new int[tokens.size()];
+        for (int id = 0; id < tokens.size(); id++) {
+            if (unigrams[id] >= minCount) {
+                newIds[id] = modelIds.size();
+                modelUnigrams[modelIds.size()] = unigrams[id];
+                modelIds.put(tokens.get(id), newIds[id]);
+            }
+            else {
+                newIds[id] = -1;
+            }
+        }
+
+        // A bigram never occurs more often than its tokens, so both tokens are in the model
+        LongIntHashMap modelBigrams = new LongIntHashMap();
+        bigrams.forEach((key, count) -> {
+            if (count >= minCount) {
+                modelBigrams.put(LongIntHashMap.key(newIds[LongIntHashMap.first(key)],
+                        newIds[LongIntHashMap.second(key)]), count);
+            }
+        });
+
+        return new PhraseModel(modelIds, Arrays.copyOf(modelUnigrams, modelIds.size()),
+                modelBigrams);
+    }
+
     /**
-     * Write counter with counts from a bag to an output stream.
+     * Write counter with counts from a map to an output stream.
      *
      * @param os      an {@link OutputStream}
-     * @param counter a {@link Bag} of string counter
+     * @param counter a map of string counts
      */
-    private void writeNgrams(OutputStream os, Bag<String> counter)
+    private void writeNgrams(OutputStream os, Map<String, Integer> counter)
     {
         /* create token stream */
-        Stream<String> stream = counter.uniqueSet().stream()
-                .filter(token -> counter.getCount(token) >= minCount);
+        Stream<String> stream = counter.keySet().stream()
+                .filter(token -> counter.get(token) >= minCount);
 
         /* sort output */
         if (sortByAlphabet) {
@@ -237,13 +321,13 @@ public class FrequencyWriter
         }
         else if (sortByCount) {
             stream = stream.sorted((o1, o2) ->
-                    -Integer.compare(counter.getCount(o1), counter.getCount(o2)));
+                    -Integer.compare(counter.get(o1), counter.get(o2)));
         }
 
         /* write tokens with counts */
         stream.forEach(token -> {
             try {
-                os.write((token + COLUMN_SEPARATOR + counter.getCount(token) + "\n").getBytes());
+                os.write((token + COLUMN_SEPARATOR + counter.get(token) + "\n").getBytes());
             }
             catch (IOException e) {
                 throw new RuntimeException(e);
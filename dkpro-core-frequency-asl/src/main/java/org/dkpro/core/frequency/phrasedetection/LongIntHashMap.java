@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.frequency.phrasedetection;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from non-negative {@code long} keys to {@code int} values. Used to
+ * store bigram counts keyed by the ids of the two tokens without boxing.
+ */
+final class LongIntHashMap
+{
+    private static final long EMPTY = -1;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    LongIntHashMap()
+    {
+        this(16);
+    }
+
+    LongIntHashMap(int aExpectedSize)
+    {
+        int capacity = Integer.highestOneBit(Math.max(16, aExpectedSize * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    static long key(int aFirst, int aSecond)
+    {
+        return ((long) aFirst << 32) | (aSecond & 0xffffffffL);
+    }
+
+    static int first(long aKey)
+    {
+        return (int) (aKey >>> 32);
+    }
+
+    static int second(long aKey)
+    {
+        return (int) aKey;
+    }
+
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * @return the value for the given key or 0 if there is none.
+     */
+    int get(long aKey)
+    {
+        int slot = find(aKey);
+        return keys[slot] == EMPTY ? 0 : values[slot];
+    }
+
+    boolean containsKey(long aKey)
+    {
+        return keys[find(aKey)] != EMPTY;
+    }
+
+    void put(long aKey, int aValue)
+    {
+        int slot = find(aKey);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = aKey;
+            size++;
+            values[slot] = aValue;
+            growIfNecessary();
+        }
+        else {
+            values[slot] = aValue;
+        }
+    }
+
+    void increment(long aKey)
+    {
+        int slot = find(aKey);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = aKey;
+            size++;
+            values[slot] = 1;
+            growIfNecessary();
+        }
+        else {
+            values[slot]++;
+        }
+    }
+
+    void forEach(EntryConsumer aConsumer)
+    {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                aConsumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private int find(long aKey)
+    {
+        if (aKey < 0) {
+            throw new IllegalArgumentException("Keys must not be negative");
+        }
+
+        int mask = keys.length - 1;
+        int slot = mix(aKey) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != aKey) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void growIfNecessary()
+    {
+        // Keep the load factor at or below 0.5
+        if (size * 2 <= keys.length) {
+            return;
+        }
+
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        Arrays.fill(keys, EMPTY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int mix(long aKey)
+    {
+        // Spread the bits of both token ids over the whole hash code
+        long h = aKey * 0x9e3779b97f4a7c15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer
+    {
+        void accept(long aKey, int aValue);
+    }
+}
@@ -19,13 +19,9 @@ package org.dkpro.core.frequency.phrasedetection;
 
 import static org.apache.uima.fit.util.JCasUtil.select;
 
-import java.io.BufferedReader;
-import java.io.FileInputStream;
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.apache.uima.UimaContext;
 import org.apache.uima.analysis_engine.AnalysisEngineProcessException;
@@ -35,10 +31,10 @@ import org.apache.uima.fit.descriptor.ResourceMetaData;
 import org.apache.uima.jcas.JCas;
 import org.apache.uima.jcas.cas.TOP;
 import org.apache.uima.resource.ResourceInitializationException;
+import org.apache.uima.util.Level;
 import org.dkpro.core.api.featurepath.FeaturePathException;
 import org.dkpro.core.api.io.sequencegenerator.PhraseSequenceGenerator;
 import org.dkpro.core.api.parameter.ComponentParameters;
-import org.dkpro.core.api.resources.CompressionUtils;
 
 import de.tudarmstadt.ukp.dkpro.core.api.segmentation.type.LexicalPhrase;
 import eu.openminted.share.annotations.api.DocumentationResource;
@@ -71,7 +67,8 @@ public class PhraseAnnotator
     private boolean lowercase;
 
     /**
-     * The file providing the uni-grams and bi-grams to use.
+     * The file providing the uni-grams and bi-grams to use, either in the text or in the binary
+     * format written by the {@link FrequencyWriter}.
      */
     public static final String PARAM_MODEL_LOCATION = ComponentParameters.PARAM_MODEL_LOCATION;
     @ConfigurationParameter(name = PARAM_MODEL_LOCATION, mandatory = true)
@@ -129,8 +126,7 @@ public class PhraseAnnotator
     @ConfigurationParameter(name = PARAM_COVERING_TYPE, mandatory = false)
     private String coveringType;
 
-    private Map<String, Integer> unigrams;
-    private Map<String, Integer> bigrams;
+    private PhraseModel model;
     private int vocabularySize;
 
     private PhraseSequenceGenerator sequenceGenerator;
@@ -152,13 +148,14 @@ public class PhraseAnnotator
                     .filterRegexReplacement(regexReplacement)
                     .build();
 
-            readCounts();
+            getLogger().info("Reading frequencies from " + modelLocation);
+            model = PhraseModel.load(new File(modelLocation));
         }
         catch (IOException e) {
             throw new ResourceInitializationException(e);
         }
 
-        vocabularySize = unigrams.size();
+        vocabularySize = model.getVocabularySize();
         getLogger().info("Vocabulary size: " + vocabularySize);
 
     }
@@ -181,33 +178,38 @@ public class PhraseAnnotator
         for (LexicalPhrase[] sequence : sequences) {
         /* iterate over sequences in document */
 
+            int[] ids = new int[sequence.length];
+            for (int i = 0; i < sequence.length; i++) {
+                ids[i] = model.getId(sequence[i].getText());
+            }
+
             for (int i = 0; i < sequence.length; i++) {
             /* iterate over tokens within sequence */
                 LexicalPhrase phrase1 = sequence[i];
-                String token1 = phrase1.getText();
                 LexicalPhrase newPhrase = phrase1;
 
-                if (i < sequence.length - 1) {
-                    /* do not look for bigram on last token */
-                    LexicalPhrase phrase2 = sequence[i + 1];
-                    String token2 = phrase2.getText();
-                    String bigram = token1 + FrequencyWriter.BIGRAM_SEPARATOR + token2;
+                if (i < sequence.length - 1 && ids[i] >= 0 && ids[i + 1] >= 0) {
+                    /* do not look for bigram on last token or unknown tokens */
+                    int bigramCount = model.getBigramCount(ids[i], ids[i + 1]);
 
-                    if (bigrams.containsKey(bigram)) {
-                        assert unigrams.containsKey(token1);
-                        assert unigrams.containsKey(token2);
+                    if (bigramCount > 0) {
+                        LexicalPhrase phrase2 = sequence[i + 1];
 
                         /* compute score */
-                        double score =
-                                (double) ((bigrams.get(bigram) - discount) * vocabularySize) /
-                                        (double) (unigrams.get(token1) * unigrams.get(token2));
-                        getLogger().debug(bigram + "\t" + score);
+                        double score = (double) ((bigramCount - discount) * vocabularySize) /
+                                (double) (model.getUnigramCount(ids[i])
+                                        * model.getUnigramCount(ids[i + 1]));
+                        if (getLogger().isLoggable(Level.FINE)) {
+                            getLogger().debug(phrase1.getText() + FrequencyWriter.BIGRAM_SEPARATOR
+                                    + phrase2.getText() + "\t" + score);
+                        }
 
                         if (score >= threshold) {
                         /* bigram phrase spanning two tokens found */
                             newPhrase = new LexicalPhrase(aJCas, phrase1.getBegin(),
                                     phrase2.getEnd());
-                            newPhrase.setText(bigram);
+                            newPhrase.setText(phrase1.getText() + FrequencyWriter.BIGRAM_SEPARATOR
+                                    + phrase2.getText());
                             i++;    // skip succeeding token
                         }
                     }
@@ -217,57 +219,4 @@ public class PhraseAnnotator
             }
         }
     }
-
-    /**
-     * Read the input file, adding unigrams and bigrams to the respective maps.
-     *
-     * @throws IOException if the input file cannot be read
-     */
-    private void readCounts()
-            throws IOException
-    {
-        unigrams = new HashMap<>();
-        bigrams = new HashMap<>();
-
-        getLogger().info("Reading frequencies from " + modelLocation);
-        BufferedReader reader = new BufferedReader(new InputStreamReader(CompressionUtils
-                .getInputStream(modelLocation, new FileInputStream(modelLocation))));
-        boolean countingUnigrams = true;
-
-        String line;
-        while ((line = reader.readLine()) != null) {
-            if (line.equals(FrequencyWriter.NGRAM_SEPARATOR_LINE)) {
-                /* this should only happen once per file */
-                if (!countingUnigrams) {
-                    throw new IllegalStateException(
-                            "Error reading input file; contains multiple separation lines.");
-                }
-                countingUnigrams = false;
-            }
-            else {
-                String[] columns = line.split(FrequencyWriter.COLUMN_SEPARATOR);
-                if (columns.length != 2) {
-                    throw new IllegalStateException("Invalid line in input file:\n" + line);
-                }
-                String token = columns[0];
-                int count = Integer.parseInt(columns[1]);
-
-                if (countingUnigrams) {
-                    if (unigrams.containsKey(token)) {
-                        throw new IllegalStateException(
-                                "Duplicate token in input file: '" + token + "'.");
-                    }
-                    unigrams.put(token, count);
-                }
-                else {
-                    if (bigrams.containsKey(token)) {
-                        throw new IllegalStateException(
-                                "Duplicate token in input file: '" + token + "'.");
-                    }
-                    bigrams.put(token, count);
-                }
-            }
-        }
-        reader.close();
-    }
 }
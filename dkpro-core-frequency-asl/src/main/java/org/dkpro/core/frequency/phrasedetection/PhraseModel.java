@@ -0,0 +1,318 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.frequency.phrasedetection;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dkpro.core.api.resources.CompressionUtils;
+
+/**
+ * Unigram and bigram counts as written by the {@link FrequencyWriter} and used by the
+ * {@link PhraseAnnotator}. Each token is mapped to an integer id and the bigram counts are stored
+ * by the ids of their tokens, so no strings need to be created to look up a bigram.
+ * <p>
+ * The model can be read from the text format as well as from the binary format written by
+ * {@link #write(OutputStream)}. Loaded models are immutable and shared between all components
+ * which load the same file.
+ */
+public class PhraseModel
+{
+    /**
+     * The first four bytes of a model in the binary format.
+     */
+    public static final int MAGIC = 0x444b504d; // "DKPM"
+
+    private static final int VERSION = 1;
+
+    private static final Map<String, WeakReference<PhraseModel>> CACHE = new HashMap<>();
+
+    private final Map<String, Integer> ids;
+    private final int[] unigramCounts;
+    private final LongIntHashMap bigramCounts;
+
+    PhraseModel(Map<String, Integer> aIds, int[] aUnigramCounts, LongIntHashMap aBigramCounts)
+    {
+        ids = aIds;
+        unigramCounts = aUnigramCounts;
+        bigramCounts = aBigramCounts;
+    }
+
+    /**
+     * @return the number of distinct tokens.
+     */
+    public int getVocabularySize()
+    {
+        return unigramCounts.length;
+    }
+
+    /**
+     * @return the number of distinct bigrams.
+     */
+    public int getBigramCount()
+    {
+        return bigramCounts.size();
+    }
+
+    /**
+     * @param aToken
+     *            a token.
+     * @return the id of the token or -1 if the token is unknown.
+     */
+    public int getId(String aToken)
+    {
+        Integer id = ids.get(aToken);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * @param aId
+     *            a token id as returned by {@link #getId(String)}.
+     * @return the count of the token.
+     */
+    public int getUnigramCount(int aId)
+    {
+        return unigramCounts[aId];
+    }
+
+    /**
+     * @param aFirstId
+     *            the id of the first token.
+     * @param aSecondId
+     *            the id of the second token.
+     * @return the count of the bigram or 0 if the bigram is unknown.
+     */
+    public int getBigramCount(int aFirstId, int aSecondId)
+    {
+        return bigramCounts.get(LongIntHashMap.key(aFirstId, aSecondId));
+    }
+
+    /**
+     * Writes the model in the binary format.
+     *
+     * @param aStream
+     *            the stream. The stream is not closed.
+     * @throws IOException
+     *             if the model cannot be written.
+     */
+    public void write(OutputStream aStream)
+        throws IOException
+    {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(aStream));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+
+        String[] tokens = new String[unigramCounts.length];
+        ids.forEach((token, id) -> tokens[id] = token);
+        out.writeInt(tokens.length);
+        for (int id = 0; id < tokens.length; id++) {
+            byte[] bytes = tokens[id].getBytes(UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+            out.writeInt(unigramCounts[id]);
+        }
+
+        out.writeInt(bigramCounts.size());
+        IOException[] exception = new IOException[1];
+        bigramCounts.forEach((key, count) -> {
+            if (exception[0] != null) {
+                return;
+            }
+            try {
+                out.writeInt(LongIntHashMap.first(key));
+                out.writeInt(LongIntHashMap.second(key));
+                out.writeInt(count);
+            }
+            catch (IOException e) {
+                exception[0] = e;
+            }
+        });
+        if (exception[0] != null) {
+            throw exception[0];
+        }
+        out.flush();
+    }
+
+    /**
+     * Loads the model from the given file, which may be compressed. If the same unchanged file
+     * has been loaded before and the model is still in use, the same model is returned.
+     *
+     * @param aFile
+     *            the model file, either in the text or in the binary format.
+     * @return the model.
+     * @throws IOException
+     *             if the model cannot be read.
+     */
+    public static PhraseModel load(File aFile)
+        throws IOException
+    {
+        String key = aFile.getCanonicalPath() + "@" + aFile.lastModified();
+        synchronized (CACHE) {
+            WeakReference<PhraseModel> ref = CACHE.get(key);
+            PhraseModel model = ref != null ? ref.get() : null;
+            if (model == null) {
+                try (InputStream is = CompressionUtils.getInputStream(aFile.getPath(),
+                        new FileInputStream(aFile))) {
+                    model = read(is);
+                }
+                CACHE.values().removeIf(r -> r.get() == null);
+                CACHE.put(key, new WeakReference<>(model));
+            }
+            return model;
+        }
+    }
+
+    /**
+     * Reads a model from the given stream in the text or in the binary format.
+     *
+     * @param aStream
+     *            the stream. The stream is not closed.
+     * @return the model.
+     * @throws IOException
+     *             if the model cannot be read.
+     */
+    public static PhraseModel read(InputStream aStream)
+        throws IOException
+    {
+        BufferedInputStream is = new BufferedInputStream(aStream);
+        is.mark(4);
+        int magic = 0;
+        for (int i = 0; i < 4; i++) {
+            int b = is.read();
+            magic = (magic << 8) | (b & 0xff);
+            if (b == -1) {
+                // Too short for the binary format
+                magic = 0;
+                break;
+            }
+        }
+        is.reset();
+        if (magic == MAGIC) {
+            return readBinary(new DataInputStream(is));
+        }
+        else {
+            return readText(new BufferedReader(new InputStreamReader(is)));
+        }
+    }
+
+    private static PhraseModel readBinary(DataInputStream aIn)
+        throws IOException
+    {
+        aIn.readInt();
+        int version = aIn.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported phrase model version [" + version + "]");
+        }
+
+        int tokenCount = aIn.readInt();
+        Map<String, Integer> ids = new HashMap<>(tokenCount * 4 / 3 + 1);
+        int[] unigramCounts = new int[tokenCount];
+        for (int id = 0; id < tokenCount; id++) {
+            byte[] bytes = new byte[aIn.readInt()];
+            aIn.readFully(bytes);
+            ids.put(new String(bytes, UTF_8), id);
+            unigramCounts[id] = aIn.readInt();
+        }
+
+        int bigramCount = aIn.readInt();
+        LongIntHashMap bigramCounts = new LongIntHashMap(bigramCount);
+        for (int i = 0; i < bigramCount; i++) {
+            int first = aIn.readInt();
+            int second = aIn.readInt();
+            bigramCounts.put(LongIntHashMap.key(first, second), aIn.readInt());
+        }
+
+        return new PhraseModel(ids, unigramCounts, bigramCounts);
+    }
+
+    private static PhraseModel readText(BufferedReader aReader)
+        throws IOException
+    {
+        Map<String, Integer> ids = new HashMap<>();
+        List<Integer> unigramCounts = new ArrayList<>();
+        LongIntHashMap bigramCounts = new LongIntHashMap();
+        boolean countingUnigrams = true;
+
+        String line;
+        while ((line = aReader.readLine()) != null) {
+            if (line.equals(FrequencyWriter.NGRAM_SEPARATOR_LINE)) {
+                /* this should only happen once per file */
+                if (!countingUnigrams) {
+                    throw new IllegalStateException(
+                            "Error reading input file; contains multiple separation lines.");
+                }
+                countingUnigrams = false;
+                continue;
+            }
+
+            String[] columns = line.split(FrequencyWriter.COLUMN_SEPARATOR);
+            if (columns.length != 2) {
+                throw new IllegalStateException("Invalid line in input file:\n" + line);
+            }
+            String token = columns[0];
+            int count = Integer.parseInt(columns[1]);
+
+            if (countingUnigrams) {
+                if (ids.containsKey(token)) {
+                    throw new IllegalStateException(
+                            "Duplicate token in input file: '" + token + "'.");
+                }
+                ids.put(token, ids.size());
+                unigramCounts.add(count);
+            }
+            else {
+                // Tokens may themselves contain the separator, e.g. phrases from a previous
+                // run. Record the bigram for every split into two known tokens.
+                int split = token.indexOf(FrequencyWriter.BIGRAM_SEPARATOR);
+                while (split >= 0) {
+                    Integer first = ids.get(token.substring(0, split));
+                    Integer second = ids.get(token.substring(
+                            split + FrequencyWriter.BIGRAM_SEPARATOR.length()));
+                    if (first != null && second != null) {
+                        long key = LongIntHashMap.key(first, second);
+                        if (bigramCounts.containsKey(key)) {
+                            throw new IllegalStateException(
+                                    "Duplicate token in input file: '" + token + "'.");
+                        }
+                        bigramCounts.put(key, count);
+                    }
+                    split = token.indexOf(FrequencyWriter.BIGRAM_SEPARATOR, split + 1);
+                }
+            }
+        }
+
+        return new PhraseModel(ids, unigramCounts.stream().mapToInt(Integer::intValue).toArray(),
+                bigramCounts);
+    }
+}
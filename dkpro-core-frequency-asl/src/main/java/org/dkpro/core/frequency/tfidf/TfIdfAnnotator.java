@@ -18,7 +18,6 @@
 package org.dkpro.core.frequency.tfidf;
 
 import java.util.Locale;
-import java.util.Map.Entry;
 
 import org.apache.uima.UimaContext;
 import org.apache.uima.analysis_engine.AnalysisEngineProcessException;
@@ -27,11 +26,12 @@ import org.apache.uima.fit.component.JCasAnnotator_ImplBase;
 import org.apache.uima.fit.descriptor.ConfigurationParameter;
 import org.apache.uima.fit.descriptor.ResourceMetaData;
 import org.apache.uima.fit.descriptor.TypeCapability;
+import org.apache.uima.fit.util.CasUtil;
 import org.apache.uima.jcas.JCas;
 import org.apache.uima.resource.ResourceInitializationException;
 import org.apache.uima.util.Level;
+import org.dkpro.core.api.featurepath.CompiledFeaturePath;
 import org.dkpro.core.api.featurepath.FeaturePathException;
-import org.dkpro.core.api.featurepath.FeaturePathFactory;
 import org.dkpro.core.frequency.tfidf.model.DfModel;
 import org.dkpro.core.frequency.tfidf.model.DfStore;
 import org.dkpro.core.frequency.tfidf.model.SharedDfModel;
@@ -115,6 +115,7 @@ public class TfIdfAnnotator
     }
 
     private DfModel dfModel;
+    private CompiledFeaturePath compiledFeaturePath;
 
     @Override
     public void initialize(UimaContext context)
@@ -137,9 +138,11 @@ public class TfIdfAnnotator
         FreqDist<String> termFrequencies = getTermFrequencies(jcas);
 
         try {
-            for (Entry<AnnotationFS, String> entry : FeaturePathFactory.select(jcas.getCas(),
-                    featurePath)) {
-                String term = entry.getValue();
+            compiledFeaturePath = CompiledFeaturePath.compile(compiledFeaturePath,
+                    jcas.getTypeSystem(), featurePath);
+            for (AnnotationFS anno : CasUtil.select(jcas.getCas(),
+                    compiledFeaturePath.getAnchorType())) {
+                String term = compiledFeaturePath.getValue(anno);
                 if (lowercase) {
                     term = term.toLowerCase();
                 }
@@ -158,8 +161,8 @@ public class TfIdfAnnotator
                 Tfidf tfidfAnnotation = new Tfidf(jcas);
                 tfidfAnnotation.setTerm(term);
                 tfidfAnnotation.setTfidfValue(tfidf);
-                tfidfAnnotation.setBegin(entry.getKey().getBegin());
-                tfidfAnnotation.setEnd(entry.getKey().getEnd());
+                tfidfAnnotation.setBegin(anno.getBegin());
+                tfidfAnnotation.setEnd(anno.getEnd());
                 tfidfAnnotation.addToIndexes();
             }
         }
@@ -27,6 +27,7 @@ import org.apache.uima.resource.ResourceInitializationException;
 import org.dkpro.core.api.parameter.ComponentParameters;
 import org.dkpro.core.frequency.tfidf.model.DfModel;
 import org.dkpro.core.frequency.tfidf.model.DfStore;
+import org.dkpro.core.frequency.tfidf.model.MappedDfModel;
 import org.dkpro.core.frequency.tfidf.util.TermIterator;
 import org.dkpro.core.frequency.tfidf.util.TfidfUtils;
 
@@ -35,7 +36,9 @@ import eu.openminted.share.annotations.api.Parameters;
 
 /**
  * This consumer builds a {@link DfModel}. It collects the df (document frequency) counts for the
- * processed collection. The counts are serialized as a {@link DfModel}-object.
+ * processed collection. The counts are written in the format of the {@link MappedDfModel}, so
+ * they can be memory-mapped by the {@link TfIdfAnnotator}. Models written by several instances of
+ * this writer can be combined using {@link MappedDfModel#merge(java.util.List, java.io.File)}.
  */
 @ResourceMetaData(name = "TF/IDF Model Writer")
 @DocumentationResource("${docbase}/component-reference.html#engine-${shortClassName}")
@@ -93,7 +96,7 @@ public class TfIdfWriter
     }
 
     /**
-     * When this method is called by the framework, the dfModel is serialized.
+     * When this method is called by the framework, the dfModel is written.
      */
     @Override
     public void collectionProcessComplete()
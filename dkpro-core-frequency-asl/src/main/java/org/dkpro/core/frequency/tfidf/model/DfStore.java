@@ -84,6 +84,14 @@ public class DfStore
         return df.getCount(term);
     }
 
+    /**
+     * @return the terms for which document frequencies have been counted.
+     */
+    public Set<String> getTerms()
+    {
+        return df.getKeys();
+    }
+
     @Override
     public int getDocumentCount()
     {
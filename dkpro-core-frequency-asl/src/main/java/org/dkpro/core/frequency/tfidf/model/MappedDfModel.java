@@ -0,0 +1,590 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.frequency.tfidf.model;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Immutable {@link DfModel} backed by a memory-mapped file. Opening the model only maps the file,
+ * so the startup cost does not depend on the size of the vocabulary and processes on the same
+ * machine share the pages of the file via the operating system.
+ * <p>
+ * The terms are stored as UTF-8 bytes sorted in unsigned byte order and are looked up by binary
+ * search. Since the terms are sorted, models can be merged by streaming over them, see
+ * {@link #merge(List, File)}.
+ * <p>
+ * The file consists of:
+ * <ul>
+ * <li>{@link #MAGIC} and the format version</li>
+ * <li>the bytes of all terms, one after the other</li>
+ * <li>the index with the offset of each term and its document frequency</li>
+ * <li>the feature path, the lowercase flag, the document count, the number of terms, the offset
+ * of the index and finally the offset of this footer</li>
+ * </ul>
+ */
+public class MappedDfModel
+    implements DfModel
+{
+    private static final long serialVersionUID = -2373609226426520413L;
+
+    /**
+     * The first four bytes of a model file.
+     */
+    public static final int MAGIC = 0x444b4446; // "DKDF"
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 8;
+    private static final int INDEX_ENTRY_SIZE = 8;
+
+    private static final Map<String, WeakReference<MappedDfModel>> CACHE = new HashMap<>();
+
+    // The model is serialized by its file and mapped again when deserialized
+    private final File file;
+    private final transient ByteBuffer buffer;
+    private final transient String featurePath;
+    private final transient boolean lowercase;
+    private final transient int documentCount;
+    private final transient int termCount;
+    private final transient int indexOffset;
+
+    private MappedDfModel(File aFile)
+        throws IOException
+    {
+        file = aFile;
+        try (FileChannel channel = FileChannel.open(aFile.toPath())) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Model file [" + aFile + "] is larger than 2GB");
+            }
+            buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.capacity() < HEADER_SIZE + 4 || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a document frequency model [" + aFile + "]");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported document frequency model version [" + version
+                    + "]");
+        }
+
+        int pos = buffer.getInt(buffer.capacity() - 4);
+        int featurePathLength = buffer.getInt(pos);
+        pos += 4;
+        if (featurePathLength >= 0) {
+            byte[] bytes = new byte[featurePathLength];
+            buffer.duplicate().position(pos).get(bytes);
+            featurePath = new String(bytes, UTF_8);
+            pos += featurePathLength;
+        }
+        else {
+            featurePath = null;
+        }
+        lowercase = buffer.get(pos) != 0;
+        documentCount = buffer.getInt(pos + 1);
+        termCount = buffer.getInt(pos + 5);
+        indexOffset = buffer.getInt(pos + 9);
+    }
+
+    /**
+     * Opens the model in the given file. If the same unchanged file has already been opened and
+     * the model is still in use, the same model is returned.
+     *
+     * @param aFile
+     *            the model file.
+     * @return the model.
+     * @throws IOException
+     *             if the file cannot be opened or is not a model file.
+     */
+    public static MappedDfModel load(File aFile)
+        throws IOException
+    {
+        // The file key (e.g. the inode) changes when a writer replaces the file, even if the
+        // modification time does not due to a coarse timestamp resolution
+        BasicFileAttributes attributes = Files.readAttributes(aFile.toPath(),
+                BasicFileAttributes.class);
+        String key = aFile.getCanonicalPath() + "@" + attributes.lastModifiedTime().toMillis()
+                + "@" + attributes.fileKey();
+        synchronized (CACHE) {
+            WeakReference<MappedDfModel> ref = CACHE.get(key);
+            MappedDfModel model = ref != null ? ref.get() : null;
+            if (model == null) {
+                model = new MappedDfModel(aFile);
+                CACHE.values().removeIf(r -> r.get() == null);
+                CACHE.put(key, new WeakReference<>(model));
+            }
+            return model;
+        }
+    }
+
+    /**
+     * @param aFile
+     *            a file.
+     * @return whether the file starts with {@link #MAGIC}.
+     * @throws IOException
+     *             if the file cannot be read.
+     */
+    public static boolean isMappedDfModel(File aFile)
+        throws IOException
+    {
+        try (InputStream is = new FileInputStream(aFile)) {
+            return isMappedDfModel(is);
+        }
+    }
+
+    /**
+     * Checks whether the stream starts with {@link #MAGIC}. If the stream supports marks, it is
+     * reset to its original position.
+     *
+     * @param aStream
+     *            a stream.
+     * @return whether the stream starts with {@link #MAGIC}.
+     * @throws IOException
+     *             if the stream cannot be read.
+     */
+    public static boolean isMappedDfModel(InputStream aStream)
+        throws IOException
+    {
+        if (aStream.markSupported()) {
+            aStream.mark(4);
+        }
+        int magic = 0;
+        for (int i = 0; i < 4; i++) {
+            int b = aStream.read();
+            if (b == -1) {
+                magic = 0;
+                break;
+            }
+            magic = (magic << 8) | b;
+        }
+        if (aStream.markSupported()) {
+            aStream.reset();
+        }
+        return magic == MAGIC;
+    }
+
+    @Override
+    public int getDf(String aTerm)
+    {
+        int i = find(aTerm.getBytes(UTF_8));
+        return i >= 0 ? getDf(i) : 0;
+    }
+
+    @Override
+    public int getDocumentCount()
+    {
+        return documentCount;
+    }
+
+    @Override
+    public String getFeaturePath()
+    {
+        return featurePath;
+    }
+
+    @Override
+    public boolean getLowercase()
+    {
+        return lowercase;
+    }
+
+    /**
+     * @return the number of distinct terms.
+     */
+    public int getTermCount()
+    {
+        return termCount;
+    }
+
+    /**
+     * @param aIndex
+     *            the index of a term in the sort order.
+     * @return the term.
+     */
+    public String getTerm(int aIndex)
+    {
+        return new String(getTermBytes(aIndex), UTF_8);
+    }
+
+    /**
+     * @param aIndex
+     *            the index of a term in the sort order.
+     * @return the document frequency of the term.
+     */
+    public int getDf(int aIndex)
+    {
+        return buffer.getInt(indexOffset + aIndex * INDEX_ENTRY_SIZE + 4);
+    }
+
+    private int termStart(int aIndex)
+    {
+        return buffer.getInt(indexOffset + aIndex * INDEX_ENTRY_SIZE);
+    }
+
+    private int termEnd(int aIndex)
+    {
+        return aIndex + 1 < termCount ? termStart(aIndex + 1) : indexOffset;
+    }
+
+    private byte[] getTermBytes(int aIndex)
+    {
+        int start = termStart(aIndex);
+        byte[] bytes = new byte[termEnd(aIndex) - start];
+        buffer.duplicate().position(start).get(bytes);
+        return bytes;
+    }
+
+    private int find(byte[] aTerm)
+    {
+        int low = 0;
+        int high = termCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(mid, aTerm);
+            if (cmp < 0) {
+                low = mid + 1;
+            }
+            else if (cmp > 0) {
+                high = mid - 1;
+            }
+            else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int compare(int aIndex, byte[] aTerm)
+    {
+        int start = termStart(aIndex);
+        int length = termEnd(aIndex) - start;
+        int n = Math.min(length, aTerm.length);
+        for (int i = 0; i < n; i++) {
+            int cmp = Byte.toUnsignedInt(buffer.get(start + i)) - Byte.toUnsignedInt(aTerm[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return length - aTerm.length;
+    }
+
+    private Object readResolve()
+        throws ObjectStreamException
+    {
+        try {
+            return load(file);
+        }
+        catch (IOException e) {
+            InvalidObjectException ex = new InvalidObjectException(e.getMessage());
+            ex.initCause(e);
+            throw ex;
+        }
+    }
+
+    /**
+     * Writes the given model to a file.
+     *
+     * @param aModel
+     *            the model.
+     * @param aTerms
+     *            the terms of the model.
+     * @param aFile
+     *            the target file.
+     * @throws IOException
+     *             if the model cannot be written.
+     */
+    public static void write(DfModel aModel, Iterable<String> aTerms, File aFile)
+        throws IOException
+    {
+        List<byte[]> terms = new ArrayList<>();
+        for (String term : aTerms) {
+            terms.add(term.getBytes(UTF_8));
+        }
+        terms.sort(Arrays::compareUnsigned);
+
+        try (Writer writer = new Writer(aFile, aModel.getFeaturePath(), aModel.getLowercase())) {
+            writer.setDocumentCount(aModel.getDocumentCount());
+            for (byte[] term : terms) {
+                writer.add(term, aModel.getDf(new String(term, UTF_8)));
+            }
+            writer.commit();
+        }
+    }
+
+    /**
+     * Merges the models in the given files, e.g. models created from different parts of a
+     * collection. The document frequencies and document counts are summed up. The terms are
+     * streamed from the mapped input files, so the vocabulary is not loaded into memory.
+     *
+     * @param aInputs
+     *            the model files to merge.
+     * @param aOutput
+     *            the target file.
+     * @throws IOException
+     *             if a model cannot be read or the merged model cannot be written.
+     */
+    public static void merge(List<File> aInputs, File aOutput)
+        throws IOException
+    {
+        if (aInputs.isEmpty()) {
+            throw new IllegalArgumentException("No models to merge");
+        }
+
+        List<MappedDfModel> models = new ArrayList<>();
+        for (File input : aInputs) {
+            models.add(new MappedDfModel(input));
+        }
+
+        MappedDfModel first = models.get(0);
+        long documentCount = 0;
+        for (MappedDfModel model : models) {
+            if (!Objects.equals(first.featurePath, model.featurePath)
+                    || first.lowercase != model.lowercase) {
+                throw new IllegalArgumentException("Cannot merge model [" + model.file
+                        + "] with different feature path or lowercase setting");
+            }
+            documentCount += model.documentCount;
+        }
+        if (documentCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Merged document count exceeds integer range");
+        }
+
+        PriorityQueue<Cursor> queue = new PriorityQueue<>(
+                (a, b) -> Arrays.compareUnsigned(a.term, b.term));
+        for (MappedDfModel model : models) {
+            Cursor cursor = new Cursor(model);
+            if (cursor.next()) {
+                queue.add(cursor);
+            }
+        }
+
+        try (Writer writer = new Writer(aOutput, first.featurePath, first.lowercase)) {
+            writer.setDocumentCount((int) documentCount);
+            while (!queue.isEmpty()) {
+                Cursor cursor = queue.poll();
+                byte[] term = cursor.term;
+                long df = cursor.df;
+                if (cursor.next()) {
+                    queue.add(cursor);
+                }
+                while (!queue.isEmpty() && Arrays.equals(queue.peek().term, term)) {
+                    Cursor other = queue.poll();
+                    df += other.df;
+                    if (other.next()) {
+                        queue.add(other);
+                    }
+                }
+                writer.add(term, (int) Math.min(df, Integer.MAX_VALUE));
+            }
+            writer.commit();
+        }
+    }
+
+    private static class Cursor
+    {
+        private final MappedDfModel model;
+        private int index = -1;
+        byte[] term;
+        int df;
+
+        Cursor(MappedDfModel aModel)
+        {
+            model = aModel;
+        }
+
+        boolean next()
+        {
+            index++;
+            if (index >= model.termCount) {
+                return false;
+            }
+            term = model.getTermBytes(index);
+            df = model.getDf(index);
+            return true;
+        }
+    }
+
+    /**
+     * Writes a model file. The terms must be added in ascending unsigned byte order of their
+     * UTF-8 encoding. The index is buffered in a temporary file, so the terms are not kept in
+     * memory.
+     * <p>
+     * The model is written to a temporary file which replaces the target file when the model is
+     * {@link #commit() committed}. Models previously loaded from the target file hence remain
+     * usable. If the writer is closed without committing, e.g. because adding a term failed, the
+     * target file is left unchanged.
+     */
+    public static class Writer
+        implements Closeable
+    {
+        private final File file;
+        private final File tempFile;
+        private final File indexFile;
+        private final String featurePath;
+        private final boolean lowercase;
+        private final DataOutputStream out;
+        private final DataOutputStream index;
+        private int documentCount;
+        private int termCount;
+        private byte[] previous;
+        private boolean committed;
+
+        public Writer(File aFile, String aFeaturePath, boolean aLowercase)
+            throws IOException
+        {
+            file = aFile;
+            featurePath = aFeaturePath;
+            lowercase = aLowercase;
+            File dir = aFile.getAbsoluteFile().getParentFile();
+            if (dir != null) {
+                dir.mkdirs();
+            }
+            // The target may still be memory-mapped by a loaded model, so it must not be truncated
+            tempFile = File.createTempFile("dfmodel", ".tmp", dir);
+            indexFile = File.createTempFile("dfmodel", ".idx", dir);
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+            index = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(indexFile)));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+        }
+
+        public void setDocumentCount(int aDocumentCount)
+        {
+            documentCount = aDocumentCount;
+        }
+
+        public void add(String aTerm, int aDf)
+            throws IOException
+        {
+            add(aTerm.getBytes(UTF_8), aDf);
+        }
+
+        public void add(byte[] aTerm, int aDf)
+            throws IOException
+        {
+            if (previous != null && Arrays.compareUnsigned(previous, aTerm) >= 0) {
+                throw new IllegalStateException("Terms must be added in ascending order");
+            }
+            // The whole file must be addressable by int offsets, leave some room for the footer
+            if ((long) out.size() + aTerm.length + (termCount + 1L) * INDEX_ENTRY_SIZE
+                    > Integer.MAX_VALUE - 65536) {
+                throw new IOException("Model exceeds the maximum size of 2GB");
+            }
+
+            index.writeInt(out.size());
+            index.writeInt(aDf);
+            out.write(aTerm);
+            previous = aTerm;
+            termCount++;
+        }
+
+        /**
+         * Completes the model and replaces the target file with it.
+         *
+         * @throws IOException
+         *             if the model cannot be written.
+         */
+        public void commit()
+            throws IOException
+        {
+            if (committed) {
+                throw new IllegalStateException("The model has already been committed");
+            }
+
+            try {
+                index.close();
+                int indexOffset = out.size();
+                try (DataInputStream in = new DataInputStream(new FileInputStream(indexFile))) {
+                    byte[] buf = new byte[65536];
+                    int n;
+                    while ((n = in.read(buf)) != -1) {
+                        out.write(buf, 0, n);
+                    }
+                }
+
+                int footerOffset = out.size();
+                if (featurePath != null) {
+                    byte[] bytes = featurePath.getBytes(UTF_8);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+                else {
+                    out.writeInt(-1);
+                }
+                out.writeBoolean(lowercase);
+                out.writeInt(documentCount);
+                out.writeInt(termCount);
+                out.writeInt(indexOffset);
+                out.writeInt(footerOffset);
+            }
+            finally {
+                out.close();
+            }
+
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+        }
+
+        /**
+         * Releases the temporary files. Unless the model has been {@link #commit() committed},
+         * the target file is left unchanged.
+         */
+        @Override
+        public void close()
+            throws IOException
+        {
+            try {
+                index.close();
+                out.close();
+            }
+            finally {
+                indexFile.delete();
+                // Only still exists if the model has not been committed
+                tempFile.delete();
+            }
+        }
+    }
+}
@@ -19,7 +19,9 @@ package org.dkpro.core.frequency.tfidf.model;
 
 import static org.apache.uima.fit.factory.ExternalResourceFactory.bindResourceUsingUrl;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.net.MalformedURLException;
 
@@ -28,6 +30,7 @@ import org.apache.uima.resource.DataResource;
 import org.apache.uima.resource.ResourceInitializationException;
 import org.apache.uima.resource.SharedResourceObject;
 import org.apache.uima.util.InvalidXMLException;
+import org.dkpro.core.api.resources.ResourceUtils;
 
 /**
  * Shared {@link DfModel}.
@@ -43,8 +46,8 @@ public class SharedDfModel
     private DfModel dfModel;
 
     /**
-     * Binds a {@link DfModel} to the given {@link AnalysisEngineDescription}. The model is
-     * deserialized from file stream.
+     * Binds a {@link DfModel} to the given {@link AnalysisEngineDescription}. A
+     * {@link MappedDfModel} is memory-mapped, other models are deserialized from the file stream.
      * 
      * @param aaed
      *            An aggregate {@link AnalysisEngineDescription}. The binding does not work with
@@ -70,8 +73,14 @@ public class SharedDfModel
     public void load(DataResource aData)
         throws ResourceInitializationException
     {
-        try {
-            dfModel = (DfModel) new ObjectInputStream(aData.getInputStream()).readObject();
+        try (InputStream is = new BufferedInputStream(aData.getInputStream())) {
+            if (MappedDfModel.isMappedDfModel(is)) {
+                // Map the model instead of reading it into the heap
+                dfModel = MappedDfModel.load(ResourceUtils.getUrlAsFile(aData.getUrl(), true));
+            }
+            else {
+                dfModel = (DfModel) new ObjectInputStream(is).readObject();
+            }
         }
         catch (Exception e) {
             throw new ResourceInitializationException(e);
@@ -19,9 +19,11 @@ package org.dkpro.core.frequency.tfidf.util;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 /**
  * An object that counts objects. Inspired by NLTKs FreqDist-class.
@@ -134,6 +136,16 @@ public class FreqDist<T>
         }
     }
 
+    /**
+     * Returns the elements which have been counted.
+     * 
+     * @return the elements
+     */
+    public Set<T> getKeys()
+    {
+        return Collections.unmodifiableSet(counts.keySet());
+    }
+
     /**
      * Returns the accumulated count of all elements.
      * 
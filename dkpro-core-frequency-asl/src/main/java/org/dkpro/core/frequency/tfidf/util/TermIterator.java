@@ -18,13 +18,13 @@
 package org.dkpro.core.frequency.tfidf.util;
 
 import java.util.Iterator;
-import java.util.Map.Entry;
 
 import org.apache.uima.analysis_engine.AnalysisEngineProcessException;
 import org.apache.uima.cas.text.AnnotationFS;
+import org.apache.uima.fit.util.CasUtil;
 import org.apache.uima.jcas.JCas;
+import org.dkpro.core.api.featurepath.CompiledFeaturePath;
 import org.dkpro.core.api.featurepath.FeaturePathException;
-import org.dkpro.core.api.featurepath.FeaturePathFactory;
 
 /**
  * Iterator over terms (Strings) in the JCas.
@@ -34,13 +34,16 @@ public class TermIterator
     implements Iterable<String>, Iterator<String>
 {
 
-    private Iterator<Entry<AnnotationFS, String>> fp;
+    private Iterator<AnnotationFS> annotations;
+    private CompiledFeaturePath fp;
     private boolean convertToLowercase;
 
-    private TermIterator(Iterable<Entry<AnnotationFS, String>> fp, boolean convertToLowercase)
+    private TermIterator(Iterable<AnnotationFS> annotations, CompiledFeaturePath fp,
+            boolean convertToLowercase)
     {
         super();
-        this.fp = fp.iterator();
+        this.annotations = annotations.iterator();
+        this.fp = fp;
         this.convertToLowercase = convertToLowercase;
     }
 
@@ -62,7 +65,9 @@ public class TermIterator
     {
 
         try {
-            return new TermIterator(FeaturePathFactory.select(jcas.getCas(), featurePath),
+            CompiledFeaturePath fp = CompiledFeaturePath.compile(jcas.getTypeSystem(),
+                    featurePath);
+            return new TermIterator(CasUtil.select(jcas.getCas(), fp.getAnchorType()), fp,
                     convertToLowercase);
         }
         catch (FeaturePathException e) {
@@ -79,19 +84,20 @@ public class TermIterator
     @Override
     public boolean hasNext()
     {
-        return fp.hasNext();
+        return annotations.hasNext();
     }
 
     @Override
     public String next()
     {
-        return convertToLowercase ? fp.next().getValue().toLowerCase() : fp.next().getValue();
+        String value = fp.getValue(annotations.next());
+        return convertToLowercase ? value.toLowerCase() : value;
     }
 
     @Override
     public void remove()
     {
-        fp.remove();
+        annotations.remove();
     }
 
 }
@@ -28,6 +28,7 @@ import java.io.ObjectOutputStream;
 import org.apache.commons.io.FileUtils;
 import org.dkpro.core.frequency.tfidf.model.DfModel;
 import org.dkpro.core.frequency.tfidf.model.DfStore;
+import org.dkpro.core.frequency.tfidf.model.MappedDfModel;
 
 /**
  * Serialization and deserialization methods.
@@ -35,7 +36,8 @@ import org.dkpro.core.frequency.tfidf.model.DfStore;
 public class TfidfUtils
 {
     /**
-     * Serializes the DfStore at outputPath.
+     * Writes the model at outputPath. A {@link DfStore} is written in the format of the
+     * {@link MappedDfModel}, other models are serialized.
      * 
      * @param dfModel
      *            a model.
@@ -47,11 +49,18 @@ public class TfidfUtils
     public static void writeDfModel(DfModel dfModel, String path)
         throws IOException
     {
-        serialize(dfModel, path);
+        if (dfModel instanceof DfStore) {
+            DfStore store = (DfStore) dfModel;
+            MappedDfModel.write(store, store.getTerms(), new File(path));
+        }
+        else {
+            serialize(dfModel, path);
+        }
     }
 
     /**
-     * Reads a {@link DfStore} from disk.
+     * Reads a model from disk. Models in the format of the {@link MappedDfModel} are memory-mapped,
+     * other models are deserialized.
      * 
      * @param path
      *            the source path.
@@ -62,6 +71,10 @@ public class TfidfUtils
     public static DfModel getDfModel(String path)
         throws IOException
     {
+        File file = new File(path);
+        if (MappedDfModel.isMappedDfModel(file)) {
+            return MappedDfModel.load(file);
+        }
         return deserialize(path);
     }
 
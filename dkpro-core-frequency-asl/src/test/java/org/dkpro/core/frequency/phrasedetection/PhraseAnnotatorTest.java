@@ -20,6 +20,7 @@ package org.dkpro.core.frequency.phrasedetection;
 import static org.apache.uima.fit.factory.AnalysisEngineFactory.createEngineDescription;
 import static org.apache.uima.fit.factory.CollectionReaderFactory.createReaderDescription;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -35,6 +36,7 @@ import org.apache.uima.jcas.JCas;
 import org.dkpro.core.io.text.StringReader;
 import org.dkpro.core.tokit.BreakIteratorSegmenter;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import de.tudarmstadt.ukp.dkpro.core.api.segmentation.type.LexicalPhrase;
 
@@ -69,5 +71,45 @@ public class PhraseAnnotatorTest
         }
     }
 
+    @Test
+    public void testBinaryModel(@TempDir File tempDir)
+            throws UIMAException, IOException
+    {
+        File modelFile = new File(tempDir, "counts.bin");
+
+        String sentence = "This is a first test that contains a first test example";
+        String language = "en";
+
+        CollectionReaderDescription reader = createReaderDescription(StringReader.class,
+                StringReader.PARAM_DOCUMENT_TEXT, sentence,
+                StringReader.PARAM_LANGUAGE, language);
+        AnalysisEngineDescription segmenter = createEngineDescription(BreakIteratorSegmenter.class);
+        AnalysisEngineDescription writer = createEngineDescription(FrequencyWriter.class,
+                FrequencyWriter.PARAM_TARGET_LOCATION, modelFile,
+                FrequencyWriter.PARAM_MIN_COUNT, 1,
+                FrequencyWriter.PARAM_BINARY_MODEL, true);
+        SimplePipeline.runPipeline(reader, segmenter, writer);
+
+        PhraseModel binaryModel = PhraseModel.load(modelFile);
+        PhraseModel textModel = PhraseModel
+                .load(new File("src/test/resources/phrasedetection/counts.txt"));
+        assertEquals(textModel.getVocabularySize(), binaryModel.getVocabularySize());
+        assertEquals(textModel.getBigramCount(), binaryModel.getBigramCount());
+        assertSame(binaryModel, PhraseModel.load(modelFile));
+
+        AnalysisEngineDescription phraseAnnotator = createEngineDescription(PhraseAnnotator.class,
+                PhraseAnnotator.PARAM_MODEL_LOCATION, modelFile,
+                PhraseAnnotator.PARAM_DISCOUNT, 0,
+                PhraseAnnotator.PARAM_THRESHOLD, 5.0f);
+
+        for (JCas jcas : SimplePipeline.iteratePipeline(reader, segmenter, phraseAnnotator)) {
+            Collection<LexicalPhrase> phrases = JCasUtil.select(jcas, LexicalPhrase.class);
+            assertEquals(9, phrases.size());
+            assertTrue(phrases.stream()
+                    .map(LexicalPhrase::getText)
+                    .allMatch(sentence::contains));
+        }
+    }
+
     // TODO: implement test for other covering type parameter values
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.frequency.tfidf.model;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+
+import org.dkpro.core.frequency.tfidf.util.TfidfUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedDfModelTest
+{
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void testWriteAndLoad()
+        throws Exception
+    {
+        File file = new File(tempDir, "model");
+        TfidfUtils.writeDfModel(createStore("token", "a b c", "b c Ünïcode", "c"), file.getPath());
+
+        assertTrue(MappedDfModel.isMappedDfModel(file));
+        DfModel model = TfidfUtils.getDfModel(file.getPath());
+        assertSame(model, TfidfUtils.getDfModel(file.getPath()));
+
+        assertEquals(3, model.getDocumentCount());
+        assertEquals("token", model.getFeaturePath());
+        assertFalse(model.getLowercase());
+        assertEquals(1, model.getDf("a"));
+        assertEquals(2, model.getDf("b"));
+        assertEquals(3, model.getDf("c"));
+        assertEquals(1, model.getDf("Ünïcode"));
+        assertEquals(0, model.getDf("d"));
+        assertEquals(0, model.getDf(""));
+        assertEquals(4, ((MappedDfModel) model).getTermCount());
+    }
+
+    @Test
+    public void testOverwriteLoadedModel()
+        throws Exception
+    {
+        File file = new File(tempDir, "model");
+        TfidfUtils.writeDfModel(createStore("token", "a b", "b"), file.getPath());
+        MappedDfModel model = MappedDfModel.load(file);
+
+        // Replacing the file must not affect the model which still maps the old file
+        TfidfUtils.writeDfModel(createStore("token", "c", "c", "c"), file.getPath());
+        assertEquals(2, model.getDocumentCount());
+        assertEquals(2, model.getDf("b"));
+
+        MappedDfModel reloaded = MappedDfModel.load(file);
+        assertNotSame(model, reloaded);
+        assertEquals(3, reloaded.getDf("c"));
+        assertEquals(0, reloaded.getDf("b"));
+        assertArrayEquals(new String[] { "model" }, tempDir.list());
+    }
+
+    @Test
+    public void testFailedWriteKeepsModel()
+        throws Exception
+    {
+        File file = new File(tempDir, "model");
+        TfidfUtils.writeDfModel(createStore("token", "a b", "b"), file.getPath());
+
+        // Adding terms out of order fails, so the writer is closed without being committed
+        assertThrows(IllegalStateException.class, () -> {
+            try (MappedDfModel.Writer writer = new MappedDfModel.Writer(file, "token", false)) {
+                writer.add("b", 1);
+                writer.add("a", 1);
+                writer.commit();
+            }
+        });
+
+        MappedDfModel model = MappedDfModel.load(file);
+        assertEquals(2, model.getDocumentCount());
+        assertEquals(2, model.getDf("b"));
+        assertArrayEquals(new String[] { "model" }, tempDir.list());
+    }
+
+    @Test
+    public void testMerge()
+        throws Exception
+    {
+        File file1 = new File(tempDir, "model1");
+        File file2 = new File(tempDir, "model2");
+        File merged = new File(tempDir, "merged");
+        TfidfUtils.writeDfModel(createStore("token", "a b", "b c"), file1.getPath());
+        TfidfUtils.writeDfModel(createStore("token", "c d", "d e", "a"), file2.getPath());
+
+        MappedDfModel.merge(asList(file1, file2), merged);
+
+        MappedDfModel model = MappedDfModel.load(merged);
+        assertEquals(5, model.getDocumentCount());
+        assertEquals(5, model.getTermCount());
+        assertEquals(2, model.getDf("a"));
+        assertEquals(2, model.getDf("b"));
+        assertEquals(2, model.getDf("c"));
+        assertEquals(2, model.getDf("d"));
+        assertEquals(1, model.getDf("e"));
+        assertEquals("a", model.getTerm(0));
+        assertEquals("e", model.getTerm(4));
+
+        File other = new File(tempDir, "other");
+        TfidfUtils.writeDfModel(createStore("lemma", "a"), other.getPath());
+        assertThrows(IllegalArgumentException.class,
+                () -> MappedDfModel.merge(asList(file1, other), new File(tempDir, "fail")));
+    }
+
+    @Test
+    public void testSerializedModel()
+        throws Exception
+    {
+        File file = new File(tempDir, "model");
+        TfidfUtils.serialize(createStore("token", "a b", "b"), file.getPath());
+
+        assertFalse(MappedDfModel.isMappedDfModel(file));
+        DfModel model = TfidfUtils.getDfModel(file.getPath());
+        assertEquals(2, model.getDocumentCount());
+        assertEquals(2, model.getDf("b"));
+    }
+
+    private static DfStore createStore(String aFeaturePath, String... aDocuments)
+    {
+        DfStore store = new DfStore(aFeaturePath, false);
+        for (String document : aDocuments) {
+            store.registerNewDocument();
+            for (String term : document.split(" ")) {
+                store.countTerm(term);
+            }
+            store.closeCurrentDocument();
+        }
+        return store;
+    }
+}
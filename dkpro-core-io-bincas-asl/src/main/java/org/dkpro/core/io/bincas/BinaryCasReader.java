@@ -22,6 +22,7 @@ import static java.lang.String.join;
 import static org.dkpro.core.api.resources.CompressionUtils.getInputStream;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.File;
 import java.io.IOException;
@@ -31,6 +32,8 @@ import java.io.ObjectInputStream;
 import java.net.MalformedURLException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.apache.uima.cas.CAS;
 import org.apache.uima.cas.CASException;
@@ -50,7 +53,6 @@ import org.apache.uima.fit.descriptor.ResourceMetaData;
 import org.apache.uima.resource.ResourceInitializationException;
 import org.apache.uima.resource.metadata.FsIndexDescription;
 import org.apache.uima.resource.metadata.TypePriorities;
-import org.apache.uima.resource.metadata.TypeSystemDescription;
 import org.apache.uima.util.CasCreationUtils;
 import org.apache.uima.util.CasIOUtils;
 import org.apache.uima.util.CasLoadMode;
@@ -114,10 +116,33 @@ public class BinaryCasReader
     @ConfigurationParameter(name = PARAM_OVERRIDE_DOCUMENT_METADATA, mandatory = true, defaultValue = "false")
     private boolean overrideDocumentMetadata;
 
+    /**
+     * Maximum number of merged type systems to cache when {@link #PARAM_MERGE_TYPE_SYSTEM} is
+     * enabled.
+     */
+    private static final int MAX_MERGED_TYPE_SYSTEMS = 32;
+
     private CASMgrSerializer casMgrSerializer;
 
     private TypeSystemImpl typeSystem;
 
+    /**
+     * Cache of CAS setups for the merged type systems. The key is the type system of the file being
+     * read. Committed type systems are de-duplicated by UIMA, so files sharing the same type system
+     * also share the cache entry.
+     */
+    private Map<TypeSystemImpl, CASMgrSerializer> mergedCasManagers = new LinkedHashMap<>(16,
+            0.75f, true)
+    {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TypeSystemImpl, CASMgrSerializer> aEldest)
+        {
+            return size() > MAX_MERGED_TYPE_SYSTEMS;
+        }
+    };
+
     @Override
     public void getNext(CAS aCAS) throws IOException, CollectionException
     {
@@ -125,76 +150,19 @@ public class BinaryCasReader
         TypeSystemImpl xts = null;
         byte[] header = new byte[DKPRO_HEADER.length];
 
-        if (this.mergeTypeSystem) {
-            // type system from input file
-            TypeSystemDescription tsd;
-
-            try (var is = getInputStream(res.getLocation(), res.getInputStream())) {
-                var bis = new BufferedInputStream(is);
-
-                getLogger().debug("Reading CAS from [" + res.getLocation() + "]");
-
-                // Prepare for format detection
-                bis.mark(32);
-                var dis = new DataInputStream(bis);
-                dis.read(header);
-
-                // If it is DKPro Core format, read the type system
-                if (Arrays.equals(header, DKPRO_HEADER)) {
-                    xts = readDKProHeader(bis, header, xts);
-                }
-                else {
-                    // No embedded DKPro TS, reset
-                    bis.reset();
-                    // Try reading an externalized type system instead
-                    if (typeSystemLocation != null) {
-                        xts = readTypeSystem();
-                        initCasFromEmbeddedTS(header, aCAS);
-                    }
-                }
-
-                if (xts != null) {
-                    // use external type system if specified
-                    tsd = TypeSystemUtil.typeSystem2TypeSystemDescription(xts);
-                }
-                else {
-                    // else load the CAS from the input file and use its type system
-                    CasIOUtils.load(bis, null, aCAS, CasLoadMode.REINIT);
-                    tsd = TypeSystemUtil.typeSystem2TypeSystemDescription(aCAS.getTypeSystem());
-                }
-            }
-
-            try {
-                // Merge the current type system with the one specified by the file being read
-                var mergedTypeSystem = CasCreationUtils.mergeTypeSystems(Arrays
-                        .asList(TypeSystemUtil.typeSystem2TypeSystemDescription(typeSystem), tsd));
-
-                // Create a new CAS based on the merged type system
-                var mergedTypeSystemCas = CasCreationUtils.createCas(mergedTypeSystem,
-                        (TypePriorities) null, (FsIndexDescription[]) null).getJCas();
-
-                // Create a holder for the CAS metadata
-                var casMgrSerializer = Serialization
-                        .serializeCASMgr((mergedTypeSystemCas).getCasImpl());
+        try (var is = getInputStream(res.getLocation(), res.getInputStream())) {
+            InputStream bis = new BufferedInputStream(is);
 
-                // Reinitialize CAS with merged type system
-                ((CASImpl) aCAS).getBinaryCasSerDes()
-                        .setupCasFromCasMgrSerializer(casMgrSerializer);
-            }
-            catch (CASException | ResourceInitializationException e) {
-                throw new CollectionException(e);
-            }
-        }
+            getLogger().debug("Reading CAS from [" + res.getLocation() + "]");
 
-        // Read file again, this time into a CAS which has been prepared with the merged TS
-        try (var is = getInputStream(res.getLocation(), res.getInputStream())) {
-            BufferedInputStream bis = new BufferedInputStream(is);
+            // Prepare for format detection
             bis.mark(32);
-            DataInputStream dis = new DataInputStream(bis);
+            var dis = new DataInputStream(bis);
             dis.read(header);
 
             // If it is DKPro Core format, read the type system
-            if (Arrays.equals(header, DKPRO_HEADER)) {
+            boolean dkproHeader = Arrays.equals(header, DKPRO_HEADER);
+            if (dkproHeader) {
                 xts = readDKProHeader(bis, header, xts);
             }
             else {
@@ -203,9 +171,27 @@ public class BinaryCasReader
                 // Try reading an externalized type system instead
                 if (typeSystemLocation != null) {
                     xts = readTypeSystem();
-                    initCasFromEmbeddedTS(header, aCAS);
                 }
+            }
+
+            if (this.mergeTypeSystem) {
+                if (xts == null) {
+                    // The type system is embedded in the CAS data itself, so we need to load the
+                    // data to get to it. Buffer the data so we do not have to read the file again
+                    // when loading it into the CAS prepared with the merged type system.
+                    var data = bis.readAllBytes();
+                    CasIOUtils.load(new ByteArrayInputStream(data), null, aCAS,
+                            CasLoadMode.REINIT);
+                    setupCasWithMergedTypeSystem(aCAS, (TypeSystemImpl) aCAS.getTypeSystem());
+                    bis = new ByteArrayInputStream(data);
+                }
+                else {
+                    setupCasWithMergedTypeSystem(aCAS, xts);
+                }
+            }
 
+            if (!dkproHeader && typeSystemLocation != null) {
+                initCasFromEmbeddedTS(header, aCAS);
             }
 
             SerialFormat format;
@@ -251,6 +237,47 @@ public class BinaryCasReader
         }
     }
 
+    /**
+     * Reinitialize the CAS with the merge of the current type system and the given type system.
+     * The merged type system is computed only once per distinct type system of the files being
+     * read.
+     */
+    private void setupCasWithMergedTypeSystem(CAS aCAS, TypeSystemImpl aFileTypeSystem)
+        throws CollectionException
+    {
+        var mergedCasMgr = mergedCasManagers.get(aFileTypeSystem);
+
+        if (mergedCasMgr == null) {
+            try {
+                // Merge the current type system with the one specified by the file being read
+                var mergedTypeSystem = CasCreationUtils.mergeTypeSystems(
+                        Arrays.asList(TypeSystemUtil.typeSystem2TypeSystemDescription(typeSystem),
+                                TypeSystemUtil.typeSystem2TypeSystemDescription(aFileTypeSystem)));
+
+                // Create a new CAS based on the merged type system
+                var mergedTypeSystemCas = CasCreationUtils.createCas(mergedTypeSystem,
+                        (TypePriorities) null, (FsIndexDescription[]) null).getJCas();
+
+                // Create a holder for the CAS metadata
+                mergedCasMgr = Serialization.serializeCASMgr((mergedTypeSystemCas).getCasImpl());
+            }
+            catch (CASException | ResourceInitializationException e) {
+                throw new CollectionException(e);
+            }
+
+            mergedCasManagers.put(aFileTypeSystem, mergedCasMgr);
+        }
+
+        // Reinitialize CAS with merged type system
+        ((CASImpl) aCAS).getBinaryCasSerDes().setupCasFromCasMgrSerializer(mergedCasMgr);
+    }
+
+    // This is just used for testing
+    /* default scope*/ int getMergedTypeSystemCount()
+    {
+        return mergedCasManagers.size();
+    }
+
     // Check whether this is original UIMA CAS format or DKPro Core Legacy format
     private TypeSystemImpl readDKProHeader(InputStream aIs, byte[] header, TypeSystemImpl ts)
         throws CollectionException
@@ -279,6 +306,7 @@ public class BinaryCasReader
         if (typeSystemLocation == null) {
             typeSystem = (TypeSystemImpl) aTypeSystem;
         }
+        mergedCasManagers.clear();
     }
 
     /**
@@ -235,6 +235,70 @@ public class BinaryCasWriterReaderTest
         read(testFolder.getPath(), METADATA, false, true);
     }
 
+    @Test
+    public void testMergedTypeSystemCacheReused() throws Exception
+    {
+        // Two pipelines writing with the same type system
+        writeWithTypeSystem(createTypeSystemDescription(), "doc1");
+        writeWithTypeSystem(createTypeSystemDescription(), "doc2");
+
+        assertEquals(1, readMerged());
+    }
+
+    @Test
+    public void testMergedTypeSystemCacheNotReusedForDifferentTypeSystems() throws Exception
+    {
+        TypeSystemDescription extended = createTypeSystemDescription();
+        extended.addType("test.Extra", "", CAS.TYPE_NAME_ANNOTATION);
+
+        writeWithTypeSystem(createTypeSystemDescription(), "doc1");
+        writeWithTypeSystem(extended, "doc2");
+
+        assertEquals(2, readMerged());
+    }
+
+    private void writeWithTypeSystem(TypeSystemDescription aTsd, String aDocumentId)
+        throws Exception
+    {
+        JCas jcas = JCasFactory.createJCas(aTsd);
+        jcas.setDocumentText("Document " + aDocumentId);
+        DocumentMetaData.create(jcas).setDocumentId(aDocumentId);
+
+        AnalysisEngine writer = createEngine( //
+                BinaryCasWriter.class, //
+                BinaryCasWriter.PARAM_TARGET_LOCATION, testFolder, //
+                BinaryCasWriter.PARAM_FORMAT, "6+");
+        writer.process(jcas);
+        writer.collectionProcessComplete();
+    }
+
+    /**
+     * Reads all files with type system merging enabled.
+     * 
+     * @return the number of merged type systems cached by the reader.
+     */
+    private int readMerged() throws Exception
+    {
+        BinaryCasReader reader = (BinaryCasReader) createReader( //
+                BinaryCasReader.class, //
+                BinaryCasReader.PARAM_SOURCE_LOCATION, testFolder, //
+                BinaryCasReader.PARAM_PATTERNS, "*.bin", //
+                BinaryCasReader.PARAM_MERGE_TYPE_SYSTEM, true);
+
+        CAS cas = CasCreationUtils.createCas(createTypeSystemDescription(), null, null);
+        reader.typeSystemInit(cas.getTypeSystem());
+        int documents = 0;
+        while (reader.hasNext()) {
+            reader.getNext(cas);
+            assertTrue(cas.getDocumentText().startsWith("Document doc"));
+            cas.reset();
+            documents++;
+        }
+        assertEquals(2, documents);
+
+        return reader.getMergedTypeSystemCount();
+    }
+
     @Test
     public void testSerializedEmbeddedTypeSystem() throws Exception
     {
@@ -228,17 +228,17 @@ public class BratWriter
     @Override
     public void collectionProcessComplete() throws AnalysisEngineProcessException
     {
-        if (!".ann".equals(filenameSuffix)) {
-            return;
+        if (".ann".equals(filenameSuffix)) {
+            try {
+                writeAnnotationConfiguration();
+                writeVisualConfiguration();
+            }
+            catch (IOException e) {
+                throw new AnalysisEngineProcessException(e);
+            }
         }
 
-        try {
-            writeAnnotationConfiguration();
-            writeVisualConfiguration();
-        }
-        catch (IOException e) {
-            throw new AnalysisEngineProcessException(e);
-        }
+        super.collectionProcessComplete();
     }
 
     private void writeAnnotationConfiguration() throws IOException
@@ -21,7 +21,6 @@ import static org.apache.commons.io.IOUtils.closeQuietly;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -43,7 +42,6 @@ import org.apache.uima.resource.ResourceInitializationException;
 import org.dkpro.core.api.io.IobDecoder;
 import org.dkpro.core.api.parameter.ComponentParameters;
 import org.dkpro.core.api.parameter.MimeTypes;
-import org.dkpro.core.api.resources.CompressionUtils;
 import org.dkpro.core.api.resources.MappingProvider;
 import org.dkpro.core.io.conll.internal.ConllReader_ImplBase;
 
@@ -261,6 +259,12 @@ public class Conll2002Reader
         
     }
     
+    @Override
+    protected String getSourceEncoding()
+    {
+        return sourceEncoding;
+    }
+
     @Override
     public void getNext(JCas aJCas)
         throws IOException, CollectionException
@@ -274,13 +278,9 @@ public class Conll2002Reader
             throw new IOException(e);
         }
         
-        Resource res = nextFile();
-        initCas(aJCas, res);
         BufferedReader reader = null;
         try {
-            reader = new BufferedReader(new InputStreamReader(
-                    CompressionUtils.getInputStream(res.getLocation(), res.getInputStream()),
-                    sourceEncoding));
+            reader = nextReader(aJCas);
             convert(aJCas, reader);
         }
         finally {
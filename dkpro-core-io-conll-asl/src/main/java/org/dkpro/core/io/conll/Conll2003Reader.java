@@ -25,7 +25,6 @@ import static org.dkpro.core.api.resources.MappingProviderFactory.createPosMappi
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -47,9 +46,9 @@ import org.dkpro.core.api.io.IobDecoder;
 import org.dkpro.core.api.lexmorph.pos.POSUtils;
 import org.dkpro.core.api.parameter.ComponentParameters;
 import org.dkpro.core.api.parameter.MimeTypes;
-import org.dkpro.core.api.resources.CompressionUtils;
 import org.dkpro.core.api.resources.MappingProvider;
 import org.dkpro.core.io.conll.internal.ConllReader_ImplBase;
+import org.dkpro.core.io.conll.internal.FieldTokenizer;
 
 import de.tudarmstadt.ukp.dkpro.core.api.lexmorph.type.pos.POS;
 import de.tudarmstadt.ukp.dkpro.core.api.ner.type.NamedEntity;
@@ -187,6 +186,12 @@ public class Conll2003Reader
         }
     }
 
+    @Override
+    protected String getSourceEncoding()
+    {
+        return sourceEncoding;
+    }
+
     @Override
     public void getNext(JCas aJCas) throws IOException, CollectionException
     {
@@ -205,13 +210,9 @@ public class Conll2003Reader
             throw new IOException(e);
         }
 
-        Resource res = nextFile();
-        initCas(aJCas, res);
         BufferedReader reader = null;
         try {
-            reader = new BufferedReader(new InputStreamReader(
-                    CompressionUtils.getInputStream(res.getLocation(), res.getInputStream()),
-                    sourceEncoding));
+            reader = nextReader(aJCas);
             convert(aJCas, reader);
         }
         finally {
@@ -301,7 +302,7 @@ public class Conll2003Reader
             if (StringUtils.isBlank(line)) {
                 break; // End of sentence
             }
-            String[] fields = line.split(" ");
+            String[] fields = FieldTokenizer.split(line, ' ');
             if (fields.length != 4) {
                 throw new IOException(
                         "Invalid file format. Line needs to have 4 space-separted fields: [" + line
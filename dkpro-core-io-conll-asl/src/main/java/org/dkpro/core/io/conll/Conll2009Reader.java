@@ -25,7 +25,6 @@ import static org.dkpro.core.api.resources.MappingProviderFactory.createPosMappi
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -48,9 +47,9 @@ import org.apache.uima.resource.ResourceInitializationException;
 import org.dkpro.core.api.lexmorph.pos.POSUtils;
 import org.dkpro.core.api.parameter.ComponentParameters;
 import org.dkpro.core.api.parameter.MimeTypes;
-import org.dkpro.core.api.resources.CompressionUtils;
 import org.dkpro.core.api.resources.MappingProvider;
 import org.dkpro.core.io.conll.internal.ConllReader_ImplBase;
+import org.dkpro.core.io.conll.internal.FieldTokenizer;
 
 import de.tudarmstadt.ukp.dkpro.core.api.lexmorph.type.morph.MorphologicalFeatures;
 import de.tudarmstadt.ukp.dkpro.core.api.lexmorph.type.pos.POS;
@@ -186,16 +185,18 @@ public class Conll2009Reader
         }
     }
 
+    @Override
+    protected String getSourceEncoding()
+    {
+        return sourceEncoding;
+    }
+
     @Override
     public void getNext(JCas aJCas) throws IOException, CollectionException
     {
-        Resource res = nextFile();
-        initCas(aJCas, res);
         BufferedReader reader = null;
         try {
-            reader = new BufferedReader(new InputStreamReader(
-                    CompressionUtils.getInputStream(res.getLocation(), res.getInputStream()),
-                    sourceEncoding));
+            reader = nextReader(aJCas);
             convert(aJCas, reader);
         }
         finally {
@@ -364,7 +365,7 @@ public class Conll2009Reader
                 // Currently, we just ignore this.
                 break; // Consider end of sentence
             }
-            String[] fields = line.split("\t");
+            String[] fields = FieldTokenizer.split(line, '\t');
             // if (fields.length != 10) {
             // throw new IOException(
             // "Invalid file format. Line needs to have 10 tab-separated fields, but it has "
@@ -25,7 +25,6 @@ import static org.dkpro.core.api.resources.MappingProviderFactory.createPosMappi
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -51,7 +50,6 @@ import org.apache.uima.resource.ResourceInitializationException;
 import org.dkpro.core.api.lexmorph.pos.POSUtils;
 import org.dkpro.core.api.parameter.ComponentParameters;
 import org.dkpro.core.api.parameter.MimeTypes;
-import org.dkpro.core.api.resources.CompressionUtils;
 import org.dkpro.core.api.resources.MappingProvider;
 import org.dkpro.core.io.conll.internal.ConllReader_ImplBase;
 import org.dkpro.core.io.penntree.PennTreeToJCasConverter;
@@ -202,7 +200,9 @@ public class Conll2012Reader
     private boolean writeTracesToText;
 
     /**
-     * Use the document ID declared in the file header instead of using the filename.
+     * Use the document ID declared in the file header instead of using the filename. If
+     * {@link #PARAM_SENTENCES_PER_CAS} is set, only the first chunk of a document contains the
+     * header and uses its document ID.
      */
     public static final String PARAM_USE_HEADER_METADATA = "useHeaderMetadata";
     @ConfigurationParameter(name = PARAM_USE_HEADER_METADATA, mandatory = true, defaultValue = "true")
@@ -249,16 +249,24 @@ public class Conll2012Reader
         converter.setRootLabel("TOP");
     }
 
+    @Override
+    protected boolean isDocumentBoundary(String aLine)
+    {
+        return aLine.startsWith("#begin document");
+    }
+
+    @Override
+    protected String getSourceEncoding()
+    {
+        return encoding;
+    }
+
     @Override
     public void getNext(JCas aJCas) throws IOException, CollectionException
     {
-        Resource res = nextFile();
-        initCas(aJCas, res);
         BufferedReader reader = null;
         try {
-            reader = new BufferedReader(new InputStreamReader(
-                    CompressionUtils.getInputStream(res.getLocation(), res.getInputStream()),
-                    encoding));
+            reader = nextReader(aJCas);
             convert(aJCas, reader);
         }
         finally {
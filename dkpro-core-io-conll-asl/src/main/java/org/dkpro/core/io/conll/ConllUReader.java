@@ -24,7 +24,6 @@ import static org.dkpro.core.api.resources.MappingProviderFactory.createPosMappi
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -47,9 +46,9 @@ import org.apache.uima.jcas.JCas;
 import org.apache.uima.resource.ResourceInitializationException;
 import org.dkpro.core.api.parameter.ComponentParameters;
 import org.dkpro.core.api.parameter.MimeTypes;
-import org.dkpro.core.api.resources.CompressionUtils;
 import org.dkpro.core.api.resources.MappingProvider;
 import org.dkpro.core.io.conll.internal.ConllReader_ImplBase;
+import org.dkpro.core.io.conll.internal.FieldTokenizer;
 
 import de.tudarmstadt.ukp.dkpro.core.api.lexmorph.type.morph.MorphologicalFeatures;
 import de.tudarmstadt.ukp.dkpro.core.api.lexmorph.type.pos.POS;
@@ -197,17 +196,19 @@ public class ConllUReader
                 getLanguage());
     }
     
+    @Override
+    protected String getSourceEncoding()
+    {
+        return sourceEncoding;
+    }
+
     @Override
     public void getNext(JCas aJCas)
         throws IOException, CollectionException
     {
-        Resource res = nextFile();
-        initCas(aJCas, res);
         BufferedReader reader = null;
         try {
-            reader = new BufferedReader(new InputStreamReader(
-                    CompressionUtils.getInputStream(res.getLocation(), res.getInputStream()),
-                    sourceEncoding));
+            reader = nextReader(aJCas);
             convert(aJCas, reader);
         }
         finally {
@@ -228,6 +229,7 @@ public class ConllUReader
         }
         
         JCasBuilder doc = new JCasBuilder(aJCas);
+        FieldTokenizer fields = new FieldTokenizer();
 
         Paragraph p = null;
         int lastSentenceEndPosition = 0;
@@ -357,12 +359,16 @@ public class ConllUReader
                     // MorphologicalFeatures type is based on the definition from the UD project,
                     // we can do this rather straightforwardly.
                     Type morphType = morphtag.getType();
-                    String[] items = featsValue.split("\\|");
-                    for (String item : items) {
-                        String[] keyValue = item.split("=");
-                        StringBuilder key = new StringBuilder(trim(keyValue[0]));
+                    fields.reset(featsValue, '|');
+                    while (fields.next()) {
+                        int eq = fields.indexOf('=');
+                        if (eq < 0) {
+                            throw new IOException("Invalid feature [" + fields.value() + "] in ["
+                                    + featsValue + "]");
+                        }
+                        StringBuilder key = new StringBuilder(trim(fields.value(0, eq)));
                         key.setCharAt(0, Character.toLowerCase(key.charAt(0)));
-                        String value = trim(keyValue[1]);
+                        String value = trim(fields.value(eq + 1, fields.length()));
                         
                         Feature feat = morphType.getFeatureByBaseName(key.toString());
                         if (feat != null) {
@@ -403,14 +409,21 @@ public class ConllUReader
                     String depsValue = trim(word[DEPS]);
                     if (!UNUSED.equals(depsValue)) {
                         // list items separated by vertical bar
-                        String[] items = depsValue.split("\\|");
-                        for (String item : items) {
-                            String[] sItem = item.split(":");
-                            
-                            int depId = Integer.valueOf(trim(word[ID]));
-                            int govId = Integer.valueOf(trim(sItem[0]));
-
-                            makeDependency(aJCas, govId, depId, cleanTag(sItem[1]), ENHANCED,
+                        int depId = Integer.valueOf(trim(word[ID]));
+                        fields.reset(depsValue, '|');
+                        while (fields.next()) {
+                            int colon = fields.indexOf(':');
+                            if (colon < 0) {
+                                throw new IOException("Invalid dependency [" + fields.value()
+                                        + "] in [" + depsValue + "]");
+                            }
+                            int govId = Integer.valueOf(trim(fields.value(0, colon)));
+                            // The relation ends at the next colon (if any)
+                            String rest = fields.value(colon + 1, fields.length());
+                            int relEnd = rest.indexOf(':');
+                            String relation = relEnd < 0 ? rest : rest.substring(0, relEnd);
+
+                            makeDependency(aJCas, govId, depId, cleanTag(relation), ENHANCED,
                                     tokens, word);
                         }
                     }
@@ -499,7 +512,7 @@ public class ConllUReader
                 // Comment line
                 continue;
             }
-            String[] fields = line.split("\t");
+            String[] fields = FieldTokenizer.split(line, '\t');
             if (fields.length != 10) {
                 throw new IOException(
                         "Invalid file format. Line needs to have 10 tab-separated fields, but it has "
@@ -17,9 +17,23 @@
  */
 package org.dkpro.core.io.conll.internal;
 
+import static org.apache.commons.io.IOUtils.closeQuietly;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+
+import org.apache.uima.collection.CollectionException;
 import org.apache.uima.fit.descriptor.ConfigurationParameter;
 import org.apache.uima.jcas.JCas;
+import org.apache.uima.util.Progress;
+import org.apache.uima.util.ProgressImpl;
 import org.dkpro.core.api.io.JCasResourceCollectionReader_ImplBase;
+import org.dkpro.core.api.resources.CompressionUtils;
 
 import de.tudarmstadt.ukp.dkpro.core.api.segmentation.type.Token;
 import de.tudarmstadt.ukp.dkpro.core.api.syntax.type.dependency.Dependency;
@@ -32,6 +46,12 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 public abstract class ConllReader_ImplBase
     extends JCasResourceCollectionReader_ImplBase
 {
+    /**
+     * Unit of the progress within the current file which is reported in addition to the progress
+     * of the collection if files are read incrementally.
+     */
+    public static final String PROGRESS_UNIT_KILOBYTES = "kilobytes";
+
     /**
      * Trim field values.
      */
@@ -39,6 +59,161 @@ public abstract class ConllReader_ImplBase
     @ConfigurationParameter(name = PARAM_TRIM_FIELDS, mandatory = true, defaultValue = "true")
     protected boolean trimFields;
 
+    /**
+     * Maximum number of sentences per CAS. If this is set, large files are read incrementally and
+     * split into several CASes instead of being loaded into a single CAS at once. Each CAS gets
+     * the document ID and URI of the file suffixed with {@code #n} where {@code n} is the index of
+     * the chunk within the file. Set to {@code 0} to read each file into a single CAS.
+     * <p>
+     * Header lines of a document, e.g. {@code #begin document} in CoNLL 2012 files or
+     * {@code # newdoc} in CoNLL-U files, are only part of the first chunk of the document. Hence,
+     * metadata from the header such as the document ID is only set on the CAS of the first chunk,
+     * while the following chunks keep the document ID derived from the file name.
+     */
+    public static final String PARAM_SENTENCES_PER_CAS = "sentencesPerCAS";
+    @ConfigurationParameter(name = PARAM_SENTENCES_PER_CAS, mandatory = true, defaultValue = "0")
+    protected int sentencesPerCas;
+
+    /**
+     * Start a new CAS at each document boundary within a file (e.g. {@code # newdoc} comments in
+     * CoNLL-U files). Files are read incrementally like when {@link #PARAM_SENTENCES_PER_CAS} is
+     * set.
+     */
+    public static final String PARAM_SPLIT_AT_DOCUMENT_BOUNDARIES = "splitAtDocumentBoundaries";
+    @ConfigurationParameter(name = PARAM_SPLIT_AT_DOCUMENT_BOUNDARIES, mandatory = true, 
+            defaultValue = "false")
+    protected boolean splitAtDocumentBoundaries;
+
+    private Resource currentResource;
+    private CountingInputStream currentStream;
+    private SentenceChunker chunker;
+    private int chunkIndex;
+
+    /**
+     * @return the encoding of the files.
+     */
+    protected abstract String getSourceEncoding();
+
+    /**
+     * Opens the next file or, if files are split into several CASes, the next chunk of the
+     * current file and initializes the CAS for it. The caller has to close the returned reader.
+     *
+     * @param aJCas
+     *            the CAS.
+     * @return a reader for the data of the CAS.
+     * @throws IOException
+     *             if the file cannot be read.
+     * @throws CollectionException
+     *             if there is no more input.
+     */
+    protected BufferedReader nextReader(JCas aJCas)
+        throws IOException, CollectionException
+    {
+        if (!isStreaming()) {
+            Resource res = nextFile();
+            initCas(aJCas, res);
+            return new BufferedReader(new InputStreamReader(
+                    CompressionUtils.getInputStream(res.getLocation(), res.getInputStream()),
+                    getSourceEncoding()));
+        }
+
+        if (!hasNext()) {
+            throw new CollectionException(new IllegalStateException("No more input"));
+        }
+        initCas(aJCas, currentResource, String.valueOf(chunkIndex));
+        chunkIndex++;
+        return new BufferedReader(chunker.nextChunk());
+    }
+
+    /**
+     * Checks whether a line starts a new document within a file. Used when
+     * {@link #PARAM_SPLIT_AT_DOCUMENT_BOUNDARIES} is enabled.
+     *
+     * @param aLine
+     *            a non-blank line.
+     * @return whether a new document starts at the line.
+     */
+    protected boolean isDocumentBoundary(String aLine)
+    {
+        return aLine.startsWith("# newdoc");
+    }
+
+    private boolean isStreaming()
+    {
+        return sentencesPerCas > 0 || splitAtDocumentBoundaries;
+    }
+
+    @Override
+    public boolean hasNext()
+        throws IOException, CollectionException
+    {
+        if (!isStreaming()) {
+            return super.hasNext();
+        }
+
+        while (true) {
+            if (chunker != null) {
+                if (chunker.hasNextChunk()) {
+                    return true;
+                }
+                closeChunker();
+            }
+
+            if (!super.hasNext()) {
+                return false;
+            }
+
+            currentResource = nextFile();
+            currentStream = new CountingInputStream(currentResource.getInputStream());
+            chunker = new SentenceChunker(
+                    new BufferedReader(new InputStreamReader(
+                            CompressionUtils.getInputStream(currentResource.getLocation(),
+                                    currentStream),
+                            getSourceEncoding())),
+                    sentencesPerCas, splitAtDocumentBoundaries ? this::isDocumentBoundary : null);
+            chunkIndex = 0;
+        }
+    }
+
+    @Override
+    public Progress[] getProgress()
+    {
+        Progress[] progress = super.getProgress();
+        if (!isStreaming() || currentStream == null) {
+            return progress;
+        }
+
+        // The size is only known for plain files. Kilobytes rather than bytes are reported since
+        // the progress values are limited to int
+        int total = -1;
+        URI uri = currentResource.getResolvedUri();
+        if ("file".equals(uri.getScheme())) {
+            total = toKilobytes(new File(uri).length() + 1023);
+        }
+        return new Progress[] { progress[0],
+                new ProgressImpl(toKilobytes(currentStream.count), total,
+                        PROGRESS_UNIT_KILOBYTES) };
+    }
+
+    @Override
+    public void destroy()
+    {
+        closeChunker();
+        super.destroy();
+    }
+
+    private void closeChunker()
+    {
+        closeQuietly(chunker);
+        chunker = null;
+        currentStream = null;
+    }
+
+    private static int toKilobytes(long aBytes)
+    {
+        return (int) Math.min(aBytes / 1024, Integer.MAX_VALUE);
+    }
+
     protected String cleanTag(String aField)
     {
         if (aField == null) {
@@ -81,4 +256,46 @@ public abstract class ConllReader_ImplBase
 
         return rel;
     }
+
+    private static class CountingInputStream
+        extends FilterInputStream
+    {
+        private long count;
+
+        CountingInputStream(InputStream aIn)
+        {
+            super(aIn);
+        }
+
+        @Override
+        public int read()
+            throws IOException
+        {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] aBuffer, int aOffset, int aLength)
+            throws IOException
+        {
+            int n = super.read(aBuffer, aOffset, aLength);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long aN)
+            throws IOException
+        {
+            long n = super.skip(aN);
+            count += n;
+            return n;
+        }
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.io.conll.internal;
+
+/**
+ * Iterates over the fields of a string separated by a single character without creating
+ * intermediate arrays or regular expressions. Only fields which are actually needed are copied
+ * into new strings. An instance can be reused for any number of strings, but it is not
+ * thread-safe.
+ *
+ * <pre>
+ * FieldTokenizer fields = new FieldTokenizer();
+ * fields.reset(feats, '|');
+ * while (fields.next()) {
+ *     int eq = fields.indexOf('=');
+ *     String key = fields.value(0, eq);
+ *     ...
+ * }
+ * </pre>
+ */
+public class FieldTokenizer
+{
+    private String text;
+    private char separator;
+    private int begin;
+    private int end;
+
+    /**
+     * Starts iterating over the fields of the given string.
+     *
+     * @param aText
+     *            the string.
+     * @param aSeparator
+     *            the field separator.
+     * @return this tokenizer.
+     */
+    public FieldTokenizer reset(String aText, char aSeparator)
+    {
+        text = aText;
+        separator = aSeparator;
+        begin = -1;
+        end = -1;
+        return this;
+    }
+
+    /**
+     * Advances to the next field.
+     *
+     * @return whether there is another field.
+     */
+    public boolean next()
+    {
+        if (end >= text.length()) {
+            return false;
+        }
+
+        begin = end + 1;
+        end = text.indexOf(separator, begin);
+        if (end < 0) {
+            end = text.length();
+        }
+        return true;
+    }
+
+    /**
+     * @return the length of the current field.
+     */
+    public int length()
+    {
+        return end - begin;
+    }
+
+    /**
+     * @param aChar
+     *            a character.
+     * @return the position of the character relative to the start of the current field or -1 if
+     *         the field does not contain it.
+     */
+    public int indexOf(char aChar)
+    {
+        int i = text.indexOf(aChar, begin);
+        return i >= 0 && i < end ? i - begin : -1;
+    }
+
+    /**
+     * @return the current field.
+     */
+    public String value()
+    {
+        return text.substring(begin, end);
+    }
+
+    /**
+     * @param aBegin
+     *            the start of the part relative to the start of the current field.
+     * @param aEnd
+     *            the end of the part relative to the start of the current field.
+     * @return a part of the current field.
+     */
+    public String value(int aBegin, int aEnd)
+    {
+        return text.substring(begin + aBegin, begin + aEnd);
+    }
+
+    /**
+     * Splits the given string into its fields. Like {@link String#split(String)}, trailing empty
+     * fields are removed.
+     *
+     * @param aText
+     *            the string.
+     * @param aSeparator
+     *            the field separator.
+     * @return the fields.
+     */
+    public static String[] split(String aText, char aSeparator)
+    {
+        if (aText.isEmpty()) {
+            return new String[] { aText };
+        }
+
+        int length = aText.length();
+        while (length > 0 && aText.charAt(length - 1) == aSeparator) {
+            length--;
+        }
+        if (length == 0) {
+            return new String[0];
+        }
+
+        int count = 1;
+        for (int i = aText.indexOf(aSeparator); i >= 0 && i < length;
+                i = aText.indexOf(aSeparator, i + 1)) {
+            count++;
+        }
+
+        String[] fields = new String[count];
+        int begin = 0;
+        for (int n = 0; n < count - 1; n++) {
+            int end = aText.indexOf(aSeparator, begin);
+            fields[n] = aText.substring(begin, end);
+            begin = end + 1;
+        }
+        fields[count - 1] = aText.substring(begin, length);
+        return fields;
+    }
+}
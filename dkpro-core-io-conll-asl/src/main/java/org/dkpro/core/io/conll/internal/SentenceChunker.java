@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.io.conll.internal;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Predicate;
+
+/**
+ * Splits a CoNLL file into chunks of sentences while reading it. Sentences are separated by
+ * blank lines. A chunk ends after a given number of sentences or before a line marking the start
+ * of a new document. Each chunk is presented as a separate {@link Reader}, so the readers can
+ * parse a chunk just like an entire file.
+ */
+class SentenceChunker
+    implements Closeable
+{
+    private final BufferedReader in;
+    private final int sentencesPerChunk;
+    private final Predicate<String> documentBoundary;
+
+    // A line which has been read from the input but not been passed to a chunk yet
+    private String pending;
+
+    /**
+     * @param aIn
+     *            the input.
+     * @param aSentencesPerChunk
+     *            the maximum number of sentences per chunk or 0 for no limit.
+     * @param aDocumentBoundary
+     *            tests whether a line starts a new document or {@code null} if chunks should not
+     *            be split at document boundaries.
+     */
+    SentenceChunker(BufferedReader aIn, int aSentencesPerChunk,
+            Predicate<String> aDocumentBoundary)
+    {
+        in = aIn;
+        sentencesPerChunk = aSentencesPerChunk;
+        documentBoundary = aDocumentBoundary;
+    }
+
+    /**
+     * @return whether there is any more non-blank input.
+     */
+    boolean hasNextChunk()
+        throws IOException
+    {
+        while (pending == null) {
+            String line = in.readLine();
+            if (line == null) {
+                return false;
+            }
+            if (!isBlank(line)) {
+                pending = line;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return a reader for the next chunk. The chunk must be read to its end before the next chunk
+     *         is requested. Closing the returned reader does not close the input.
+     */
+    Reader nextChunk()
+    {
+        return new Chunk();
+    }
+
+    @Override
+    public void close()
+        throws IOException
+    {
+        in.close();
+    }
+
+    private static boolean isBlank(String aLine)
+    {
+        for (int i = 0; i < aLine.length(); i++) {
+            if (!Character.isWhitespace(aLine.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private class Chunk
+        extends Reader
+    {
+        private String line = "";
+        private int pos = 1;
+        private boolean finished;
+        private boolean hasContent;
+        private boolean inSentence;
+        private int sentences;
+
+        @Override
+        public int read(char[] aBuffer, int aOffset, int aLength)
+            throws IOException
+        {
+            int read = 0;
+            while (read < aLength) {
+                if (pos > line.length()) {
+                    if (!nextLine()) {
+                        break;
+                    }
+                }
+
+                if (pos == line.length()) {
+                    aBuffer[aOffset + read] = '\n';
+                    read++;
+                    pos++;
+                }
+                else {
+                    int n = Math.min(aLength - read, line.length() - pos);
+                    line.getChars(pos, pos + n, aBuffer, aOffset + read);
+                    read += n;
+                    pos += n;
+                }
+            }
+            return read == 0 && aLength > 0 ? -1 : read;
+        }
+
+        private boolean nextLine()
+            throws IOException
+        {
+            if (finished) {
+                return false;
+            }
+
+            String next = pending != null ? pending : in.readLine();
+            pending = null;
+            if (next == null) {
+                finished = true;
+                return false;
+            }
+
+            if (isBlank(next)) {
+                if (inSentence) {
+                    inSentence = false;
+                    sentences++;
+                    finished = sentencesPerChunk > 0 && sentences >= sentencesPerChunk;
+                }
+            }
+            else {
+                if (hasContent && documentBoundary != null && documentBoundary.test(next)) {
+                    // Leave the line for the next chunk
+                    pending = next;
+                    finished = true;
+                    return false;
+                }
+                hasContent = true;
+                inSentence |= !next.startsWith("#");
+            }
+
+            line = next;
+            pos = 0;
+            return true;
+        }
+
+        @Override
+        public void close()
+        {
+            // The input is closed by the chunker
+        }
+    }
+}
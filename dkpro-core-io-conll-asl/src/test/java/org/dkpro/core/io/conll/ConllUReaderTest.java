@@ -26,6 +26,7 @@ import static org.dkpro.core.testing.AssertAnnotations.assertPOS;
 import static org.dkpro.core.testing.AssertAnnotations.assertSentence;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.uima.cas.text.AnnotationIndex;
@@ -160,4 +161,48 @@ public class ConllUReaderTest
                 "Slovenská ústava: pro i proti" };
         assertSentence(sentences, select(jcas, Sentence.class));
     }
+
+    @Test
+    public void testSentencesPerCas()
+            throws Exception
+    {
+        CollectionReaderDescription reader = createReaderDescription(
+                ConllUReader.class, 
+                ConllUReader.PARAM_LANGUAGE, "en",
+                ConllUReader.PARAM_SOURCE_LOCATION, "src/test/resources/conll/u/", 
+                ConllUReader.PARAM_PATTERNS, "conllu-en-orig.conllu",
+                ConllUReader.PARAM_SENTENCES_PER_CAS, 1);
+
+        List<String> documentIDs = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        for (JCas jcas : new JCasIterable(reader)) {
+            documentIDs.add(DocumentMetaData.get(jcas).getDocumentId());
+            texts.add(jcas.getDocumentText());
+        }
+
+        assertEquals(asList("conllu-en-orig.conllu#0", "conllu-en-orig.conllu#1"), documentIDs);
+        assertEquals(asList("They buy and sell books.", "I have not a clue."), texts);
+    }
+
+    @Test
+    public void testSplitAtDocumentBoundaries()
+            throws Exception
+    {
+        CollectionReaderDescription reader = createReaderDescription(
+                ConllUReader.class,
+                ConllUReader.PARAM_LANGUAGE, "en",
+                ConllUReader.PARAM_SOURCE_LOCATION, "src/test/resources/conll/u_v2/",
+                ConllUReader.PARAM_PATTERNS, "conllu-multiple_document_IDs.conllu",
+                ConllUReader.PARAM_SPLIT_AT_DOCUMENT_BOUNDARIES, true);
+
+        List<String> documentIDs = new ArrayList<>();
+        List<Integer> sentenceCounts = new ArrayList<>();
+        for (JCas jcas : new JCasIterable(reader)) {
+            documentIDs.add(DocumentMetaData.get(jcas).getDocumentId());
+            sentenceCounts.add(select(jcas, Sentence.class).size());
+        }
+
+        assertEquals(asList("mf920901-001", "mf920901-002"), documentIDs);
+        assertEquals(asList(2, 1), sentenceCounts);
+    }
 }
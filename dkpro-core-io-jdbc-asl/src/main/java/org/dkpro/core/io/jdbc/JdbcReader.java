@@ -19,14 +19,20 @@ package org.dkpro.core.io.jdbc;
 
 import static java.util.Arrays.asList;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.HashSet;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.apache.commons.dbutils.DbUtils;
@@ -58,6 +64,11 @@ import eu.openminted.share.annotations.api.constants.OperationType;
  * <p>
  * will create a CAS for each record, write the content of "text" column into CAS document text and
  * that of "title" column into the document title field of the {@link DocumentMetaData} annotation.
+ * <p>
+ * By default, the full result set is retrieved and counted before the first document is
+ * produced. For large tables, set {@link #PARAM_FETCH_SIZE} and/or {@link #PARAM_KEY_COLUMN} to
+ * stream the rows using a forward-only result set, optionally in pages ordered by a key column.
+ * In this mode, the total number of rows is only known if a {@link #PARAM_COUNT_QUERY} is given.
  */
 @Component(value = OperationType.READER)
 @ResourceMetaData(name = "JDBC-based Database Reader")
@@ -148,23 +159,125 @@ public class JdbcReader
     @ConfigurationParameter(name = PARAM_LANGUAGE, mandatory = false)
     private String language;
 
+    /**
+     * Number of rows the driver should fetch from the database at once. If set, the rows are
+     * streamed using a forward-only result set instead of retrieving and counting the full result
+     * set up front.
+     * <p>
+     * Note that some drivers need additional settings to actually stream the rows, e.g. MySQL
+     * requires {@code &useCursorFetch=true} in the {@link #PARAM_CONNECTION_PARAMS} (or a fetch
+     * size of {@link Integer#MIN_VALUE}). For PostgreSQL, auto-commit is disabled on the
+     * connection in this mode because the driver otherwise ignores the fetch size.
+     */
+    public static final String PARAM_FETCH_SIZE = "fetchSize";
+    @ConfigurationParameter(name = PARAM_FETCH_SIZE, mandatory = false)
+    private Integer fetchSize;
+
+    /**
+     * Label of a column in the result of the query which uniquely identifies and orders the rows,
+     * typically the primary key. If set, the rows are streamed in pages of
+     * {@link #PARAM_PAGE_SIZE} rows using keyset pagination, i.e. the query is wrapped such that
+     * each page only returns rows with a key greater than the last key of the previous page.
+     * Unlike offset-based paging, this does not slow down towards the end of large tables, but
+     * the column should be indexed.
+     */
+    public static final String PARAM_KEY_COLUMN = "keyColumn";
+    @ConfigurationParameter(name = PARAM_KEY_COLUMN, mandatory = false)
+    private String keyColumn;
+
+    /**
+     * Maximum number of rows retrieved per page when using {@link #PARAM_KEY_COLUMN}.
+     */
+    public static final String PARAM_PAGE_SIZE = "pageSize";
+    @ConfigurationParameter(name = PARAM_PAGE_SIZE, mandatory = true, defaultValue = "10000")
+    private int pageSize;
+
+    /**
+     * Query returning the total number of rows in a single column, e.g.
+     * {@code SELECT COUNT(*) FROM test_table}. When streaming, it is used to report the progress
+     * of the reader. Otherwise, the total is unknown.
+     */
+    public static final String PARAM_COUNT_QUERY = "countQuery";
+    @ConfigurationParameter(name = PARAM_COUNT_QUERY, mandatory = false)
+    private String countQuery;
+
+    /**
+     * Only read the rows with a key greater than the given one. Requires
+     * {@link #PARAM_KEY_COLUMN}.
+     */
+    public static final String PARAM_RESUME_KEY = "resumeKey";
+    @ConfigurationParameter(name = PARAM_RESUME_KEY, mandatory = false)
+    private String resumeKey;
+
+    /**
+     * File in which the key of the last row that was handed out by the reader is recorded
+     * whenever a new page is fetched and when the reader is closed. If the file exists when the
+     * reader is initialized and no {@link #PARAM_RESUME_KEY} is given, reading resumes after the
+     * recorded key. After a crash, at most one page of rows is read again. Requires
+     * {@link #PARAM_KEY_COLUMN}.
+     */
+    public static final String PARAM_CHECKPOINT_FILE = "checkpointFile";
+    @ConfigurationParameter(name = PARAM_CHECKPOINT_FILE, mandatory = false)
+    private File checkpointFile;
+
     private Connection sqlConnection;
+    private PreparedStatement statement;
     private ResultSet resultSet;
-    private int resultSetSize;
-    private int completed;
+    private long resultSetSize;
+    private long completed;
     private Set<String> columnNames;
 
+    private boolean streaming;
+    private boolean keysetStatement;
+    private boolean rowAvailable;
+    private int rowsInPage;
+    private Object lastKey;
+    private Integer keyType;
+
     @Override
     public void initialize(UimaContext context)
             throws ResourceInitializationException
     {
         super.initialize(context);
 
+        streaming = fetchSize != null || keyColumn != null;
+
+        if (keyColumn == null && (resumeKey != null || checkpointFile != null)) {
+            throw new ResourceInitializationException(new IllegalArgumentException("Parameters ["
+                    + PARAM_RESUME_KEY + "] and [" + PARAM_CHECKPOINT_FILE + "] require ["
+                    + PARAM_KEY_COLUMN + "] to be set."));
+        }
+
+        if (pageSize < 1) {
+            throw new ResourceInitializationException(new IllegalArgumentException(
+                    "Parameter [" + PARAM_PAGE_SIZE + "] must be positive but was [" + pageSize
+                            + "]."));
+        }
+
         try {
+            if (resumeKey == null && checkpointFile != null && checkpointFile.exists()) {
+                String checkpoint = Files.readString(checkpointFile.toPath()).strip();
+                resumeKey = checkpoint.isEmpty() ? null : checkpoint;
+            }
+            if (resumeKey != null) {
+                getLogger().info("Resuming after key [" + resumeKey + "].");
+            }
+            lastKey = resumeKey;
+
             openDatabaseConnection();
-            query();
+            if (streaming) {
+                if (fetchSize != null) {
+                    // PostgreSQL only uses cursors (and hence the fetch size) outside auto-commit
+                    sqlConnection.setAutoCommit(false);
+                }
+                resultSetSize = countQuery != null ? count() : -1;
+                nextPage();
+            }
+            else {
+                query();
+            }
         }
-        catch (SQLException | ClassNotFoundException e) {
+        catch (SQLException | ClassNotFoundException | IOException e) {
             throw new ResourceInitializationException(e);
         }
     }
@@ -199,6 +312,97 @@ public class JdbcReader
         resultSet.beforeFirst();
         completed = 0;
 
+        readColumnNames();
+    }
+
+    private long count()
+            throws SQLException
+    {
+        getLogger().info("Executing count query: '" + countQuery + "'.");
+
+        try (Statement countStatement = sqlConnection.createStatement();
+                ResultSet countResult = countStatement.executeQuery(countQuery)) {
+            long count = countResult.next() ? countResult.getLong(1) : 0;
+            getLogger().info(count + " documents to be retrieved.");
+            return count;
+        }
+    }
+
+    private void nextPage()
+            throws SQLException
+    {
+        DbUtils.closeQuietly(resultSet);
+
+        if (keyColumn == null) {
+            // Plain streaming: a single forward-only result set over the whole query
+            statement = prepare(query);
+        }
+        else if (lastKey == null) {
+            // First page: no key to compare against yet
+            statement = prepare("SELECT * FROM (" + subQuery() + ") dkpro_page ORDER BY "
+                    + keyColumn);
+        }
+        else {
+            // Subsequent pages: the statement is re-used with the last key seen as parameter
+            if (!keysetStatement) {
+                DbUtils.closeQuietly(statement);
+                statement = prepare("SELECT * FROM (" + subQuery() + ") dkpro_page WHERE "
+                        + keyColumn + " > ? ORDER BY " + keyColumn);
+                keysetStatement = true;
+            }
+            // A resume key is read as a string - bind it with the type of the key column so
+            // that the database does not have to compare e.g. an integer column to a string
+            statement.setObject(1, lastKey, getKeyType());
+        }
+
+        resultSet = statement.executeQuery();
+        rowsInPage = 0;
+
+        if (columnNames == null) {
+            readColumnNames();
+        }
+    }
+
+    private int getKeyType()
+            throws SQLException
+    {
+        if (keyType == null) {
+            // Determine the type of the key column without fetching any rows
+            try (Statement probe = sqlConnection.createStatement();
+                    ResultSet probeResult = probe.executeQuery("SELECT " + keyColumn
+                            + " FROM (" + subQuery() + ") dkpro_page WHERE 1 = 0")) {
+                keyType = probeResult.getMetaData().getColumnType(1);
+            }
+        }
+        return keyType;
+    }
+
+    private String subQuery()
+    {
+        // A trailing semicolon is fine for a top-level query but not inside parentheses
+        String subQuery = query.strip();
+        return subQuery.endsWith(";") ? subQuery.substring(0, subQuery.length() - 1) : subQuery;
+    }
+
+    private PreparedStatement prepare(String aSql)
+            throws SQLException
+    {
+        getLogger().info("Executing query: '" + aSql + "'.");
+
+        PreparedStatement stmt = sqlConnection.prepareStatement(aSql, ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY);
+        if (fetchSize != null) {
+            stmt.setFetchSize(fetchSize);
+        }
+        if (keyColumn != null) {
+            stmt.setMaxRows(pageSize);
+        }
+        return stmt;
+    }
+
+    private void readColumnNames()
+            throws SQLException
+    {
         // Store available column names
         columnNames = new HashSet<>();
         ResultSetMetaData meta = resultSet.getMetaData();
@@ -215,11 +419,20 @@ public class JdbcReader
     public void getNext(CAS cas)
             throws IOException, CollectionException
     {
-        try {
-            resultSet.next(); // advance to next item (used to be done in hasNext())
+        if (streaming) {
+            // The row has already been fetched by hasNext()
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            rowAvailable = false;
         }
-        catch (SQLException e) {
-            throw new CollectionException(e);
+        else {
+            try {
+                resultSet.next(); // advance to next item (used to be done in hasNext())
+            }
+            catch (SQLException e) {
+                throw new CollectionException(e);
+            }
         }
         // Store data into CAS
         DocumentMetaData metadata;
@@ -243,9 +456,32 @@ public class JdbcReader
         metadata.setDocumentUri(getStringQuietly(CAS_METADATA_DOCUMENT_URI));
         metadata.setDocumentBaseUri(getStringQuietly(CAS_METADATA_DOCUMENT_BASE_URI));
 
+        if (keyColumn != null) {
+            try {
+                lastKey = resultSet.getObject(keyColumn);
+            }
+            catch (SQLException e) {
+                throw new CollectionException(e);
+            }
+        }
+
         completed++;
     }
 
+    private void writeCheckpoint()
+            throws IOException
+    {
+        if (checkpointFile == null || lastKey == null) {
+            return;
+        }
+
+        Path target = checkpointFile.toPath().toAbsolutePath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.writeString(temp, String.valueOf(lastKey));
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
     private String getStringQuietly(String columnName)
     {
         if (columnNames.contains(columnName)) {
@@ -264,14 +500,44 @@ public class JdbcReader
     {
         // REC: It should be possible to determine the current row and the total size of the result
         // set and use this here to return progress information.
-        return new Progress[] { new ProgressImpl(completed, resultSetSize, "row") };
+        // ProgressImpl only supports int values, so very large result sets are clamped
+        return new Progress[] { new ProgressImpl((int) Math.min(completed, Integer.MAX_VALUE),
+                (int) Math.min(resultSetSize, Integer.MAX_VALUE), "row") };
     }
 
     @Override
     public boolean hasNext()
             throws IOException, CollectionException
     {
-        return (completed < resultSetSize);
+        if (!streaming) {
+            return (completed < resultSetSize);
+        }
+
+        if (!rowAvailable && resultSet != null) {
+            try {
+                rowAvailable = resultSet.next();
+                if (!rowAvailable && keyColumn != null && rowsInPage == pageSize) {
+                    // The page was full, so there may be more rows after the last key
+                    writeCheckpoint();
+                    nextPage();
+                    rowAvailable = resultSet.next();
+                }
+
+                if (rowAvailable) {
+                    rowsInPage++;
+                }
+                else {
+                    // Do not call next() on an exhausted forward-only result set again
+                    DbUtils.closeQuietly(resultSet);
+                    resultSet = null;
+                }
+            }
+            catch (SQLException e) {
+                throw new CollectionException(e);
+            }
+        }
+
+        return rowAvailable;
     }
 
     @Override
@@ -279,6 +545,16 @@ public class JdbcReader
             throws IOException
     {
         DbUtils.closeQuietly(resultSet);
-        DbUtils.closeQuietly(sqlConnection);
+        DbUtils.closeQuietly(statement);
+        if (streaming) {
+            writeCheckpoint();
+        }
+        if (streaming && fetchSize != null) {
+            // Auto-commit was disabled, end the read-only transaction
+            DbUtils.rollbackAndCloseQuietly(sqlConnection);
+        }
+        else {
+            DbUtils.closeQuietly(sqlConnection);
+        }
     }
 }
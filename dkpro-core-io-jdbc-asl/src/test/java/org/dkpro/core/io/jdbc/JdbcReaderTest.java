@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.io.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.apache.commons.dbutils.DbUtils;
+import org.apache.uima.UIMAException;
+import org.apache.uima.cas.CAS;
+import org.apache.uima.collection.CollectionReader;
+import org.apache.uima.fit.factory.CollectionReaderFactory;
+import org.apache.uima.fit.factory.JCasFactory;
+import org.apache.uima.util.Progress;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.tudarmstadt.ukp.dkpro.core.api.metadata.type.DocumentMetaData;
+
+public class JdbcReaderTest
+{
+    private static final String DB_NAME = "test_streaming_db";
+    private static final String DB_USER = "root";
+    private static final String DB_PASS = "";
+
+    @Test
+    public void hsqldbStreamingTest(@TempDir File aTempDir)
+        throws Exception
+    {
+        String table = "test_streaming";
+        createTable(table, 7);
+
+        File checkpoint = new File(aTempDir, "checkpoint.txt");
+        CollectionReader jdbcReader = createStreamingReader(table, checkpoint);
+
+        int i = 1;
+        while (jdbcReader.hasNext()) {
+            // Looking ahead must not skip any rows
+            jdbcReader.hasNext();
+
+            CAS cas = JCasFactory.createJCas().getCas();
+            jdbcReader.getNext(cas);
+            assertEquals("title" + i, DocumentMetaData.get(cas).getDocumentTitle());
+            assertEquals("text..." + i, cas.getDocumentText());
+
+            Progress progress = jdbcReader.getProgress()[0];
+            assertEquals(i, progress.getCompleted());
+            assertEquals(7, progress.getTotal());
+            i++;
+        }
+        jdbcReader.close();
+
+        assertEquals(8, i);
+        assertEquals("7", Files.readString(checkpoint.toPath()));
+    }
+
+    @Test
+    public void hsqldbResumeTest(@TempDir File aTempDir)
+        throws Exception
+    {
+        String table = "test_resume";
+        createTable(table, 5);
+
+        // Simulate a crash after the first page of two rows has been read completely
+        File checkpoint = new File(aTempDir, "checkpoint.txt");
+        CollectionReader jdbcReader = createStreamingReader(table, checkpoint);
+        for (int i = 0; i < 3; i++) {
+            jdbcReader.hasNext();
+            jdbcReader.getNext(JCasFactory.createJCas().getCas());
+        }
+        assertEquals("2", Files.readString(checkpoint.toPath()));
+
+        // A new reader continues after the checkpoint
+        jdbcReader = createStreamingReader(table, checkpoint);
+        int i = 3;
+        while (jdbcReader.hasNext()) {
+            CAS cas = JCasFactory.createJCas().getCas();
+            jdbcReader.getNext(cas);
+            assertEquals("title" + i, DocumentMetaData.get(cas).getDocumentTitle());
+            i++;
+        }
+        jdbcReader.close();
+
+        assertEquals(6, i);
+        assertFalse(jdbcReader.hasNext());
+    }
+
+    @Test
+    public void hsqldbResumeKeyTest(@TempDir File aTempDir)
+        throws Exception
+    {
+        String table = "test_resume_key";
+        createTable(table, 12);
+
+        // The resume key is a string but must be compared as an integer, i.e. 10 > 9
+        File checkpoint = new File(aTempDir, "checkpoint.txt");
+        Files.writeString(checkpoint.toPath(), "9");
+        CollectionReader jdbcReader = createStreamingReader(table, checkpoint);
+        int i = 10;
+        while (jdbcReader.hasNext()) {
+            CAS cas = JCasFactory.createJCas().getCas();
+            jdbcReader.getNext(cas);
+            assertEquals("title" + i, DocumentMetaData.get(cas).getDocumentTitle());
+            i++;
+        }
+        jdbcReader.close();
+
+        assertEquals(13, i);
+    }
+
+    private CollectionReader createStreamingReader(String aTable, File aCheckpoint)
+        throws UIMAException
+    {
+        return CollectionReaderFactory.createReader(
+                JdbcReader.class,
+                JdbcReader.PARAM_DATABASE, DB_NAME,
+                JdbcReader.PARAM_USER, DB_USER,
+                JdbcReader.PARAM_PASSWORD, DB_PASS,
+                JdbcReader.PARAM_QUERY, "SELECT id, title AS \"" + JdbcReader.CAS_METADATA_TITLE
+                        + "\", text AS \"" + JdbcReader.CAS_TEXT + "\" FROM " + aTable + ";",
+                JdbcReader.PARAM_DRIVER, "org.hsqldb.jdbc.JDBCDriver",
+                JdbcReader.PARAM_CONNECTION, "jdbc:hsqldb:mem:",
+                JdbcReader.PARAM_FETCH_SIZE, 1,
+                JdbcReader.PARAM_KEY_COLUMN, "id",
+                JdbcReader.PARAM_PAGE_SIZE, 2,
+                JdbcReader.PARAM_COUNT_QUERY, "SELECT COUNT(*) FROM " + aTable,
+                JdbcReader.PARAM_CHECKPOINT_FILE, aCheckpoint);
+    }
+
+    private void createTable(String aTable, int aRows)
+        throws SQLException
+    {
+        Connection conn = null;
+        Statement stmnt = null;
+        try {
+            conn = DriverManager.getConnection("jdbc:hsqldb:mem:/" + DB_NAME, DB_USER, DB_PASS);
+            stmnt = conn.createStatement();
+            stmnt.addBatch("CREATE TABLE " + aTable
+                    + " (id integer primary key, title varchar(50), text varchar(100));");
+            // Insert in reverse order to make sure the reader orders by key
+            for (int i = aRows; i > 0; i--) {
+                stmnt.addBatch("INSERT INTO " + aTable + " (id, title, text) VALUES (" + i
+                        + ", 'title" + i + "', 'text..." + i + "');");
+            }
+            stmnt.executeBatch();
+        }
+        finally {
+            DbUtils.closeQuietly(stmnt);
+            DbUtils.closeQuietly(conn);
+        }
+    }
+}
@@ -17,6 +17,7 @@
  */
 package org.dkpro.core.io.web1t;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Set;
 
@@ -129,6 +130,33 @@ public class Web1TWriter
     @ConfigurationParameter(name = PARAM_CONTEXT_TYPE, mandatory = true, defaultValue = Sentence._TypeName)
     protected String contextType;
 
+    /**
+     * Directory for the temporary files created while sorting n-gram files which do not fit into
+     * the memory budget. By default, the system temporary directory is used.
+     */
+    public static final String PARAM_TEMP_DIRECTORY = "tempDirectory";
+    @ConfigurationParameter(name = PARAM_TEMP_DIRECTORY, mandatory = false)
+    private File tempDirectory;
+
+    /**
+     * Approximate amount of memory in megabytes used for sorting the n-gram files. By default, a
+     * quarter of the maximum heap size is used.
+     */
+    public static final String PARAM_SORT_MEMORY = "sortMemory";
+    @ConfigurationParameter(name = PARAM_SORT_MEMORY, mandatory = false, defaultValue = "0")
+    private int sortMemory;
+
+    /**
+     * Number of threads used to sort the n-gram files. By default, the number of available
+     * processors minus one is used.
+     * 
+     * @see ComponentParameters#computeNumThreads(int)
+     */
+    public static final String PARAM_NUM_THREADS = ComponentParameters.PARAM_NUM_THREADS;
+    @ConfigurationParameter(name = PARAM_NUM_THREADS, mandatory = true,
+            defaultValue = ComponentParameters.AUTO_NUM_THREADS)
+    private int numThreads;
+
     private Web1TConverter converter;
 
     @Override
@@ -148,6 +176,9 @@ public class Web1TWriter
         converter.setMinFrequency(minFreq);
         converter.setToLowercase(lowercase);
         converter.setOutputEncoding(outputEncoding);
+        converter.setTempDirectory(tempDirectory);
+        converter.setMemoryBudget(sortMemory * 1024L * 1024L);
+        converter.setThreads(ComponentParameters.computeNumThreads(numThreads));
     }
 
     @Override
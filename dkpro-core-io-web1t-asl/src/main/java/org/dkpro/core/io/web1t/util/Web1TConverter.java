@@ -27,23 +27,20 @@ import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.uima.analysis_engine.AnalysisEngineProcessException;
 import org.apache.uima.cas.CAS;
 import org.apache.uima.cas.Type;
 import org.apache.uima.cas.text.AnnotationFS;
 import org.apache.uima.fit.util.CasUtil;
 import org.apache.uima.jcas.JCas;
+import org.dkpro.core.api.featurepath.CompiledFeaturePath;
 import org.dkpro.core.api.featurepath.FeaturePathException;
-import org.dkpro.core.api.featurepath.FeaturePathInfo;
 import org.dkpro.core.api.frequency.util.ConditionalFrequencyDistribution;
 import org.dkpro.core.api.frequency.util.FrequencyDistribution;
 import org.dkpro.core.ngrams.util.NGramStringIterable;
@@ -67,6 +64,9 @@ public class Web1TConverter
     private boolean toLowercase = false;
     private boolean writeIndexes = true;
     private float splitThreshold = 1.0f;
+    private File tempDirectory;
+    private long memoryBudget = 0;
+    private int threads = 0;
 
     private Map<Integer, BufferedWriter> _ngramWriters;
     private Map<Integer, FrequencyDistribution<String>> letterFDs;
@@ -111,24 +111,27 @@ public class Web1TConverter
 
         CAS cas = jcas.getCas();
 
-        for (AnnotationFS annotation : CasUtil.select(cas, sentenceType)) {
-
-            for (String path : inputPaths) {
+        // Resolve the input paths once per document instead of once per sentence and token
+        List<CompiledFeaturePath> paths = new ArrayList<CompiledFeaturePath>();
+        for (String path : inputPaths) {
+            String[] segments = path.split("/", 2);
+            Type type = getInputType(cas, segments[0]);
+            try {
+                paths.add(CompiledFeaturePath.compile(type, segments.length > 1 ? segments[1] : ""));
+            }
+            catch (FeaturePathException e) {
+                throw new IOException(e);
+            }
+        }
 
-                String[] segments = path.split("/", 2);
-                String typeName = segments[0];
+        for (AnnotationFS annotation : CasUtil.select(cas, sentenceType)) {
 
-                Type type = getInputType(cas, typeName);
+            for (CompiledFeaturePath path : paths) {
 
-                List<AnnotationFS> tokens = CasUtil.selectCovered(cas, type, annotation);
+                List<AnnotationFS> tokens = CasUtil.selectCovered(cas, path.getAnchorType(),
+                        annotation);
 
-                List<String> tokenStrings;
-                try {
-                    tokenStrings = createStringList(tokens, segments);
-                }
-                catch (AnalysisEngineProcessException e) {
-                    throw new IOException(e);
-                }
+                List<String> tokenStrings = createStringList(tokens, path);
 
                 for (int ngramLen = minNgramLength; ngramLen <= maxNgramLength; ngramLen++) {
                     cfd.incAll(ngramLen, new NGramStringIterable(tokenStrings, ngramLen, ngramLen));
@@ -150,21 +153,12 @@ public class Web1TConverter
             closeWriters(_ngramWriters.values());
         }
 
-        Comparator<String> comparator = new Comparator<String>()
-        {
-            @Override
-            public int compare(String r1, String r2)
-            {
-                return r1.compareTo(r2);
-            }
-        };
-
         // read the file with the counts per file and create the final
         // aggregated counts
         for (int level = minNgramLength; level <= maxNgramLength; level++) {
-            Integer nextFreeFileNumber = processInputFileForLevel(level, comparator);
+            Integer nextFreeFileNumber = processInputFileForLevel(level);
 
-            processCreatedMiscFileAgain(level, comparator, nextFreeFileNumber);
+            processCreatedMiscFileAgain(level, nextFreeFileNumber);
         }
 
         if (writeIndexes) {
@@ -173,7 +167,7 @@ public class Web1TConverter
         }
     }
 
-    private int processInputFileForLevel(int level, Comparator<String> comparator)
+    private int processInputFileForLevel(int level)
         throws IOException
     {
 
@@ -190,28 +184,9 @@ public class Web1TConverter
         splitter.split();
         List<File> splitFiles = splitter.getFiles();
 
-        Web1TFileSorter sorter = new Web1TFileSorter(splitFiles, comparator);
-        sorter.sort();
+        sortAndConsolidate(splitFiles);
         splitter.cleanUp(); // Remove files from previous step
 
-        LinkedList<File> sortedFiles = sorter.getSortedFiles();
-
-        Web1TFileConsolidator consolidator = new Web1TFileConsolidator(sortedFiles, comparator,
-                outputEncoding, minFrequency);
-
-        consolidator.consolidate();
-        sorter.cleanUp(); // Remove files from previous step
-
-        LinkedList<File> consolidatedFiles = consolidator.getConsolidatedFiles();
-
-        // rename consolidated files -> final index files
-        for (File file : consolidatedFiles) {
-            String name = Web1TUtil.cutOffUnderscoredSuffixFromFileName(file);
-            file.renameTo(new File(name));
-        }
-
-        consolidator.cleanUp();
-
         unsortedInputFile.delete();
 
         return splitter.getNextUnusedFileNumber();
@@ -261,18 +236,14 @@ public class Web1TConverter
         writer.flush();
     }
 
-    private List<String> createStringList(List<AnnotationFS> tokens, String[] segments)
-        throws AnalysisEngineProcessException
+    private List<String> createStringList(List<AnnotationFS> tokens, CompiledFeaturePath aPath)
     {
 
         List<String> tokenStrings = new ArrayList<String>();
         tokenStrings.add(SENTENCE_START);
 
-        FeaturePathInfo fp = new FeaturePathInfo();
-        initializeFeaturePathInfoFrom(fp, segments);
-
         for (AnnotationFS annotation : tokens) {
-            String value = fp.getValue(annotation);
+            String value = aPath.getValue(annotation);
             if (!StringUtils.isBlank(value)) {
                 if (toLowercase) {
                     value = value.toLowerCase();
@@ -296,29 +267,11 @@ public class Web1TConverter
         return type;
     }
 
-    private void initializeFeaturePathInfoFrom(FeaturePathInfo aFp, String[] featurePathString)
-        throws AnalysisEngineProcessException
-
-    {
-        try {
-            if (featurePathString.length > 1) {
-                aFp.initialize(featurePathString[1]);
-            }
-            else {
-                aFp.initialize("");
-            }
-        }
-        catch (FeaturePathException e) {
-            throw new AnalysisEngineProcessException(e);
-        }
-    }
-
     /**
      * The default file for words which do not account for <code>thresholdSplit</code> percent may
      * have grown large. In order to prevent an real large misc. file we split again.
      */
-    private void processCreatedMiscFileAgain(int level, Comparator<String> comparator,
-            int nextFileNumber)
+    private void processCreatedMiscFileAgain(int level, int nextFileNumber)
         throws IOException
     {
         File folder = getOutputFolder(level);
@@ -339,28 +292,35 @@ public class Web1TConverter
         splitter.split();
         List<File> splittedFiles = splitter.getFiles();
 
-        Web1TFileSorter sorter = new Web1TFileSorter(splittedFiles, comparator);
-        sorter.sort();
-        List<File> sortedFiles = splitter.getFiles();
-
         splitThreshold = oldThreshold;
         misc.delete();
 
-        Web1TFileConsolidator consolidator = new Web1TFileConsolidator(sortedFiles, comparator,
-                outputEncoding, minFrequency);
-        consolidator.consolidate();
-
-        LinkedList<File> consolidatedFiles = consolidator.getConsolidatedFiles();
+        sortAndConsolidate(splittedFiles);
+        splitter.cleanUp();
+    }
 
-        // rename consolidated files -> final index files
-        for (File file : consolidatedFiles) {
-            String name = Web1TUtil.cutOffUnderscoredSuffixFromFileName(file);
-            file.renameTo(new File(name));
+    /**
+     * Sorts and consolidates the split files into the final index files, i.e. the split files
+     * without their underscored suffix.
+     */
+    private void sortAndConsolidate(List<File> splitFiles)
+        throws IOException
+    {
+        List<File> indexFiles = new ArrayList<File>();
+        for (File file : splitFiles) {
+            indexFiles.add(new File(Web1TUtil.cutOffUnderscoredSuffixFromFileName(file)));
         }
 
-        splitter.cleanUp();
-        sorter.cleanUp();
-        consolidator.cleanUp();
+        Web1TExternalSorter sorter = new Web1TExternalSorter(outputEncoding);
+        sorter.setMinFrequency(minFrequency);
+        sorter.setTempDirectory(tempDirectory);
+        if (memoryBudget > 0) {
+            sorter.setMemoryBudget(memoryBudget);
+        }
+        if (threads > 0) {
+            sorter.setThreads(threads);
+        }
+        sorter.sort(splitFiles, indexFiles);
     }
 
     /**
@@ -518,4 +478,49 @@ public class Web1TConverter
     {
         this.toLowercase = toLowercase;
     }
+
+    public File getTempDirectory()
+    {
+        return tempDirectory;
+    }
+
+    /**
+     * @param tempDirectory
+     *            the directory for temporary files created while sorting or {@code null} to use
+     *            the default temporary directory.
+     */
+    public void setTempDirectory(File tempDirectory)
+    {
+        this.tempDirectory = tempDirectory;
+    }
+
+    public long getMemoryBudget()
+    {
+        return memoryBudget;
+    }
+
+    /**
+     * @param memoryBudget
+     *            the approximate number of bytes to use for sorting or {@code 0} to use a quarter
+     *            of the maximum heap size.
+     */
+    public void setMemoryBudget(long memoryBudget)
+    {
+        this.memoryBudget = memoryBudget;
+    }
+
+    public int getThreads()
+    {
+        return threads;
+    }
+
+    /**
+     * @param threads
+     *            the number of threads to use for sorting or {@code 0} to use one thread per
+     *            available processor.
+     */
+    public void setThreads(int threads)
+    {
+        this.threads = threads;
+    }
 }
@@ -0,0 +1,591 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.io.web1t.util;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Sorts n-gram files consisting of lines of the form {@code n-gram TAB count} and consolidates
+ * them, i.e. the counts of equal n-grams are summed up and n-grams occurring less than the minimum
+ * frequency are dropped.
+ * <p>
+ * The lines are processed as bytes in the file encoding, which must be ASCII-compatible. The
+ * n-grams are ordered like the corresponding Java strings, which is the order expected by the
+ * JWeb1T searcher. For UTF-8 and ISO-8859-1, this order is established directly on the bytes.
+ * <p>
+ * Input files are read in chunks fitting into the memory budget. The chunks are sorted and
+ * consolidated in parallel. If a file does not fit into a single chunk, the chunks are written to
+ * compressed temporary runs which are consolidated while merging them into the output file.
+ */
+public class Web1TExternalSorter
+{
+    private static final byte TAB = '\t';
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    // Estimated memory used by a line in addition to the bytes of the n-gram
+    private static final int LINE_OVERHEAD = 48;
+
+    private final Log log = LogFactory.getLog(getClass());
+
+    private final Charset encoding;
+    private final Comparator<byte[]> comparator;
+    private long memoryBudget = Runtime.getRuntime().maxMemory() / 4;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private File tempDirectory;
+    private int minFrequency = 1;
+
+    public Web1TExternalSorter(String aEncoding)
+    {
+        encoding = Charset.forName(aEncoding);
+        byte[] ascii = "\t\n\r0123456789".getBytes(US_ASCII);
+        if (!Arrays.equals(ascii, "\t\n\r0123456789".getBytes(encoding))) {
+            throw new IllegalArgumentException(
+                    "Encoding [" + aEncoding + "] is not ASCII-compatible");
+        }
+
+        if (StandardCharsets.UTF_8.equals(encoding)) {
+            comparator = Web1TExternalSorter::compareUtf8;
+        }
+        else if (StandardCharsets.ISO_8859_1.equals(encoding)
+                || StandardCharsets.US_ASCII.equals(encoding)) {
+            comparator = Arrays::compareUnsigned;
+        }
+        else {
+            comparator = (a, b) -> new String(a, encoding).compareTo(new String(b, encoding));
+        }
+    }
+
+    /**
+     * Compares UTF-8 encoded strings in the order of {@link String#compareTo(String)}, i.e. by
+     * UTF-16 code units. The byte order equals the code point order which only differs from the
+     * UTF-16 order for characters from U+E000 to U+FFFF, which sort after the supplementary
+     * characters in UTF-16.
+     */
+    static int compareUtf8(byte[] aFirst, byte[] aSecond)
+    {
+        int i = Arrays.mismatch(aFirst, aSecond);
+        if (i < 0) {
+            return 0;
+        }
+        if (i == aFirst.length || i == aSecond.length) {
+            return aFirst.length - aSecond.length;
+        }
+
+        // Since the prefixes are equal, both bytes are either lead bytes or continuation bytes.
+        // The lead bytes 0xEE and 0xEF start the characters U+E000 to U+FFFF.
+        int a = aFirst[i] & 0xff;
+        int b = aSecond[i] & 0xff;
+        if (a >= 0xee && b >= 0xee) {
+            a = a <= 0xef ? a + 0x10 : a;
+            b = b <= 0xef ? b + 0x10 : b;
+        }
+        return a - b;
+    }
+
+    public long getMemoryBudget()
+    {
+        return memoryBudget;
+    }
+
+    /**
+     * @param aMemoryBudget
+     *            the approximate number of bytes to use for sorting.
+     */
+    public void setMemoryBudget(long aMemoryBudget)
+    {
+        if (aMemoryBudget <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive");
+        }
+        memoryBudget = aMemoryBudget;
+    }
+
+    public int getThreads()
+    {
+        return threads;
+    }
+
+    public void setThreads(int aThreads)
+    {
+        if (aThreads < 1) {
+            throw new IllegalArgumentException("Number of threads must be at least 1");
+        }
+        threads = aThreads;
+    }
+
+    public File getTempDirectory()
+    {
+        return tempDirectory;
+    }
+
+    /**
+     * @param aTempDirectory
+     *            the directory for temporary files or {@code null} to use the default temporary
+     *            directory.
+     */
+    public void setTempDirectory(File aTempDirectory)
+    {
+        tempDirectory = aTempDirectory;
+    }
+
+    public int getMinFrequency()
+    {
+        return minFrequency;
+    }
+
+    public void setMinFrequency(int aMinFrequency)
+    {
+        minFrequency = aMinFrequency;
+    }
+
+    /**
+     * Sorts and consolidates each input file into the corresponding output file.
+     *
+     * @param aInputFiles
+     *            the input files.
+     * @param aOutputFiles
+     *            the output files.
+     * @throws IOException
+     *             if the files cannot be read or written.
+     */
+    public void sort(List<File> aInputFiles, List<File> aOutputFiles)
+        throws IOException
+    {
+        if (aInputFiles.size() != aOutputFiles.size()) {
+            throw new IllegalArgumentException("Number of input and output files differ");
+        }
+
+        // One chunk is being filled while the others are sorted
+        long chunkBudget = Math.max(1, memoryBudget / (threads + 1));
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Deque<Future<?>> pending = new ArrayDeque<>();
+        List<List<Future<File>>> runs = new ArrayList<>();
+        try {
+            for (int i = 0; i < aInputFiles.size(); i++) {
+                File output = aOutputFiles.get(i);
+                List<Future<File>> fileRuns = new ArrayList<>();
+                runs.add(fileRuns);
+
+                try (ChunkReader reader = new ChunkReader(aInputFiles.get(i))) {
+                    Line[] chunk;
+                    while ((chunk = reader.next(chunkBudget)) != null) {
+                        // Limit the number of chunks in memory
+                        while (pending.size() >= threads) {
+                            await(pending.poll());
+                        }
+
+                        Line[] lines = chunk;
+                        Future<?> future;
+                        if (fileRuns.isEmpty() && reader.isExhausted()) {
+                            // The whole file fits into memory, no need to merge runs
+                            future = executor.submit(call(() -> writeOutput(lines, output)));
+                        }
+                        else {
+                            Future<File> run = executor.submit(() -> writeRun(lines));
+                            fileRuns.add(run);
+                            future = run;
+                        }
+                        pending.add(future);
+                    }
+
+                    if (fileRuns.isEmpty() && reader.isEmpty()) {
+                        writeOutput(new Line[0], output);
+                    }
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                await(pending.poll());
+            }
+
+            // Merge the runs of the files which did not fit into memory
+            for (int i = 0; i < aInputFiles.size(); i++) {
+                if (!runs.get(i).isEmpty()) {
+                    List<File> runFiles = new ArrayList<>();
+                    for (Future<File> run : runs.get(i)) {
+                        runFiles.add(await(run));
+                    }
+                    File output = aOutputFiles.get(i);
+                    pending.add(executor.submit(call(() -> merge(runFiles, output))));
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                await(pending.poll());
+            }
+        }
+        finally {
+            executor.shutdownNow();
+            try {
+                // Tasks which are still running may yet create runs
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // Remove the runs which have not been merged due to an error
+            for (List<Future<File>> fileRuns : runs) {
+                for (Future<File> run : fileRuns) {
+                    if (run.isDone() && !run.isCancelled()) {
+                        try {
+                            run.get().delete();
+                        }
+                        catch (InterruptedException | ExecutionException e) {
+                            // Nothing was written
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private Line[] sortAndConsolidate(Line[] aLines)
+    {
+        Arrays.sort(aLines, (a, b) -> comparator.compare(a.ngram, b.ngram));
+
+        int size = 0;
+        for (Line line : aLines) {
+            if (size > 0 && comparator.compare(aLines[size - 1].ngram, line.ngram) == 0) {
+                aLines[size - 1].count += line.count;
+            }
+            else {
+                aLines[size++] = line;
+            }
+        }
+        return Arrays.copyOf(aLines, size);
+    }
+
+    private void writeOutput(Line[] aLines, File aOutput)
+        throws IOException
+    {
+        try (OutputStream os = new BufferedOutputStream(new FileOutputStream(aOutput))) {
+            for (Line line : sortAndConsolidate(aLines)) {
+                writeLine(os, line.ngram, line.count);
+            }
+        }
+    }
+
+    private File writeRun(Line[] aLines)
+        throws IOException
+    {
+        File run = File.createTempFile("web1t", ".run", tempDirectory);
+        boolean written = false;
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new DeflaterOutputStream(new FileOutputStream(run), deflater, 65536)))) {
+                for (Line line : sortAndConsolidate(aLines)) {
+                    out.writeInt(line.ngram.length);
+                    out.write(line.ngram);
+                    out.writeLong(line.count);
+                }
+            }
+            written = true;
+        }
+        finally {
+            deflater.end();
+            if (!written) {
+                run.delete();
+            }
+        }
+        return run;
+    }
+
+    private void merge(List<File> aRuns, File aOutput)
+        throws IOException
+    {
+        PriorityQueue<RunReader> queue = new PriorityQueue<>(aRuns.size(),
+                (a, b) -> comparator.compare(a.ngram, b.ngram));
+        try (OutputStream os = new BufferedOutputStream(new FileOutputStream(aOutput))) {
+            for (File run : aRuns) {
+                RunReader reader = new RunReader(run);
+                if (reader.next()) {
+                    queue.add(reader);
+                }
+                else {
+                    reader.close();
+                }
+            }
+
+            // Each run is consolidated, so equal n-grams come from different runs
+            byte[] ngram = null;
+            long count = 0;
+            while (!queue.isEmpty()) {
+                RunReader reader = queue.poll();
+                if (ngram != null && comparator.compare(ngram, reader.ngram) == 0) {
+                    count += reader.count;
+                }
+                else {
+                    if (ngram != null) {
+                        writeLine(os, ngram, count);
+                    }
+                    ngram = reader.ngram;
+                    count = reader.count;
+                }
+
+                if (reader.next()) {
+                    queue.add(reader);
+                }
+                else {
+                    reader.close();
+                }
+            }
+            if (ngram != null) {
+                writeLine(os, ngram, count);
+            }
+        }
+        finally {
+            for (RunReader reader : queue) {
+                reader.close();
+            }
+            for (File run : aRuns) {
+                run.delete();
+            }
+        }
+    }
+
+    private void writeLine(OutputStream aOut, byte[] aNgram, long aCount)
+        throws IOException
+    {
+        if (aCount < minFrequency) {
+            return;
+        }
+        aOut.write(aNgram);
+        aOut.write(TAB);
+        aOut.write(Long.toString(aCount).getBytes(US_ASCII));
+        aOut.write(LF);
+    }
+
+    private static <T> T await(Future<T> aFuture)
+        throws IOException
+    {
+        try {
+            return aFuture.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static Callable<Void> call(IOAction aAction)
+    {
+        return () -> {
+            aAction.run();
+            return null;
+        };
+    }
+
+    @FunctionalInterface
+    private interface IOAction
+    {
+        void run() throws IOException;
+    }
+
+    private static class Line
+    {
+        final byte[] ngram;
+        long count;
+
+        Line(byte[] aNgram, long aCount)
+        {
+            ngram = aNgram;
+            count = aCount;
+        }
+    }
+
+    /**
+     * Reads the lines of an n-gram file in chunks.
+     */
+    private class ChunkReader
+        implements AutoCloseable
+    {
+        private final File file;
+        private final InputStream is;
+        private byte[] buffer = new byte[256];
+        private boolean exhausted;
+        private boolean empty = true;
+
+        ChunkReader(File aFile)
+            throws IOException
+        {
+            file = aFile;
+            is = new BufferedInputStream(new FileInputStream(aFile), 65536);
+        }
+
+        boolean isExhausted()
+        {
+            return exhausted;
+        }
+
+        boolean isEmpty()
+        {
+            return empty;
+        }
+
+        Line[] next(long aBudget)
+            throws IOException
+        {
+            List<Line> lines = new ArrayList<>();
+            long size = 0;
+            while (!exhausted && size < aBudget) {
+                int length = readLine();
+                if (length < 0) {
+                    exhausted = true;
+                    break;
+                }
+
+                int tab = -1;
+                for (int i = length - 1; i >= 0; i--) {
+                    if (buffer[i] == TAB) {
+                        tab = i;
+                        break;
+                    }
+                }
+                if (tab < 0) {
+                    log.warn("Wrong file format in line: "
+                            + new String(buffer, 0, length, encoding) + " in [" + file + "]");
+                    continue;
+                }
+
+                long count;
+                try {
+                    count = Long.parseLong(new String(buffer, tab + 1, length - tab - 1,
+                            US_ASCII).trim());
+                }
+                catch (NumberFormatException e) {
+                    log.warn("Wrong file format in line: "
+                            + new String(buffer, 0, length, encoding) + " in [" + file + "]");
+                    continue;
+                }
+
+                lines.add(new Line(Arrays.copyOf(buffer, tab), count));
+                size += tab + LINE_OVERHEAD;
+                empty = false;
+            }
+
+            return lines.isEmpty() ? null : lines.toArray(new Line[lines.size()]);
+        }
+
+        private int readLine()
+            throws IOException
+        {
+            int length = 0;
+            int b;
+            while ((b = is.read()) != -1 && b != LF) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                buffer[length++] = (byte) b;
+            }
+            if (b == -1 && length == 0) {
+                return -1;
+            }
+            if (length > 0 && buffer[length - 1] == CR) {
+                length--;
+            }
+            return length;
+        }
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            is.close();
+        }
+    }
+
+    /**
+     * Reads the n-grams of a run one by one.
+     */
+    private static class RunReader
+    {
+        private final DataInputStream in;
+        byte[] ngram;
+        long count;
+
+        RunReader(File aRun)
+            throws IOException
+        {
+            in = new DataInputStream(new BufferedInputStream(
+                    new InflaterInputStream(new FileInputStream(aRun)), 65536));
+        }
+
+        boolean next()
+            throws IOException
+        {
+            int length;
+            try {
+                length = in.readInt();
+            }
+            catch (EOFException e) {
+                return false;
+            }
+            ngram = new byte[length];
+            in.readFully(ngram);
+            count = in.readLong();
+            return true;
+        }
+
+        void close()
+            throws IOException
+        {
+            in.close();
+        }
+    }
+}
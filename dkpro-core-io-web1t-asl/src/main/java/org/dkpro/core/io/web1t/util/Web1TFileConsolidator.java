@@ -29,6 +29,9 @@ import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 
+/**
+ * The {@link Web1TExternalSorter} sorts and consolidates in one pass and is usually faster.
+ */
 public class Web1TFileConsolidator
 {
     private final List<File> inputFiles;
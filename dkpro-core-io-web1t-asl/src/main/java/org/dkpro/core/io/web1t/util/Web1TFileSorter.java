@@ -23,6 +23,9 @@ import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 
+/**
+ * The {@link Web1TExternalSorter} sorts and consolidates in one pass and is usually faster.
+ */
 public class Web1TFileSorter
 {
     private final List<File> inputFiles;
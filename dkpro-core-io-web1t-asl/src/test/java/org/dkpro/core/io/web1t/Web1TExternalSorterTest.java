@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.io.web1t;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.dkpro.core.io.web1t.util.Web1TExternalSorter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class Web1TExternalSorterTest
+{
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void testSortAndConsolidate()
+        throws Exception
+    {
+        File input1 = write("in1", "out\t2", "a\t3", "oil\t30", "often\t5", "a\t2", "oil\t2");
+        File input2 = write("in2", "although\t16", "annoying\t5");
+        File output1 = new File(tempDir, "out1");
+        File output2 = new File(tempDir, "out2");
+
+        Web1TExternalSorter sorter = new Web1TExternalSorter("UTF-8");
+        sorter.sort(asList(input1, input2), asList(output1, output2));
+
+        assertEquals(asList("a\t5", "often\t5", "oil\t32", "out\t2"), read(output1));
+        assertEquals(asList("although\t16", "annoying\t5"), read(output2));
+    }
+
+    @Test
+    public void testMinFrequency()
+        throws Exception
+    {
+        File input = write("in", "out\t2", "a\t3", "oil\t30", "often\t5", "a\t2", "oil\t2");
+        File output = new File(tempDir, "out");
+
+        Web1TExternalSorter sorter = new Web1TExternalSorter("UTF-8");
+        sorter.setMinFrequency(10);
+        sorter.sort(asList(input), asList(output));
+
+        assertEquals(asList("oil\t32"), read(output));
+    }
+
+    @Test
+    public void testEmptyFile()
+        throws Exception
+    {
+        File input = write("in");
+        File output = new File(tempDir, "out");
+
+        new Web1TExternalSorter("UTF-8").sort(asList(input), asList(output));
+
+        assertEquals(asList(), read(output));
+    }
+
+    @Test
+    public void testMultipleRuns()
+        throws Exception
+    {
+        Random rnd = new Random(42);
+        // Includes supplementary characters and characters above U+E000 which are ordered
+        // differently by code point and by UTF-16 code unit
+        String[] alphabet = { "a", "b", "ä", "€", "", "￡", "😀" };
+
+        List<String> lines = new ArrayList<>();
+        Map<String, Long> expected = new TreeMap<>();
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder ngram = new StringBuilder();
+            for (int n = 1 + rnd.nextInt(3); n > 0; n--) {
+                ngram.append(alphabet[rnd.nextInt(alphabet.length)]);
+            }
+            int count = 1 + rnd.nextInt(10);
+            lines.add(ngram + "\t" + count);
+            expected.merge(ngram.toString(), (long) count, Long::sum);
+        }
+        File input = write("in", lines.toArray(new String[lines.size()]));
+        File output = new File(tempDir, "out");
+
+        Web1TExternalSorter sorter = new Web1TExternalSorter("UTF-8");
+        sorter.setMemoryBudget(20000);
+        sorter.setThreads(3);
+        sorter.setTempDirectory(tempDir);
+        sorter.sort(asList(input), asList(output));
+
+        List<String> expectedLines = new ArrayList<>();
+        expected.forEach((ngram, count) -> expectedLines.add(ngram + "\t" + count));
+        assertEquals(expectedLines, read(output));
+
+        // All runs have been removed
+        assertEquals(2, tempDir.list().length);
+    }
+
+    private File write(String aName, String... aLines)
+        throws Exception
+    {
+        File file = new File(tempDir, aName);
+        Files.write(file.toPath(), asList(aLines), UTF_8);
+        return file;
+    }
+
+    private List<String> read(File aFile)
+        throws Exception
+    {
+        return Files.readAllLines(aFile.toPath(), UTF_8);
+    }
+}
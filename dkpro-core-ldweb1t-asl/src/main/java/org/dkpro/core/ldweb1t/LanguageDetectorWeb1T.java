@@ -19,12 +19,13 @@ package org.dkpro.core.ldweb1t;
 
 import static org.dkpro.core.frequency.Web1TProviderBase.BOS;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.lang3.StringUtils;
 import org.apache.uima.UimaContext;
 import org.apache.uima.analysis_engine.AnalysisEngineProcessException;
 import org.apache.uima.fit.component.JCasAnnotator_ImplBase;
@@ -35,8 +36,6 @@ import org.apache.uima.fit.util.JCasUtil;
 import org.apache.uima.jcas.JCas;
 import org.apache.uima.resource.ResourceInitializationException;
 import org.dkpro.core.api.frequency.provider.FrequencyCountProvider;
-import org.dkpro.core.api.frequency.util.FrequencyUtils;
-import org.dkpro.core.ngrams.util.NGramStringIterable;
 
 import de.tudarmstadt.ukp.dkpro.core.api.segmentation.type.Token;
 import eu.openminted.share.annotations.api.Component;
@@ -44,7 +43,13 @@ import eu.openminted.share.annotations.api.DocumentationResource;
 import eu.openminted.share.annotations.api.constants.OperationType;
 
 /**
- * Language detector based on n-gram frequency counts, e.g. as provided by Web1T
+ * Language detector based on n-gram frequency counts, e.g. as provided by Web1T.
+ * 
+ * The n-grams of the document are scored in batches from the beginning of the document. Scoring
+ * stops as soon as a minimum number of n-grams has been scored (see
+ * {@link #PARAM_STOP_MIN_NGRAMS}) and the leading language is sufficiently certain (see
+ * {@link #PARAM_STOP_CONFIDENCE}), so usually only the beginning of a long document needs to be
+ * looked up. The frequencies of recently seen n-grams are cached across documents.
  */
 @Component(OperationType.LANGUAGE_IDENTIFIER)
 @ResourceMetaData(name = "Web1T Language Detector")
@@ -74,16 +79,69 @@ public class LanguageDetectorWeb1T
     @ConfigurationParameter(name = PARAM_MAX_NGRAM_SIZE, mandatory = true, defaultValue = "3")
     private int maxNGramSize;
 
-    private Map<String,FrequencyCountProvider> providerMap;
-    
+    /**
+     * Scoring stops once the confidence in the leading language reaches this value and at least
+     * {@link #PARAM_STOP_MIN_NGRAMS} n-grams have been scored. The confidence is the probability
+     * of the leading language relative to all languages, assuming that all languages are equally
+     * likely a priori. Set to 1 to always score the entire document.
+     */
+    public static final String PARAM_STOP_CONFIDENCE = "stopConfidence";
+    @ConfigurationParameter(name = PARAM_STOP_CONFIDENCE, mandatory = true,
+            defaultValue = "0.9999")
+    private float stopConfidence;
+
+    /**
+     * The minimum number of n-grams to score before scoring may stop. The confidence treats the
+     * n-grams as independent of each other, so it approaches 1 after a few dozen n-grams even if
+     * the languages are hard to tell apart. This parameter ensures that enough of the document is
+     * looked at nevertheless.
+     */
+    public static final String PARAM_STOP_MIN_NGRAMS = "stopMinNGrams";
+    @ConfigurationParameter(name = PARAM_STOP_MIN_NGRAMS, mandatory = true, defaultValue = "1000")
+    private int stopMinNGrams;
+
+    /**
+     * The minimum confidence required to set the document language. If the confidence in the
+     * leading language is lower, the language is set to {@code x-unspecified}.
+     */
+    public static final String PARAM_MIN_CONFIDENCE = "minConfidence";
+    @ConfigurationParameter(name = PARAM_MIN_CONFIDENCE, mandatory = true, defaultValue = "0")
+    private float minConfidence;
+
+    /**
+     * The maximum number of n-grams for which the frequencies are cached.
+     */
+    public static final String PARAM_CACHE_SIZE = "cacheSize";
+    @ConfigurationParameter(name = PARAM_CACHE_SIZE, mandatory = true, defaultValue = "100000")
+    private int cacheSize;
+
+    private static final String UNSPECIFIED = "x-unspecified";
+
+    /**
+     * The number of n-grams scored before checking whether the leading language is certain.
+     */
+    private static final int BATCH_SIZE = 100;
+
+    private List<String> languages;
+    private List<FrequencyCountProvider> providers;
+
+    /**
+     * The frequencies of an n-gram for each language, in the order of {@link #languages}.
+     */
+    private Map<String, long[]> cache;
+
+    /**
+     * The logarithm of the number of n-grams of each size for each language. Computed lazily.
+     */
+    private double[][] logNormalization;
+
     @Override
     public void initialize(UimaContext context)
         throws ResourceInitializationException
     {
         super.initialize(context);
         
-        providerMap = new HashMap<String,FrequencyCountProvider>();
-        
+        Map<String, FrequencyCountProvider> providerMap = new LinkedHashMap<>();
         for (FrequencyCountProvider provider : frequencyProviders) {
             try {
                 providerMap.put(provider.getLanguage(), provider);
@@ -92,100 +150,171 @@ public class LanguageDetectorWeb1T
                 throw new ResourceInitializationException(e);
             }
         }
+        languages = new ArrayList<>(providerMap.keySet());
+        providers = new ArrayList<>(providerMap.values());
+
+        cache = new LinkedHashMap<String, long[]>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, long[]> aEldest)
+            {
+                return size() > cacheSize;
+            }
+        };
+        logNormalization = null;
     }
 
     @Override
     public void process(JCas jcas)
         throws AnalysisEngineProcessException
     {
-      
         List<String> words = JCasUtil.toText(JCasUtil.select(jcas, Token.class));
         
         if (words.size() < 1) {
             return;
         }
         
-        List<String> ngrams = new ArrayList<String>();
-        if (words.size() > 1) {
-            ngrams.add(getNgram(BOS, words.get(0), words.get(1)));
-        }
-        
-        for (String ngram : new NGramStringIterable(words, 1, 3)) {
-            ngrams.add(ngram);
-        }
-                
         try {
-            Map<String,Double> langProbs = getLanguageProbabilities(ngrams);
-            
-            String maxLanguage = "x-unspecified";
-            double maxLogProb = Double.NEGATIVE_INFINITY;
-            for (String lang : langProbs.keySet()) {
-                double prob = langProbs.get(lang);
-                if (prob > maxLogProb) {
-                    maxLogProb = prob;
-                    maxLanguage = lang;
+            if (logNormalization == null) {
+                logNormalization = getLogNormalization();
+            }
+
+            double[] scores = new double[languages.size()];
+            List<String> batch = new ArrayList<>(BATCH_SIZE + maxNGramSize);
+            List<Integer> batchSizes = new ArrayList<>(BATCH_SIZE + maxNGramSize);
+            int leader = -1;
+            double confidence = 0.0;
+            int scored = 0;
+
+            if (words.size() > 1 && minNGramSize <= 3 && 3 <= maxNGramSize) {
+                batch.add(String.join(" ", BOS, words.get(0), words.get(1)));
+                batchSizes.add(3);
+            }
+
+            for (int i = 0; i < words.size(); i++) {
+                for (int n = minNGramSize; n <= maxNGramSize && i + n <= words.size(); n++) {
+                    batch.add(String.join(" ", words.subList(i, i + n)));
+                    batchSizes.add(n);
+                }
+
+                if (batch.size() >= BATCH_SIZE || i == words.size() - 1) {
+                    score(batch, batchSizes, scores);
+                    scored += batch.size();
+                    batch.clear();
+                    batchSizes.clear();
+
+                    leader = getLeader(scores);
+                    confidence = getConfidence(scores, leader);
+                    if (stopConfidence < 1.0f && scored >= stopMinNGrams
+                            && confidence >= stopConfidence) {
+                        break;
+                    }
                 }
-                System.out.println(lang + " - " + prob);
             }
-            jcas.setDocumentLanguage(maxLanguage);
+
+            String language = UNSPECIFIED;
+            if (leader >= 0 && confidence >= minConfidence) {
+                language = languages.get(leader);
+            }
+
+            if (getLogger().isDebugEnabled()) {
+                getLogger().debug("Detected language [" + language + "] with confidence ["
+                        + confidence + "] after scoring [" + scored + "] n-grams");
+            }
+
+            jcas.setDocumentLanguage(language);
         }
-        catch (Exception e) {
+        catch (IOException e) {
             throw new AnalysisEngineProcessException(e);
         }
     }
-    
-    private Map<String,Double> getLanguageProbabilities(List<String> ngrams)
-            throws Exception
+
+    private double[][] getLogNormalization()
+        throws IOException
     {
-        Map<String,Double> langProbs = new HashMap<String,Double>();
-       
-        for (String lang : providerMap.keySet()) {
-                                    
-            FrequencyCountProvider provider = providerMap.get(lang);
-            
-            long nrOfUnigrams = provider.getNrOfNgrams(1);
-            long nrOfBigrams  = provider.getNrOfNgrams(2);
-            long nrOfTrigrams = provider.getNrOfNgrams(3);
-            
-            double textLogProbability = 0.0;
-            
-            for (String ngram : ngrams) {
-                
-                long frequency = provider.getFrequency(ngram);
-
-                int ngramSize = FrequencyUtils.getPhraseLength(ngram);
-                                
-                long normalization = 1;
-                int weighting = 1;
-                if (ngramSize == 1) {
-                    normalization = nrOfUnigrams;
-                }
-                else if (ngramSize == 2) {
-                    weighting = 2;
-                    normalization = nrOfBigrams;
-                }
-                else if (ngramSize == 3) {
-                    weighting = 4;
-                    normalization = nrOfTrigrams;
+        double[][] result = new double[providers.size()][maxNGramSize + 1];
+        for (int l = 0; l < providers.size(); l++) {
+            for (int n = 1; n <= maxNGramSize; n++) {
+                long count = providers.get(l).getNrOfNgrams(n);
+                // Without n-grams of this size, the score does not depend on the frequency
+                result[l][n] = count > 0 ? Math.log(count) : 0.0;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds the log probabilities of the given n-grams to the scores of each language. Higher order
+     * n-grams are weighted higher.
+     */
+    private void score(List<String> aNGrams, List<Integer> aSizes, double[] aScores)
+        throws IOException
+    {
+        // Look up the n-grams which are not cached yet, one provider after the other
+        Map<String, long[]> frequencies = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String ngram : aNGrams) {
+            if (!frequencies.containsKey(ngram)) {
+                long[] cached = cache.get(ngram);
+                if (cached == null) {
+                    cached = new long[providers.size()];
+                    missing.add(ngram);
                 }
-    
-                if (frequency > 0) {
-                    double logProb = Math.log( weighting * ((double) frequency) / normalization );
-                    
-                    textLogProbability += logProb;
+                frequencies.put(ngram, cached);
+            }
+        }
+        for (int l = 0; l < providers.size(); l++) {
+            FrequencyCountProvider provider = providers.get(l);
+            for (String ngram : missing) {
+                frequencies.get(ngram)[l] = provider.getFrequency(ngram);
+            }
+        }
+        for (String ngram : missing) {
+            cache.put(ngram, frequencies.get(ngram));
+        }
+
+        for (int i = 0; i < aNGrams.size(); i++) {
+            long[] ngramFrequencies = frequencies.get(aNGrams.get(i));
+            int n = aSizes.get(i);
+            double logWeight = (n - 1) * Math.log(2);
+            for (int l = 0; l < aScores.length; l++) {
+                if (ngramFrequencies[l] > 0) {
+                    aScores[l] += logWeight + Math.log(ngramFrequencies[l]) - logNormalization[l][n];
                 }
                 else {
-                    textLogProbability += Math.log( 1.0 / normalization);
+                    aScores[l] -= logNormalization[l][n];
                 }
             }
-            
-            langProbs.put(lang, textLogProbability);
         }
-        
-        return langProbs;
     }
-    
-    private String getNgram(String ...strings) {
-        return StringUtils.join(strings, " ");
+
+    private static int getLeader(double[] aScores)
+    {
+        int leader = -1;
+        for (int l = 0; l < aScores.length; l++) {
+            if (leader < 0 || aScores[l] > aScores[leader]) {
+                leader = l;
+            }
+        }
+        return leader;
+    }
+
+    /**
+     * The probability of the leading language given the scores of all languages, i.e.
+     * {@code exp(s_leader) / sum(exp(s_l))}.
+     */
+    private static double getConfidence(double[] aScores, int aLeader)
+    {
+        if (aLeader < 0) {
+            return 0.0;
+        }
+
+        double sum = 0.0;
+        for (double score : aScores) {
+            sum += Math.exp(score - aScores[aLeader]);
+        }
+        return 1.0 / sum;
     }
 }
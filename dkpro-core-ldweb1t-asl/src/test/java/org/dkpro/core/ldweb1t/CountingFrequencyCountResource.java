@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.ldweb1t;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.uima.fit.descriptor.ConfigurationParameter;
+import org.dkpro.core.api.frequency.FrequencyCountResourceBase;
+import org.dkpro.core.frequency.Web1TInMemoryProvider;
+
+/**
+ * Web1T in memory frequency count resource which counts the frequency lookups.
+ */
+public class CountingFrequencyCountResource
+    extends FrequencyCountResourceBase
+{
+    /**
+     * The number of frequency lookups of all instances.
+     */
+    static final AtomicInteger LOOKUPS = new AtomicInteger();
+
+    public static final String PARAM_MODEL_LOCATION = "modelLocation";
+    @ConfigurationParameter(name = PARAM_MODEL_LOCATION, mandatory = true)
+    private String modelLocation;
+
+    public static final String PARAM_LANGUAGE = "language";
+    @ConfigurationParameter(name = PARAM_LANGUAGE, mandatory = true)
+    private String language;
+
+    @Override
+    protected void initializeProvider()
+        throws Exception
+    {
+        provider = new Web1TInMemoryProvider(language, modelLocation, 2);
+    }
+
+    @Override
+    public long getFrequency(String aPhrase)
+        throws IOException
+    {
+        LOOKUPS.incrementAndGet();
+        return super.getFrequency(aPhrase);
+    }
+}
@@ -17,15 +17,19 @@
  */
 package org.dkpro.core.ldweb1t;
 
+import static java.util.Arrays.asList;
 import static org.apache.uima.fit.factory.AnalysisEngineFactory.createEngineDescription;
 import static org.apache.uima.fit.factory.ExternalResourceFactory.createResourceDescription;
 import static org.apache.uima.fit.pipeline.SimplePipeline.runPipeline;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.uima.analysis_engine.AnalysisEngine;
 import org.apache.uima.analysis_engine.AnalysisEngineDescription;
+import org.apache.uima.fit.factory.AnalysisEngineFactory;
 import org.apache.uima.fit.factory.JCasFactory;
 import org.apache.uima.jcas.JCas;
 import org.apache.uima.resource.ExternalResourceDescription;
@@ -38,6 +42,152 @@ public class LanguageDetectorWeb1TTest
     @Test
     public void web1tLanguageDetectorTest()
         throws Exception
+    {
+        JCas jcas = JCasFactory.createJCas();
+        jcas.setDocumentText("This is an English example.");
+        
+        runPipeline(jcas, createEngine());
+
+        assertEquals("en", jcas.getDocumentLanguage());
+    }
+
+    @Test
+    public void web1tLanguageDetectorGermanTest()
+        throws Exception
+    {
+        JCas jcas = JCasFactory.createJCas();
+        jcas.setDocumentText("Die Analyse ist ein Beispiel.");
+
+        runPipeline(jcas, createEngine());
+
+        assertEquals("de", jcas.getDocumentLanguage());
+    }
+
+    @Test
+    public void web1tLanguageDetectorLongDocumentTest()
+        throws Exception
+    {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            text.append("This is an English example. ");
+        }
+
+        JCas jcas = JCasFactory.createJCas();
+        jcas.setDocumentText(text.toString());
+
+        runPipeline(jcas, createEngine(LanguageDetectorWeb1T.PARAM_CACHE_SIZE, 10));
+
+        assertEquals("en", jcas.getDocumentLanguage());
+    }
+
+    @Test
+    public void web1tLanguageDetectorEarlyStoppingTest()
+        throws Exception
+    {
+        // Every sentence contains new n-grams, so the number of lookups grows with the number of
+        // scored n-grams
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            text.append("This is example " + i + ". ");
+        }
+
+        int firstBatch = countLookups(text.toString(),
+                LanguageDetectorWeb1T.PARAM_STOP_MIN_NGRAMS, 0);
+        int minNGrams = countLookups(text.toString(),
+                LanguageDetectorWeb1T.PARAM_STOP_MIN_NGRAMS, 500);
+        int all = countLookups(text.toString(),
+                LanguageDetectorWeb1T.PARAM_STOP_CONFIDENCE, 1.0f);
+
+        // The confidence is reached after the first batch already, but scoring continues until
+        // the minimum number of n-grams has been scored
+        assertTrue(firstBatch < minNGrams, firstBatch + " < " + minNGrams);
+        assertTrue(minNGrams < all, minNGrams + " < " + all);
+    }
+
+    @Test
+    public void web1tLanguageDetectorMinConfidenceTest()
+        throws Exception
+    {
+        // Two languages with the same n-gram counts are indistinguishable, i.e. the confidence in
+        // the leading language is 0.5
+        List<ExternalResourceDescription> resources = asList(
+                createCountingResource("src/test/resources/web1t/en/", "en"),
+                createCountingResource("src/test/resources/web1t/en/", "en-GB"));
+
+        JCas jcas = JCasFactory.createJCas();
+        jcas.setDocumentText("This is an English example.");
+        runPipeline(jcas, createEngine(resources));
+        assertEquals("en", jcas.getDocumentLanguage());
+
+        jcas = JCasFactory.createJCas();
+        jcas.setDocumentText("This is an English example.");
+        runPipeline(jcas, createEngine(resources, LanguageDetectorWeb1T.PARAM_MIN_CONFIDENCE,
+                0.6f));
+        assertEquals("x-unspecified", jcas.getDocumentLanguage());
+    }
+
+    @Test
+    public void web1tLanguageDetectorCacheTest()
+        throws Exception
+    {
+        // The n-grams of a repeated document are looked up again only if they have been evicted
+        // from the cache
+        assertEquals(0, countRepeatedLookups(100));
+        assertTrue(countRepeatedLookups(1) > 0);
+    }
+
+    /**
+     * @return the number of frequency lookups when detecting the language of the given text.
+     */
+    private int countLookups(String aText, Object... aParameters)
+        throws Exception
+    {
+        AnalysisEngine engine = AnalysisEngineFactory.createEngine(createEngine(asList(
+                createCountingResource("src/test/resources/web1t/en/", "en"),
+                createCountingResource("src/test/resources/web1t/de/", "de")), aParameters));
+
+        JCas jcas = engine.newJCas();
+        jcas.setDocumentText(aText);
+        CountingFrequencyCountResource.LOOKUPS.set(0);
+        engine.process(jcas);
+        assertEquals("en", jcas.getDocumentLanguage());
+        return CountingFrequencyCountResource.LOOKUPS.get();
+    }
+
+    /**
+     * @return the number of frequency lookups when detecting the language of a document a second
+     *         time using a cache of the given size.
+     */
+    private int countRepeatedLookups(int aCacheSize)
+        throws Exception
+    {
+        AnalysisEngine engine = AnalysisEngineFactory.createEngine(createEngine(asList(
+                createCountingResource("src/test/resources/web1t/en/", "en"),
+                createCountingResource("src/test/resources/web1t/de/", "de")),
+                LanguageDetectorWeb1T.PARAM_CACHE_SIZE, aCacheSize));
+
+        JCas jcas = engine.newJCas();
+        jcas.setDocumentText("This is an English example.");
+        engine.process(jcas);
+
+        jcas.reset();
+        jcas.setDocumentText("This is an English example.");
+        CountingFrequencyCountResource.LOOKUPS.set(0);
+        engine.process(jcas);
+        assertEquals("en", jcas.getDocumentLanguage());
+        return CountingFrequencyCountResource.LOOKUPS.get();
+    }
+
+    private ExternalResourceDescription createCountingResource(String aLocation,
+            String aLanguage)
+    {
+        return createResourceDescription(CountingFrequencyCountResource.class,
+                CountingFrequencyCountResource.PARAM_MODEL_LOCATION, aLocation,
+                CountingFrequencyCountResource.PARAM_LANGUAGE, aLanguage);
+    }
+
+    private AnalysisEngineDescription createEngine(Object... aParameters)
+        throws Exception
     {
         ExternalResourceDescription en = createResourceDescription(
                 Web1TInMemoryFrequencyCountResource.class,
@@ -57,17 +207,21 @@ public class LanguageDetectorWeb1TTest
         resources.add(en);
         resources.add(de);
 
-        AnalysisEngineDescription engine = createEngineDescription(
-                createEngineDescription(BreakIteratorSegmenter.class), 
-                createEngineDescription(LanguageDetectorWeb1T.class,
-                        LanguageDetectorWeb1T.PARAM_MAX_NGRAM_SIZE, 2,
-                        LanguageDetectorWeb1T.RES_FREQUENCY_PROVIDER_RESOURCES, resources));
+        return createEngine(resources, aParameters);
+    }
 
-        JCas jcas = JCasFactory.createJCas();
-        jcas.setDocumentText("This is an English example.");
-        
-        runPipeline(jcas, engine);
+    private AnalysisEngineDescription createEngine(List<ExternalResourceDescription> aResources,
+            Object... aParameters)
+        throws Exception
+    {
+        List<Object> parameters = new ArrayList<Object>(asList(aParameters));
+        parameters.add(LanguageDetectorWeb1T.PARAM_MAX_NGRAM_SIZE);
+        parameters.add(2);
+        parameters.add(LanguageDetectorWeb1T.RES_FREQUENCY_PROVIDER_RESOURCES);
+        parameters.add(aResources);
 
-        assertEquals("en", jcas.getDocumentLanguage());
+        return createEngineDescription(
+                createEngineDescription(BreakIteratorSegmenter.class), 
+                createEngineDescription(LanguageDetectorWeb1T.class, parameters.toArray()));
     }
 }
@@ -19,7 +19,6 @@ package org.dkpro.core.mallet.wordembeddings;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Optional;
 
 import org.apache.uima.UimaContext;
 import org.apache.uima.analysis_engine.AnalysisEngineProcessException;
@@ -151,9 +150,12 @@ public class MalletEmbeddingsAnnotator
     {
         Type type = aJCas.getTypeSystem().getType(tokenFeaturePath);
 
+        // The vector buffer is re-used for all tokens to avoid allocating a new array per token
+        float[] buffer = new float[vectorizer.dimensions()];
         for (AnnotationFS token : CasUtil.select(aJCas.getCas(), type)) {
             try {
-                addAnnotation(aJCas, token.getCoveredText(), token.getBegin(), token.getEnd());
+                addAnnotation(aJCas, token.getCoveredText(), token.getBegin(), token.getEnd(),
+                        buffer);
             }
             catch (IOException e) {
                 throw new AnalysisEngineProcessException(e);
@@ -161,19 +163,24 @@ public class MalletEmbeddingsAnnotator
         }
     }
 
-    private void addAnnotation(JCas aJCas, String text, int begin, int end) throws IOException
+    /**
+     * If {@link #PARAM_ANNOTATE_UNKNOWN_TOKENS} is set to true, always annotate the token with a
+     * vector retrieved from the vectorizer, which should hold a stable random vector for unknown
+     * tokens. Otherwise, annotate only known tokens.
+     */
+    private void addAnnotation(JCas aJCas, String text, int begin, int end, float[] aBuffer)
+        throws IOException
     {
         if (lowercase) {
             text = text.toLowerCase();
         }
-        Optional<float[]> vector = getVector(text);
 
-        if (vector.isPresent()) {
+        boolean known = vectorizer.vectorize(text, aBuffer);
+
+        if (known || annotateUnknownTokens) {
             WordEmbedding embedding = new WordEmbedding(aJCas, begin, end);
-            FloatArray array = new FloatArray(aJCas, vector.get().length);
-            for (int i = 0; i < vector.get().length; i++) {
-                array.set(i, vector.get()[i]);
-            }
+            FloatArray array = new FloatArray(aJCas, aBuffer.length);
+            array.copyFromArray(aBuffer, 0, 0, aBuffer.length);
             embedding.setWordEmbedding(array);
             embedding.addToIndexes(aJCas);
         }
@@ -181,27 +188,4 @@ public class MalletEmbeddingsAnnotator
             getLogger().debug(text + " not found in embeddings list.");
         }
     }
-
-    /**
-     * If {@link #PARAM_ANNOTATE_UNKNOWN_TOKENS} is set to true, always return a vector retrieved
-     * from the vectorizer, which should hold a stable random vector for unknown tokens. Otherwise,
-     * return a vector for known tokens, or none if the token is unknown.
-     *
-     * @param token
-     *            a token for which to look up an embedding
-     * @return an {@code Optional<float[]>} that holds the token embedding or is empty if no
-     *         embeddings is available for the token
-     * @throws IOException
-     *             if an I/O error occurs
-     */
-    private Optional<float[]> getVector(String token) throws IOException
-    {
-        if (annotateUnknownTokens) {
-            return Optional.of(vectorizer.vectorize(token));
-        }
-        else {
-            return vectorizer.contains(token) ? Optional.of(vectorizer.vectorize(token))
-                    : Optional.empty();
-        }
-    }
 }
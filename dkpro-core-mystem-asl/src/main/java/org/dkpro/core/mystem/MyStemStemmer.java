@@ -46,6 +46,7 @@ import org.apache.uima.fit.util.JCasUtil;
 import org.apache.uima.jcas.JCas;
 import org.apache.uima.pear.util.FileUtil;
 import org.apache.uima.resource.ResourceInitializationException;
+import org.dkpro.core.api.featurepath.CompiledFeaturePath;
 import org.dkpro.core.api.featurepath.FeaturePathAnnotatorBase;
 import org.dkpro.core.api.featurepath.FeaturePathException;
 import org.dkpro.core.api.resources.PlatformDetector;
@@ -132,9 +133,8 @@ public class MyStemStemmer
                 throw new IllegalStateException("Type [" + typeName + "] not found in type system");
             }
 
-            // get an fpi object and initialize it
-            // initialize the FeaturePathInfo with the corresponding part
-            initializeFeaturePathInfoFrom(fp, segments);
+            // get the feature path compiled for the type system of the CAS
+            CompiledFeaturePath valuePath = compileFeaturePath(t, segments);
 
             // get the annotations
             AnnotationIndex<?> idx = currCAS.getAnnotationIndex(t);
@@ -175,26 +175,21 @@ public class MyStemStemmer
                 AnnotationFS fs = afs.get(i);
                 String stem = l.get(i);
 
-                if (this.filterFeaturePath != null) {
-                    // check annotation filter condition
-                    if (this.filterFeaturePathInfo.match(fs, this.filterCondition)) {
-                        createStemAnnotation(aJCas, fs, stem);
-                    }
-                }
-                else { // no annotation filter specified
-                    createStemAnnotation(aJCas, fs, stem);
+                if (matchesFilter(valuePath, fs)) {
+                    createStemAnnotation(aJCas, valuePath, fs, stem);
                 }
             }
         }
     }
 
-    private void createStemAnnotation(JCas aJCas, AnnotationFS fs, String stem)
+    private void createStemAnnotation(JCas aJCas, CompiledFeaturePath aPath,
+            AnnotationFS fs, String stem)
         throws AnalysisEngineProcessException
     {
 
         // Check for blank text, it makes no sense to add a stem then (and raised an
         // exception)
-        String value = fp.getValue(fs);
+        String value = aPath.getValue(fs);
         if (!StringUtils.isBlank(value)) {
             Stem stemAnnot = new Stem(aJCas, fs.getBegin(), fs.getEnd());
 
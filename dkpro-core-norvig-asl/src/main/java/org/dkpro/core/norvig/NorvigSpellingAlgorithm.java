@@ -44,7 +44,7 @@ public class NorvigSpellingAlgorithm
 {
     private final static Pattern WORD_PATTERN = Pattern.compile("\\w+");
 
-    private final Map<String, AtomicInteger> nWords = new HashMap<String, AtomicInteger>();
+    protected final Map<String, AtomicInteger> nWords = new HashMap<String, AtomicInteger>();
 
     private Map<String, String> cachedCorrections = new HashMap<String, String>();
     private int bestScore = -1;
@@ -169,12 +169,7 @@ public class NorvigSpellingAlgorithm
         boolean isUpper = isUpperCase(aWord.charAt(0));
 
         // Correct if not cached
-        String word = aWord.toLowerCase();
-        String correction = cachedCorrections.get(word);
-        if (correction == null) {
-            correction = getBestCandidate(word);
-            cachedCorrections.put(word, correction);
-        }
+        String correction = getCachedCorrection(aWord.toLowerCase());
 
         // Restore case
         char[] buffer = correction.toCharArray();
@@ -185,6 +180,24 @@ public class NorvigSpellingAlgorithm
         return new String(buffer);
     }
 
+    /**
+     * Get the correction for the given word from the cache or determine it using
+     * {@link #getBestCandidate(String)} if it is not cached yet.
+     *
+     * @param word
+     *            the word to correct (has to be lower-case)
+     * @return the possible correction.
+     */
+    protected String getCachedCorrection(String word)
+    {
+        String correction = cachedCorrections.get(word);
+        if (correction == null) {
+            correction = getBestCandidate(word);
+            cachedCorrections.put(word, correction);
+        }
+        return correction;
+    }
+
     protected boolean isNumber(String aWord)
     {
         try {
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.norvig;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Variant of Norvig's algorithm which does not generate all strings within two edits of a
+ * misspelled word. Instead, all strings which can be obtained by deleting up to two characters
+ * from a known word are indexed during training. To correct a word, only the strings obtained by
+ * deleting up to two characters from the word itself are looked up in this index and the
+ * resulting candidates are verified by calculating their edit distance to the word.
+ * <p>
+ * As in Norvig's algorithm, known words are not corrected, candidates one edit away are preferred
+ * over candidates two edits away, the most frequent candidate wins and only the characters
+ * {@code a-z} can be inserted or replaced. If several candidates are equally frequent, the
+ * alphabetically first one is chosen.
+ * <p>
+ * Corrections are kept in a cache of bounded size. Once training is complete,
+ * {@link #correct(String)} can be called concurrently.
+ *
+ * @see <a href="https://github.com/wolfgarbe/SymSpell">SymSpell</a>
+ */
+public class SymmetricDeleteSpellingAlgorithm
+    extends NorvigSpellingAlgorithm
+{
+    public static final int DEFAULT_CACHE_SIZE = 100000;
+
+    private static final int MAX_DISTANCE = 2;
+
+    private final int cacheSize;
+
+    // Two generations of cached corrections. When the recent generation is full, it replaces the
+    // older one, so recently used corrections survive and the size stays bounded.
+    private volatile Map<String, String> recentCorrections = new ConcurrentHashMap<>();
+    private volatile Map<String, String> olderCorrections = new ConcurrentHashMap<>();
+
+    private String[] words = new String[0];
+    private int[] counts = new int[0];
+    private Map<String, int[]> deletes = new HashMap<>();
+
+    public SymmetricDeleteSpellingAlgorithm()
+    {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param aCacheSize
+     *            the maximum number of cached corrections. If this is 0, no corrections are
+     *            cached.
+     */
+    public SymmetricDeleteSpellingAlgorithm(int aCacheSize)
+    {
+        cacheSize = aCacheSize;
+    }
+
+    @Override
+    public void reset()
+    {
+        super.reset();
+        recentCorrections = new ConcurrentHashMap<>();
+        olderCorrections = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void train(Reader aReader)
+        throws IOException
+    {
+        super.train(aReader);
+        buildIndex();
+        reset();
+    }
+
+    private void buildIndex()
+    {
+        // Sorting the words makes the ids and hence the choice between equally frequent
+        // candidates independent of the hashing order
+        String[] newWords = nWords.keySet().toArray(new String[nWords.size()]);
+        Arrays.sort(newWords);
+        int[] newCounts = new int[newWords.length];
+        Map<String, int[]> newDeletes = new HashMap<>();
+
+        Set<String> wordDeletes = new HashSet<>();
+        for (int id = 0; id < newWords.length; id++) {
+            newCounts[id] = nWords.get(newWords[id]).get();
+
+            wordDeletes.clear();
+            wordDeletes.add(newWords[id]);
+            collectDeletes(newWords[id], MAX_DISTANCE, wordDeletes);
+            for (String delete : wordDeletes) {
+                int[] ids = newDeletes.get(delete);
+                if (ids == null) {
+                    ids = new int[] { id };
+                }
+                else {
+                    ids = Arrays.copyOf(ids, ids.length + 1);
+                    ids[ids.length - 1] = id;
+                }
+                newDeletes.put(delete, ids);
+            }
+        }
+
+        words = newWords;
+        counts = newCounts;
+        deletes = newDeletes;
+    }
+
+    private static void collectDeletes(String aWord, int aDepth, Set<String> aDeletes)
+    {
+        for (int i = 0; i < aWord.length(); i++) {
+            String delete = aWord.substring(0, i) + aWord.substring(i + 1);
+            if (aDeletes.add(delete) && aDepth > 1) {
+                collectDeletes(delete, aDepth - 1, aDeletes);
+            }
+        }
+    }
+
+    @Override
+    protected String getCachedCorrection(String word)
+    {
+        if (cacheSize <= 0) {
+            return getBestCandidate(word);
+        }
+
+        Map<String, String> recent = recentCorrections;
+        String correction = recent.get(word);
+        if (correction != null) {
+            return correction;
+        }
+
+        correction = olderCorrections.get(word);
+        if (correction == null) {
+            correction = getBestCandidate(word);
+        }
+
+        recent.put(word, correction);
+        if (recent.size() >= Math.max(1, cacheSize / 2)) {
+            synchronized (this) {
+                if (recentCorrections == recent) {
+                    olderCorrections = recent;
+                    recentCorrections = new ConcurrentHashMap<>();
+                }
+            }
+        }
+
+        return correction;
+    }
+
+    @Override
+    protected String getBestCandidate(String word)
+    {
+        // If the word is in the dictionary, it is probably correct
+        if (nWords.containsKey(word)) {
+            return word;
+        }
+
+        Set<String> wordDeletes = new HashSet<>();
+        wordDeletes.add(word);
+        collectDeletes(word, MAX_DISTANCE, wordDeletes);
+
+        // Best candidate for one and for two mistakes
+        int best1 = -1;
+        int best2 = -1;
+        for (String delete : wordDeletes) {
+            int[] ids = deletes.get(delete);
+            if (ids == null) {
+                continue;
+            }
+
+            for (int id : ids) {
+                String candidate = words[id];
+                if (Math.abs(candidate.length() - word.length()) > MAX_DISTANCE) {
+                    continue;
+                }
+
+                int distance = distance(word, candidate);
+                if (distance == 1 && isBetter(id, best1)) {
+                    best1 = id;
+                }
+                else if (distance == 2 && isBetter(id, best2)) {
+                    best2 = id;
+                }
+            }
+        }
+
+        if (best1 != -1) {
+            return words[best1];
+        }
+        else if (best2 != -1) {
+            return words[best2];
+        }
+        else {
+            return word;
+        }
+    }
+
+    private boolean isBetter(int aId, int aBestId)
+    {
+        return aBestId == -1 || counts[aId] > counts[aBestId]
+                || (counts[aId] == counts[aBestId] && aId < aBestId);
+    }
+
+    /**
+     * Calculate the Damerau-Levenshtein distance between the word and the candidate with the same
+     * operations as {@link #edits(String)}, i.e. a character can only be inserted or replaced by
+     * one of {@code a-z}. Since the distance is limited to {@code MAX_DISTANCE}, it is sufficient
+     * to consider transpositions of characters which are adjacent or separated by at most one
+     * character which is deleted or inserted, as well as two overlapping transpositions which
+     * move a character by two positions (which cannot be replaced by a deletion and an insertion
+     * if the character is not one of {@code a-z}).
+     *
+     * @return the distance or {@code MAX_DISTANCE + 1} if the distance is larger than
+     *         {@code MAX_DISTANCE}.
+     */
+    private static int distance(String aWord, String aCandidate)
+    {
+        final int limit = MAX_DISTANCE + 1;
+        int n = aWord.length();
+        int m = aCandidate.length();
+
+        // The current and the three previous rows of the distance matrix
+        int[][] rows = new int[4][m + 1];
+
+        for (int j = 1; j <= m; j++) {
+            rows[0][j] = Math.min(limit, rows[0][j - 1] + insertCost(aCandidate.charAt(j - 1)));
+        }
+
+        for (int i = 1; i <= n; i++) {
+            int[] cur = rows[i % 4];
+            int[] prev = rows[(i - 1) % 4];
+            int[] prev2 = rows[(i + 2) % 4];
+            int[] prev3 = rows[(i + 1) % 4];
+
+            char c = aWord.charAt(i - 1);
+            cur[0] = Math.min(limit, i);
+            int rowMin = cur[0];
+            for (int j = 1; j <= m; j++) {
+                char d = aCandidate.charAt(j - 1);
+                int cost = Math.min(prev[j] + 1, cur[j - 1] + insertCost(d));
+                cost = Math.min(cost, prev[j - 1] + (c == d ? 0 : insertCost(d)));
+                if (i > 1 && j > 1 && c == aCandidate.charAt(j - 2)) {
+                    // "ab" -> "ba"
+                    if (aWord.charAt(i - 2) == d) {
+                        cost = Math.min(cost, prev2[j - 2] + 1);
+                    }
+                    // "axb" -> "ba"
+                    if (i > 2 && aWord.charAt(i - 3) == d) {
+                        cost = Math.min(cost, prev3[j - 2] + 2);
+                    }
+                }
+                if (j > 2) {
+                    // "ab" -> "bxa"
+                    if (i > 1 && c == aCandidate.charAt(j - 3) && aWord.charAt(i - 2) == d) {
+                        cost = Math.min(cost,
+                                prev2[j - 3] + 1 + insertCost(aCandidate.charAt(j - 2)));
+                    }
+                    if (i > 2) {
+                        char a = aWord.charAt(i - 3);
+                        char b = aWord.charAt(i - 2);
+                        // "abc" -> "cab"
+                        if (c == aCandidate.charAt(j - 3) && a == aCandidate.charAt(j - 2)
+                                && b == d) {
+                            cost = Math.min(cost, prev3[j - 3] + 2);
+                        }
+                        // "abc" -> "bca"
+                        if (b == aCandidate.charAt(j - 3) && c == aCandidate.charAt(j - 2)
+                                && a == d) {
+                            cost = Math.min(cost, prev3[j - 3] + 2);
+                        }
+                    }
+                }
+                cur[j] = Math.min(limit, cost);
+                rowMin = Math.min(rowMin, cur[j]);
+            }
+
+            // Each row is at most one larger than the previous one, so the rows reached by the
+            // transpositions are at least the limit minus the cost of the transposition
+            if (rowMin >= limit) {
+                return limit;
+            }
+        }
+
+        return rows[n % 4][m];
+    }
+
+    private static int insertCost(char aChar)
+    {
+        // Norvig's algorithm only inserts the letters a-z
+        return (aChar >= 'a' && aChar <= 'z') ? 1 : MAX_DISTANCE + 1;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.norvig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SymmetricDeleteSpellingAlgorithmTest
+{
+    private List<String> dictionary;
+    private String trainingText;
+
+    @BeforeEach
+    public void setup()
+    {
+        Random rnd = new Random(42);
+
+        // Use a small alphabet so that the words are close to each other. Some words contain
+        // digits which Norvig's algorithm never inserts.
+        Set<String> words = new LinkedHashSet<>();
+        while (words.size() < 300) {
+            StringBuilder word = new StringBuilder();
+            int length = 2 + rnd.nextInt(6);
+            for (int i = 0; i < length; i++) {
+                word.append(rnd.nextInt(20) == 0 ? '7' : (char) ('a' + rnd.nextInt(6)));
+            }
+            words.add(word.toString());
+        }
+        dictionary = new ArrayList<>(words);
+
+        // Each word gets a different frequency, so there is always a single best candidate
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < dictionary.size(); i++) {
+            for (int n = 0; n <= i; n++) {
+                text.append(dictionary.get(i)).append(' ');
+            }
+            text.append('\n');
+        }
+        trainingText = text.toString();
+    }
+
+    @Test
+    public void testSameCorrectionsAsNorvig()
+        throws Exception
+    {
+        NorvigSpellingAlgorithm norvig = new NorvigSpellingAlgorithm();
+        norvig.train(new StringReader(trainingText));
+
+        SymmetricDeleteSpellingAlgorithm symSpell = new SymmetricDeleteSpellingAlgorithm(100);
+        symSpell.train(new StringReader(trainingText));
+
+        Random rnd = new Random(4711);
+        int corrected = 0;
+        for (int n = 0; n < 2000; n++) {
+            String word = misspell(dictionary.get(rnd.nextInt(dictionary.size())), rnd);
+
+            String expected = norvig.correct(word);
+            assertThat(symSpell.correct(word)).as("Correction of [%s]", word).isEqualTo(expected);
+            if (!expected.equals(word)) {
+                corrected++;
+            }
+        }
+
+        // Make sure the test actually covers corrections
+        assertThat(corrected).isGreaterThan(1000);
+    }
+
+    @Test
+    public void testCase()
+        throws Exception
+    {
+        SymmetricDeleteSpellingAlgorithm symSpell = new SymmetricDeleteSpellingAlgorithm();
+        symSpell.train(new StringReader("This is a simple test .\n"));
+
+        assertThat(symSpell.correct("Simpel")).isEqualTo("Simple");
+        assertThat(symSpell.correct("tset")).isEqualTo("test");
+        assertThat(symSpell.correct("42")).isEqualTo("42");
+        assertThat(symSpell.correct("xyzzy")).isEqualTo("xyzzy");
+    }
+
+    private String misspell(String aWord, Random aRnd)
+    {
+        StringBuilder sb = new StringBuilder(aWord);
+        int edits = 1 + aRnd.nextInt(3);
+        for (int i = 0; i < edits; i++) {
+            int pos = aRnd.nextInt(sb.length() + 1);
+            char c = aRnd.nextInt(10) == 0 ? '_' : (char) ('a' + aRnd.nextInt(8));
+            switch (aRnd.nextInt(4)) {
+            case 0:
+                sb.insert(pos, c);
+                break;
+            case 1:
+                if (pos < sb.length() && sb.length() > 2) {
+                    sb.deleteCharAt(pos);
+                }
+                break;
+            case 2:
+                if (pos < sb.length()) {
+                    sb.setCharAt(pos, c);
+                }
+                break;
+            default:
+                if (pos < sb.length() - 1) {
+                    char tmp = sb.charAt(pos);
+                    sb.setCharAt(pos, sb.charAt(pos + 1));
+                    sb.setCharAt(pos + 1, tmp);
+                }
+                break;
+            }
+        }
+        return sb.toString();
+    }
+}
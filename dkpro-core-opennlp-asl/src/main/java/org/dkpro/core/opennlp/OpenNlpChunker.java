@@ -22,6 +22,7 @@ import static org.apache.uima.fit.util.JCasUtil.selectCovered;
 import static org.apache.uima.util.Level.INFO;
 
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.uima.UimaContext;
@@ -44,6 +45,7 @@ import org.dkpro.core.api.resources.MappingProvider;
 import org.dkpro.core.api.resources.MappingProviderFactory;
 import org.dkpro.core.api.resources.ModelProviderBase;
 import org.dkpro.core.opennlp.internal.OpenNlpChunkerTagsetDescriptionProvider;
+import org.dkpro.core.opennlp.internal.ParallelSentenceProcessor;
 
 import de.tudarmstadt.ukp.dkpro.core.api.segmentation.type.Sentence;
 import de.tudarmstadt.ukp.dkpro.core.api.segmentation.type.Token;
@@ -131,8 +133,22 @@ public class OpenNlpChunker
     @ConfigurationParameter(name = PARAM_PRINT_TAGSET, mandatory = true, defaultValue = "false")
     protected boolean printTagSet;
 
+    /**
+     * Number of threads used to chunk the sentences of a document in parallel. The model is shared
+     * between the threads and the results are added to the CAS in document order, so the output
+     * is the same as when chunking sequentially. By default, sentences are chunked on the calling
+     * thread.
+     * 
+     * @see ComponentParameters#computeNumThreads(int)
+     */
+    public static final String PARAM_NUM_THREADS = ComponentParameters.PARAM_NUM_THREADS;
+    @ConfigurationParameter(name = PARAM_NUM_THREADS, mandatory = true, defaultValue = "1")
+    private int numThreads;
+
     private CasConfigurableProviderBase<Chunker> modelProvider;
     private MappingProvider mappingProvider;
+    private ChunkerModel model;
+    private ParallelSentenceProcessor<Chunker> parallelProcessor;
 
     @Override
     public void initialize(UimaContext aContext)
@@ -140,6 +156,12 @@ public class OpenNlpChunker
     {
         super.initialize(aContext);
 
+        int threads = ComponentParameters.computeNumThreads(numThreads);
+        if (threads > 1) {
+            parallelProcessor = new ParallelSentenceProcessor<>(getClass().getSimpleName(),
+                    threads);
+        }
+
         modelProvider = new ModelProviderBase<Chunker>(this, "opennlp", "chunker") {
             {
                 setDefault(GROUP_ID, "de.tudarmstadt.ukp.dkpro.core");
@@ -161,6 +183,8 @@ public class OpenNlpChunker
                     getContext().getLogger().log(INFO, tsdp.toString());
                 }
 
+                OpenNlpChunker.this.model = model;
+
                 return new ChunkerME(model);
             }
         };
@@ -183,6 +207,8 @@ public class OpenNlpChunker
 
         IobDecoder decoder = new IobDecoder(cas, chunkValue, mappingProvider);
         
+        List<List<Token>> sentences = new ArrayList<>();
+        List<String[][]> sentenceInputs = new ArrayList<>();
         for (Sentence sentence : select(aJCas, Sentence.class)) {
             List<Token> tokens = selectCovered(aJCas, Token.class, sentence);
             String[] tokenTexts = new String[tokens.size()];
@@ -196,9 +222,33 @@ public class OpenNlpChunker
                 tokenTags[i] = t.getPos().getPosValue();
                 i++;
             }
+            sentences.add(tokens);
+            sentenceInputs.add(new String[][] { tokenTexts, tokenTags });
+        }
 
-            String[] chunkTags = modelProvider.getResource().chunk(tokenTexts, tokenTags);
-            decoder.decode(tokens, chunkTags);
+        List<String[]> sentenceChunkTags;
+        if (parallelProcessor != null && model != null) {
+            sentenceChunkTags = parallelProcessor.process(model, ChunkerME::new, sentenceInputs,
+                    (chunker, input) -> chunker.chunk(input[0], input[1]));
+        }
+        else {
+            sentenceChunkTags = new ArrayList<>(sentenceInputs.size());
+            for (String[][] input : sentenceInputs) {
+                sentenceChunkTags.add(modelProvider.getResource().chunk(input[0], input[1]));
+            }
+        }
+
+        for (int s = 0; s < sentences.size(); s++) {
+            decoder.decode(sentences.get(s), sentenceChunkTags.get(s));
+        }
+    }
+
+    @Override
+    public void destroy()
+    {
+        if (parallelProcessor != null) {
+            parallelProcessor.close();
         }
+        super.destroy();
     }
 }
@@ -21,6 +21,7 @@ import static org.apache.uima.fit.util.JCasUtil.indexCovered;
 import static org.apache.uima.fit.util.JCasUtil.select;
 
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +40,7 @@ import org.dkpro.core.api.parameter.MimeTypes;
 import org.dkpro.core.api.parameter.ResourceParameter;
 import org.dkpro.core.api.resources.CasConfigurableProviderBase;
 import org.dkpro.core.api.resources.ModelProviderBase;
+import org.dkpro.core.opennlp.internal.ParallelSentenceProcessor;
 
 import de.tudarmstadt.ukp.dkpro.core.api.segmentation.type.Lemma;
 import de.tudarmstadt.ukp.dkpro.core.api.segmentation.type.Sentence;
@@ -108,7 +110,21 @@ public class OpenNlpLemmatizer
     @ConfigurationParameter(name = PARAM_MODEL_ENCODING, mandatory = false)
     private String modelEncoding;
 
+    /**
+     * Number of threads used to lemmatize the sentences of a document in parallel. The model is
+     * shared between the threads and the results are added to the CAS in document order, so the
+     * output is the same as when lemmatizing sequentially. By default, sentences are lemmatized on
+     * the calling thread.
+     * 
+     * @see ComponentParameters#computeNumThreads(int)
+     */
+    public static final String PARAM_NUM_THREADS = ComponentParameters.PARAM_NUM_THREADS;
+    @ConfigurationParameter(name = PARAM_NUM_THREADS, mandatory = true, defaultValue = "1")
+    private int numThreads;
+
     private CasConfigurableProviderBase<LemmatizerME> modelProvider;
+    private LemmatizerModel model;
+    private ParallelSentenceProcessor<LemmatizerME> parallelProcessor;
 
     @Override
     public void initialize(UimaContext aContext)
@@ -116,6 +132,12 @@ public class OpenNlpLemmatizer
     {
         super.initialize(aContext);
 
+        int threads = ComponentParameters.computeNumThreads(numThreads);
+        if (threads > 1) {
+            parallelProcessor = new ParallelSentenceProcessor<>(getClass().getSimpleName(),
+                    threads);
+        }
+
         modelProvider = new ModelProviderBase<LemmatizerME>(this, "lemma")
         {
             {
@@ -131,6 +153,10 @@ public class OpenNlpLemmatizer
                 // Load the lemmatizer model from the location the model provider offers
                 LemmatizerModel model = new LemmatizerModel(aStream);
 
+                // Remember the model so we can create additional lemmatizer instances from it
+                // when lemmatizing in parallel
+                OpenNlpLemmatizer.this.model = model;
+
                 // Create a new POS tagger instance from the loaded model
                 return new LemmatizerME(model);
             }
@@ -147,6 +173,8 @@ public class OpenNlpLemmatizer
         modelProvider.configure(cas);
 
         Map<Sentence, List<Token>> index = indexCovered(aJCas, Sentence.class, Token.class);
+        List<Collection<Token>> sentences = new ArrayList<>();
+        List<String[][]> sentenceInputs = new ArrayList<>();
         for (Sentence sentence : select(aJCas, Sentence.class)) {
             Collection<Token> tokens = index.get(sentence);
             
@@ -159,14 +187,31 @@ public class OpenNlpLemmatizer
                 tags[i] = t.getPosValue();
                 i++;
             }
-            
-            // Fetch the OpenNLP lemmatizer instance configured with the right model and use it to
-            // tag the text
-            LemmatizerME lemmatizer = modelProvider.getResource();
-            String[] lemmas = lemmatizer.lemmatize(toks, tags);
+
+            sentences.add(tokens);
+            sentenceInputs.add(new String[][] { toks, tags });
+        }
+
+        List<String[]> sentenceLemmas;
+        if (parallelProcessor != null && model != null) {
+            sentenceLemmas = parallelProcessor.process(model, LemmatizerME::new, sentenceInputs,
+                    (lemmatizer, input) -> lemmatizer.lemmatize(input[0], input[1]));
+        }
+        else {
+            sentenceLemmas = new ArrayList<>(sentenceInputs.size());
+            for (String[][] input : sentenceInputs) {
+                // Fetch the OpenNLP lemmatizer instance configured with the right model and use it
+                // to tag the text
+                LemmatizerME lemmatizer = modelProvider.getResource();
+                sentenceLemmas.add(lemmatizer.lemmatize(input[0], input[1]));
+            }
+        }
+
+        for (int s = 0; s < sentences.size(); s++) {
+            String[] lemmas = sentenceLemmas.get(s);
 
             int n = 0;
-            for (Token t : tokens) {
+            for (Token t : sentences.get(s)) {
                 Lemma lemmaAnno = new Lemma(aJCas, t.getBegin(), t.getEnd());
                 lemmaAnno.setValue(lemmas[n]);
                 lemmaAnno.addToIndexes();
@@ -177,4 +222,13 @@ public class OpenNlpLemmatizer
             }
         }
     }
+
+    @Override
+    public void destroy()
+    {
+        if (parallelProcessor != null) {
+            parallelProcessor.close();
+        }
+        super.destroy();
+    }
 }
@@ -25,6 +25,7 @@ import static org.apache.uima.util.Level.INFO;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -48,6 +49,7 @@ import org.dkpro.core.api.resources.MappingProvider;
 import org.dkpro.core.api.resources.MappingProviderFactory;
 import org.dkpro.core.api.resources.ModelProviderBase;
 import org.dkpro.core.opennlp.internal.OpenNlpTagsetDescriptionProvider;
+import org.dkpro.core.opennlp.internal.ParallelSentenceProcessor;
 
 import de.tudarmstadt.ukp.dkpro.core.api.lexmorph.type.pos.POS;
 import de.tudarmstadt.ukp.dkpro.core.api.segmentation.type.Sentence;
@@ -145,9 +147,23 @@ public class OpenNlpPosTagger
     @ConfigurationParameter(name = PARAM_PRINT_TAGSET, mandatory = true, defaultValue = "false")
     protected boolean printTagSet;
 
+    /**
+     * Number of threads used to tag the sentences of a document in parallel. The model is shared
+     * between the threads and the results are added to the CAS in document order, so the output
+     * is the same as when tagging sequentially. By default, sentences are tagged on the calling
+     * thread.
+     * 
+     * @see ComponentParameters#computeNumThreads(int)
+     */
+    public static final String PARAM_NUM_THREADS = ComponentParameters.PARAM_NUM_THREADS;
+    @ConfigurationParameter(name = PARAM_NUM_THREADS, mandatory = true, defaultValue = "1")
+    private int numThreads;
+
     protected CasConfigurableProviderBase<POSTaggerME> modelProvider;
     private MappingProvider mappingProvider;
     private Charset encoding;
+    private POSModel model;
+    private ParallelSentenceProcessor<POSTaggerME> parallelProcessor;
 
     @Override
     public void initialize(UimaContext aContext)
@@ -156,6 +172,12 @@ public class OpenNlpPosTagger
         super.initialize(aContext);
 
         encoding = modelEncoding != null ? Charset.forName(modelEncoding) : null;
+
+        int threads = ComponentParameters.computeNumThreads(numThreads);
+        if (threads > 1) {
+            parallelProcessor = new ParallelSentenceProcessor<>(getClass().getSimpleName(),
+                    threads);
+        }
         
 // tag::model-provider-decl[]
         // Use ModelProviderBase convenience constructor to set up a model provider that
@@ -193,6 +215,10 @@ public class OpenNlpPosTagger
                     getContext().getLogger().log(INFO, tsdp.toString());
                 }
 
+                // Remember the model so we can create additional tagger instances from it when
+                // tagging in parallel
+                OpenNlpPosTagger.this.model = model;
+
 // tag::model-provider-decl[]
                 // Create a new POS tagger instance from the loaded model
                 return new POSTaggerME(model);
@@ -231,6 +257,12 @@ public class OpenNlpPosTagger
                 "pos.tagset.tagSplitPattern");
         
         Map<Sentence, List<Token>> index = indexCovered(aJCas, Sentence.class, Token.class);
+        
+        if (parallelProcessor != null && model != null) {
+            processInParallel(aJCas, index, tagSplitPattern);
+            return;
+        }
+        
         for (Sentence sentence : select(aJCas, Sentence.class)) {
 // tag::model-provider-use-2[]
             Collection<Token> tokens = index.get(sentence);
@@ -242,31 +274,71 @@ public class OpenNlpPosTagger
             String[] tags = modelProvider.getResource().tag(tokenTexts);
 // end::model-provider-use-2[]
 
-            int i = 0;
-            for (Token t : tokens) {
-                String tag = tags[i];
+            addTags(cas, tokens, tags, tagSplitPattern);
+        }
+    }
 
-                // Post-process the tag if necessary
-                if (tagSplitPattern != null) {
-                    tag = tag.split(tagSplitPattern)[0];
-                }
+    /**
+     * Tags the sentences on the thread pool and adds the tags to the CAS in document order.
+     */
+    private void processInParallel(JCas aJCas, Map<Sentence, List<Token>> aIndex,
+            String aTagSplitPattern)
+        throws AnalysisEngineProcessException
+    {
+        List<Collection<Token>> sentences = new ArrayList<>();
+        List<String[]> sentenceTexts = new ArrayList<>();
+        for (Sentence sentence : select(aJCas, Sentence.class)) {
+            Collection<Token> tokens = aIndex.get(sentence);
+            String[] tokenTexts = toText(tokens).toArray(new String[tokens.size()]);
+            fixEncoding(tokenTexts);
+            sentences.add(tokens);
+            sentenceTexts.add(tokenTexts);
+        }
+
+        List<String[]> sentenceTags = parallelProcessor.process(model, POSTaggerME::new,
+                sentenceTexts, POSTaggerME::tag);
+
+        for (int s = 0; s < sentences.size(); s++) {
+            addTags(aJCas.getCas(), sentences.get(s), sentenceTags.get(s), aTagSplitPattern);
+        }
+    }
+
+    private void addTags(CAS cas, Collection<Token> tokens, String[] tags,
+            String tagSplitPattern)
+    {
+        int i = 0;
+        for (Token t : tokens) {
+            String tag = tags[i];
+
+            // Post-process the tag if necessary
+            if (tagSplitPattern != null) {
+                tag = tag.split(tagSplitPattern)[0];
+            }
 
 // tag::mapping-provider-use-2[]
-                // Convert the tag produced by the tagger to an UIMA type, create an annotation
-                // of this type, and add it to the document.
-                Type posTag = mappingProvider.getTagType(tag);
-                POS posAnno = (POS) cas.createAnnotation(posTag, t.getBegin(), t.getEnd());
-                // To save memory, we typically intern() tag strings
-                posAnno.setPosValue(tag != null ? tag.intern() : null);
-                POSUtils.assignCoarseValue(posAnno);
-                posAnno.addToIndexes();
+            // Convert the tag produced by the tagger to an UIMA type, create an annotation
+            // of this type, and add it to the document.
+            Type posTag = mappingProvider.getTagType(tag);
+            POS posAnno = (POS) cas.createAnnotation(posTag, t.getBegin(), t.getEnd());
+            // To save memory, we typically intern() tag strings
+            posAnno.setPosValue(tag != null ? tag.intern() : null);
+            POSUtils.assignCoarseValue(posAnno);
+            posAnno.addToIndexes();
 // end::mapping-provider-use-2[]
-                
-                // Connect the POS annotation to the respective token annotation
-                t.setPos(posAnno);
-                i++;
-            }
+            
+            // Connect the POS annotation to the respective token annotation
+            t.setPos(posAnno);
+            i++;
+        }
+    }
+
+    @Override
+    public void destroy()
+    {
+        if (parallelProcessor != null) {
+            parallelProcessor.close();
         }
+        super.destroy();
     }
 
     private void fixEncoding(String[] aTokenTexts)
@@ -39,6 +39,7 @@ import org.apache.uima.fit.descriptor.LanguageCapability;
 import org.apache.uima.fit.descriptor.ResourceMetaData;
 import org.apache.uima.fit.descriptor.TypeCapability;
 import org.apache.uima.jcas.JCas;
+import org.dkpro.core.api.featurepath.CompiledFeaturePath;
 import org.dkpro.core.api.featurepath.FeaturePathAnnotatorBase;
 import org.dkpro.core.api.featurepath.FeaturePathException;
 import org.dkpro.core.api.parameter.ComponentParameters;
@@ -157,9 +158,8 @@ public class OpenNlpSnowballStemmer
                 throw new IllegalStateException("Type [" + typeName + "] not found in type system");
             }
 
-            // get an fpi object and initialize it
-            // initialize the FeaturePathInfo with the corresponding part
-            initializeFeaturePathInfoFrom(fp, segments);
+            // get the feature path compiled for the type system of the CAS
+            CompiledFeaturePath valuePath = compileFeaturePath(t, segments);
 
             // get the annotations
             AnnotationIndex<?> idx = currCAS.getAnnotationIndex(t);
@@ -169,14 +169,8 @@ public class OpenNlpSnowballStemmer
                 AnnotationFS fs = (AnnotationFS) iterator.next();
 
                 try {
-                    if (this.filterFeaturePath != null) {
-                        // check annotation filter condition
-                        if (this.filterFeaturePathInfo.match(fs, this.filterCondition)) {
-                            createStemAnnotation(stemmer, jcas, fs);
-                        }
-                    }
-                    else { // no annotation filter specified
-                        createStemAnnotation(stemmer, jcas, fs);
+                    if (matchesFilter(valuePath, fs)) {
+                        createStemAnnotation(stemmer, jcas, valuePath, fs);
                     }
                 }
                 catch (AnalysisEngineProcessException e) {
@@ -194,16 +188,19 @@ public class OpenNlpSnowballStemmer
      * 
      * @param jcas
      *            the JCas
+     * @param aPath
+     *            the feature path providing the value to be stemmed
      * @param fs
      *            the AnnotationFS where the Stem annotation is created
      * @throws AnalysisEngineProcessException
      *             if the {@code stem} method from the snowball stemmer cannot be invoked.
      */
-    private void createStemAnnotation(Stemmer aStemmer, JCas jcas, AnnotationFS fs)
+    private void createStemAnnotation(Stemmer aStemmer, JCas jcas, CompiledFeaturePath aPath,
+            AnnotationFS fs)
         throws AnalysisEngineProcessException
     {
         // Check for blank text, it makes no sense to add a stem then (and raised an exception)
-        String value = fp.getValue(fs);
+        String value = aPath.getValue(fs);
         if (!StringUtils.isBlank(value)) {
             if (lowerCase) {
                 // Fixme - should use locale/language defined in CAS.
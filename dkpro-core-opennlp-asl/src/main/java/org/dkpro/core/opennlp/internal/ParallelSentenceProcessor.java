@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.opennlp.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.apache.uima.analysis_engine.AnalysisEngineProcessException;
+
+/**
+ * Applies an OpenNLP tool to a list of sentences using multiple threads. The (immutable) model is
+ * shared between the threads while each thread uses its own instance of the (stateful) tool
+ * created from that model. The results are returned in the order of the input such that the
+ * caller can apply them to the CAS on its own thread.
+ *
+ * @param <T>
+ *            the type of the tool, e.g. {@code POSTaggerME}.
+ */
+public class ParallelSentenceProcessor<T>
+    implements AutoCloseable
+{
+    /**
+     * Number of batches per thread into which the sentences are split. Using a few more batches
+     * than threads helps balancing the load if sentences have very different lengths.
+     */
+    private static final int BATCHES_PER_THREAD = 4;
+
+    private final int numThreads;
+    private final ExecutorService executor;
+
+    private Object model;
+    private ThreadLocal<T> tools;
+
+    public ParallelSentenceProcessor(String aName, int aNumThreads)
+    {
+        numThreads = aNumThreads;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(aNumThreads, runnable -> {
+            Thread thread = new Thread(runnable, aName + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Process the given inputs in parallel.
+     *
+     * @param aModel
+     *            the model from which to create the tools.
+     * @param aToolFactory
+     *            creates a new tool instance from the model.
+     * @param aInputs
+     *            the inputs, typically one per sentence.
+     * @param aFunction
+     *            applies the tool to a single input.
+     * @return the outputs in the same order as the inputs.
+     * @throws AnalysisEngineProcessException
+     *             if the processing of any of the inputs failed.
+     */
+    public synchronized <M, I, O> List<O> process(M aModel, Function<M, T> aToolFactory,
+            List<I> aInputs, BiFunction<T, I, O> aFunction)
+        throws AnalysisEngineProcessException
+    {
+        // Each thread lazily creates its own tool instance. If the model changes, all instances
+        // created from the previous model are discarded.
+        if (model != aModel) {
+            model = aModel;
+            tools = ThreadLocal.withInitial(() -> aToolFactory.apply(aModel));
+        }
+        ThreadLocal<T> localTools = tools;
+
+        int batchSize = Math.max(1,
+                (aInputs.size() + (numThreads * BATCHES_PER_THREAD) - 1)
+                        / (numThreads * BATCHES_PER_THREAD));
+
+        List<Future<List<O>>> futures = new ArrayList<>();
+        for (int begin = 0; begin < aInputs.size(); begin += batchSize) {
+            List<I> batch = aInputs.subList(begin, Math.min(begin + batchSize, aInputs.size()));
+            futures.add(executor.submit(() -> {
+                T tool = localTools.get();
+                List<O> results = new ArrayList<>(batch.size());
+                for (I input : batch) {
+                    results.add(aFunction.apply(tool, input));
+                }
+                return results;
+            }));
+        }
+
+        List<O> results = new ArrayList<>(aInputs.size());
+        try {
+            for (Future<List<O>> future : futures) {
+                results.addAll(future.get());
+            }
+        }
+        catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new AnalysisEngineProcessException(e);
+        }
+        catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new AnalysisEngineProcessException(e.getCause());
+        }
+
+        return results;
+    }
+
+    @Override
+    public void close()
+    {
+        executor.shutdownNow();
+    }
+}
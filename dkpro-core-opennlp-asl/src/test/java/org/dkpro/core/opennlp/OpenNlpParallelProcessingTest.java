@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.opennlp;
+
+import static org.apache.uima.fit.factory.AnalysisEngineFactory.createEngine;
+import static org.apache.uima.fit.factory.AnalysisEngineFactory.createEngineDescription;
+import static org.apache.uima.fit.util.JCasUtil.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.uima.fit.factory.JCasFactory;
+import org.apache.uima.fit.testing.factory.TokenBuilder;
+import org.apache.uima.jcas.JCas;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.tudarmstadt.ukp.dkpro.core.api.segmentation.type.Sentence;
+import de.tudarmstadt.ukp.dkpro.core.api.segmentation.type.Token;
+import de.tudarmstadt.ukp.dkpro.core.api.syntax.type.chunk.Chunk;
+import opennlp.tools.chunker.ChunkSample;
+import opennlp.tools.chunker.ChunkerFactory;
+import opennlp.tools.chunker.ChunkerME;
+import opennlp.tools.lemmatizer.LemmaSample;
+import opennlp.tools.lemmatizer.LemmatizerFactory;
+import opennlp.tools.lemmatizer.LemmatizerME;
+import opennlp.tools.postag.POSSample;
+import opennlp.tools.postag.POSTaggerFactory;
+import opennlp.tools.postag.POSTaggerME;
+import opennlp.tools.util.ObjectStreamUtils;
+import opennlp.tools.util.TrainingParameters;
+
+/**
+ * Checks that processing the sentences of a document in parallel produces the same result as
+ * processing them sequentially. Small models are trained on synthetic data, so this test does
+ * not need to download any models.
+ */
+public class OpenNlpParallelProcessingTest
+{
+    private static final String[][] WORDS = {
+            // word, POS, chunk, lemma
+            { "the", "DT", "NP", "the" },
+            { "a", "DT", "NP", "a" },
+            { "dog", "NN", "NP", "dog" },
+            { "dogs", "NNS", "NP", "dog" },
+            { "cat", "NN", "NP", "cat" },
+            { "cats", "NNS", "NP", "cat" },
+            { "runs", "VBZ", "VP", "run" },
+            { "ran", "VBD", "VP", "run" },
+            { "sees", "VBZ", "VP", "see" },
+            { "saw", "VBD", "VP", "see" } };
+
+    private static @TempDir File modelFolder;
+
+    @BeforeAll
+    public static void trainModels() throws Exception
+    {
+        List<String[][]> trainingSentences = generateSentences(new Random(1), 300);
+
+        List<POSSample> posSamples = new ArrayList<>();
+        List<ChunkSample> chunkSamples = new ArrayList<>();
+        List<LemmaSample> lemmaSamples = new ArrayList<>();
+        for (String[][] sentence : trainingSentences) {
+            posSamples.add(new POSSample(sentence[0], sentence[1]));
+            chunkSamples.add(new ChunkSample(sentence[0], sentence[1], sentence[2]));
+            lemmaSamples.add(new LemmaSample(sentence[0], sentence[1], sentence[3]));
+        }
+
+        TrainingParameters params = TrainingParameters.defaultParams();
+        params.put(TrainingParameters.ITERATIONS_PARAM, 10);
+        params.put(TrainingParameters.CUTOFF_PARAM, 1);
+
+        POSTaggerME.train("en", ObjectStreamUtils.createObjectStream(posSamples), params,
+                new POSTaggerFactory()).serialize(new File(modelFolder, "pos.bin"));
+        ChunkerME.train("en", ObjectStreamUtils.createObjectStream(chunkSamples), params,
+                new ChunkerFactory()).serialize(new File(modelFolder, "chunker.bin"));
+        LemmatizerME.train("en", ObjectStreamUtils.createObjectStream(lemmaSamples), params,
+                new LemmatizerFactory()).serialize(new File(modelFolder, "lemma.bin"));
+    }
+
+    @Test
+    public void testParallelMatchesSequential() throws Exception
+    {
+        List<String> sequential = process(1);
+        List<String> parallel = process(4);
+
+        // Make sure the test actually covers a substantial number of tagged tokens and chunks
+        assertEquals(1000, select(createDocument(), Token.class).size());
+        assertTrue(sequential.contains("the DT the"));
+        assertTrue(sequential.stream().anyMatch(line -> line.startsWith("NP ")));
+        assertEquals(sequential, parallel);
+    }
+
+    /**
+     * Runs tagger, chunker and lemmatizer with the given number of threads.
+     *
+     * @return one line per token with its POS tag and lemma followed by one line per chunk.
+     */
+    private List<String> process(int aThreads) throws Exception
+    {
+        JCas jcas = createDocument();
+
+        createEngine(createEngineDescription(
+                createEngineDescription(OpenNlpPosTagger.class,
+                        OpenNlpPosTagger.PARAM_MODEL_LOCATION, new File(modelFolder, "pos.bin"),
+                        OpenNlpPosTagger.PARAM_NUM_THREADS, aThreads),
+                createEngineDescription(OpenNlpChunker.class,
+                        OpenNlpChunker.PARAM_MODEL_LOCATION,
+                        new File(modelFolder, "chunker.bin"),
+                        OpenNlpChunker.PARAM_NUM_THREADS, aThreads),
+                createEngineDescription(OpenNlpLemmatizer.class,
+                        OpenNlpLemmatizer.PARAM_MODEL_LOCATION,
+                        new File(modelFolder, "lemma.bin"),
+                        OpenNlpLemmatizer.PARAM_NUM_THREADS, aThreads))).process(jcas);
+
+        List<String> result = new ArrayList<>();
+        for (Token token : select(jcas, Token.class)) {
+            result.add(token.getCoveredText() + " " + token.getPosValue() + " "
+                    + token.getLemmaValue());
+        }
+        for (Chunk chunk : select(jcas, Chunk.class)) {
+            result.add(chunk.getChunkValue() + " " + chunk.getBegin() + "-" + chunk.getEnd());
+        }
+        return result;
+    }
+
+    private static JCas createDocument() throws Exception
+    {
+        StringBuilder text = new StringBuilder();
+        for (String[][] sentence : generateSentences(new Random(2), 200)) {
+            text.append(String.join(" ", sentence[0])).append('\n');
+        }
+
+        JCas jcas = JCasFactory.createJCas();
+        jcas.setDocumentLanguage("en");
+        new TokenBuilder<>(Token.class, Sentence.class).buildTokens(jcas, text.toString());
+        return jcas;
+    }
+
+    /**
+     * Generates sentences of the form "determiner noun verb determiner noun".
+     *
+     * @return for each sentence, the tokens, POS tags, chunk tags and lemmas.
+     */
+    private static List<String[][]> generateSentences(Random aRandom, int aCount)
+    {
+        int[][] slots = { { 0, 1 }, { 2, 3, 4, 5 }, { 6, 7, 8, 9 }, { 0, 1 }, { 2, 3, 4, 5 } };
+        List<String[][]> sentences = new ArrayList<>();
+        for (int n = 0; n < aCount; n++) {
+            String[][] sentence = new String[4][slots.length];
+            String previousChunk = null;
+            for (int i = 0; i < slots.length; i++) {
+                String[] word = WORDS[slots[i][aRandom.nextInt(slots[i].length)]];
+                sentence[0][i] = word[0];
+                sentence[1][i] = word[1];
+                sentence[2][i] = (word[2].equals(previousChunk) ? "I-" : "B-") + word[2];
+                sentence[3][i] = word[3];
+                previousChunk = word[2];
+            }
+            sentences.add(sentence);
+        }
+        return sentences;
+    }
+}
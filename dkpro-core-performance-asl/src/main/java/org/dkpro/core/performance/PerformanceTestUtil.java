@@ -149,6 +149,78 @@ public final class PerformanceTestUtil
         }
     }
 
+    /**
+     * Initializes a CAS with a random English-like text consisting of words and punctuation as
+     * well as the corresponding tokens and sentences. Unlike
+     * {@link #initRandomCas(JCas, int, int, long)}, the text can be processed by segmenters and
+     * taggers and the annotations are well-formed, so it can be written to and read from any
+     * format.
+     *
+     * @param aJCas the CAS
+     * @param aTokenCount the number of tokens to be generated.
+     * @param aSeed the random seed to allow for repeatable randomness.
+     */
+    public static void initRandomDocument(JCas aJCas, int aTokenCount, long aSeed)
+    {
+        Random rnd = new Random(aSeed);
+
+        // Generate a vocabulary from which words are drawn with a skewed distribution, such that
+        // some words are much more frequent than others like in natural language
+        String[] vocabulary = new String[Math.max(10, aTokenCount / 20)];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = RandomStringUtils.random(1 + rnd.nextInt(rnd.nextInt(12) + 1), 0, 0,
+                    true, false, null, rnd).toLowerCase();
+        }
+
+        StringBuilder text = new StringBuilder();
+        List<int[]> tokens = new ArrayList<>(aTokenCount);
+        List<int[]> sentences = new ArrayList<>();
+        int sentenceBegin = 0;
+        int sentenceFirstToken = 0;
+        int sentenceLength = 5 + rnd.nextInt(25);
+        for (int n = 0; n < aTokenCount; n++) {
+            boolean lastInSentence = n == sentenceFirstToken + sentenceLength - 1
+                    || n == aTokenCount - 1;
+
+            String word;
+            if (lastInSentence) {
+                word = ".";
+            }
+            else if (n > sentenceFirstToken && rnd.nextInt(15) == 0) {
+                word = ",";
+            }
+            else {
+                word = vocabulary[rnd.nextInt(rnd.nextInt(vocabulary.length) + 1)];
+            }
+
+            // Punctuation is attached to the preceding word
+            if (text.length() > 0 && !(lastInSentence || ",".equals(word))) {
+                text.append(' ');
+            }
+            if (n == sentenceFirstToken) {
+                sentenceBegin = text.length();
+            }
+            tokens.add(new int[] { text.length(), text.length() + word.length() });
+            text.append(word);
+
+            if (lastInSentence) {
+                sentences.add(new int[] { sentenceBegin, text.length() });
+                sentenceFirstToken = n + 1;
+                sentenceLength = 5 + rnd.nextInt(25);
+            }
+        }
+
+        aJCas.setDocumentText(text.toString());
+        aJCas.setDocumentLanguage("en");
+
+        for (int[] s : sentences) {
+            new Sentence(aJCas, s[0], s[1]).addToIndexes();
+        }
+        for (int[] t : tokens) {
+            new Token(aJCas, t[0], t[1]).addToIndexes();
+        }
+    }
+
     public static <T> Iterable<T> repeat(final T aObject, final int aCount)
     {
         return new Iterable<T>()
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.performance.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.dkpro.core.api.transform.alignment.AlignedString;
+import org.dkpro.core.api.transform.alignment.ImmutableInterval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures applying a batch of edits to an {@link AlignedString} and mapping the offsets of many
+ * intervals back afterwards, i.e. what the {@code ApplyChangesAnnotator} and the
+ * {@code Backmapper} do for a normalized document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AlignedStringBenchmark
+{
+    /**
+     * Length of the document in characters.
+     */
+    @Param({ "10000", "100000" })
+    public int length;
+
+    /**
+     * Average distance between two edits in characters.
+     */
+    @Param({ "50" })
+    public int editDistance;
+
+    private String text;
+    private int[] editStarts;
+    private int[] editEnds;
+    private String[] editTexts;
+    private AlignedString edited;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        Random rnd = new Random(42);
+
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.append((char) ('a' + rnd.nextInt(26)));
+            if (rnd.nextInt(6) == 0) {
+                sb.append(' ');
+            }
+        }
+        text = sb.substring(0, length);
+
+        // Non-overlapping edits ordered by offset, like the changes collected by the
+        // AlignmentFactory.
+        int count = length / editDistance;
+        editStarts = new int[count];
+        editEnds = new int[count];
+        editTexts = new String[count];
+        for (int i = 0; i < count; i++) {
+            editStarts[i] = i * editDistance + rnd.nextInt(editDistance / 2);
+            editEnds[i] = editStarts[i] + rnd.nextInt(3);
+            editTexts[i] = rnd.nextBoolean() ? "" : "XYZ".substring(0, 1 + rnd.nextInt(3));
+        }
+
+        edited = applyEdits();
+        edited.get();
+    }
+
+    private AlignedString applyEdits()
+    {
+        AlignedString as = new AlignedString(text);
+        // Apply from right to left so the offsets of the remaining edits stay valid
+        for (int i = editStarts.length - 1; i >= 0; i--) {
+            as.replace(editStarts[i], editEnds[i], editTexts[i]);
+        }
+        return as;
+    }
+
+    @Benchmark
+    public String edit()
+    {
+        return applyEdits().get();
+    }
+
+    @Benchmark
+    public void resolve(Blackhole aBlackhole)
+    {
+        // Map back "tokens" of 5 characters each covering the whole document
+        int editedLength = edited.length();
+        for (int begin = 0; begin + 5 <= editedLength; begin += 5) {
+            aBlackhole.consume(edited.resolve(new ImmutableInterval(begin, begin + 5)));
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.performance.jmh;
+
+import static org.apache.uima.fit.factory.AnalysisEngineFactory.createEngine;
+import static org.apache.uima.fit.factory.CollectionReaderFactory.createReader;
+import static org.dkpro.core.api.io.ResourceCollectionReaderBase.INCLUDE_PREFIX;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.uima.UIMAException;
+import org.apache.uima.fit.pipeline.SimplePipeline;
+import org.dkpro.core.api.resources.CompressionMethod;
+import org.dkpro.core.api.resources.CompressionUtils;
+import org.dkpro.core.io.tei.TeiReader;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.luben.zstd.Zstd;
+
+/**
+ * Measures how many serialized documents per second each compression method can compress and
+ * decompress. The documents are the Brown corpus samples used by the performance tests, read by
+ * the {@link TeiReader} with their tokens, sentences and part-of-speech tags and serialized once
+ * by the writer of the given format. Each invocation processes the next of these documents.
+ * <p>
+ * In addition to the documents per second, the {@link Bytes} counters report the uncompressed
+ * and compressed bytes per second. The uncompressed bytes divided by the compressed bytes is the
+ * compression ratio.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark
+{
+    private static final String DICTIONARY_SUFFIX = "+dict";
+
+    @Param({ "XMI", "BINCAS" })
+    public Format format;
+
+    /**
+     * The compression method, optionally followed by a level and by {@code +dict} to use a
+     * dictionary trained on the documents, e.g. {@code ZSTD:19+dict}. Levels and dictionaries are
+     * only supported by {@link CompressionMethod#ZSTD}. Since the dictionary is trained on the
+     * same documents it compresses, it shows the best case for a dictionary.
+     */
+    @Param({ "GZIP", "BZIP2", "XZ", "LZ4", "ZSTD:1", "ZSTD:3", "ZSTD:19", "ZSTD:3+dict" })
+    public String codec;
+
+    /**
+     * Folder containing the TEI files of the corpus. The default works when the benchmark is run
+     * from the folder of this module.
+     */
+    @Param({ "../dkpro-core-performance-asl/src/test/resources/corpus" })
+    public String corpus;
+
+    /**
+     * Bytes processed by a benchmark, reported per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes
+    {
+        public long uncompressedBytes;
+        public long compressedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset()
+        {
+            uncompressedBytes = 0;
+            compressedBytes = 0;
+        }
+    }
+
+    private int level;
+    private byte[] dictionary;
+    private long dictionaryId;
+    private String[] names;
+    private byte[][] serialized;
+    private byte[][] compressed;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup()
+        throws UIMAException, IOException
+    {
+        String method = codec;
+        boolean useDictionary = method.endsWith(DICTIONARY_SUFFIX);
+        if (useDictionary) {
+            method = method.substring(0, method.length() - DICTIONARY_SUFFIX.length());
+        }
+        level = CompressionUtils.DEFAULT_LEVEL;
+        if (method.contains(":")) {
+            level = Integer.parseInt(method.substring(method.indexOf(':') + 1));
+            method = method.substring(0, method.indexOf(':'));
+        }
+        CompressionMethod compression = CompressionMethod.valueOf(method);
+
+        File targetFolder = Files.createTempDirectory("dkpro-benchmark").toFile();
+        try {
+            SimplePipeline.runPipeline(
+                    createReader(TeiReader.class,
+                            TeiReader.PARAM_LANGUAGE, "en",
+                            TeiReader.PARAM_SOURCE_LOCATION, corpus,
+                            TeiReader.PARAM_PATTERNS, INCLUDE_PREFIX + "*.xml"),
+                    createEngine(format.createWriterDescription(targetFolder)));
+
+            File[] files = targetFolder.listFiles();
+            if (files == null || files.length == 0) {
+                throw new IOException("No documents found in [" + corpus + "]");
+            }
+            Arrays.sort(files);
+            names = new String[files.length];
+            serialized = new byte[files.length][];
+            for (int i = 0; i < files.length; i++) {
+                names[i] = files[i].getName() + compression.getExtension();
+                serialized[i] = Files.readAllBytes(files[i].toPath());
+            }
+        }
+        finally {
+            Corpus.delete(targetFolder);
+        }
+
+        if (useDictionary) {
+            dictionary = trainDictionary();
+            dictionaryId = CompressionUtils.registerZstdDictionary(dictionary);
+        }
+
+        compressed = new byte[serialized.length][];
+        for (int i = 0; i < serialized.length; i++) {
+            compressed[i] = compress(i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        if (dictionaryId != 0) {
+            CompressionUtils.unregisterZstdDictionary(dictionaryId);
+            dictionaryId = 0;
+        }
+    }
+
+    @Benchmark
+    public byte[] compress(Bytes aBytes)
+        throws IOException
+    {
+        int i = nextDocument();
+        byte[] result = compress(i);
+        aBytes.uncompressedBytes += serialized[i].length;
+        aBytes.compressedBytes += result.length;
+        return result;
+    }
+
+    @Benchmark
+    public long decompress(Bytes aBytes)
+        throws IOException
+    {
+        int i = nextDocument();
+        byte[] buffer = new byte[8192];
+        long total = 0;
+        try (InputStream is = CompressionUtils.getInputStream(names[i],
+                new ByteArrayInputStream(compressed[i]))) {
+            int n;
+            while ((n = is.read(buffer)) != -1) {
+                total += n;
+            }
+        }
+        aBytes.uncompressedBytes += total;
+        aBytes.compressedBytes += compressed[i].length;
+        return total;
+    }
+
+    private int nextDocument()
+    {
+        int i = next;
+        next = (next + 1) % serialized.length;
+        return i;
+    }
+
+    private byte[] compress(int aDocument)
+        throws IOException
+    {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(serialized[aDocument].length);
+        try (OutputStream os = CompressionUtils.getOutputStream(names[aDocument], buffer, level,
+                dictionary)) {
+            os.write(serialized[aDocument]);
+        }
+        return buffer.toByteArray();
+    }
+
+    private byte[] trainDictionary()
+        throws IOException
+    {
+        // The trainer needs many samples, so the documents are cut into pieces
+        List<byte[]> samples = new ArrayList<>();
+        for (byte[] document : serialized) {
+            for (int offset = 0; offset < document.length; offset += 4096) {
+                samples.add(Arrays.copyOfRange(document, offset,
+                        Math.min(document.length, offset + 4096)));
+            }
+        }
+        byte[] buffer = new byte[112640];
+        long size = Zstd.trainFromBuffer(samples.toArray(new byte[samples.size()][]), buffer);
+        if (Zstd.isError(size)) {
+            throw new IOException("Unable to train dictionary: " + Zstd.getErrorName(size));
+        }
+        return Arrays.copyOf(buffer, (int) size);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.performance.jmh;
+
+import static org.dkpro.core.performance.PerformanceTestUtil.initRandomDocument;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.apache.uima.UIMAException;
+import org.apache.uima.fit.factory.JCasFactory;
+import org.apache.uima.jcas.JCas;
+
+import de.tudarmstadt.ukp.dkpro.core.api.metadata.type.DocumentMetaData;
+
+/**
+ * Creates the synthetic documents used by the benchmarks. The documents only depend on the size
+ * and the seed, so results from different runs and machines can be compared.
+ */
+public final class Corpus
+{
+    /**
+     * The seed used for all documents.
+     */
+    public static final long SEED = 12345L;
+
+    private Corpus()
+    {
+        // No instances
+    }
+
+    /**
+     * Creates a new CAS containing a document with tokens and sentences.
+     *
+     * @param aTokenCount
+     *            the number of tokens in the document.
+     * @return the CAS.
+     * @throws UIMAException
+     *             if the CAS cannot be created.
+     */
+    public static JCas createDocument(int aTokenCount)
+        throws UIMAException
+    {
+        JCas jcas = JCasFactory.createJCas();
+        initRandomDocument(jcas, aTokenCount, SEED);
+        DocumentMetaData dmd = DocumentMetaData.create(jcas);
+        dmd.setDocumentId(Format.DOCUMENT_ID);
+        return jcas;
+    }
+
+    /**
+     * Deletes a temporary folder created by a benchmark including its contents.
+     *
+     * @param aFolder
+     *            the folder.
+     * @throws IOException
+     *             if the folder cannot be deleted.
+     */
+    public static void delete(File aFolder)
+        throws IOException
+    {
+        try (Stream<Path> paths = Files.walk(aFolder.toPath())) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
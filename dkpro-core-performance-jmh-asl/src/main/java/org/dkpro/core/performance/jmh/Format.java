@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.performance.jmh;
+
+import java.io.File;
+
+import org.apache.uima.analysis_component.AnalysisComponent;
+import org.apache.uima.analysis_engine.AnalysisEngineDescription;
+import org.apache.uima.collection.CollectionReader;
+import org.apache.uima.collection.CollectionReaderDescription;
+import org.apache.uima.fit.factory.AnalysisEngineFactory;
+import org.apache.uima.fit.factory.CollectionReaderFactory;
+import org.apache.uima.resource.ResourceInitializationException;
+import org.dkpro.core.api.io.JCasFileWriter_ImplBase;
+import org.dkpro.core.api.io.ResourceCollectionReaderBase;
+import org.dkpro.core.io.bincas.BinaryCasReader;
+import org.dkpro.core.io.bincas.BinaryCasWriter;
+import org.dkpro.core.io.conll.ConllUReader;
+import org.dkpro.core.io.conll.ConllUWriter;
+import org.dkpro.core.io.json.JsonWriter;
+import org.dkpro.core.io.webanno.tsv.WebannoTsv3XReader;
+import org.dkpro.core.io.webanno.tsv.WebannoTsv3XWriter;
+import org.dkpro.core.io.xmi.XmiReader;
+import org.dkpro.core.io.xmi.XmiWriter;
+
+/**
+ * The formats covered by the {@link WriterBenchmark} and the {@link ReaderBenchmark}.
+ */
+public enum Format
+{
+    XMI(XmiWriter.class, XmiReader.class),
+    BINCAS(BinaryCasWriter.class, BinaryCasReader.class),
+    JSON(JsonWriter.class, null),
+    CONLLU(ConllUWriter.class, ConllUReader.class),
+    TSV3X(WebannoTsv3XWriter.class, WebannoTsv3XReader.class);
+
+    /**
+     * The document ID and hence the base name of the files written by the benchmarks.
+     */
+    public static final String DOCUMENT_ID = "benchmark";
+
+    private final Class<? extends AnalysisComponent> writerClass;
+    private final Class<? extends CollectionReader> readerClass;
+
+    Format(Class<? extends AnalysisComponent> aWriterClass,
+            Class<? extends CollectionReader> aReaderClass)
+    {
+        writerClass = aWriterClass;
+        readerClass = aReaderClass;
+    }
+
+    public boolean isReadable()
+    {
+        return readerClass != null;
+    }
+
+    public AnalysisEngineDescription createWriterDescription(File aTargetFolder)
+        throws ResourceInitializationException
+    {
+        return AnalysisEngineFactory.createEngineDescription(writerClass,
+                JCasFileWriter_ImplBase.PARAM_TARGET_LOCATION, aTargetFolder,
+                JCasFileWriter_ImplBase.PARAM_USE_DOCUMENT_ID, true,
+                JCasFileWriter_ImplBase.PARAM_OVERWRITE, true);
+    }
+
+    public CollectionReaderDescription createReaderDescription(File aSourceFolder)
+        throws ResourceInitializationException
+    {
+        if (readerClass == null) {
+            throw new IllegalStateException("There is no reader for the format [" + this + "]");
+        }
+
+        return CollectionReaderFactory.createReaderDescription(readerClass,
+                ResourceCollectionReaderBase.PARAM_SOURCE_LOCATION, aSourceFolder,
+                ResourceCollectionReaderBase.PARAM_PATTERNS, "[+]" + DOCUMENT_ID + "*");
+    }
+}
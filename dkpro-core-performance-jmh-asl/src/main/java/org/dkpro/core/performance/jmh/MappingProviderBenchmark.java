@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.performance.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.uima.UIMAException;
+import org.apache.uima.analysis_engine.AnalysisEngineProcessException;
+import org.apache.uima.cas.CAS;
+import org.apache.uima.fit.factory.JCasFactory;
+import org.dkpro.core.api.resources.MappingProvider;
+import org.dkpro.core.api.resources.MappingProviderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the overhead the resource providers add to each document processed by a component:
+ * re-configuring a {@link MappingProvider} for a CAS it has already seen and mapping each tag of
+ * a tagset to its type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingProviderBenchmark
+{
+    private CAS cas;
+    private MappingProvider provider;
+    private String[] tags;
+
+    @Setup(Level.Trial)
+    public void setup()
+        throws UIMAException
+    {
+        cas = JCasFactory.createJCas().getCas();
+        cas.setDocumentLanguage("en");
+
+        provider = MappingProviderFactory.createPosMappingProvider(null, null, null, "en");
+        provider.configure(cas);
+        tags = provider.getTags().toArray(new String[0]);
+    }
+
+    @Benchmark
+    public void configure()
+        throws AnalysisEngineProcessException
+    {
+        provider.configure(cas);
+    }
+
+    @Benchmark
+    public void getTagType(Blackhole aBlackhole)
+    {
+        for (String tag : tags) {
+            aBlackhole.consume(provider.getTagType(tag));
+        }
+    }
+}
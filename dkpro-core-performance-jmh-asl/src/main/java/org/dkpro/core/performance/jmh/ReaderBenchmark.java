@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.performance.jmh;
+
+import static org.apache.uima.fit.factory.AnalysisEngineFactory.createEngine;
+import static org.apache.uima.fit.factory.CollectionReaderFactory.createReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.uima.UIMAException;
+import org.apache.uima.analysis_engine.AnalysisEngine;
+import org.apache.uima.cas.CAS;
+import org.apache.uima.collection.CollectionReader;
+import org.apache.uima.fit.factory.JCasFactory;
+import org.apache.uima.resource.ResourceConfigurationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many documents per second a reader can deserialize. The document is written once
+ * using the corresponding writer and is then read over and over again into the same CAS. Like
+ * {@link org.dkpro.core.performance.PerformanceTestUtil#measureReadPerformance}, the reader is
+ * reconfigured before each document so it starts over, but this is not part of the measured time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReaderBenchmark
+{
+    // There is no JSON reader
+    @Param({ "XMI", "BINCAS", "CONLLU", "TSV3X" })
+    public Format format;
+
+    /**
+     * Number of tokens in the document.
+     */
+    @Param({ "10000", "100000" })
+    public int tokens;
+
+    private File sourceFolder;
+    private CAS cas;
+    private CollectionReader reader;
+
+    @Setup(Level.Trial)
+    public void setup()
+        throws UIMAException, IOException
+    {
+        sourceFolder = Files.createTempDirectory("dkpro-benchmark").toFile();
+
+        AnalysisEngine writer = createEngine(format.createWriterDescription(sourceFolder));
+        writer.process(Corpus.createDocument(tokens));
+        writer.collectionProcessComplete();
+        writer.destroy();
+
+        cas = JCasFactory.createJCas().getCas();
+        reader = createReader(format.createReaderDescription(sourceFolder));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+        throws IOException
+    {
+        reader.destroy();
+        Corpus.delete(sourceFolder);
+    }
+
+    /**
+     * Resets the reader so it starts over, outside of the measurement. Reading a document takes
+     * well over a millisecond, so the overhead of a per-invocation setup does not matter.
+     */
+    @Setup(Level.Invocation)
+    public void prepareReader()
+        throws ResourceConfigurationException
+    {
+        reader.reconfigure();
+        cas.reset();
+    }
+
+    @Benchmark
+    public CAS read()
+        throws UIMAException, IOException
+    {
+        reader.getNext(cas);
+        return cas;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dkpro.core.performance.jmh;
+
+import static org.apache.uima.fit.factory.AnalysisEngineFactory.createEngine;
+import static org.dkpro.core.performance.PerformanceTestUtil.initRandomDocument;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.uima.UIMAException;
+import org.apache.uima.analysis_engine.AnalysisEngine;
+import org.apache.uima.analysis_engine.AnalysisEngineProcessException;
+import org.apache.uima.fit.factory.JCasFactory;
+import org.apache.uima.jcas.JCas;
+import org.dkpro.core.opennlp.OpenNlpPosTagger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many documents per second the OpenNLP POS tagger can tag, optionally using
+ * several threads. The tokens and sentences are re-created before each invocation, so the tagger
+ * always sees an untagged document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaggerBenchmark
+{
+    /**
+     * Number of tokens in the document.
+     */
+    @Param({ "10000", "100000" })
+    public int tokens;
+
+    @Param({ "1", "4" })
+    public int threads;
+
+    private JCas jcas;
+    private AnalysisEngine engine;
+
+    @Setup(Level.Trial)
+    public void setup()
+        throws UIMAException
+    {
+        jcas = JCasFactory.createJCas();
+        engine = createEngine(OpenNlpPosTagger.class,
+                OpenNlpPosTagger.PARAM_NUM_THREADS, threads);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareDocument()
+    {
+        jcas.reset();
+        initRandomDocument(jcas, tokens, Corpus.SEED);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        engine.destroy();
+    }
+
+    @Benchmark
+    public JCas tag()
+        throws AnalysisEngineProcessException
+    {
+        engine.process(jcas);
+        return jcas;
+    }
+}
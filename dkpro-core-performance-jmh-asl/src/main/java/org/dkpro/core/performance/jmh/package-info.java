@@ -0,0 +1,26 @@
+/*
+ * Copyright 2026
+ * Ubiquitous Knowledge Processing (UKP) Lab
+ * Technische Universität Darmstadt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * JMH benchmarks for readers, writers, segmenters, taggers, resource providers and the text
+ * alignment used by the transformation components. The benchmarks operate on synthetic data, e.g.
+ * documents created by {@link org.dkpro.core.performance.PerformanceTestUtil#initRandomDocument},
+ * so results are reproducible. Use {@link org.dkpro.core.performance.jmh.BenchmarkRunner} to run
+ * them.
+ */
+package org.dkpro.core.performance.jmh;
@@ -19,7 +19,6 @@ package org.dkpro.core.posfilter;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map.Entry;
 
 import org.apache.uima.analysis_engine.AnalysisEngineProcessException;
 import org.apache.uima.cas.Feature;
@@ -32,8 +31,6 @@ import org.apache.uima.fit.descriptor.TypeCapability;
 import org.apache.uima.fit.util.CasUtil;
 import org.apache.uima.jcas.JCas;
 import org.apache.uima.util.Level;
-import org.dkpro.core.api.featurepath.FeaturePathException;
-import org.dkpro.core.api.featurepath.FeaturePathFactory;
 
 import de.tudarmstadt.ukp.dkpro.core.api.lexmorph.type.pos.POS;
 import de.tudarmstadt.ukp.dkpro.core.api.lexmorph.type.pos.POS_ADJ;
@@ -212,90 +209,84 @@ public class PosFilter
         }
 
         List<AnnotationFS> toRemove = new ArrayList<AnnotationFS>();
-        try {
-            for (Entry<AnnotationFS, String> entry : FeaturePathFactory.select(jcas.getCas(),
-                    typeToRemove)) {
-                AnnotationFS annotation = entry.getKey();
-                AnnotationFS pos;
-                if (typeToRemoveType.equals(posType)) {
-                    pos = annotation;
-                }
-                else {
-                    pos = getAnnotation(posType, annotation);
-                    if (pos == null) {
-                        continue;
-                    }
-                }
-
-                String posString = pos.getType().getShortName();
-                if (posString.equals(POS_ADJ.class.getSimpleName()) && !adj) {
-                    toRemove.add(annotation);
-                    continue;
-                }
-                if (posString.equals(POS_ADP.class.getSimpleName()) && !adp) {
-                    toRemove.add(annotation);
-                    continue;
-                }
-                if (posString.equals(POS_ADV.class.getSimpleName()) && !adv) {
-                    toRemove.add(annotation);
-                    continue;
-                }
-                if (posString.equals(POS_AUX.class.getSimpleName()) && !aux) {
-                    toRemove.add(annotation);
-                    continue;
-                }
-                if (posString.equals(POS_CONJ.class.getSimpleName()) && !conj) {
-                    toRemove.add(annotation);
-                    continue;
-                }
-                if (posString.equals(POS_DET.class.getSimpleName()) && !det) {
-                    toRemove.add(annotation);
-                    continue;
-                }
-                if (posString.equals(POS_INTJ.class.getSimpleName()) && !intj) {
-                    toRemove.add(annotation);
-                    continue;
-                }
-                if (posString.equals(POS_NOUN.class.getSimpleName()) && !noun) {
-                    toRemove.add(annotation);
-                    continue;
-                }
-                if (posString.equals(POS_NUM.class.getSimpleName()) && !num) {
-                    toRemove.add(annotation);
-                    continue;
-                }
-                if (posString.equals(POS_PART.class.getSimpleName()) && !part) {
-                    toRemove.add(annotation);
-                    continue;
-                }
-                if (posString.equals(POS_PRON.class.getSimpleName()) && !pron) {
-                    toRemove.add(annotation);
-                    continue;
-                }
-                if (posString.equals(POS_PROPN.class.getSimpleName()) && !propn) {
-                    toRemove.add(annotation);
-                    continue;
-                }
-                if (posString.equals(POS_PUNCT.class.getSimpleName()) && !punct) {
-                    toRemove.add(annotation);
-                    continue;
-                }
-                if (posString.equals(POS_SCONJ.class.getSimpleName()) && !sconj) {
-                    toRemove.add(annotation);
-                    continue;
-                }
-                if (posString.equals(POS_SYM.class.getSimpleName()) && !sym) {
-                    toRemove.add(annotation);
-                    continue;
-                }
-                if (posString.equals(POS_VERB.class.getSimpleName()) && !verb) {
-                    toRemove.add(annotation);
+        // The type to remove is not a feature path, so there is no value to extract
+        for (AnnotationFS annotation : CasUtil.select(jcas.getCas(), typeToRemoveType)) {
+            AnnotationFS pos;
+            if (typeToRemoveType.equals(posType)) {
+                pos = annotation;
+            }
+            else {
+                pos = getAnnotation(posType, annotation);
+                if (pos == null) {
                     continue;
                 }
             }
-        }
-        catch (FeaturePathException e) {
-            throw new AnalysisEngineProcessException(e);
+
+            String posString = pos.getType().getShortName();
+            if (posString.equals(POS_ADJ.class.getSimpleName()) && !adj) {
+                toRemove.add(annotation);
+                continue;
+            }
+            if (posString.equals(POS_ADP.class.getSimpleName()) && !adp) {
+                toRemove.add(annotation);
+                continue;
+            }
+            if (posString.equals(POS_ADV.class.getSimpleName()) && !adv) {
+                toRemove.add(annotation);
+                continue;
+            }
+            if (posString.equals(POS_AUX.class.getSimpleName()) && !aux) {
+                toRemove.add(annotation);
+                continue;
+            }
+            if (posString.equals(POS_CONJ.class.getSimpleName()) && !conj) {
+                toRemove.add(annotation);
+                continue;
+            }
+            if (posString.equals(POS_DET.class.getSimpleName()) && !det) {
+                toRemove.add(annotation);
+                continue;
+            }
+            if (posString.equals(POS_INTJ.class.getSimpleName()) && !intj) {
+                toRemove.add(annotation);
+                continue;
+            }
+            if (posString.equals(POS_NOUN.class.getSimpleName()) && !noun) {
+                toRemove.add(annotation);
+                continue;
+            }
+            if (posString.equals(POS_NUM.class.getSimpleName()) && !num) {
+                toRemove.add(annotation);
+                continue;
+            }
+            if (posString.equals(POS_PART.class.getSimpleName()) && !part) {
+                toRemove.add(annotation);
+                continue;
+            }
+            if (posString.equals(POS_PRON.class.getSimpleName()) && !pron) {
+                toRemove.add(annotation);
+                continue;
+            }
+            if (posString.equals(POS_PROPN.class.getSimpleName()) && !propn) {
+                toRemove.add(annotation);
+                continue;
+            }
+            if (posString.equals(POS_PUNCT.class.getSimpleName()) && !punct) {
+                toRemove.add(annotation);
+                continue;
+            }
+            if (posString.equals(POS_SCONJ.class.getSimpleName()) && !sconj) {
+                toRemove.add(annotation);
+                continue;
+            }
+            if (posString.equals(POS_SYM.class.getSimpleName()) && !sym) {
+                toRemove.add(annotation);
+                continue;
+            }
+            if (posString.equals(POS_VERB.class.getSimpleName()) && !verb) {
+                toRemove.add(annotation);
+                continue;
+            }
         }
 
         for (AnnotationFS fs : toRemove) {
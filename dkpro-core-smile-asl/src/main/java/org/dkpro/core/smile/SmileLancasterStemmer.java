@@ -40,6 +40,7 @@ import org.apache.uima.fit.descriptor.TypeCapability;
 import org.apache.uima.fit.util.CasUtil;
 import org.apache.uima.jcas.JCas;
 import org.apache.uima.resource.ResourceInitializationException;
+import org.dkpro.core.api.featurepath.CompiledFeaturePath;
 import org.dkpro.core.api.featurepath.FeaturePathAnnotatorBase;
 import org.dkpro.core.api.featurepath.FeaturePathException;
 import org.dkpro.core.api.parameter.ComponentParameters;
@@ -175,9 +176,8 @@ public class SmileLancasterStemmer
                 throw new IllegalStateException("Type [" + typeName + "] not found in type system");
             }
 
-            // get an fpi object and initialize it
-            // initialize the FeaturePathInfo with the corresponding part
-            initializeFeaturePathInfoFrom(fp, segments);
+            // get the feature path compiled for the type system of the CAS
+            CompiledFeaturePath valuePath = compileFeaturePath(t, segments);
 
             // get the annotations
             AnnotationIndex<?> idx = currCAS.getAnnotationIndex(t);
@@ -186,14 +186,8 @@ public class SmileLancasterStemmer
             while (iterator.hasNext()) {
                 AnnotationFS fs = (AnnotationFS) iterator.next();
 
-                if (this.filterFeaturePath != null) {
-                    // check annotation filter condition
-                    if (this.filterFeaturePathInfo.match(fs, this.filterCondition)) {
-                        createStemAnnotation(jcas, stemmer, fs);
-                    }
-                }
-                else { // no annotation filter specified
-                    createStemAnnotation(jcas, stemmer, fs);
+                if (matchesFilter(valuePath, fs)) {
+                    createStemAnnotation(jcas, stemmer, valuePath, fs);
                 }
             }
         }
@@ -201,11 +195,11 @@ public class SmileLancasterStemmer
     }
 
     private void createStemAnnotation(JCas jcas, smile.nlp.stemmer.LancasterStemmer stemmer,
-            AnnotationFS fs)
+            CompiledFeaturePath aPath, AnnotationFS fs)
         throws AnalysisEngineProcessException
     {
         // Check for blank text, it makes no sense to add a stem then (and raised an exception)
-        String value = fp.getValue(fs);
+        String value = aPath.getValue(fs);
         if (!StringUtils.isBlank(value)) {
             Stem stemAnnot = new Stem(jcas, fs.getBegin(), fs.getEnd());
 
@@ -40,6 +40,7 @@ import org.apache.uima.fit.descriptor.LanguageCapability;
 import org.apache.uima.fit.descriptor.ResourceMetaData;
 import org.apache.uima.fit.descriptor.TypeCapability;
 import org.apache.uima.jcas.JCas;
+import org.dkpro.core.api.featurepath.CompiledFeaturePath;
 import org.dkpro.core.api.featurepath.FeaturePathAnnotatorBase;
 import org.dkpro.core.api.featurepath.FeaturePathException;
 import org.dkpro.core.api.parameter.ComponentParameters;
@@ -145,9 +146,8 @@ public class SnowballStemmer
                 throw new IllegalStateException("Type [" + typeName + "] not found in type system");
             }
 
-            // get an fpi object and initialize it
-            // initialize the FeaturePathInfo with the corresponding part
-            initializeFeaturePathInfoFrom(fp, segments);
+            // get the feature path compiled for the type system of the CAS
+            CompiledFeaturePath valuePath = compileFeaturePath(t, segments);
 
             // get the annotations
             AnnotationIndex<?> idx = currCAS.getAnnotationIndex(t);
@@ -157,14 +157,8 @@ public class SnowballStemmer
                 AnnotationFS fs = (AnnotationFS) iterator.next();
 
                 try {
-                    if (this.filterFeaturePath != null) {
-                        // check annotation filter condition
-                        if (this.filterFeaturePathInfo.match(fs, this.filterCondition)) {
-                            createStemAnnotation(jcas, fs);
-                        }
-                    }
-                    else { // no annotation filter specified
-                        createStemAnnotation(jcas, fs);
+                    if (matchesFilter(valuePath, fs)) {
+                        createStemAnnotation(jcas, valuePath, fs);
                     }
                 }
                 catch (AnalysisEngineProcessException e) {
@@ -220,16 +214,18 @@ public class SnowballStemmer
      * 
      * @param jcas
      *            the JCas
+     * @param aPath
+     *            the feature path providing the value to be stemmed
      * @param fs
      *            the AnnotationFS where the Stem annotation is created
      * @throws AnalysisEngineProcessException
      *             if the {@code stem} method from the snowball stemmer cannot be invoked.
      */
-    private void createStemAnnotation(JCas jcas, AnnotationFS fs)
+    private void createStemAnnotation(JCas jcas, CompiledFeaturePath aPath, AnnotationFS fs)
         throws AnalysisEngineProcessException
     {
         // Check for blank text, it makes no sense to add a stem then (and raised an exception)
-        String value = fp.getValue(fs);
+        String value = aPath.getValue(fs);
         if (!StringUtils.isBlank(value)) {
             if (lowerCase) {
                 // Fixme - should use locale/language defined in CAS.
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 
 import de.tudarmstadt.ukp.dkpro.core.api.lexmorph.type.pos.POS;
 import de.tudarmstadt.ukp.dkpro.core.api.segmentation.type.Stem;
+import de.tudarmstadt.ukp.dkpro.core.api.segmentation.type.Token;
 
 public class SnowballStemmerTest
 {
@@ -93,6 +94,15 @@ public class SnowballStemmerTest
         AssertAnnotations.assertPOS(null, pos, select(result, POS.class));
     }
 
+    @Test
+    public void testInvalidFeaturePath()
+        throws Exception
+    {
+        // A feature path which does not exist for the type yields no values and hence no stems
+        runTest("en", "computers Computers deliberately", new String[0],
+                SnowballStemmer.PARAM_PATHS, Token.class.getName() + "/noSuchFeature");
+    }
+
     private JCas runTest(String aLanguage, String aText, String[] aStems, Object... aParams)
         throws Exception
     {
@@ -21,7 +21,6 @@ package org.dkpro.core.textnormalizer.annotations;
 import java.io.File;
 import java.io.IOException;
 import java.util.HashSet;
-import java.util.Map.Entry;
 import java.util.Set;
 
 import org.apache.commons.io.FileUtils;
@@ -31,10 +30,11 @@ import org.apache.uima.cas.text.AnnotationFS;
 import org.apache.uima.fit.component.JCasAnnotator_ImplBase;
 import org.apache.uima.fit.descriptor.ConfigurationParameter;
 import org.apache.uima.fit.descriptor.ResourceMetaData;
+import org.apache.uima.fit.util.CasUtil;
 import org.apache.uima.jcas.JCas;
 import org.apache.uima.resource.ResourceInitializationException;
+import org.dkpro.core.api.featurepath.CompiledFeaturePath;
 import org.dkpro.core.api.featurepath.FeaturePathException;
-import org.dkpro.core.api.featurepath.FeaturePathFactory;
 import org.dkpro.core.api.parameter.ComponentParameters;
 
 import eu.openminted.share.annotations.api.Component;
@@ -59,6 +59,7 @@ public class AnnotationByTextFilter
     @ConfigurationParameter(name = PARAM_MODEL_LOCATION, mandatory = true)
     private File modelLocation;
     private Set<String> words;
+    private CompiledFeaturePath compiledPath;
 
     /**
      * If true, annotation texts are filtered case-independently (i.e. words that
@@ -112,11 +113,14 @@ public class AnnotationByTextFilter
     {
         Set<AnnotationFS> toRemove = new HashSet<>();
         try {
-            for (Entry<AnnotationFS, String> entry : FeaturePathFactory.select(aJCas.getCas(),
-                    typeName)) {
-                String text = ignoreCase ? entry.getValue().toLowerCase() : entry.getValue();
+            compiledPath = CompiledFeaturePath.compile(compiledPath, aJCas.getTypeSystem(),
+                    typeName);
+            for (AnnotationFS anno : CasUtil.select(aJCas.getCas(),
+                    compiledPath.getAnchorType())) {
+                String value = compiledPath.getValue(anno);
+                String text = ignoreCase ? value.toLowerCase() : value;
                 if (!words.contains(text)) {
-                    toRemove.add(entry.getKey());
+                    toRemove.add(anno);
                 }
             }
         }
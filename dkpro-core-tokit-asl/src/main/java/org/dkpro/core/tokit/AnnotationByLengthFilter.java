@@ -20,18 +20,17 @@ package org.dkpro.core.tokit;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Map.Entry;
 import java.util.Set;
 
 import org.apache.uima.analysis_engine.AnalysisEngineProcessException;
+import org.apache.uima.cas.Type;
 import org.apache.uima.cas.text.AnnotationFS;
 import org.apache.uima.fit.component.JCasAnnotator_ImplBase;
 import org.apache.uima.fit.descriptor.ConfigurationParameter;
 import org.apache.uima.fit.descriptor.ResourceMetaData;
+import org.apache.uima.fit.util.CasUtil;
 import org.apache.uima.jcas.JCas;
 import org.apache.uima.jcas.tcas.Annotation;
-import org.dkpro.core.api.featurepath.FeaturePathException;
-import org.dkpro.core.api.featurepath.FeaturePathFactory;
 
 import eu.openminted.share.annotations.api.Component;
 import eu.openminted.share.annotations.api.DocumentationResource;
@@ -75,21 +74,16 @@ public class AnnotationByLengthFilter
     {
 
         for (String filterType : filterTypes) {
-            try {
-                Collection<Annotation> toRemove = new ArrayList<Annotation>();
-                for (Entry<AnnotationFS, String> entry : FeaturePathFactory.select(aJCas.getCas(),
-                        filterType)) {
-                    int length = entry.getKey().getCoveredText().length();
-                    if (length < minTokenLength || length > maxTokenLength) {
-                        toRemove.add((Annotation) entry.getKey());
-                    }
-                }
-                for (Annotation anno : toRemove) {
-                    anno.removeFromIndexes();
+            Collection<Annotation> toRemove = new ArrayList<Annotation>();
+            Type type = CasUtil.getType(aJCas.getCas(), filterType);
+            for (AnnotationFS anno : CasUtil.select(aJCas.getCas(), type)) {
+                int length = anno.getEnd() - anno.getBegin();
+                if (length < minTokenLength || length > maxTokenLength) {
+                    toRemove.add((Annotation) anno);
                 }
             }
-            catch (FeaturePathException e) {
-                throw new AnalysisEngineProcessException(e);
+            for (Annotation anno : toRemove) {
+                anno.removeFromIndexes();
             }
         }
     }
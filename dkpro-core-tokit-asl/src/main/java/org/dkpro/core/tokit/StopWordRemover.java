@@ -17,40 +17,39 @@
  */
 package org.dkpro.core.tokit;
 
-import static org.apache.commons.io.IOUtils.closeQuietly;
 import static org.apache.uima.fit.util.CasUtil.select;
 import static org.apache.uima.fit.util.JCasUtil.getView;
 import static org.apache.uima.util.Level.FINE;
 import static org.dkpro.core.api.resources.ResourceUtils.resolveLocation;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.apache.uima.UimaContext;
 import org.apache.uima.analysis_engine.AnalysisEngineProcessException;
 import org.apache.uima.cas.Type;
+import org.apache.uima.cas.TypeSystem;
 import org.apache.uima.cas.text.AnnotationFS;
 import org.apache.uima.fit.component.JCasAnnotator_ImplBase;
 import org.apache.uima.fit.descriptor.ConfigurationParameter;
 import org.apache.uima.fit.descriptor.ResourceMetaData;
 import org.apache.uima.fit.descriptor.TypeCapability;
 import org.apache.uima.jcas.JCas;
-import org.apache.uima.jcas.tcas.Annotation;
 import org.apache.uima.resource.ResourceInitializationException;
 import org.apache.uima.util.Logger;
+import org.dkpro.core.api.featurepath.CompiledFeaturePath;
 import org.dkpro.core.api.featurepath.FeaturePathException;
-import org.dkpro.core.api.featurepath.FeaturePathInfo;
 import org.dkpro.core.api.parameter.ComponentParameters;
 import org.dkpro.core.tokit.internal.StopWordSet;
 
@@ -118,6 +117,11 @@ public class StopWordRemover
 
     private Map<String, StopWordSet> stopWordSets;
 
+    // The paths resolved against the type system of the last CAS
+    private TypeSystem compiledTypeSystem;
+    private List<CompiledPath> compiledPathList;
+    private List<Type> candidateTypes;
+
     @Override
     public void initialize(UimaContext context)
         throws ResourceInitializationException
@@ -140,7 +144,7 @@ public class StopWordRemover
         }
 
         try {
-            stopWordSets = new HashMap<String, StopWordSet>();
+            Map<String, List<StopWordSet>> setsByLocale = new HashMap<>();
             for (String swFileName : swFileNames) {
                 String fileLocale = "*";
                 // Check if a locale is defined for the file
@@ -149,33 +153,32 @@ public class StopWordRemover
                     swFileName = swFileName.substring(swFileName.indexOf(']') + 1);
                 }
 
-                // Fetch the set for the specified locale
-                StopWordSet set = stopWordSets.get(fileLocale);
-                if (set == null) {
-                    set = new StopWordSet();
-                    stopWordSets.put(fileLocale, set);
-                }
-
-                // Load the set
+                // Load the set - sets from the same location are shared between instances
                 URL source = resolveLocation(swFileName, this, context);
-                InputStream is = null;
-                try {
-                    is = source.openStream();
-                    set.load(is, modelEncoding);
-                }
-                finally {
-                    closeQuietly(is);
-                }
+                setsByLocale.computeIfAbsent(fileLocale, k -> new ArrayList<>())
+                        .add(StopWordSet.load(source, modelEncoding));
 
                 getLogger().info(
                         "Loaded stopwords for locale [" + fileLocale + "] from [" + source + "]");
             }
+
+            // Combine the sets for each locale
+            stopWordSets = new HashMap<String, StopWordSet>();
+            for (Entry<String, List<StopWordSet>> e : setsByLocale.entrySet()) {
+                stopWordSets.put(e.getKey(), StopWordSet.union(e.getValue()));
+            }
         }
         catch (IOException e1) {
             throw new ResourceInitializationException(e1);
         }
     }
 
+    // This is just used for testing
+    /* default scope*/ StopWordSet getStopWordSet(String aLocale)
+    {
+        return stopWordSets.get(aLocale);
+    }
+
     @Override
     public void process(JCas jcas)
         throws AnalysisEngineProcessException
@@ -206,101 +209,110 @@ public class StopWordRemover
     {
         Logger log = getContext().getLogger();
 
+        compilePaths(aJCas.getTypeSystem());
+
         Locale casLocale = new Locale(aJCas.getDocumentLanguage());
         StopWordSet anyLocaleSet = stopWordSets.get("*");
         StopWordSet casLocaleSet = stopWordSets.get(aJCas.getDocumentLanguage());
 
-        // Now really to the removal part
-        FeaturePathInfo fp = new FeaturePathInfo();
-        for (String path : paths) {
-            // Create a sorted list of annotations that we can quickly search on
-            AnnotationFS[] candidates = getCandidates(aJCas);
-
-            // Initialize list of annotations to remove
-            List<AnnotationFS> toRemove = new ArrayList<AnnotationFS>();
-
-            // Separate Typename and featurepath
-            String[] segments = path.split("/", 2);
-
-            String typeName = segments[0];
-            boolean isStopWordType = stopWordType.equals(typeName);
-            Type t = aJCas.getTypeSystem().getType(typeName);
-            if (t == null) {
-                throw new IllegalStateException("Type [" + typeName + "] not found in type system");
-            }
-
-            // initialize the FeaturePathInfo with the corresponding part
-            if (segments.length > 1) {
-                fp.initialize(segments[1]);
-            }
-            else {
-                fp.initialize("");
-            }
-
-            int safeStart = 0;
-            Iterator<Annotation> i = aJCas.getAnnotationIndex(t).iterator();
-            while (i.hasNext()) {
-                Annotation anno = i.next();
-
-                // Move the start of the containment scanning range ahead if possible
-                while ((safeStart + 1) < candidates.length
-                        && candidates[safeStart + 1].getEnd() < anno.getBegin()) {
-                    safeStart++;
+        // Find the annotations matching a stop word on any of the paths
+        List<AnnotationFS> matches = new ArrayList<AnnotationFS>();
+        for (CompiledPath path : compiledPathList) {
+            for (AnnotationFS anno : select(aJCas.getCas(), path.type)) {
+                boolean match = path.isStopWordType;
+                if (!match) {
+                    String value = path.featurePath.getValue(anno);
+                    if (value != null) {
+                        // toLowerCase() does not create a new string if nothing changes
+                        String candidate = value.toLowerCase(casLocale);
+                        match = ((anyLocaleSet != null) && anyLocaleSet.contains(candidate))
+                                || ((casLocaleSet != null) && casLocaleSet.contains(candidate));
+                    }
                 }
 
-                String candidate = fp.getValue(anno).toLowerCase(casLocale);
-                if (isStopWordType || ((anyLocaleSet != null) && anyLocaleSet.contains(candidate))
-                        || ((casLocaleSet != null) && casLocaleSet.contains(candidate))) {
-                    // Remove the annotation that matched the stop word
-                    toRemove.add(anno);
+                if (match) {
+                    matches.add(anno);
                     if (log.isLoggable(FINE)) {
-                        log.log(FINE, "Removing ["
-                                + typeName.substring(typeName.lastIndexOf('.') + 1)
+                        log.log(FINE, "Removing [" + anno.getType().getShortName()
                                 + "] annotated as stop word [" + anno.getCoveredText() + "]@"
                                 + anno.getBegin() + ".." + anno.getEnd());
                     }
-
-                    // Scan all potential annotations that may be covered the current
-                    // annotation and remove them as well
-                    int n = safeStart;
-                    while (n < candidates.length && candidates[n].getBegin() < anno.getEnd()) {
-                        if ((anno.getBegin() <= candidates[n].getBegin())
-                                && (candidates[n].getEnd() <= anno.getEnd())) {
-                            if (log.isLoggable(FINE)) {
-                                log.log(FINE, "Removing as well ["
-                                        + candidates[n].getClass().getSimpleName()
-                                        + "] annotated as stop word ["
-                                        + candidates[n].getCoveredText() + "]@"
-                                        + candidates[n].getBegin() + ".." + candidates[n].getEnd());
-                            }
-                            toRemove.add(candidates[n]);
-                        }
-                        n++;
-                    }
                 }
             }
+        }
 
-            // Remove from the CAS
-            for (AnnotationFS anno : toRemove) {
-                aJCas.removeFsFromIndexes(anno);
+        if (matches.isEmpty()) {
+            return;
+        }
+
+        // Remove the matches as well as any annotation that can be matched by the given paths and
+        // which is covered by a match. Since both lists are sorted by their begin offsets, this
+        // can be done in a single sweep: a candidate is covered if the match reaching furthest
+        // among those starting at or before the candidate ends at or after the candidate.
+        AnnotationFS[] candidates = getCandidates(aJCas);
+        matches.sort(new BeginEndComparator());
+        Set<AnnotationFS> toRemove = new LinkedHashSet<AnnotationFS>(matches);
+        int m = 0;
+        int maxEnd = -1;
+        for (AnnotationFS candidate : candidates) {
+            while (m < matches.size() && matches.get(m).getBegin() <= candidate.getBegin()) {
+                maxEnd = Math.max(maxEnd, matches.get(m).getEnd());
+                m++;
+            }
+
+            if (maxEnd >= candidate.getEnd() && maxEnd > candidate.getBegin()
+                    && toRemove.add(candidate) && log.isLoggable(FINE)) {
+                log.log(FINE, "Removing as well [" + candidate.getType().getShortName()
+                        + "] annotated as stop word [" + candidate.getCoveredText() + "]@"
+                        + candidate.getBegin() + ".." + candidate.getEnd());
             }
         }
+
+        // Remove from the CAS
+        for (AnnotationFS anno : toRemove) {
+            aJCas.removeFsFromIndexes(anno);
+        }
     }
 
-    private AnnotationFS[] getCandidates(JCas aJCas)
+    /**
+     * Resolves the configured paths unless they have been resolved for this type system already.
+     */
+    private void compilePaths(TypeSystem aTypeSystem)
+        throws FeaturePathException
     {
-        // Make a list of all the annotations that can be matched by the given paths. If any one
-        // of the paths match, we want to remove instances of all others being covered by the
-        // match as well.
-        List<AnnotationFS> candidateList = new ArrayList<AnnotationFS>();
+        if (aTypeSystem == compiledTypeSystem) {
+            return;
+        }
+
+        List<CompiledPath> pathList = new ArrayList<CompiledPath>();
+        Set<Type> types = new LinkedHashSet<Type>();
         for (String path : paths) {
+            // Separate Typename and featurepath
             String[] segments = path.split("/", 2);
+
             String typeName = segments[0];
-            Type t = aJCas.getTypeSystem().getType(typeName);
+            Type t = aTypeSystem.getType(typeName);
             if (t == null) {
                 throw new IllegalStateException("Type [" + typeName + "] not found in type system");
             }
 
+            pathList.add(new CompiledPath(t, CompiledFeaturePath.compile(t,
+                    segments.length > 1 ? segments[1] : ""), stopWordType.equals(typeName)));
+            types.add(t);
+        }
+
+        compiledPathList = pathList;
+        candidateTypes = new ArrayList<Type>(types);
+        compiledTypeSystem = aTypeSystem;
+    }
+
+    private AnnotationFS[] getCandidates(JCas aJCas)
+    {
+        // Make a list of all the annotations that can be matched by the given paths. If any one
+        // of the paths match, we want to remove instances of all others being covered by the
+        // match as well.
+        List<AnnotationFS> candidateList = new ArrayList<AnnotationFS>();
+        for (Type t : candidateTypes) {
             for (AnnotationFS fs : select(aJCas.getCas(), t)) {
                 candidateList.add(fs);
             }
@@ -311,6 +323,20 @@ public class StopWordRemover
 
     }
 
+    private static class CompiledPath
+    {
+        final Type type;
+        final CompiledFeaturePath featurePath;
+        final boolean isStopWordType;
+
+        CompiledPath(Type aType, CompiledFeaturePath aFeaturePath, boolean aIsStopWordType)
+        {
+            type = aType;
+            featurePath = aFeaturePath;
+            isStopWordType = aIsStopWordType;
+        }
+    }
+
     static class BeginEndComparator implements Comparator<AnnotationFS>
     {
         @Override
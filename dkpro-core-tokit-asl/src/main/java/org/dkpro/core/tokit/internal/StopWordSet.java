@@ -18,12 +18,20 @@
 package org.dkpro.core.tokit.internal;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.lang.ref.WeakReference;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.uima.resource.DataResource;
 import org.apache.uima.resource.ResourceInitializationException;
@@ -32,11 +40,16 @@ import org.apache.uima.resource.SharedResourceObject;
 /**
  * Used for storing stop words in a HashSet. Can be used as resource object in UIMA. Terms in stop
  * word files are converted to lower case.
+ * <p>
+ * Sets obtained via {@link #load(URL, String)} or {@link #union(Collection)} are immutable and
+ * can be shared between threads.
  */
 public class StopWordSet
     implements SharedResourceObject
 {
-    private HashSet<String> data;
+    private static final Map<String, WeakReference<StopWordSet>> CACHE = new HashMap<>();
+
+    private Set<String> data;
 
     public StopWordSet()
     {
@@ -44,6 +57,12 @@ public class StopWordSet
         data = new HashSet<String>();
     }
 
+    private StopWordSet(Set<String> aData)
+    {
+        super();
+        data = aData;
+    }
+
     public StopWordSet(String[] fileNames)
         throws IOException
     {
@@ -121,4 +140,74 @@ public class StopWordSet
     {
         return data.contains(aWord);
     }
+
+    /**
+     * Loads an immutable set of stop words from the given location. Sets loaded from the same
+     * location with the same encoding are shared as long as they are in use.
+     *
+     * @param aSource
+     *            the location of the stop word list.
+     * @param aEncoding
+     *            the encoding of the stop word list.
+     * @return the stop words.
+     * @throws IOException
+     *             if the stop words could not be read.
+     */
+    public static StopWordSet load(URL aSource, String aEncoding)
+        throws IOException
+    {
+        String key = aSource + "@" + aEncoding + "@" + lastModified(aSource);
+        synchronized (CACHE) {
+            WeakReference<StopWordSet> ref = CACHE.get(key);
+            StopWordSet set = ref != null ? ref.get() : null;
+            if (set == null) {
+                StopWordSet loaded = new StopWordSet();
+                try (InputStream is = aSource.openStream()) {
+                    loaded.load(is, aEncoding);
+                }
+                set = new StopWordSet(Set.copyOf(loaded.data));
+                CACHE.values().removeIf(r -> r.get() == null);
+                CACHE.put(key, new WeakReference<>(set));
+            }
+            return set;
+        }
+    }
+
+    /**
+     * Creates an immutable set containing the stop words of all the given sets. If only a single
+     * immutable set is given, that set itself is returned, so it remains shared.
+     *
+     * @param aSets
+     *            the sets to combine.
+     * @return the combined stop words.
+     */
+    public static StopWordSet union(Collection<StopWordSet> aSets)
+    {
+        if (aSets.size() == 1) {
+            StopWordSet set = aSets.iterator().next();
+            // Set.copyOf() does not copy sets which are already immutable
+            Set<String> data = Set.copyOf(set.data);
+            return data == set.data ? set : new StopWordSet(data);
+        }
+
+        Set<String> data = new HashSet<String>();
+        for (StopWordSet set : aSets) {
+            data.addAll(set.data);
+        }
+        return new StopWordSet(Set.copyOf(data));
+    }
+
+    private static long lastModified(URL aSource)
+    {
+        if (!"file".equals(aSource.getProtocol())) {
+            return 0;
+        }
+
+        try {
+            return new File(aSource.toURI()).lastModified();
+        }
+        catch (URISyntaxException | IllegalArgumentException e) {
+            return 0;
+        }
+    }
 }
@@ -17,15 +17,24 @@
  */
 package org.dkpro.core.tokit;
 
+import static java.util.Arrays.asList;
+import static org.apache.uima.fit.factory.AnalysisEngineFactory.createEngine;
 import static org.apache.uima.fit.factory.AnalysisEngineFactory.createEngineDescription;
 import static org.apache.uima.fit.util.JCasUtil.select;
+import static org.apache.uima.fit.util.JCasUtil.toText;
 import static org.dkpro.core.testing.AssertAnnotations.assertToken;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.apache.uima.analysis_engine.AnalysisEngineDescription;
+import org.apache.uima.fit.factory.JCasFactory;
+import org.apache.uima.fit.factory.UimaContextFactory;
 import org.apache.uima.jcas.JCas;
 import org.dkpro.core.testing.TestRunner;
 import org.junit.jupiter.api.Test;
 
+import de.tudarmstadt.ukp.dkpro.core.api.segmentation.type.Lemma;
+import de.tudarmstadt.ukp.dkpro.core.api.segmentation.type.StopWord;
 import de.tudarmstadt.ukp.dkpro.core.api.segmentation.type.Token;
 
 /**
@@ -54,6 +63,30 @@ public class StopWordRemoverTest
         assertToken(expectedTokens, select(jcas, Token.class));
     }
 
+    /**
+     * Instances loading the same stopword file share the set, even if it is not referenced by
+     * anything else in between.
+     */
+    @Test
+    public void testSharedSet()
+        throws Exception
+    {
+        StopWordRemover remover1 = createRemover();
+        System.gc();
+        StopWordRemover remover2 = createRemover();
+
+        assertSame(remover1.getStopWordSet("*"), remover2.getStopWordSet("*"));
+    }
+
+    private StopWordRemover createRemover()
+        throws Exception
+    {
+        StopWordRemover remover = new StopWordRemover();
+        remover.initialize(UimaContextFactory.createUimaContext(
+                StopWordRemover.PARAM_MODEL_LOCATION, new String[] { STOPWORDSFILE_LOCATION1 }));
+        return remover;
+    }
+
     /**
      * Testing two stopword files with different language codes.
      */
@@ -87,4 +120,31 @@ public class StopWordRemoverTest
         JCas jcas = TestRunner.runTest(stopwordremover, LANGUAGE, TEXT);
         assertToken(expectedTokens, select(jcas, Token.class));
     }
+
+    /**
+     * Testing that annotations covered by a stop word annotation are removed as well.
+     */
+    @Test
+    public void testCoveredAnnotations()
+        throws Exception
+    {
+        JCas jcas = JCasFactory.createJCas();
+        jcas.setDocumentLanguage(LANGUAGE);
+        jcas.setDocumentText(TEXT);
+        createEngine(BreakIteratorSegmenter.class).process(jcas);
+        for (Token token : select(jcas, Token.class)) {
+            Lemma lemma = new Lemma(jcas, token.getBegin(), token.getEnd());
+            lemma.setValue(token.getCoveredText());
+            lemma.addToIndexes();
+        }
+        // "text containing"
+        new StopWord(jcas, 10, 25).addToIndexes();
+
+        createEngine(StopWordRemover.class,
+                StopWordRemover.PARAM_MODEL_LOCATION, STOPWORDSFILE_LOCATION1).process(jcas);
+
+        assertToken(new String[] { "stopwords", "." }, select(jcas, Token.class));
+        assertEquals(asList("stopwords", "."), toText(select(jcas, Lemma.class)));
+        assertEquals(0, select(jcas, StopWord.class).size());
+    }
 }